@@ -28,6 +28,7 @@ import org.neo4j.gds.api.User;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.loading.GraphStoreCatalogService;
+import org.neo4j.gds.core.loading.GraphStoreReaders;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.algorithms.AlgorithmMemoryValidationService;
@@ -129,7 +130,10 @@ public class CommunityAlgorithmsBusinessFacade {
             graphStoreCatalogService.graphStoreCount()
         );
         var algorithm = algorithmFactory.build(graph, config, progressTracker);
-        var algorithmResult = algorithm.compute();
+        R algorithmResult;
+        try (var ignored = GraphStoreReaders.acquire(graphStore)) {
+            algorithmResult = algorithm.compute();
+        }
 
         return ComputationResult.of(algorithmResult, graph, config, graphStore);
     }
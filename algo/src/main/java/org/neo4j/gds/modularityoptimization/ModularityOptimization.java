@@ -33,6 +33,7 @@ import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.collections.ha.HugeDoubleArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicArrays;
 import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 import org.neo4j.gds.core.utils.partition.Partition;
@@ -233,7 +234,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         this.nextCommunities = HugeLongArray.newArray(nodeCount);
         this.cumulativeNodeWeights = HugeDoubleArray.newArray(nodeCount);
 
-        this.communityWeightUpdates = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+        this.communityWeightUpdates = HugeAtomicArrays.doubleArray(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
 
         var initTasks = PartitionUtils.rangePartition(concurrency, nodeCount, (partition) ->
                 new InitTask(
@@ -354,7 +355,8 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         );
 
         // reset communityWeightUpdates
-        communityWeightUpdates = HugeAtomicDoubleArray.of(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
+        communityWeightUpdates.release();
+        communityWeightUpdates = HugeAtomicArrays.doubleArray(nodeCount, ParallelDoublePageCreator.passThrough(concurrency));
         return nextStartingCoordinate;
     }
 
@@ -37,15 +37,19 @@ import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
 
 public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements RelationshipIntersect {
 
+    private static final int BLOCK_SIZE = 64;
+
     private CURSOR cache;
     private CURSOR cacheA;
     private CURSOR cacheB;
+    private final long[] blockB;
     private final IntPredicate degreeFilter;
 
     protected GraphIntersect(long maxDegree) {
         this.degreeFilter = maxDegree < Long.MAX_VALUE
             ? (degree) -> degree <= maxDegree
             : (ignore) -> true;
+        this.blockB = new long[BLOCK_SIZE];
     }
 
     @Override
@@ -101,10 +105,22 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
                         triangleC = checkForAndEmitTriangle(consumer, nodeA, nodeB, nodeCFromA, nodeCFromB, triangleC);
                     }
 
+                    // neighbours of B are decoded in blocks, Cb is taken from the block
+                    var blockB = this.blockB;
+                    int blockLengthB = 0;
+                    int blockIndexB = 0;
+
                     // while both A and B have more neighbours
-                    while (neighboursA.hasNextVLong() && neighboursB.hasNextVLong()) {
+                    while (neighboursA.hasNextVLong()) {
+                        if (blockIndexB == blockLengthB) {
+                            blockLengthB = neighboursB.nextBlock(blockB);
+                            blockIndexB = 0;
+                            if (blockLengthB == 0) {
+                                break;
+                            }
+                        }
                         // take the next neighbour Cb of B
-                        nodeCFromB = neighboursB.nextVLong();
+                        nodeCFromB = blockB[blockIndexB++];
                         if (degreeFilter.test(degree(nodeCFromB))) {
                             if (nodeCFromB > nodeCFromA) {
                                 // if Cb > Ca, take the next neighbour Ca of A with id >= Cb
@@ -123,9 +139,9 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
 
                     // it is possible that the last Ca > Cb, but there are no more neighbours Ca of A
                     // so if there are more neighbours Cb of B
-                    if (neighboursB.hasNextVLong()) {
+                    if (blockIndexB < blockLengthB || neighboursB.hasNextVLong()) {
                         // we take the next neighbour Cb of B with id >= Ca
-                        nodeCFromB = neighboursB.advance(nodeCFromA);
+                        nodeCFromB = advance(blockB, blockIndexB, blockLengthB, neighboursB, nodeCFromA);
                         // B had some more nodes, but none of them were >= Ca, so we skip it
                         if (nodeCFromB != NOT_FOUND) {
                             var degreeCFromB = degree(nodeCFromB);
@@ -151,6 +167,19 @@ public abstract class GraphIntersect<CURSOR extends AdjacencyCursor> implements
         cacheB = neighboursB;
     }
 
+    /**
+     * Finds the first target that is larger than or equal to the given target,
+     * first within the not yet consumed part of the block and then in the cursor.
+     */
+    private static long advance(long[] block, int blockIndex, int blockLength, AdjacencyCursor cursor, long target) {
+        for (int i = blockIndex; i < blockLength; i++) {
+            if (block[i] >= target) {
+                return block[i];
+            }
+        }
+        return cursor.advance(target);
+    }
+
     private long checkForAndEmitTriangle(
         IntersectionConsumer consumer,
         long nodeA,
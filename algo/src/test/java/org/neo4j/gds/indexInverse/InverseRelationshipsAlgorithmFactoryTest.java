@@ -89,7 +89,7 @@ class InverseRelationshipsAlgorithmFactoryTest {
         );
 
         var actual = memoryTree.memoryUsage();
-        var expected = MemoryRange.of(2_924_624);
+        var expected = MemoryRange.of(4_497_584);
         assertThat(actual.min).isEqualTo(expected.min);
         assertThat(actual.max).isEqualTo(expected.max);
     }
@@ -115,7 +115,7 @@ class InverseRelationshipsAlgorithmFactoryTest {
             "this.instance",
             "Inverse 'T2'"
         );
-        var expected = MemoryRange.of(1_462_328);
+        var expected = MemoryRange.of(2_248_808);
         var actual = memoryTree.memoryUsage();
         assertThat(actual.min).isEqualTo(expected.min);
         assertThat(actual.max).isEqualTo(expected.max);
@@ -145,7 +145,7 @@ class InverseRelationshipsAlgorithmFactoryTest {
         );
 
         var actual = memoryTree.memoryUsage();
-        var expected = MemoryRange.of(2_924_624);
+        var expected = MemoryRange.of(4_497_584);
         assertThat(actual.min).isEqualTo(expected.min);
         assertThat(actual.max).isEqualTo(expected.max);
     }
@@ -23,6 +23,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.GraphName;
 import org.neo4j.gds.api.User;
+import org.neo4j.gds.config.GraphRefreshConfig;
 import org.neo4j.gds.config.MutateLabelConfig;
 import org.neo4j.gds.core.loading.CatalogRequest;
 import org.neo4j.gds.core.loading.GraphDropNodePropertiesResult;
@@ -83,6 +84,7 @@ public class DefaultGraphStoreCatalogBusinessFacade implements GraphStoreCatalog
     private final DropRelationshipsService dropRelationshipsService;
     private final NodeLabelMutatorService nodeLabelMutatorService;
     private final StreamNodePropertiesApplication streamNodePropertiesApplication;
+    private final RefreshGraphService refreshGraphService;
 
     public DefaultGraphStoreCatalogBusinessFacade(
         Log log,
@@ -99,7 +101,8 @@ public class DefaultGraphStoreCatalogBusinessFacade implements GraphStoreCatalog
         DropNodePropertiesService dropNodePropertiesService,
         DropRelationshipsService dropRelationshipsService,
         NodeLabelMutatorService nodeLabelMutatorService,
-        StreamNodePropertiesApplication streamNodePropertiesApplication
+        StreamNodePropertiesApplication streamNodePropertiesApplication,
+        RefreshGraphService refreshGraphService
     ) {
         this.log = log;
 
@@ -118,6 +121,7 @@ public class DefaultGraphStoreCatalogBusinessFacade implements GraphStoreCatalog
         this.dropRelationshipsService = dropRelationshipsService;
         this.nodeLabelMutatorService = nodeLabelMutatorService;
         this.streamNodePropertiesApplication = streamNodePropertiesApplication;
+        this.refreshGraphService = refreshGraphService;
     }
 
     @Override
@@ -463,6 +467,22 @@ public class DefaultGraphStoreCatalogBusinessFacade implements GraphStoreCatalog
         );
     }
 
+    @Override
+    public RefreshGraphResult refreshGraph(
+        User user,
+        DatabaseId databaseId,
+        String graphNameAsString,
+        Map<String, Object> rawConfiguration
+    ) {
+        var graphName = graphNameValidationService.validate(graphNameAsString);
+
+        var graphStoreWithConfig = graphStoreCatalogService.get(CatalogRequest.of(user, databaseId), graphName);
+
+        var configuration = GraphRefreshConfig.of(rawConfiguration);
+
+        return refreshGraphService.compute(graphName, graphStoreWithConfig, configuration);
+    }
+
     @Override
     public Stream<?> streamGraphProperty(
         User user, DatabaseId databaseId, String graphNameAsString,
@@ -153,6 +153,13 @@ public interface GraphStoreCatalogBusinessFacade {
         Map<String, Object> configuration
     );
 
+    RefreshGraphResult refreshGraph(
+        User user,
+        DatabaseId databaseId,
+        String graphName,
+        Map<String, Object> configuration
+    );
+
     Stream<?> streamGraphProperty(
         User user,
         DatabaseId databaseId,
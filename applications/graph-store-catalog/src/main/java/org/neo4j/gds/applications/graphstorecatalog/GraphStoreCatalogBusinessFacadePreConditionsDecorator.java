@@ -304,6 +304,21 @@ public class GraphStoreCatalogBusinessFacadePreConditionsDecorator implements Gr
         ));
     }
 
+    @Override
+    public RefreshGraphResult refreshGraph(
+        User user,
+        DatabaseId databaseId,
+        String graphName,
+        Map<String, Object> configuration
+    ) {
+        return runWithPreconditionsChecked(() -> delegate.refreshGraph(
+            user,
+            databaseId,
+            graphName,
+            configuration
+        ));
+    }
+
     @Override
     public Stream<?> streamGraphProperty(
         User user,
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.applications.graphstorecatalog;
+
+import java.util.Map;
+
+public final class RefreshGraphResult {
+    public final long refreshMillis;
+    public final String graphName;
+    public final long nodeCount;
+    public final long relationshipCount;
+    public final long nodeCountDelta;
+    public final long relationshipCountDelta;
+    public final Map<String, Object> configuration;
+
+    RefreshGraphResult(
+        long refreshMillis,
+        String graphName,
+        long nodeCount,
+        long relationshipCount,
+        long nodeCountDelta,
+        long relationshipCountDelta,
+        Map<String, Object> configuration
+    ) {
+        this.refreshMillis = refreshMillis;
+        this.graphName = graphName;
+        this.nodeCount = nodeCount;
+        this.relationshipCount = relationshipCount;
+        this.nodeCountDelta = nodeCountDelta;
+        this.relationshipCountDelta = relationshipCountDelta;
+        this.configuration = configuration;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.applications.graphstorecatalog;
+
+import org.neo4j.gds.api.GraphName;
+import org.neo4j.gds.config.GraphRefreshConfig;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.GraphStoreCatalogService;
+import org.neo4j.gds.core.loading.GraphStoreRefresh;
+import org.neo4j.gds.core.loading.GraphStoreWithConfig;
+import org.neo4j.gds.core.utils.ProgressTimer;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Applies database changes to a projected graph and replaces it in the catalog,
+ * without projecting it from the database again.
+ * The graph is only replaced if the catalog still holds the graph store the changes have been applied to.
+ */
+public class RefreshGraphService {
+    private final GraphStoreCatalogService graphStoreCatalogService;
+
+    public RefreshGraphService(GraphStoreCatalogService graphStoreCatalogService) {
+        this.graphStoreCatalogService = graphStoreCatalogService;
+    }
+
+    public RefreshGraphResult compute(
+        GraphName graphName,
+        GraphStoreWithConfig graphStoreWithConfig,
+        GraphRefreshConfig configuration
+    ) {
+        var graphStore = graphStoreWithConfig.graphStore();
+        if (!(graphStore instanceof CSRGraphStore)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Graph `%s` does not support refreshing.",
+                graphName.getValue()
+            ));
+        }
+
+        var timer = ProgressTimer.start();
+        var refreshedGraphStore = GraphStoreRefresh.refresh(
+            (CSRGraphStore) graphStore,
+            configuration.delta(),
+            configuration.concurrency()
+        );
+        // concurrent refreshes read the same graph store, only the first one may replace it
+        if (!graphStoreCatalogService.replace(graphStoreWithConfig.config(), graphStore, refreshedGraphStore)) {
+            throw new IllegalStateException(formatWithLocale(
+                "Graph `%s` has been dropped or replaced while it was being refreshed. Refresh the current graph again.",
+                graphName.getValue()
+            ));
+        }
+        timer.stop();
+
+        return new RefreshGraphResult(
+            timer.getDuration(),
+            graphName.getValue(),
+            refreshedGraphStore.nodeCount(),
+            refreshedGraphStore.relationshipCount(),
+            refreshedGraphStore.nodeCount() - graphStore.nodeCount(),
+            refreshedGraphStore.relationshipCount() - graphStore.relationshipCount(),
+            configuration.toMap()
+        );
+    }
+}
@@ -52,6 +52,7 @@ class DefaultGraphStoreCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
             null
         );
 
@@ -83,6 +84,7 @@ class DefaultGraphStoreCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
             null
         );
 
@@ -118,6 +120,7 @@ class DefaultGraphStoreCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
             null
         );
 
@@ -144,6 +147,7 @@ class DefaultGraphStoreCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
             null
         );
 
@@ -201,6 +205,7 @@ class DefaultGraphStoreCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
             null
         );
 
@@ -279,6 +284,7 @@ class DefaultGraphStoreCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
             null
         );
 
@@ -355,6 +361,7 @@ class DefaultGraphStoreCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
             null
         );
 
@@ -423,6 +430,7 @@ class DefaultGraphStoreCatalogBusinessFacadeTest {
             null,
             null,
             null,
+            null,
             null
         );
 
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.AdjacencyListBehavior;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The adjacency list implementations that are compared by the benchmarks in this module.
+ */
+public enum AdjacencyCompression {
+    VAR_LONG {
+        @Override
+        AdjacencyCompressorFactory factory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.compressed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    },
+    PACKED {
+        @Override
+        AdjacencyCompressorFactory factory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.packed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    },
+    MIXED {
+        @Override
+        AdjacencyCompressorFactory factory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.mixed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    },
+    UNCOMPRESSED {
+        @Override
+        AdjacencyCompressorFactory factory(LongSupplier nodeCount) {
+            return AdjacencyListBehavior.uncompressed(nodeCount, PropertyMappings.of(), AGGREGATIONS, true);
+        }
+    };
+
+    private static final Aggregation[] AGGREGATIONS = {Aggregation.NONE};
+
+    abstract AdjacencyCompressorFactory factory(LongSupplier nodeCount);
+
+    /**
+     * Runs the given code with the feature toggles set such that
+     * any graph built inside uses this adjacency list implementation.
+     */
+    synchronized <T> T runWith(Supplier<T> code) {
+        var packedBefore = GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(this == PACKED);
+        var mixedBefore = GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.toggle(this == MIXED);
+        var uncompressedBefore = GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(this == UNCOMPRESSED);
+        try {
+            return code.get();
+        } finally {
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(packedBefore);
+            GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.toggle(mixedBefore);
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(uncompressedBefore);
+        }
+    }
+}
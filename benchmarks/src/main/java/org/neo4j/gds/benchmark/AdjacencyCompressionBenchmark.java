@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.api.compress.AdjacencyListsWithProperties;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long the {@link org.neo4j.gds.api.compress.AdjacencyCompressorFactory} implementations
+ * take to compress the adjacency lists of a generated graph and how many bytes per edge they need.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyCompressionBenchmark {
+
+    @Param({"VAR_LONG", "PACKED", "MIXED", "UNCOMPRESSED"})
+    public AdjacencyCompression compression;
+
+    @Param({"UNIFORM", "RANDOM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"10", "100"})
+    public long averageDegree;
+
+    private long[][] targets;
+    private long[] buffer;
+    private long[][] noProperties;
+    private double bytesPerEdge;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var graph = BenchmarkGraphs.generate(AdjacencyCompression.VAR_LONG, distribution, nodeCount, averageDegree);
+        this.targets = BenchmarkGraphs.targets(graph);
+        int maxDegree = 0;
+        for (long[] nodeTargets : targets) {
+            maxDegree = Math.max(maxDegree, nodeTargets.length);
+        }
+        this.buffer = new long[maxDegree];
+        this.noProperties = new long[0][];
+        // the compressed size does not change between invocations, so we measure it once outside the timed code
+        var result = compressTargets();
+        this.bytesPerEdge = BenchmarkGraphs.bytesPerEdge(result.adjacency(), result.relationshipCount());
+    }
+
+    @Benchmark
+    public AdjacencyListsWithProperties compress(EdgeCounter counter, CompressionCounter compressionCounter) {
+        var result = compressTargets();
+        counter.edges += result.relationshipCount();
+        compressionCounter.bytesPerEdge = bytesPerEdge;
+        return result;
+    }
+
+    private AdjacencyListsWithProperties compressTargets() {
+        var targets = this.targets;
+        var buffer = this.buffer;
+        var factory = compression.factory(() -> targets.length);
+        factory.init();
+
+        long relationshipCount = 0;
+        try (var compressor = factory.createCompressor()) {
+            for (int nodeId = 0; nodeId < targets.length; nodeId++) {
+                var nodeTargets = targets[nodeId];
+                var degree = nodeTargets.length;
+                // compressors sort the input in place, so we must not hand out our source arrays
+                System.arraycopy(nodeTargets, 0, buffer, 0, degree);
+                relationshipCount += compressor.compress(nodeId, buffer, noProperties, degree);
+            }
+        }
+
+        factory.relationshipCounter().add(relationshipCount);
+        return factory.build(false);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding speed of the {@link AdjacencyCursor} implementations of the different adjacency lists.
+ * All benchmarks visit every node once and report the number of decoded edges as {@code edges}
+ * and the size of the adjacency list as {@code bytesPerEdge}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyCursorBenchmark {
+
+    @Param({"VAR_LONG", "PACKED", "MIXED", "UNCOMPRESSED"})
+    public AdjacencyCompression compression;
+
+    @Param({"UNIFORM", "RANDOM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"10", "100"})
+    public long averageDegree;
+
+    private AdjacencyList adjacency;
+    private double bytesPerEdge;
+    private AdjacencyCursor cursor;
+    private long[] block;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var graph = BenchmarkGraphs.generate(compression, distribution, nodeCount, averageDegree);
+        this.adjacency = graph.relationshipTopology().adjacencyList();
+        this.bytesPerEdge = BenchmarkGraphs.bytesPerEdge(adjacency, graph.relationshipCount());
+        this.cursor = adjacency.rawAdjacencyCursor();
+        this.block = new long[64];
+    }
+
+    @Benchmark
+    public long nextVLong(EdgeCounter counter, CompressionCounter compressionCounter) {
+        var adjacency = this.adjacency;
+        var cursor = this.cursor;
+        long sum = 0;
+        long edges = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cursor = adjacency.adjacencyCursor(cursor, nodeId);
+            edges += cursor.size();
+            while (cursor.hasNextVLong()) {
+                sum += cursor.nextVLong();
+            }
+        }
+        counter.edges += edges;
+        compressionCounter.bytesPerEdge = bytesPerEdge;
+        return sum;
+    }
+
+    @Benchmark
+    public long nextBlock(EdgeCounter counter, CompressionCounter compressionCounter) {
+        var adjacency = this.adjacency;
+        var cursor = this.cursor;
+        var block = this.block;
+        long sum = 0;
+        long edges = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cursor = adjacency.adjacencyCursor(cursor, nodeId);
+            edges += cursor.size();
+            int blockLength;
+            while ((blockLength = cursor.nextBlock(block)) > 0) {
+                for (int i = 0; i < blockLength; i++) {
+                    sum += block[i];
+                }
+            }
+        }
+        counter.edges += edges;
+        compressionCounter.bytesPerEdge = bytesPerEdge;
+        return sum;
+    }
+
+    /**
+     * Advances to the first target that is at least the source id,
+     * which is the access pattern of triangle counting on an ordered adjacency.
+     */
+    @Benchmark
+    public long advance(EdgeCounter counter, CompressionCounter compressionCounter) {
+        var adjacency = this.adjacency;
+        var cursor = this.cursor;
+        long sum = 0;
+        long edges = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cursor = adjacency.adjacencyCursor(cursor, nodeId);
+            sum += cursor.advance(nodeId);
+            // only the targets up to the returned one are decoded, the rest of the list is never touched
+            edges += cursor.size() - cursor.remaining();
+        }
+        counter.edges += edges;
+        compressionCounter.bytesPerEdge = bytesPerEdge;
+        return sum;
+    }
+
+    @Benchmark
+    public long skipUntil(EdgeCounter counter, CompressionCounter compressionCounter) {
+        var adjacency = this.adjacency;
+        var cursor = this.cursor;
+        long sum = 0;
+        long edges = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cursor = adjacency.adjacencyCursor(cursor, nodeId);
+            sum += cursor.skipUntil(nodeId);
+            // only the targets up to the returned one are decoded, the rest of the list is never touched
+            edges += cursor.size() - cursor.remaining();
+        }
+        counter.edges += edges;
+        compressionCounter.bytesPerEdge = bytesPerEdge;
+        return sum;
+    }
+}
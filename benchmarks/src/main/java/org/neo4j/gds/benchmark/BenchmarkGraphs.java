@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig;
+import org.neo4j.gds.core.huge.HugeGraph;
+
+final class BenchmarkGraphs {
+
+    static final long SEED = 42L;
+
+    private BenchmarkGraphs() {}
+
+    static HugeGraph generate(
+        AdjacencyCompression compression,
+        RelationshipDistribution distribution,
+        long nodeCount,
+        long averageDegree
+    ) {
+        return compression.runWith(() -> RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(distribution)
+            .allowSelfLoops(RandomGraphGeneratorConfig.AllowSelfLoops.NO)
+            .seed(SEED)
+            .build()
+            .generate());
+    }
+
+    /**
+     * Copies the uncompressed target ids of every node, so that compression can be measured in isolation.
+     */
+    static long[][] targets(HugeGraph graph) {
+        var adjacency = graph.relationshipTopology().adjacencyList();
+        var nodeCount = Math.toIntExact(graph.nodeCount());
+        var targets = new long[nodeCount][];
+        AdjacencyCursor cursor = null;
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            cursor = adjacency.adjacencyCursor(cursor, nodeId);
+            var nodeTargets = new long[cursor.size()];
+            int i = 0;
+            while (cursor.hasNextVLong()) {
+                nodeTargets[i++] = cursor.nextVLong();
+            }
+            targets[nodeId] = nodeTargets;
+        }
+        return targets;
+    }
+
+    static double bytesPerEdge(AdjacencyList adjacency, long relationshipCount) {
+        var bytes = adjacency.memoryInfo().bytesTotal().orElse(-1L);
+        return relationshipCount == 0 || bytes < 0 ? Double.NaN : (double) bytes / relationshipCount;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the graph level APIs that most algorithms are built on,
+ * i.e., {@link HugeGraph#forEachRelationship} and {@link HugeGraph#degree}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GraphTraversalBenchmark {
+
+    @Param({"VAR_LONG", "PACKED", "MIXED", "UNCOMPRESSED"})
+    public AdjacencyCompression compression;
+
+    @Param({"UNIFORM", "RANDOM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"10", "100"})
+    public long averageDegree;
+
+    private HugeGraph graph;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.graph = BenchmarkGraphs.generate(compression, distribution, nodeCount, averageDegree);
+    }
+
+    @Benchmark
+    public void forEachRelationship(EdgeCounter counter, Blackhole blackhole) {
+        var graph = this.graph;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                blackhole.consume(target);
+                return true;
+            });
+        }
+        counter.edges += graph.relationshipCount();
+    }
+
+    /**
+     * The degree lookup does not depend on the number of edges,
+     * so this only reports the time to look up the degree of every node.
+     */
+    @Benchmark
+    public long degree() {
+        var graph = this.graph;
+        long sum = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            sum += graph.degree(nodeId);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.LongLongHashMap;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import org.neo4j.gds.collections.primitive.LongDoubleOpenHashMap;
+import org.neo4j.gds.collections.primitive.LongLongOpenHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the open-addressing maps of the collections module with the HPPC maps they replace.
+ * <p>
+ * The {@code addTo} benchmarks count {@code operations} keys drawn from {@code distinctKeys} values into one map,
+ * as done by {@code LongMultiSet}. The {@code lookup} benchmarks query a filled map with keys of which about
+ * half are absent. The {@code aggregate} benchmarks reuse a single map for many small batches, clearing it
+ * between batches, which is the access pattern of aggregating the weights of neighbouring communities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OpenHashMapBenchmark {
+
+    private static final int BATCH_SIZE = 32;
+
+    @Param({"1000", "1000000"})
+    public int distinctKeys;
+
+    @Param({"1000000"})
+    public int operations;
+
+    private long[] keys;
+    private long[] queries;
+
+    private LongLongHashMap hppcFilled;
+    private LongLongOpenHashMap openFilled;
+
+    private LongDoubleHashMap hppcReused;
+    private LongDoubleOpenHashMap openReused;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new Random(42);
+        keys = new long[operations];
+        queries = new long[operations];
+        for (int i = 0; i < operations; i++) {
+            // scatter the keys over the whole id space to avoid favouring any hash function
+            keys[i] = random.nextInt(distinctKeys) * 0x9E3779B97F4A7C15L;
+            queries[i] = random.nextInt(2 * distinctKeys) * 0x9E3779B97F4A7C15L;
+        }
+
+        hppcFilled = new LongLongHashMap();
+        openFilled = LongLongOpenHashMap.create();
+        for (long key : keys) {
+            hppcFilled.addTo(key, 1);
+            openFilled.addTo(key, 1);
+        }
+
+        hppcReused = new LongDoubleHashMap(BATCH_SIZE);
+        openReused = LongDoubleOpenHashMap.create(BATCH_SIZE);
+    }
+
+    @Benchmark
+    public LongLongHashMap addToHppc() {
+        var map = new LongLongHashMap();
+        for (long key : keys) {
+            map.addTo(key, 1);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public LongLongOpenHashMap addToOpenAddressing() {
+        var map = LongLongOpenHashMap.create();
+        for (long key : keys) {
+            map.addTo(key, 1);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public long lookupHppc() {
+        var map = hppcFilled;
+        long sum = 0;
+        for (long query : queries) {
+            sum += map.getOrDefault(query, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long lookupOpenAddressing() {
+        var map = openFilled;
+        long sum = 0;
+        for (long query : queries) {
+            sum += map.getOrDefault(query, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double aggregateHppc() {
+        var map = hppcReused;
+        double max = 0;
+        for (int start = 0; start < operations; start += BATCH_SIZE) {
+            map.clear();
+            for (int i = start, end = Math.min(start + BATCH_SIZE, operations); i < end; i++) {
+                map.addTo(keys[i] % BATCH_SIZE, 1.0);
+            }
+            for (LongDoubleCursor cursor : map) {
+                max = Math.max(max, cursor.value);
+            }
+        }
+        return max;
+    }
+
+    @Benchmark
+    public double aggregateOpenAddressing() {
+        var map = openReused;
+        double max = 0;
+        for (int start = 0; start < operations; start += BATCH_SIZE) {
+            map.clear();
+            for (int i = start, end = Math.min(start + BATCH_SIZE, operations); i < end; i++) {
+                map.addTo(keys[i] % BATCH_SIZE, 1.0);
+            }
+            var cursor = map.cursor();
+            while (cursor.next()) {
+                max = Math.max(max, cursor.value());
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to import a weighted multigraph with and without aggregating parallel relationships.
+ * Every relationship of a generated graph is added {@code parallelRelationships} times, so that the
+ * aggregations have to merge that many properties per target.
+ * With pre-aggregation being allocation free, {@code SINGLE} and {@code SUM} should be on par with {@code NONE}.
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PreAggregationBenchmark {
+
+    @Param({"NONE", "SINGLE", "SUM"})
+    public Aggregation aggregation;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"10"})
+    public long averageDegree;
+
+    @Param({"1", "4"})
+    public int parallelRelationships;
+
+    private IdMap idMap;
+    private long[] sources;
+    private long[] targets;
+    private double[] weights;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var graph = BenchmarkGraphs.generate(
+            AdjacencyCompression.VAR_LONG,
+            RelationshipDistribution.RANDOM,
+            nodeCount,
+            averageDegree
+        );
+        var adjacency = BenchmarkGraphs.targets(graph);
+        var relationshipCount = Math.toIntExact(graph.relationshipCount() * parallelRelationships);
+
+        this.idMap = graph;
+        this.sources = new long[relationshipCount];
+        this.targets = new long[relationshipCount];
+        this.weights = new double[relationshipCount];
+
+        // parallel relationships are added in separate rounds, so that they end up in different positions
+        var random = new Random(BenchmarkGraphs.SEED);
+        int index = 0;
+        for (int round = 0; round < parallelRelationships; round++) {
+            for (int source = 0; source < adjacency.length; source++) {
+                for (long target : adjacency[source]) {
+                    sources[index] = source;
+                    targets[index] = target;
+                    weights[index] = random.nextDouble();
+                    index++;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public SingleTypeRelationships importRelationships(EdgeCounter counter) {
+        var builder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(RelationshipType.of("REL"))
+            .addPropertyConfig(GraphFactory.PropertyConfig.of("weight", aggregation, DefaultValue.forDouble()))
+            .build();
+
+        var sources = this.sources;
+        var targets = this.targets;
+        var weights = this.weights;
+        for (int i = 0; i < sources.length; i++) {
+            builder.addFromInternal(sources[i], targets[i], weights[i]);
+        }
+
+        counter.edges += sources.length;
+        return builder.build();
+    }
+}
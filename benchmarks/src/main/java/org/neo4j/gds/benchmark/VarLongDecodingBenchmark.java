@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.benchmark;
+
+import org.neo4j.gds.core.compression.common.VarLongDecoding;
+import org.neo4j.gds.core.compression.common.VarLongEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the word parallel var-long decoding with the byte-wise decoding.
+ * The decoder is selected once per JVM, so the scalar variant runs in a fork with word parallel decoding disabled.
+ * Each invocation decodes the whole page in blocks of 64 values and reports the number of values as {@code edges}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VarLongDecodingBenchmark {
+
+    private static final int BLOCK_SIZE = 64;
+
+    @Param({"50", "90", "100"})
+    public int singleBytePercentage;
+
+    @Param({"1048576"})
+    public int valueCount;
+
+    private byte[] page;
+    private long[] block;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var random = new Random(42);
+        var deltas = new long[valueCount];
+        for (int i = 0; i < valueCount; i++) {
+            deltas[i] = random.nextInt(100) < singleBytePercentage
+                ? random.nextInt(128)
+                : 128 + random.nextInt(1 << 20);
+        }
+        this.page = new byte[VarLongEncoding.encodedVLongsSize(deltas, valueCount)];
+        VarLongEncoding.encodeVLongs(deltas, valueCount, page, 0);
+        this.block = new long[BLOCK_SIZE];
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.neo4j.gds.utils.GdsFeatureToggles.useWordParallelDecoding=true")
+    public long wordParallel(EdgeCounter counter) {
+        return decode(counter);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.neo4j.gds.utils.GdsFeatureToggles.useWordParallelDecoding=false")
+    public long scalar(EdgeCounter counter) {
+        return decode(counter);
+    }
+
+    private long decode(EdgeCounter counter) {
+        var page = this.page;
+        var block = this.block;
+        long last = 0;
+        int offset = 0;
+        for (int remaining = valueCount; remaining > 0; remaining -= BLOCK_SIZE) {
+            int limit = Math.min(remaining, BLOCK_SIZE);
+            offset = VarLongDecoding.decodeDeltaVLongs(last, page, offset, limit, block);
+            last = block[limit - 1];
+        }
+        counter.edges += valueCount;
+        return last;
+    }
+}
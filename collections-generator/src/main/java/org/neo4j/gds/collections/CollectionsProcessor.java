@@ -24,6 +24,7 @@ import com.google.auto.service.AutoService;
 import org.neo4j.gds.collections.haa.HugeAtomicArrayStep;
 import org.neo4j.gds.collections.hsa.HugeSparseArrayStep;
 import org.neo4j.gds.collections.hsl.HugeSparseListStep;
+import org.neo4j.gds.collections.ohm.OpenHashMapStep;
 
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
@@ -50,7 +51,8 @@ public class CollectionsProcessor extends BasicAnnotationProcessor {
         return List.of(
             HugeSparseArrayStep.of(processingEnv, sourcePath),
             HugeSparseListStep.of(processingEnv, sourcePath),
-            HugeAtomicArrayStep.of(processingEnv, sourcePath)
+            HugeAtomicArrayStep.of(processingEnv, sourcePath),
+            OpenHashMapStep.of(processingEnv, sourcePath)
         );
     }
 
@@ -76,6 +76,17 @@ final class HugeAtomicArrayGenerator implements CollectionStep.Generator<HugeAto
             spec.pageShift()
         ));
 
+        if (OffHeapArrayBuilder.supports(valueType)) {
+            builder.addMethod(ofOffHeapMethod(elementType, pageCreatorType));
+            builder.addType(OffHeapArrayBuilder.builder(
+                elementType,
+                valueType,
+                unaryOperatorType,
+                pageCreatorType,
+                spec.pageShift()
+            ));
+        }
+
         return builder.build();
     }
 
@@ -109,6 +120,16 @@ final class HugeAtomicArrayGenerator implements CollectionStep.Generator<HugeAto
             .build();
     }
 
+    private static MethodSpec ofOffHeapMethod(TypeName interfaceType, TypeName pageCreatorType) {
+        return MethodSpec.methodBuilder("ofOffHeap")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addParameter(TypeName.LONG, "size")
+            .addParameter(pageCreatorType, "pageCreator")
+            .returns(interfaceType)
+            .addStatement("return $N.of(size, pageCreator)", OffHeapArrayBuilder.OFF_HEAP_CLASS_NAME)
+            .build();
+    }
+
     private static MethodSpec memoryEstimationMethod() {
         return MethodSpec.methodBuilder("memoryEstimation")
             .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.haa;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.lang.model.element.Modifier;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+
+import static org.neo4j.gds.collections.haa.HugeAtomicArrayGenerator.DEFAULT_VALUE_METHOD;
+import static org.neo4j.gds.collections.haa.HugeAtomicArrayGenerator.PAGE_UTIL;
+import static org.neo4j.gds.collections.haa.HugeAtomicArrayGenerator.valueArrayType;
+import static org.neo4j.gds.collections.haa.PagedArrayBuilder.PAGED_CLASS_NAME;
+
+/**
+ * Generates an implementation that stores its pages off-heap in direct byte buffers.
+ * Atomic access to the buffers goes through a byte buffer view {@link VarHandle},
+ * which supports volatile and compare-and-exchange access only for
+ * {@code int}, {@code long}, {@code float} and {@code double} values.
+ */
+final class OffHeapArrayBuilder {
+
+    static final String OFF_HEAP_CLASS_NAME = "OffHeap";
+
+    // log2 of the size in bytes of the supported value types
+    private static final Map<TypeName, Integer> ELEMENT_SHIFTS = Map.of(
+        TypeName.INT, 2,
+        TypeName.FLOAT, 2,
+        TypeName.LONG, 3,
+        TypeName.DOUBLE, 3
+    );
+
+    private OffHeapArrayBuilder() {}
+
+    static boolean supports(TypeName valueType) {
+        return ELEMENT_SHIFTS.containsKey(valueType);
+    }
+
+    static TypeSpec builder(
+        TypeName interfaceType,
+        TypeName valueType,
+        TypeName unaryOperatorType,
+        TypeName pageCreatorType,
+        int specPageShift
+    ) {
+        var builder = TypeSpec.classBuilder(OFF_HEAP_CLASS_NAME)
+            .addModifiers(Modifier.STATIC, Modifier.FINAL)
+            .superclass(interfaceType);
+
+        // class fields
+        var pageShift = FieldSpec
+            .builder(TypeName.INT, "PAGE_SHIFT", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$L", specPageShift)
+            .build();
+        var pageSize = FieldSpec
+            .builder(TypeName.INT, "PAGE_SIZE", Modifier.STATIC, Modifier.FINAL)
+            .initializer("1 << $N", pageShift)
+            .build();
+        var pageMask = FieldSpec
+            .builder(TypeName.INT, "PAGE_MASK", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$N - 1", pageSize)
+            .build();
+        var elementShift = FieldSpec
+            .builder(TypeName.INT, "ELEMENT_SHIFT", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer("$L", ELEMENT_SHIFTS.get(valueType))
+            .build();
+        var bufferHandle = FieldSpec
+            .builder(VarHandle.class, "BUFFER_HANDLE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer(
+                "$T.byteBufferViewVarHandle($T.class, $T.nativeOrder())",
+                MethodHandles.class,
+                valueArrayType(valueType),
+                ByteOrder.class
+            )
+            .build();
+        builder.addField(pageShift);
+        builder.addField(pageSize);
+        builder.addField(pageMask);
+        builder.addField(elementShift);
+        builder.addField(bufferHandle);
+
+        // instance fields
+        var size = FieldSpec.builder(TypeName.LONG, "size", Modifier.PRIVATE, Modifier.FINAL).build();
+        var pages = FieldSpec.builder(ByteBuffer[].class, "pages", Modifier.PRIVATE).build();
+        var memoryUsed = FieldSpec.builder(TypeName.LONG, "memoryUsed", Modifier.PRIVATE, Modifier.FINAL).build();
+        builder.addField(size);
+        builder.addField(pages);
+        builder.addField(memoryUsed);
+
+        builder.addMethod(ofMethod(valueType, interfaceType, pageCreatorType, pageShift, pageSize, pageMask, elementShift));
+        builder.addMethod(constructor());
+
+        // static methods
+        builder.addMethod(memoryEstimationMethod());
+
+        // instance methods
+        builder.addMethod(pageMethod(size, pages, pageShift));
+        builder.addMethod(byteOffsetMethod(pageMask, elementShift));
+        builder.addMethod(getMethod(valueType, bufferHandle));
+        builder.addMethod(getAndAddMethod(valueType, bufferHandle));
+        builder.addMethod(getAndReplaceMethod(valueType, bufferHandle));
+        builder.addMethod(setMethod(valueType, bufferHandle));
+        builder.addMethod(updateMethod(valueType, unaryOperatorType, bufferHandle));
+        builder.addMethod(compareAndSetMethod(valueType, bufferHandle));
+        builder.addMethod(compareAndExchangeMethod(valueType, bufferHandle));
+        builder.addMethod(newCursorMethod(valueType, size, pageSize));
+        builder.addMethod(readPageMethod(valueType, pages));
+        builder.addMethod(sizeMethod(size));
+        builder.addMethod(sizeOfMethod(memoryUsed));
+        builder.addMethod(setAllMethod(valueType, pages));
+        builder.addMethod(releaseMethod(pages, memoryUsed));
+        builder.addMethod(copyToMethod(interfaceType, valueType));
+
+        return builder.build();
+    }
+
+    /**
+     * Copies element by element into an off-heap destination, used by all implementations.
+     */
+    static CodeBlock copyToOffHeapBranch() {
+        return CodeBlock.builder()
+            .beginControlFlow("else if (dest instanceof $N)", OFF_HEAP_CLASS_NAME)
+            .add(elementWiseCopy())
+            .endControlFlow()
+            .build();
+    }
+
+    private static CodeBlock elementWiseCopy() {
+        return CodeBlock.builder()
+            .addStatement("long copyLength = $1T.min($1T.min(length, size()), dest.size())", Math.class)
+            .beginControlFlow("for (long i = 0; i < copyLength; i++)")
+            .addStatement("dest.set(i, get(i))")
+            .endControlFlow()
+            .beginControlFlow("for (long i = copyLength; i < dest.size(); i++)")
+            .addStatement("dest.set(i, defaultValue)")
+            .endControlFlow()
+            .build();
+    }
+
+    private static String bufferView(TypeName valueType) {
+        return "as" + StringUtils.capitalize(valueType.toString()) + "Buffer";
+    }
+
+    private static MethodSpec ofMethod(
+        TypeName valueType,
+        TypeName interfaceType,
+        TypeName pageCreatorType,
+        FieldSpec pageShift,
+        FieldSpec pageSize,
+        FieldSpec pageMask,
+        FieldSpec elementShift
+    ) {
+        return MethodSpec.methodBuilder("of")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addParameter(TypeName.LONG, "size")
+            .addParameter(pageCreatorType, "pageCreator")
+            .returns(interfaceType)
+            .addStatement("int numPages = $T.numPagesFor(size, $N, $N)", PAGE_UTIL, pageShift, pageMask)
+            .addStatement("$1T[] pages = new $1T[numPages]", ByteBuffer.class)
+            .addStatement("int lastPageSize = $T.exclusiveIndexOfPage(size, $N)", PAGE_UTIL, pageMask)
+            .addComment("pages are created on-heap, one at a time, and copied into their buffer")
+            .addStatement(
+                "$T fullPage = numPages > 1 ? new $T[$N] : null",
+                valueArrayType(valueType),
+                valueType,
+                pageSize
+            )
+            .beginControlFlow("for (int pageIndex = 0; pageIndex < numPages; pageIndex++)")
+            .addStatement(
+                "$T page = pageIndex == numPages - 1 ? new $T[lastPageSize] : fullPage",
+                valueArrayType(valueType),
+                valueType
+            )
+            .addStatement("pageCreator.fillPage(page, $T.capacityFor(pageIndex, $N))", PAGE_UTIL, pageShift)
+            .addStatement(
+                "$1T buffer = $1T.allocateDirect(page.length << $2N).order($3T.nativeOrder())",
+                ByteBuffer.class,
+                elementShift,
+                ByteOrder.class
+            )
+            .addStatement("buffer.$N().put(page)", bufferView(valueType))
+            .addStatement("pages[pageIndex] = buffer")
+            .endControlFlow()
+            .addStatement("long memoryUsed = memoryEstimation(size)")
+            .addStatement("return new $N(size, pages, memoryUsed)", OFF_HEAP_CLASS_NAME)
+            .build();
+    }
+
+    private static MethodSpec constructor() {
+        return MethodSpec.constructorBuilder()
+            .addParameter(TypeName.LONG, "size")
+            .addParameter(ByteBuffer[].class, "pages")
+            .addParameter(TypeName.LONG, "memoryUsed")
+            .addStatement("this.size = size")
+            .addStatement("this.pages = pages")
+            .addStatement("this.memoryUsed = memoryUsed")
+            .build();
+    }
+
+    private static MethodSpec memoryEstimationMethod() {
+        // The data takes the same space as in the paged on-heap layout,
+        // with a direct buffer object taking the place of each array header.
+        return MethodSpec.methodBuilder("memoryEstimation")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addParameter(TypeName.LONG, "size")
+            .returns(TypeName.LONG)
+            .addStatement("return $N.memoryEstimation(size)", PAGED_CLASS_NAME)
+            .build();
+    }
+
+    private static MethodSpec pageMethod(FieldSpec size, FieldSpec pages, FieldSpec pageShift) {
+        // Buffers throw IndexOutOfBoundsExceptions, we throw the same exception as the on-heap arrays.
+        return MethodSpec.methodBuilder("page")
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(TypeName.LONG, "index")
+            .returns(ByteBuffer.class)
+            .beginControlFlow("if (index < 0 || index >= $N)", size)
+            .addStatement(
+                "throw new $T(\"Index \" + index + \" out of bounds for length \" + $N)",
+                ArrayIndexOutOfBoundsException.class,
+                size
+            )
+            .endControlFlow()
+            .addStatement("return $N[$T.pageIndex(index, $N)]", pages, PAGE_UTIL, pageShift)
+            .build();
+    }
+
+    private static MethodSpec byteOffsetMethod(FieldSpec pageMask, FieldSpec elementShift) {
+        return MethodSpec.methodBuilder("byteOffset")
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+            .addParameter(TypeName.LONG, "index")
+            .returns(TypeName.INT)
+            .addStatement("return $T.indexInPage(index, $N) << $N", PAGE_UTIL, pageMask, elementShift)
+            .build();
+    }
+
+    private static MethodSpec getMethod(TypeName valueType, FieldSpec bufferHandle) {
+        return MethodSpec.methodBuilder("get")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(TypeName.LONG, "index")
+            .returns(valueType)
+            .addStatement("return ($T) $N.getVolatile(page(index), byteOffset(index))", valueType, bufferHandle)
+            .build();
+    }
+
+    private static MethodSpec getAndAddMethod(TypeName valueType, FieldSpec bufferHandle) {
+        return MethodSpec.methodBuilder("getAndAdd")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(TypeName.LONG, "index")
+            .addParameter(valueType, "delta")
+            .returns(valueType)
+            .addStatement("$T page = page(index)", ByteBuffer.class)
+            .addStatement("int offset = byteOffset(index)")
+            .addStatement("$1T prev = ($1T) $2N.getAcquire(page, offset)", valueType, bufferHandle)
+            .beginControlFlow("while (true)")
+            .addStatement("$1T next = ($1T) (prev + delta)", valueType)
+            .addStatement(
+                "$1T current = ($1T) $2N.compareAndExchangeRelease(page, offset, prev, next)",
+                valueType,
+                bufferHandle
+            )
+            .beginControlFlow("if ($T.compare(prev, current) == 0)", valueType.box())
+            .addStatement("return prev")
+            .endControlFlow()
+            .addStatement("prev = current")
+            .endControlFlow()
+            .build();
+    }
+
+    private static MethodSpec getAndReplaceMethod(TypeName valueType, FieldSpec bufferHandle) {
+        return MethodSpec.methodBuilder("getAndReplace")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(TypeName.LONG, "index")
+            .addParameter(valueType, "value")
+            .returns(valueType)
+            .addStatement("$T page = page(index)", ByteBuffer.class)
+            .addStatement("int offset = byteOffset(index)")
+            .addStatement("$1T prev = ($1T) $2N.getAcquire(page, offset)", valueType, bufferHandle)
+            .beginControlFlow("while (true)")
+            .addStatement(
+                "$1T current = ($1T) $2N.compareAndExchangeRelease(page, offset, prev, value)",
+                valueType,
+                bufferHandle
+            )
+            .beginControlFlow("if ($T.compare(prev, current) == 0)", valueType.box())
+            .addStatement("return current")
+            .endControlFlow()
+            .addStatement("prev = current")
+            .endControlFlow()
+            .build();
+    }
+
+    private static MethodSpec setMethod(TypeName valueType, FieldSpec bufferHandle) {
+        return MethodSpec.methodBuilder("set")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(TypeName.LONG, "index")
+            .addParameter(valueType, "value")
+            .returns(TypeName.VOID)
+            .addStatement("$N.setVolatile(page(index), byteOffset(index), value)", bufferHandle)
+            .build();
+    }
+
+    private static MethodSpec updateMethod(TypeName valueType, TypeName unaryOperatorType, FieldSpec bufferHandle) {
+        return MethodSpec.methodBuilder("update")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(TypeName.LONG, "index")
+            .addParameter(unaryOperatorType, "updateFunction")
+            .returns(TypeName.VOID)
+            .addStatement("$T page = page(index)", ByteBuffer.class)
+            .addStatement("int offset = byteOffset(index)")
+            .addStatement("$1T prev = ($1T) $2N.getAcquire(page, offset)", valueType, bufferHandle)
+            .beginControlFlow("while (true)")
+            .addStatement("$T next = updateFunction.apply(prev)", valueType)
+            .addStatement(
+                "$1T current = ($1T) $2N.compareAndExchangeRelease(page, offset, prev, next)",
+                valueType,
+                bufferHandle
+            )
+            .beginControlFlow("if ($T.compare(prev, current) == 0)", valueType.box())
+            .addStatement("return")
+            .endControlFlow()
+            .addStatement("prev = current")
+            .endControlFlow()
+            .build();
+    }
+
+    private static MethodSpec compareAndSetMethod(TypeName valueType, FieldSpec bufferHandle) {
+        return MethodSpec.methodBuilder("compareAndSet")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(TypeName.LONG, "index")
+            .addParameter(valueType, "expected")
+            .addParameter(valueType, "update")
+            .returns(TypeName.BOOLEAN)
+            .addStatement(
+                "return $N.compareAndSet(page(index), byteOffset(index), expected, update)",
+                bufferHandle
+            )
+            .build();
+    }
+
+    private static MethodSpec compareAndExchangeMethod(TypeName valueType, FieldSpec bufferHandle) {
+        return MethodSpec.methodBuilder("compareAndExchange")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(TypeName.LONG, "index")
+            .addParameter(valueType, "expected")
+            .addParameter(valueType, "update")
+            .returns(valueType)
+            .addStatement(
+                "return ($T) $N.compareAndExchange(page(index), byteOffset(index), expected, update)",
+                valueType,
+                bufferHandle
+            )
+            .build();
+    }
+
+    private static MethodSpec newCursorMethod(TypeName valueType, FieldSpec size, FieldSpec pageSize) {
+        ClassName hugeCursorType = ClassName.get("org.neo4j.gds.collections.cursor", "HugeCursor");
+        ParameterizedTypeName hugeCursorGenericType = ParameterizedTypeName.get(
+            hugeCursorType,
+            valueArrayType(valueType)
+        );
+
+        return MethodSpec.methodBuilder("newCursor")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(hugeCursorGenericType)
+            .addStatement(
+                "return new $T.CopyingPagedCursor<>($N, new $T[$N], this::readPage)",
+                hugeCursorType,
+                size,
+                valueType,
+                pageSize
+            )
+            .build();
+    }
+
+    private static MethodSpec readPageMethod(TypeName valueType, FieldSpec pages) {
+        return MethodSpec.methodBuilder("readPage")
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(TypeName.INT, "pageIndex")
+            .addParameter(valueArrayType(valueType), "buffer")
+            .addParameter(TypeName.INT, "length")
+            .returns(TypeName.VOID)
+            .addStatement("$N[pageIndex].$N().get(buffer, 0, length)", pages, bufferView(valueType))
+            .build();
+    }
+
+    private static MethodSpec sizeMethod(FieldSpec size) {
+        return MethodSpec.methodBuilder("size")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(TypeName.LONG)
+            .addStatement("return $N", size)
+            .build();
+    }
+
+    private static MethodSpec sizeOfMethod(FieldSpec memoryUsed) {
+        return MethodSpec.methodBuilder("sizeOf")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(TypeName.LONG)
+            .addStatement("return $N", memoryUsed)
+            .build();
+    }
+
+    private static MethodSpec setAllMethod(TypeName valueType, FieldSpec pages) {
+        return MethodSpec.methodBuilder("setAll")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(valueType, "value")
+            .returns(TypeName.VOID)
+            .beginControlFlow("for ($T page : $N)", ByteBuffer.class, pages)
+            .addStatement("var values = page.$N()", bufferView(valueType))
+            .beginControlFlow("for (int i = 0; i < values.limit(); i++)")
+            .addStatement("values.put(i, value)")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("$T.storeStoreFence()", ClassName.get(VarHandle.class))
+            .build();
+    }
+
+    private static MethodSpec releaseMethod(FieldSpec pages, FieldSpec memoryUsed) {
+        // Direct buffers are freed once the garbage collector finds them unreachable.
+        // Only the small buffer objects live on the heap, the data never enters the old generation.
+        return MethodSpec.methodBuilder("release")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .returns(TypeName.LONG)
+            .beginControlFlow("if ($N != null)", pages)
+            .addStatement("$N = null", pages)
+            .addStatement("return $N", memoryUsed)
+            .endControlFlow()
+            .addStatement("return 0L")
+            .build();
+    }
+
+    private static MethodSpec copyToMethod(TypeName interfaceType, TypeName valueType) {
+        return MethodSpec.methodBuilder("copyTo")
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC)
+            .addParameter(interfaceType, "dest")
+            .addParameter(TypeName.LONG, "length")
+            .returns(TypeName.VOID)
+            .addStatement("$T defaultValue = $N()", valueType, DEFAULT_VALUE_METHOD)
+            .addCode(elementWiseCopy())
+            .build();
+    }
+}
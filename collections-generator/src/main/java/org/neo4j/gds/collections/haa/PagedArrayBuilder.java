@@ -550,6 +550,7 @@ final class PagedArrayBuilder {
                 .endControlFlow()
                 .endControlFlow()
                 .build())
+            .addCode(OffHeapArrayBuilder.supports(valueType) ? OffHeapArrayBuilder.copyToOffHeapBranch() : CodeBlock.of(""))
             .beginControlFlow("else")
             .addStatement(
                 "throw new $T(\"Can handle only the known implementations of Single and Paged versions.\")",
@@ -375,6 +375,7 @@ final class SingleArrayBuilder {
                     .build())
                 .build())
             .endControlFlow()
+            .addCode(OffHeapArrayBuilder.supports(valueType) ? OffHeapArrayBuilder.copyToOffHeapBranch() : CodeBlock.of(""))
             .beginControlFlow("else")
             .addStatement(
                 "throw new $T(\"Can handle only the known implementations of Single and Paged versions.\")",
@@ -267,13 +267,15 @@ final class HugeSparseArrayGenerator implements CollectionStep.Generator<HugeSpa
                 .addSuperinterface(builderType);
 
             var arrayHandle = arrayHandleField(valueType);
-            var pageLock = newPageLockField();
+            var movedPage = movedPageField(valueType);
+            var growLock = growLockField();
             var defaultValue = defaultValueField(valueType);
             var pages = pagesField(valueType);
             var initialCapacitySpec = initialCapacitySpec();
 
             builder.addField(arrayHandle);
-            builder.addField(pageLock);
+            builder.addField(movedPage);
+            builder.addField(growLock);
             builder.addField(defaultValue);
             builder.addField(pages);
 
@@ -281,7 +283,7 @@ final class HugeSparseArrayGenerator implements CollectionStep.Generator<HugeSpa
                 valueType,
                 pages,
                 pageShift,
-                pageLock,
+                growLock,
                 defaultValue,
                 initialCapacitySpec
             ));
@@ -296,12 +298,13 @@ final class HugeSparseArrayGenerator implements CollectionStep.Generator<HugeSpa
             }
 
             // helper methods
-            builder.addMethod(growMethod(valueType, pageLock, pages));
-            builder.addMethod(getPageMethod(valueType, pages));
+            builder.addMethod(growMethod(valueType, growLock, pages, movedPage));
+            builder.addMethod(getPageMethod(valueType, pages, movedPage));
             builder.addMethod(allocateNewPageMethod(
                 valueType,
-                pageLock,
+                growLock,
                 pages,
+                movedPage,
                 pageSize,
                 defaultValue
             ));
@@ -309,13 +312,31 @@ final class HugeSparseArrayGenerator implements CollectionStep.Generator<HugeSpa
             return builder.build();
         }
 
-        private static FieldSpec newPageLockField() {
+        // Only taken to grow the pages array, pages are allocated lock-free.
+        private static FieldSpec growLockField() {
             return FieldSpec
-                .builder(ReentrantLock.class, "newPageLock")
+                .builder(ReentrantLock.class, "growLock")
                 .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
                 .build();
         }
 
+        // Marks the slots of a pages array that has been replaced by `grow`.
+        private static FieldSpec movedPageField(TypeName valueType) {
+            return FieldSpec
+                .builder(ArrayTypeName.of(valueType), "MOVED")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(newPage(valueType, CodeBlock.of("0")))
+                .build();
+        }
+
+        private static CodeBlock newPage(TypeName valueType, CodeBlock length) {
+            if (valueType.isPrimitive()) {
+                return CodeBlock.of("new $T[$L]", valueType, length);
+            }
+            var componentType = ((ArrayTypeName) valueType).componentType;
+            return CodeBlock.of("new $T[$L][]", componentType, length);
+        }
+
         private static FieldSpec arrayHandleField(TypeName valueType) {
             return FieldSpec
                 .builder(VarHandle.class, "ARRAY_HANDLE")
@@ -330,7 +351,7 @@ final class HugeSparseArrayGenerator implements CollectionStep.Generator<HugeSpa
                     ClassName.get(AtomicReferenceArray.class),
                     ArrayTypeName.of(valueType)
                 ), "pages")
-                .addModifiers(Modifier.PRIVATE)
+                .addModifiers(Modifier.PRIVATE, Modifier.VOLATILE)
                 .build();
         }
 
@@ -344,7 +365,7 @@ final class HugeSparseArrayGenerator implements CollectionStep.Generator<HugeSpa
             TypeName valueType,
             FieldSpec pages,
             FieldSpec pageShift,
-            FieldSpec pageLock,
+            FieldSpec growLock,
             FieldSpec defaultValue,
             ParameterSpec initialCapacity
         ) {
@@ -354,7 +375,7 @@ final class HugeSparseArrayGenerator implements CollectionStep.Generator<HugeSpa
                 .addStatement("int pageCount = $T.pageIndex($N, $N)", PAGE_UTIL, initialCapacity, pageShift)
                 .addStatement("this.$N = new $T(pageCount)", pages, pages.type)
                 .addStatement("this.$N = $N", defaultValue, defaultValue)
-                .addStatement("this.$N = new $T(true)", pageLock, pageLock.type)
+                .addStatement("this.$N = new $T()", growLock, growLock.type)
                 .build();
         }
 
@@ -484,23 +505,20 @@ final class HugeSparseArrayGenerator implements CollectionStep.Generator<HugeSpa
                 ).build();
         }
 
-        private static MethodSpec getPageMethod(TypeName valueType, FieldSpec pages) {
+        private static MethodSpec getPageMethod(TypeName valueType, FieldSpec pages, FieldSpec movedPage) {
             return MethodSpec.methodBuilder("getPage")
                 .addModifiers(Modifier.PRIVATE)
                 .returns(ArrayTypeName.of(valueType))
                 .addParameter(TypeName.INT, "pageIndex")
                 .addCode(CodeBlock.builder()
-                    .beginControlFlow("if (pageIndex >= $N.length())", pages)
-                    .addStatement("grow(pageIndex + 1)")
+                    .addStatement("var pages = this.$N", pages)
+                    .beginControlFlow("if (pageIndex < pages.length())")
+                    .addStatement("$T page = pages.get(pageIndex)", ArrayTypeName.of(valueType))
+                    .beginControlFlow("if (page != null && page != $N)", movedPage)
+                    .addStatement("return page")
                     .endControlFlow()
-
-                    .addStatement("$T page = $N.get(pageIndex)", ArrayTypeName.of(valueType), pages)
-                    .beginControlFlow("if (page == null)")
-                    .addStatement("page = allocateNewPage(pageIndex)")
                     .endControlFlow()
-
-                    .addStatement("return page")
-
+                    .addStatement("return allocateNewPage(pageIndex)")
                     .build()
                 )
                 .build();
@@ -508,17 +526,19 @@ final class HugeSparseArrayGenerator implements CollectionStep.Generator<HugeSpa
 
         private static MethodSpec growMethod(
             TypeName valueType,
-            FieldSpec pageLock,
-            FieldSpec pages
+            FieldSpec growLock,
+            FieldSpec pages,
+            FieldSpec movedPage
         ) {
             return MethodSpec.methodBuilder("grow")
                 .addModifiers(Modifier.PRIVATE)
                 .returns(TypeName.VOID)
                 .addParameter(TypeName.INT, "newSize")
                 .addCode(CodeBlock.builder()
-                    .addStatement("$N.lock()", pageLock)
+                    .addStatement("$N.lock()", growLock)
                     .beginControlFlow("try")
-                    .beginControlFlow("if (newSize <= $N.length())", pages)
+                    .addStatement("var pages = this.$N", pages)
+                    .beginControlFlow("if (newSize <= pages.length())")
                     .addStatement("return")
                     .endControlFlow() // eo if (newSize <= pages.length())
                     // TODO avoid using FQN literal for HugeArrays (e.g. by introducing collections-util module)
@@ -529,16 +549,18 @@ final class HugeSparseArrayGenerator implements CollectionStep.Generator<HugeSpa
                         ARRAY_UTIL,
                         MemoryUsage.class
                     )
-                    .beginControlFlow("for (int pageIndex = 0; pageIndex < $N.length(); pageIndex++)", pages)
-                    .addStatement("$T page = $N.get(pageIndex)", ArrayTypeName.of(valueType), pages)
+                    .beginControlFlow("for (int pageIndex = 0; pageIndex < pages.length(); pageIndex++)")
+                    .add("// Marking the slot as moved prevents concurrent allocations\n")
+                    .add("// from installing a page into the pages we are replacing.\n")
+                    .addStatement("$T page = pages.getAndSet(pageIndex, $N)", ArrayTypeName.of(valueType), movedPage)
                     .beginControlFlow("if (page != null)")
                     .addStatement("newPages.set(pageIndex, page)")
                     .endControlFlow() // eo if (page != null)
                     .endControlFlow() // eo for
-                    .addStatement("$N = newPages", pages)
+                    .addStatement("this.$N = newPages", pages)
                     .endControlFlow() // eo try
                     .beginControlFlow("finally")
-                    .addStatement("$N.unlock()", pageLock)
+                    .addStatement("$N.unlock()", growLock)
                     .endControlFlow() // eo finally
                     .build())
                 .build();
@@ -546,51 +568,60 @@ final class HugeSparseArrayGenerator implements CollectionStep.Generator<HugeSpa
 
         private static MethodSpec allocateNewPageMethod(
             TypeName valueType,
-            FieldSpec pageLock,
+            FieldSpec growLock,
             FieldSpec pages,
+            FieldSpec movedPage,
             FieldSpec pageSize,
             FieldSpec defaultValue
         ) {
-            final CodeBlock pageAssignmentBlock;
-
-            if (valueType.isPrimitive()) {
-                pageAssignmentBlock = CodeBlock.of("page = new $T[$N]", valueType, pageSize);
-            } else {
-                var componentType = ((ArrayTypeName) valueType).componentType;
-                pageAssignmentBlock = CodeBlock.of("page = new $T[$N][]", componentType, pageSize);
-            }
+            var pageType = ArrayTypeName.of(valueType);
 
-            // 💪
-            var bodyBuilder = CodeBlock.builder()
-                .addStatement("$N.lock()", pageLock)
-                .beginControlFlow("try")
-                .addStatement("$T page = $N.get(pageIndex)", ArrayTypeName.of(valueType), pages)
-                .beginControlFlow("if (page != null)")
-                .addStatement("return page")
-                .endControlFlow()
-                .addStatement(pageAssignmentBlock);
+            var newPageBlock = CodeBlock.builder()
+                .beginControlFlow("if (newPage == null)")
+                .addStatement("newPage = $L", newPage(valueType, CodeBlock.of("$N", pageSize)));
 
             // The following is an optimization applicable for primitive
             // types only: If the default value is equal to the default
             // value for the type, there is no need to call Array.fill().
             if (valueType.isPrimitive()) {
-                bodyBuilder.beginControlFlow(
+                newPageBlock.beginControlFlow(
                         "if ($L)",
                         isNotEqual(valueType, "$1N", "$2L", defaultValue, DEFAULT_VALUES.get(valueType))
                     )
-                    .addStatement("$T.fill(page, $N)", ClassName.get(Arrays.class), defaultValue)
+                    .addStatement("$T.fill(newPage, $N)", ClassName.get(Arrays.class), defaultValue)
                     .endControlFlow();
             }
+            newPageBlock.endControlFlow(); // eo if (newPage == null)
 
-            bodyBuilder.addStatement("$N.set(pageIndex, page)", pages)
+            // 💪
+            var bodyBuilder = CodeBlock.builder()
+                .addStatement("$T newPage = null", pageType)
+                .beginControlFlow("while (true)")
+                .addStatement("var pages = this.$N", pages)
+                .beginControlFlow("if (pageIndex >= pages.length())")
+                .addStatement("grow(pageIndex + 1)")
+                .addStatement("continue")
+                .endControlFlow()
+                .addStatement("$T page = pages.get(pageIndex)", pageType)
+                .beginControlFlow("if (page == $N)", movedPage)
+                .add("// A concurrent grow is copying the pages, wait until it has published the new ones.\n")
+                .addStatement("$N.lock()", growLock)
+                .addStatement("$N.unlock()", growLock)
+                .addStatement("continue")
+                .endControlFlow()
+                .beginControlFlow("if (page != null)")
                 .addStatement("return page")
-                .nextControlFlow("finally")
-                .addStatement("$N.unlock()", pageLock)
-                .endControlFlow();  // eo try/finally
+                .endControlFlow()
+                .add(newPageBlock.build())
+                .add("// Only one of the racing threads installs its page, the others pick it up in the next iteration.\n")
+                .beginControlFlow("if (pages.compareAndExchange(pageIndex, null, newPage) == null)")
+                .addStatement("return newPage")
+                .endControlFlow()
+                .endControlFlow(); // eo while
 
             return MethodSpec.methodBuilder("allocateNewPage")
                 .addModifiers(Modifier.PRIVATE)
-                .returns(ArrayTypeName.of(valueType))
+                .returns(pageType)
                 .addParameter(TypeName.INT, "pageIndex")
                 .addCode(bodyBuilder.build())
                 .build();
@@ -65,6 +65,9 @@ final class HugeSparseArrayTestGenerator implements CollectionStep.Generator<Hug
         builder.addMethod(shouldHaveSaneCapacity(valueType, elementType));
         builder.addMethod(shouldReportContainsCorrectly(valueType, elementType));
         builder.addMethod(shouldSetParallel(valueType, elementType));
+        if (valueType.isPrimitive()) {
+            builder.addMethod(shouldAddToParallel(valueType, elementType));
+        }
 
         return builder.build();
     }
@@ -257,4 +260,50 @@ final class HugeSparseArrayTestGenerator implements CollectionStep.Generator<Hug
                 .build())
             .build();
     }
+
+    private static MethodSpec shouldAddToParallel(TypeName valueType, TypeName elementType) {
+        return MethodSpec.methodBuilder("shouldAddToParallel")
+            .addAnnotation(TEST_ANNOTATION)
+            .returns(TypeName.VOID)
+            .addException(ExecutionException.class)
+            .addException(InterruptedException.class)
+            .addCode(CodeBlock.builder()
+                .add(newBuilder(elementType, zeroValue(valueType)))
+                .addStatement("var threads = 4")
+                .addStatement("var executor = $T.newFixedThreadPool(threads)", Executors.class)
+                .addStatement("var indices = 10_000")
+                .addStatement("var stride = 1_000")
+                .add("// All threads add to the same indices, starting at different offsets, so that\n")
+                .add("// they race on allocating the same pages and on growing the builder.\n")
+                .addStatement(
+                    "var tasks = $T.range(0, threads)\n" +
+                    ".mapToObj(threadId -> ($T) () -> {\n" +
+                    "   for (long i = 0; i < indices; i++) {\n" +
+                    "       builder.addTo(((i + threadId * 2_500L) % indices) * stride, $L);\n" +
+                    "   }\n" +
+                    "}).collect($T.toList());",
+                    IntStream.class,
+                    Runnable.class,
+                    variableValue(valueType, "1"),
+                    Collectors.class
+                )
+                .addStatement(
+                    "var futures = tasks.stream().map(executor::submit).collect($T.toList())",
+                    Collectors.class
+                )
+                .beginControlFlow("for (var future : futures)")
+                .addStatement("future.get()")
+                .endControlFlow()
+                .addStatement("executor.shutdown()")
+                .addStatement("var array = builder.build()")
+                .beginControlFlow("for (long i = 0; i < indices; i++)")
+                .addStatement(
+                    "$T.assertThat(array.get(i * stride)).isEqualTo($L)",
+                    ASSERTJ_ASSERTIONS,
+                    variableValue(valueType, "threads")
+                )
+                .endControlFlow()
+                .build())
+            .build();
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ohm;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.SimpleElementVisitor9;
+import javax.tools.Diagnostic;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.neo4j.gds.collections.ValidatorUtils.doesNotThrow;
+import static org.neo4j.gds.collections.ValidatorUtils.hasNoParameters;
+import static org.neo4j.gds.collections.ValidatorUtils.hasParameterCount;
+import static org.neo4j.gds.collections.ValidatorUtils.hasTypeKindAtIndex;
+import static org.neo4j.gds.collections.ValidatorUtils.isAbstract;
+import static org.neo4j.gds.collections.ValidatorUtils.isNotGeneric;
+import static org.neo4j.gds.collections.ValidatorUtils.isStatic;
+import static org.neo4j.gds.collections.ValidatorUtils.mustReturn;
+
+final class ElementValidator extends SimpleElementVisitor9<Boolean, Void> {
+
+    static final String ENTRY_CONSUMER = "EntryConsumer";
+    static final String CURSOR = "Cursor";
+
+    private final TypeKind keyKind;
+    private final TypeKind valueKind;
+    private final Messager messager;
+
+    private final Set<String> nestedTypes;
+
+    ElementValidator(TypeMirror keyType, TypeMirror valueType, Messager messager) {
+        super(false);
+        this.keyKind = keyType.getKind();
+        this.valueKind = valueType.getKind();
+        this.messager = messager;
+        this.nestedTypes = new HashSet<>();
+    }
+
+    boolean hasNestedTypes(Element element) {
+        var valid = true;
+        for (var nestedType : List.of(ENTRY_CONSUMER, CURSOR)) {
+            if (!nestedTypes.contains(nestedType)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "missing nested interface " + nestedType, element);
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    @Override
+    protected Boolean defaultAction(Element e, Void unused) {
+        messager.printMessage(Diagnostic.Kind.ERROR, "Unexpected enclosed element", e);
+        return super.defaultAction(e, unused);
+    }
+
+    @Override
+    public Boolean visitType(TypeElement e, Void unused) {
+        var name = e.getSimpleName().toString();
+        if (!name.equals(ENTRY_CONSUMER) && !name.equals(CURSOR)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "unexpected nested type", e);
+            return false;
+        }
+        nestedTypes.add(name);
+        return true;
+    }
+
+    @Override
+    public Boolean visitExecutable(ExecutableElement e, Void unused) {
+        switch (e.getSimpleName().toString()) {
+            case "create":
+                return isStatic(e, messager) && doesNotThrow(e, messager);
+            case "memoryEstimation":
+                return isStatic(e, messager)
+                       && hasParameterCount(e, 1, messager)
+                       && hasTypeKindAtIndex(e, 0, TypeKind.LONG, messager)
+                       && mustReturn(e, TypeKind.LONG, messager);
+            case "size":
+                return validateAbstract(e, TypeKind.INT);
+            case "isEmpty":
+                return validateAbstract(e, TypeKind.BOOLEAN);
+            case "containsKey":
+                return validateAbstract(e, TypeKind.BOOLEAN, keyKind);
+            case "getOrDefault":
+                return validateAbstract(e, valueKind, keyKind, valueKind);
+            case "put":
+                return validateAbstract(e, TypeKind.VOID, keyKind, valueKind);
+            case "addTo":
+                return validateAbstract(e, valueKind, keyKind, valueKind);
+            case "addAll":
+                return validateAbstract(e, TypeKind.VOID, TypeKind.ARRAY, TypeKind.ARRAY, TypeKind.INT);
+            case "ensureCapacity":
+                return validateAbstract(e, TypeKind.VOID, TypeKind.INT);
+            case "clear":
+                return validateAbstract(e, TypeKind.VOID);
+            case "keys":
+            case "values":
+                return validateAbstract(e, TypeKind.ARRAY);
+            case "forEach":
+                return validateAbstract(e, TypeKind.VOID, TypeKind.DECLARED);
+            case "cursor":
+                return validateAbstract(e, TypeKind.DECLARED);
+            default:
+                messager.printMessage(Diagnostic.Kind.ERROR, "unexpected method", e);
+        }
+
+        return false;
+    }
+
+    private boolean validateAbstract(ExecutableElement e, TypeKind returnKind, TypeKind... parameterKinds) {
+        if (!(mustReturn(e, returnKind, messager)
+              && doesNotThrow(e, messager)
+              && isNotGeneric(e, messager)
+              && isAbstract(e, messager))) {
+            return false;
+        }
+
+        if (parameterKinds.length == 0) {
+            return hasNoParameters(e, messager);
+        }
+
+        if (!hasParameterCount(e, parameterKinds.length, messager)) {
+            return false;
+        }
+
+        for (int i = 0; i < parameterKinds.length; i++) {
+            if (!hasTypeKindAtIndex(e, i, parameterKinds[i], messager)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
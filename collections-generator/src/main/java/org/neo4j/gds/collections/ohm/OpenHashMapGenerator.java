@@ -0,0 +1,535 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ohm;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import org.neo4j.gds.collections.CollectionStep;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import javax.annotation.processing.Generated;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import java.util.Arrays;
+
+/**
+ * Generates an open-addressing hash map from primitive keys to primitive values.
+ * <p>
+ * The table follows the SwissTable layout: every slot has a control byte that is either
+ * empty or holds seven bits of the key's hash. Eight control bytes are packed into one
+ * {@code long}, so a lookup compares the tag against a whole group of slots with a few
+ * word-wide operations and only touches the key array for slots whose tag matches.
+ * Groups are probed linearly, which keeps the probe sequence within adjacent cache lines.
+ */
+final class OpenHashMapGenerator implements CollectionStep.Generator<OpenHashMapValidation.Spec> {
+
+    private static final TypeName CONTROL_ARRAY = ArrayTypeName.of(TypeName.LONG);
+
+    private static final FieldSpec GROUP_SIZE = constant(TypeName.INT, "GROUP_SIZE", "$T.BYTES", Long.class);
+    private static final FieldSpec GROUP_SHIFT = constant(TypeName.INT, "GROUP_SHIFT", "3");
+    private static final FieldSpec LOW_BITS = constant(TypeName.LONG, "LOW_BITS", "0x0101010101010101L");
+    private static final FieldSpec HIGH_BITS = constant(TypeName.LONG, "HIGH_BITS", "0x8080808080808080L");
+    private static final FieldSpec EMPTY_GROUP = constant(TypeName.LONG, "EMPTY_GROUP", "$N", HIGH_BITS);
+    private static final FieldSpec TAG_MASK = constant(TypeName.LONG, "TAG_MASK", "0x7FL");
+    private static final FieldSpec TAG_BITS = constant(TypeName.INT, "TAG_BITS", "7");
+    private static final FieldSpec LOAD_FACTOR_NUMERATOR = constant(TypeName.INT, "LOAD_FACTOR_NUMERATOR", "7");
+    private static final FieldSpec LOAD_FACTOR_DENOMINATOR = constant(TypeName.INT, "LOAD_FACTOR_DENOMINATOR", "8");
+    private static final FieldSpec MAX_CAPACITY = constant(TypeName.INT, "MAX_CAPACITY", "1 << 30");
+    private static final FieldSpec DEFAULT_EXPECTED_ELEMENTS = constant(TypeName.INT, "DEFAULT_EXPECTED_ELEMENTS", "16");
+
+    @Override
+    public TypeSpec generate(OpenHashMapValidation.Spec spec) {
+        var className = ClassName.get(spec.rootPackage().toString(), spec.className());
+        var elementType = ClassName.get((TypeElement) spec.element());
+        var keyType = TypeName.get(spec.keyType());
+        var valueType = TypeName.get(spec.valueType());
+
+        var builder = TypeSpec.classBuilder(className)
+            .addModifiers(Modifier.FINAL)
+            .addSuperinterface(elementType)
+            .addOriginatingElement(spec.element());
+
+        // class annotation
+        builder.addAnnotation(generatedAnnotation());
+
+        // class fields
+        builder.addField(GROUP_SIZE);
+        builder.addField(GROUP_SHIFT);
+        builder.addField(LOW_BITS);
+        builder.addField(HIGH_BITS);
+        builder.addField(EMPTY_GROUP.toBuilder()
+            .addJavadoc("A control byte with the high bit set marks an empty slot, all eight slots of this word are empty.\n")
+            .build());
+        builder.addField(TAG_MASK);
+        builder.addField(TAG_BITS);
+        builder.addField(LOAD_FACTOR_NUMERATOR.toBuilder()
+            .addJavadoc("The table grows once 7 out of 8 slots are used, which guarantees at least one empty slot.\n")
+            .build());
+        builder.addField(LOAD_FACTOR_DENOMINATOR);
+        builder.addField(MAX_CAPACITY);
+        builder.addField(DEFAULT_EXPECTED_ELEMENTS);
+
+        // instance fields
+        builder.addField(CONTROL_ARRAY, "control", Modifier.PRIVATE);
+        builder.addField(ArrayTypeName.of(keyType), "keys", Modifier.PRIVATE);
+        builder.addField(ArrayTypeName.of(valueType), "values", Modifier.PRIVATE);
+        builder.addField(TypeName.INT, "groupMask", Modifier.PRIVATE);
+        builder.addField(TypeName.INT, "growAt", Modifier.PRIVATE);
+        builder.addField(TypeName.INT, "size", Modifier.PRIVATE);
+
+        // static methods
+        builder.addMethod(memoryEstimationMethod(className, keyType, valueType));
+
+        // constructors
+        builder.addMethod(MethodSpec.constructorBuilder()
+            .addStatement("this($N)", DEFAULT_EXPECTED_ELEMENTS)
+            .build());
+        builder.addMethod(MethodSpec.constructorBuilder()
+            .addParameter(TypeName.INT, "expectedElements")
+            .addStatement("allocate(capacityFor(expectedElements))")
+            .build());
+
+        // instance methods
+        builder.addMethod(sizeMethod());
+        builder.addMethod(isEmptyMethod());
+        builder.addMethod(containsKeyMethod(keyType));
+        builder.addMethod(getOrDefaultMethod(keyType, valueType));
+        builder.addMethod(putMethod(keyType, valueType));
+        builder.addMethod(addToMethod(keyType, valueType));
+        builder.addMethod(addAllMethod(keyType, valueType));
+        builder.addMethod(ensureCapacityMethod());
+        builder.addMethod(clearMethod());
+        builder.addMethod(arrayMethod("keys", keyType));
+        builder.addMethod(arrayMethod("values", valueType));
+        builder.addMethod(forEachMethod(elementType));
+        builder.addMethod(cursorMethod(elementType));
+
+        // private helpers
+        builder.addMethod(findSlotMethod(keyType));
+        builder.addMethod(insertMethod(keyType, valueType));
+        builder.addMethod(setControlMethod());
+        builder.addMethod(nextFullMethod());
+        builder.addMethod(rehashMethod(keyType, valueType));
+        builder.addMethod(findEmptySlotMethod());
+        builder.addMethod(allocateMethod(keyType, valueType));
+        builder.addMethod(capacityForMethod());
+        builder.addMethod(hashMethod());
+
+        // Cursor
+        builder.addType(cursorType(elementType, keyType, valueType));
+
+        return builder.build();
+    }
+
+    private static AnnotationSpec generatedAnnotation() {
+        return AnnotationSpec.builder(Generated.class)
+            .addMember("value", "$S", OpenHashMapGenerator.class.getCanonicalName())
+            .build();
+    }
+
+    private static FieldSpec constant(TypeName type, String name, String initializer, Object... args) {
+        return FieldSpec
+            .builder(type, name, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+            .initializer(initializer, args)
+            .build();
+    }
+
+    private static String sizeOfArrayMethod(TypeName type) {
+        if (type.equals(TypeName.INT)) {
+            return "sizeOfIntArray";
+        }
+        if (type.equals(TypeName.LONG)) {
+            return "sizeOfLongArray";
+        }
+        if (type.equals(TypeName.FLOAT)) {
+            return "sizeOfFloatArray";
+        }
+        if (type.equals(TypeName.DOUBLE)) {
+            return "sizeOfDoubleArray";
+        }
+        throw new IllegalArgumentException("Unsupported type: " + type);
+    }
+
+    private static MethodSpec memoryEstimationMethod(ClassName className, TypeName keyType, TypeName valueType) {
+        return MethodSpec.methodBuilder("memoryEstimation")
+            .addModifiers(Modifier.STATIC)
+            .returns(TypeName.LONG)
+            .addParameter(TypeName.LONG, "expectedElements")
+            .addStatement("int capacity = capacityFor(expectedElements)")
+            .addStatement(
+                "return $1T.sizeOfInstance($2T.class) +\n" +
+                "$1T.sizeOfLongArray(capacity >>> $3N) +\n" +
+                "$1T.$4N(capacity) +\n" +
+                "$1T.$5N(capacity)",
+                MemoryUsage.class,
+                className,
+                GROUP_SHIFT,
+                sizeOfArrayMethod(keyType),
+                sizeOfArrayMethod(valueType)
+            )
+            .build();
+    }
+
+    private static MethodSpec.Builder overrideBuilder(String name) {
+        return MethodSpec.methodBuilder(name)
+            .addAnnotation(Override.class)
+            .addModifiers(Modifier.PUBLIC);
+    }
+
+    private static MethodSpec sizeMethod() {
+        return overrideBuilder("size")
+            .returns(TypeName.INT)
+            .addStatement("return size")
+            .build();
+    }
+
+    private static MethodSpec isEmptyMethod() {
+        return overrideBuilder("isEmpty")
+            .returns(TypeName.BOOLEAN)
+            .addStatement("return size == 0")
+            .build();
+    }
+
+    private static MethodSpec containsKeyMethod(TypeName keyType) {
+        return overrideBuilder("containsKey")
+            .returns(TypeName.BOOLEAN)
+            .addParameter(keyType, "key")
+            .addStatement("return findSlot(key, hash(key)) >= 0")
+            .build();
+    }
+
+    private static MethodSpec getOrDefaultMethod(TypeName keyType, TypeName valueType) {
+        return overrideBuilder("getOrDefault")
+            .returns(valueType)
+            .addParameter(keyType, "key")
+            .addParameter(valueType, "defaultValue")
+            .addStatement("int slot = findSlot(key, hash(key))")
+            .addStatement("return slot >= 0 ? values[slot] : defaultValue")
+            .build();
+    }
+
+    private static MethodSpec putMethod(TypeName keyType, TypeName valueType) {
+        return overrideBuilder("put")
+            .addParameter(keyType, "key")
+            .addParameter(valueType, "value")
+            .addStatement("long hash = hash(key)")
+            .addStatement("int slot = findSlot(key, hash)")
+            .beginControlFlow("if (slot >= 0)")
+            .addStatement("values[slot] = value")
+            .nextControlFlow("else")
+            .addStatement("insert(~slot, key, value, hash)")
+            .endControlFlow()
+            .build();
+    }
+
+    private static MethodSpec addToMethod(TypeName keyType, TypeName valueType) {
+        return overrideBuilder("addTo")
+            .returns(valueType)
+            .addParameter(keyType, "key")
+            .addParameter(valueType, "delta")
+            .addStatement("long hash = hash(key)")
+            .addStatement("int slot = findSlot(key, hash)")
+            .beginControlFlow("if (slot >= 0)")
+            .addStatement("return values[slot] += delta")
+            .endControlFlow()
+            .addStatement("insert(~slot, key, delta, hash)")
+            .addStatement("return delta")
+            .build();
+    }
+
+    private static MethodSpec addAllMethod(TypeName keyType, TypeName valueType) {
+        return overrideBuilder("addAll")
+            .addParameter(ArrayTypeName.of(keyType), "keys")
+            .addParameter(ArrayTypeName.of(valueType), "deltas")
+            .addParameter(TypeName.INT, "length")
+            .addStatement("ensureCapacity(size + length)")
+            .beginControlFlow("for (int i = 0; i < length; i++)")
+            .addStatement("addTo(keys[i], deltas[i])")
+            .endControlFlow()
+            .build();
+    }
+
+    private static MethodSpec ensureCapacityMethod() {
+        return overrideBuilder("ensureCapacity")
+            .addParameter(TypeName.INT, "expectedElements")
+            .beginControlFlow("if (expectedElements >= growAt)")
+            .addStatement("rehash(capacityFor(expectedElements))")
+            .endControlFlow()
+            .build();
+    }
+
+    private static MethodSpec clearMethod() {
+        return overrideBuilder("clear")
+            .addStatement("$T.fill(control, $N)", Arrays.class, EMPTY_GROUP)
+            .addStatement("size = 0")
+            .build();
+    }
+
+    private static MethodSpec arrayMethod(String name, TypeName type) {
+        return overrideBuilder(name)
+            .returns(ArrayTypeName.of(type))
+            .addStatement("$T[] result = new $T[size]", type, type)
+            .addStatement("int index = 0")
+            .beginControlFlow("for (int slot = nextFull(0); slot >= 0; slot = nextFull(slot + 1))")
+            .addStatement("result[index++] = $N[slot]", name)
+            .endControlFlow()
+            .addStatement("return result")
+            .build();
+    }
+
+    private static MethodSpec forEachMethod(ClassName elementType) {
+        return overrideBuilder("forEach")
+            .addParameter(elementType.nestedClass(ElementValidator.ENTRY_CONSUMER), "consumer")
+            .beginControlFlow("for (int slot = nextFull(0); slot >= 0; slot = nextFull(slot + 1))")
+            .addStatement("consumer.accept(keys[slot], values[slot])")
+            .endControlFlow()
+            .build();
+    }
+
+    private static MethodSpec cursorMethod(ClassName elementType) {
+        return overrideBuilder("cursor")
+            .returns(elementType.nestedClass(ElementValidator.CURSOR))
+            .addStatement("return new CursorImpl()")
+            .build();
+    }
+
+    private static MethodSpec findSlotMethod(TypeName keyType) {
+        return MethodSpec.methodBuilder("findSlot")
+            .addJavadoc("@return the slot of the key if it is present, otherwise the bitwise complement of the slot it would be inserted into.\n")
+            .addModifiers(Modifier.PRIVATE)
+            .returns(TypeName.INT)
+            .addParameter(keyType, "key")
+            .addParameter(TypeName.LONG, "hash")
+            .addStatement("long tags = (hash & $N) * $N", TAG_MASK, LOW_BITS)
+            .addStatement("int group = (int) (hash >>> $N) & groupMask", TAG_BITS)
+            .beginControlFlow("while (true)")
+            .addStatement("long word = control[group]")
+            .addCode("\n")
+            .addComment("Every byte of `candidates` is zero iff the tag in the corresponding control byte matches.")
+            .addComment("The subtraction may flag a byte above a matching byte, which is resolved by comparing keys.")
+            .addStatement("long candidates = word ^ tags")
+            .addStatement("long matches = (candidates - $N) & ~candidates & $N", LOW_BITS, HIGH_BITS)
+            .beginControlFlow("while (matches != 0)")
+            .addStatement("int slot = (group << $N) + ($T.numberOfTrailingZeros(matches) >>> 3)", GROUP_SHIFT, Long.class)
+            .beginControlFlow("if (keys[slot] == key)")
+            .addStatement("return slot")
+            .endControlFlow()
+            .addStatement("matches &= matches - 1")
+            .endControlFlow()
+            .addCode("\n")
+            .addComment("Entries are never removed, so an empty slot in the group ends the probe sequence.")
+            .addStatement("long empty = word & $N", HIGH_BITS)
+            .beginControlFlow("if (empty != 0)")
+            .addStatement("return ~((group << $N) + ($T.numberOfTrailingZeros(empty) >>> 3))", GROUP_SHIFT, Long.class)
+            .endControlFlow()
+            .addStatement("group = (group + 1) & groupMask")
+            .endControlFlow()
+            .build();
+    }
+
+    private static MethodSpec insertMethod(TypeName keyType, TypeName valueType) {
+        return MethodSpec.methodBuilder("insert")
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(TypeName.INT, "slot")
+            .addParameter(keyType, "key")
+            .addParameter(valueType, "value")
+            .addParameter(TypeName.LONG, "hash")
+            .beginControlFlow("if (size + 1 >= growAt)")
+            .addComment("capacityFor fails once the table cannot grow any further")
+            .addStatement("rehash(capacityFor(size + 1))")
+            .addStatement("slot = findEmptySlot(hash)")
+            .endControlFlow()
+            .addStatement("setControl(slot, hash & $N)", TAG_MASK)
+            .addStatement("keys[slot] = key")
+            .addStatement("values[slot] = value")
+            .addStatement("size++")
+            .build();
+    }
+
+    private static MethodSpec setControlMethod() {
+        return MethodSpec.methodBuilder("setControl")
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(TypeName.INT, "slot")
+            .addParameter(TypeName.LONG, "tag")
+            .addStatement("int group = slot >>> $N", GROUP_SHIFT)
+            .addStatement("int shift = (slot & ($N - 1)) << 3", GROUP_SIZE)
+            .addStatement("control[group] = (control[group] & ~(0xFFL << shift)) | (tag << shift)")
+            .build();
+    }
+
+    private static MethodSpec nextFullMethod() {
+        return MethodSpec.methodBuilder("nextFull")
+            .addModifiers(Modifier.PRIVATE)
+            .returns(TypeName.INT)
+            .addParameter(TypeName.INT, "fromSlot")
+            .addStatement("int group = fromSlot >>> $N", GROUP_SHIFT)
+            .beginControlFlow("if (group >= control.length)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .addStatement("long full = ~control[group] & $N", HIGH_BITS)
+            .addComment("discard the slots before fromSlot in the first group")
+            .addStatement("full &= -1L << ((fromSlot & ($N - 1)) << 3)", GROUP_SIZE)
+            .beginControlFlow("while (full == 0)")
+            .beginControlFlow("if (++group >= control.length)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .addStatement("full = ~control[group] & $N", HIGH_BITS)
+            .endControlFlow()
+            .addStatement("return (group << $N) + ($T.numberOfTrailingZeros(full) >>> 3)", GROUP_SHIFT, Long.class)
+            .build();
+    }
+
+    private static MethodSpec rehashMethod(TypeName keyType, TypeName valueType) {
+        return MethodSpec.methodBuilder("rehash")
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(TypeName.INT, "newCapacity")
+            .addStatement("$T oldControl = control", CONTROL_ARRAY)
+            .addStatement("$T oldKeys = keys", ArrayTypeName.of(keyType))
+            .addStatement("$T oldValues = values", ArrayTypeName.of(valueType))
+            .addCode("\n")
+            .addStatement("allocate(newCapacity)")
+            .addCode("\n")
+            .beginControlFlow("for (int group = 0; group < oldControl.length; group++)")
+            .addStatement("long full = ~oldControl[group] & $N", HIGH_BITS)
+            .beginControlFlow("while (full != 0)")
+            .addStatement("int oldSlot = (group << $N) + ($T.numberOfTrailingZeros(full) >>> 3)", GROUP_SHIFT, Long.class)
+            .addStatement("$T key = oldKeys[oldSlot]", keyType)
+            .addStatement("long hash = hash(key)")
+            .addStatement("int slot = findEmptySlot(hash)")
+            .addStatement("setControl(slot, hash & $N)", TAG_MASK)
+            .addStatement("keys[slot] = key")
+            .addStatement("values[slot] = oldValues[oldSlot]")
+            .addStatement("full &= full - 1")
+            .endControlFlow()
+            .endControlFlow()
+            .build();
+    }
+
+    private static MethodSpec findEmptySlotMethod() {
+        return MethodSpec.methodBuilder("findEmptySlot")
+            .addModifiers(Modifier.PRIVATE)
+            .returns(TypeName.INT)
+            .addParameter(TypeName.LONG, "hash")
+            .addStatement("int group = (int) (hash >>> $N) & groupMask", TAG_BITS)
+            .beginControlFlow("while (true)")
+            .addStatement("long empty = control[group] & $N", HIGH_BITS)
+            .beginControlFlow("if (empty != 0)")
+            .addStatement("return (group << $N) + ($T.numberOfTrailingZeros(empty) >>> 3)", GROUP_SHIFT, Long.class)
+            .endControlFlow()
+            .addStatement("group = (group + 1) & groupMask")
+            .endControlFlow()
+            .build();
+    }
+
+    private static MethodSpec allocateMethod(TypeName keyType, TypeName valueType) {
+        return MethodSpec.methodBuilder("allocate")
+            .addModifiers(Modifier.PRIVATE)
+            .addParameter(TypeName.INT, "capacity")
+            .addStatement("int groups = capacity >>> $N", GROUP_SHIFT)
+            .addStatement("control = new long[groups]")
+            .addStatement("$T.fill(control, $N)", Arrays.class, EMPTY_GROUP)
+            .addStatement("keys = new $T[capacity]", keyType)
+            .addStatement("values = new $T[capacity]", valueType)
+            .addStatement("groupMask = groups - 1")
+            .addStatement(
+                "growAt = (int) ((long) capacity * $N / $N)",
+                LOAD_FACTOR_NUMERATOR,
+                LOAD_FACTOR_DENOMINATOR
+            )
+            .build();
+    }
+
+    private static MethodSpec capacityForMethod() {
+        return MethodSpec.methodBuilder("capacityFor")
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+            .returns(TypeName.INT)
+            .addParameter(TypeName.LONG, "expectedElements")
+            .addStatement(
+                "long minCapacity = expectedElements * $N / $N + 1",
+                LOAD_FACTOR_DENOMINATOR,
+                LOAD_FACTOR_NUMERATOR
+            )
+            .beginControlFlow("if (minCapacity > $N)", MAX_CAPACITY)
+            .addStatement(
+                "throw new $T($S + expectedElements)",
+                IllegalArgumentException.class,
+                "Maximum capacity exceeded: "
+            )
+            .endControlFlow()
+            .addStatement(
+                "int capacity = $T.highestOneBit((int) $T.max($N, minCapacity) - 1) << 1",
+                Integer.class,
+                Math.class,
+                GROUP_SIZE
+            )
+            .addStatement("return $T.max($N, capacity)", Math.class, GROUP_SIZE)
+            .build();
+    }
+
+    private static MethodSpec hashMethod() {
+        return MethodSpec.methodBuilder("hash")
+            .addJavadoc("Murmur3 finalizer, the low bits are used as tag and the following bits select the group.\n")
+            .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+            .returns(TypeName.LONG)
+            .addParameter(TypeName.LONG, "key")
+            .addStatement("key ^= key >>> 33")
+            .addStatement("key *= 0xff51afd7ed558ccdL")
+            .addStatement("key ^= key >>> 33")
+            .addStatement("key *= 0xc4ceb9fe1a85ec53L")
+            .addStatement("key ^= key >>> 33")
+            .addStatement("return key")
+            .build();
+    }
+
+    private static TypeSpec cursorType(ClassName elementType, TypeName keyType, TypeName valueType) {
+        return TypeSpec.classBuilder("CursorImpl")
+            .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+            .addSuperinterface(elementType.nestedClass(ElementValidator.CURSOR))
+            .addField(keyType, "key", Modifier.PRIVATE)
+            .addField(valueType, "value", Modifier.PRIVATE)
+            .addField(FieldSpec.builder(TypeName.INT, "slot", Modifier.PRIVATE).initializer("-1").build())
+            .addMethod(overrideBuilder("key")
+                .returns(keyType)
+                .addStatement("return key")
+                .build())
+            .addMethod(overrideBuilder("value")
+                .returns(valueType)
+                .addStatement("return value")
+                .build())
+            .addMethod(overrideBuilder("next")
+                .returns(TypeName.BOOLEAN)
+                .addStatement("int next = nextFull(slot + 1)")
+                .beginControlFlow("if (next < 0)")
+                .addStatement("slot = keys.length")
+                .addStatement("return false")
+                .endControlFlow()
+                .addStatement("slot = next")
+                .addStatement("key = keys[next]")
+                .addStatement("value = values[next]")
+                .addStatement("return true")
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ohm;
+
+import org.neo4j.gds.collections.CollectionStep;
+import org.neo4j.gds.collections.OpenHashMap;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import java.nio.file.Path;
+
+public final class OpenHashMapStep extends CollectionStep<OpenHashMapValidation.Spec> {
+
+    private static final Class<OpenHashMap> OHM_ANNOTATION = OpenHashMap.class;
+
+    public static OpenHashMapStep of(ProcessingEnvironment processingEnv, Path sourcePath) {
+        var validation = new OpenHashMapValidation(
+            processingEnv.getElementUtils(),
+            processingEnv.getMessager()
+        );
+
+        var mainGenerator = new OpenHashMapGenerator();
+
+        return new OpenHashMapStep(processingEnv, sourcePath, validation, mainGenerator);
+    }
+
+    private OpenHashMapStep(
+        ProcessingEnvironment processingEnv,
+        Path sourcePath,
+        Validation<OpenHashMapValidation.Spec> validation,
+        Generator<OpenHashMapValidation.Spec> mainGenerator
+    ) {
+        super(processingEnv, sourcePath, validation, mainGenerator, null);
+    }
+
+    @Override
+    public String annotation() {
+        return OHM_ANNOTATION.getCanonicalName();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.ohm;
+
+import com.google.auto.common.MoreElements;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.collections.CollectionStep;
+import org.neo4j.gds.collections.OpenHashMap;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Name;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.google.auto.common.AnnotationMirrors.getAnnotationValue;
+
+final class OpenHashMapValidation implements CollectionStep.Validation<OpenHashMapValidation.Spec> {
+
+    private static final Set<TypeKind> KEY_TYPES = Set.of(TypeKind.INT, TypeKind.LONG);
+    private static final Set<TypeKind> VALUE_TYPES = Set.of(TypeKind.INT, TypeKind.LONG, TypeKind.FLOAT, TypeKind.DOUBLE);
+
+    private final Elements elementUtils;
+    private final Messager messager;
+
+    OpenHashMapValidation(Elements elementUtils, Messager messager) {
+        this.elementUtils = elementUtils;
+        this.messager = messager;
+    }
+
+    @Override
+    public Optional<Spec> validate(Element element) {
+        var annotationMirror = MoreElements.getAnnotationMirror(element, OpenHashMap.class).get();
+        var keyType = (TypeMirror) getAnnotationValue(annotationMirror, "keyType").getValue();
+        var valueType = (TypeMirror) getAnnotationValue(annotationMirror, "valueType").getValue();
+
+        if (!isInterface(element)
+            || !isValidType(element, keyType, KEY_TYPES, "key")
+            || !isValidType(element, valueType, VALUE_TYPES, "value")) {
+            return Optional.empty();
+        }
+
+        var elementValidator = new ElementValidator(keyType, valueType, this.messager);
+
+        if (!isValid(element, elementValidator) || !elementValidator.hasNestedTypes(element)) {
+            return Optional.empty();
+        }
+
+        var spec = ImmutableSpec.builder()
+            .element(element)
+            .keyType(keyType)
+            .valueType(valueType)
+            .rootPackage(rootPackage(element))
+            .build();
+
+        return Optional.of(spec);
+    }
+
+    private Name rootPackage(Element element) {
+        return elementUtils.getPackageOf(element).getQualifiedName();
+    }
+
+    private boolean isInterface(Element element) {
+        if (element.getKind() != ElementKind.INTERFACE) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "annotated element must be an interface", element);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isValid(Element element, ElementValidator validator) {
+        return element
+            .getEnclosedElements()
+            .stream()
+            // We do not use `allMatch` in order to run all validations and not stop on the first failing one.
+            .map(e -> e.accept(validator, null))
+            .reduce(true, (a, b) -> a && b);
+    }
+
+    private boolean isValidType(Element element, TypeMirror type, Set<TypeKind> validKinds, String name) {
+        if (!validKinds.contains(type.getKind())) {
+            messager.printMessage(
+                Diagnostic.Kind.ERROR,
+                name + " type must be one of " + validKinds,
+                element
+            );
+            return false;
+        }
+        return true;
+    }
+
+    @ValueClass
+    public interface Spec extends CollectionStep.Spec {
+        Element element();
+
+        TypeMirror keyType();
+
+        TypeMirror valueType();
+
+        @Override
+        Name rootPackage();
+
+        default String className() {
+            return element().getSimpleName() + "Son";
+        }
+    }
+}
@@ -19,15 +19,15 @@
  */
 package org.neo4j.gds.collections;
 
-import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.gds.collections.primitive.LongLongOpenHashMap;
 
 import java.util.Arrays;
 
 public class LongMultiSet {
 
-    private final LongLongHashMap map;
+    private final LongLongOpenHashMap map;
 
-    public LongMultiSet() {map = new LongLongHashMap();}
+    public LongMultiSet() {map = LongLongOpenHashMap.create();}
 
     public long add(long value) {
         return map.addTo(value, 1);
@@ -42,11 +42,11 @@ public class LongMultiSet {
     }
 
     public long[] keys() {
-        return map.keys().toArray();
+        return map.keys();
     }
 
     public long size() {
         return map.size();
     }
-    public long sum() { return Arrays.stream(map.values).sum(); }
+    public long sum() { return Arrays.stream(map.values()).sum(); }
 }
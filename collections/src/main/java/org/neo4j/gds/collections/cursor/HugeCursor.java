@@ -201,4 +201,81 @@ public abstract class HugeCursor<Array> implements AutoCloseable {
             pageIndex = -1;
         }
     }
+
+    /**
+     * A paged cursor for pages that cannot be exposed as arrays, for example off-heap pages.
+     * Every page is copied into a reusable buffer when the cursor advances to it.
+     * Changes to the underlying data that happen after the cursor advanced to a page
+     * are not visible through the cursor.
+     */
+    public static final class CopyingPagedCursor<Array> extends HugeCursor<Array> {
+
+        public interface PageReader<Array> {
+            /**
+             * Copies the values {@code [0, length)} of the page with the given index into the buffer.
+             */
+            void read(int pageIndex, Array buffer, int length);
+        }
+
+        private PageReader<Array> pageReader;
+        private Array buffer;
+        private int pageIndex;
+        private int fromPage;
+        private int maxPage;
+        private long capacity;
+        private long end;
+
+        public CopyingPagedCursor(long capacity, Array buffer, PageReader<Array> pageReader) {
+            super();
+            this.capacity = capacity;
+            this.buffer = buffer;
+            this.pageReader = pageReader;
+        }
+
+        @Override
+        void setRange() {
+            setRange(0L, capacity);
+        }
+
+        @Override
+        public void setRange(long start, long end) {
+            fromPage = pageIndex(start);
+            maxPage = pageIndex(end - 1L);
+            pageIndex = fromPage - 1;
+            this.end = end;
+            base = (long) fromPage << PAGE_SHIFT;
+            offset = indexInPage(start);
+            limit = fromPage == maxPage ? exclusiveIndexOfPage(end) : PAGE_SIZE;
+        }
+
+        @Override
+        public boolean next() {
+            int current = ++pageIndex;
+            if (current > maxPage) {
+                return false;
+            }
+            if (current != fromPage) {
+                base += PAGE_SIZE;
+                offset = 0;
+                limit = current == maxPage ? exclusiveIndexOfPage(end) : PAGE_SIZE;
+            }
+            pageReader.read(current, buffer, limit);
+            array = buffer;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            array = null;
+            buffer = null;
+            pageReader = null;
+            base = 0L;
+            end = 0L;
+            limit = 0;
+            capacity = 0L;
+            maxPage = -1;
+            fromPage = -1;
+            pageIndex = -1;
+        }
+    }
 }
@@ -37,6 +37,22 @@ public abstract class HugeAtomicDoubleArray implements HugeCursorSupport<double[
         return HugeAtomicDoubleArrayFactory.of(size, pageCreator);
     }
 
+    /**
+     * Creates a new array of the given size that stores its values off-heap.
+     * <p>
+     * Only the page references are kept on the heap, which keeps large arrays that
+     * live for the duration of an algorithm out of the old generation.
+     * The memory is freed once the array has been {@link #release() released} and
+     * all of its cursors have been closed. The array uses as much memory as
+     * reported by {@link #memoryEstimation(long)}.
+     *
+     * @param size the length of the new array, the highest supported index is {@code size - 1}
+     * @return new array
+     */
+    public static HugeAtomicDoubleArray ofOffHeap(long size, PageCreator.DoublePageCreator pageCreator) {
+        return HugeAtomicDoubleArrayFactory.ofOffHeap(size, pageCreator);
+    }
+
     public static long memoryEstimation(long size) {
         return HugeAtomicDoubleArrayFactory.memoryEstimation(size);
     }
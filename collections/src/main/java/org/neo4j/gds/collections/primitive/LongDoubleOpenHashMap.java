@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.primitive;
+
+import org.neo4j.gds.collections.OpenHashMap;
+
+/**
+ * An open-addressing hash map from primitive {@code long} keys to primitive {@code double} values.
+ * <p>
+ * The generated implementation follows the SwissTable layout, see {@code OpenHashMapGenerator}.
+ * Entries cannot be removed, which keeps every probe sequence free of tombstones.
+ * {@link #clear()} only resets the control words and keeps the allocated arrays,
+ * so a single instance can be reused for many small aggregations.
+ * <p>
+ * Instances are not thread-safe.
+ */
+@OpenHashMap(keyType = long.class, valueType = double.class)
+public interface LongDoubleOpenHashMap {
+
+    static LongDoubleOpenHashMap create() {
+        return new LongDoubleOpenHashMapSon();
+    }
+
+    static LongDoubleOpenHashMap create(int expectedElements) {
+        return new LongDoubleOpenHashMapSon(expectedElements);
+    }
+
+    static long memoryEstimation(long expectedElements) {
+        return LongDoubleOpenHashMapSon.memoryEstimation(expectedElements);
+    }
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean containsKey(long key);
+
+    double getOrDefault(long key, double defaultValue);
+
+    /**
+     * Associates the value with the key, replacing any previous value.
+     */
+    void put(long key, double value);
+
+    /**
+     * Adds the delta to the value of the key, or associates the delta with the key if it is absent.
+     *
+     * @return the value of the key after the addition.
+     */
+    double addTo(long key, double delta);
+
+    /**
+     * Calls {@link #addTo(long, double)} for the first {@code length} pairs of keys and deltas.
+     * The table is grown at most once, before any of the pairs is added.
+     */
+    void addAll(long[] keys, double[] deltas, int length);
+
+    /**
+     * Grows the table so that it can hold the given number of entries without resizing.
+     */
+    void ensureCapacity(int expectedElements);
+
+    /**
+     * Removes all entries while keeping the allocated table.
+     */
+    void clear();
+
+    /**
+     * @return the keys of this map, in the same order as {@link #values()}.
+     */
+    long[] keys();
+
+    /**
+     * @return the values of this map, in the same order as {@link #keys()}.
+     */
+    double[] values();
+
+    void forEach(EntryConsumer consumer);
+
+    /**
+     * Returns a cursor over the entries of this map.
+     * The cursor must not be used after the map has been modified.
+     */
+    Cursor cursor();
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, double value);
+    }
+
+    interface Cursor {
+        boolean next();
+
+        long key();
+
+        double value();
+    }
+}
@@ -420,6 +420,7 @@ final class HugeAtomicDoubleArrayTest {
             block.accept(pagedArray(size));
             block.accept(singleArray(size));
         }
+        block.accept(offHeapArray(size));
     }
 
     private HugeAtomicDoubleArray singleArray(final int size) {
@@ -430,6 +431,10 @@ final class HugeAtomicDoubleArrayTest {
         return HugeAtomicDoubleArrayFactory.Paged.of(size, PassThroughPageCreator.INSTANCE);
     }
 
+    private HugeAtomicDoubleArray offHeapArray(final int size) {
+        return HugeAtomicDoubleArray.ofOffHeap(size, PassThroughPageCreator.INSTANCE);
+    }
+
     /**
      * Fails with message "should throw exception".
      */
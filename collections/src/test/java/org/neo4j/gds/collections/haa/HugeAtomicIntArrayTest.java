@@ -415,6 +415,7 @@ final class HugeAtomicIntArrayTest {
             block.accept(pagedArray(size));
             block.accept(singleArray(size));
         }
+        block.accept(offHeapArray(size));
     }
 
     private HugeAtomicIntArray singleArray(final int size) {
@@ -425,6 +426,10 @@ final class HugeAtomicIntArrayTest {
         return HugeAtomicIntArrayFactory.Paged.of(size, PassThroughPageCreator.INSTANCE);
     }
 
+    private HugeAtomicIntArray offHeapArray(final int size) {
+        return HugeAtomicIntArray.ofOffHeap(size, PassThroughPageCreator.INSTANCE);
+    }
+
     /**
      * Returns a new started daemon Thread running the given runnable.
      */
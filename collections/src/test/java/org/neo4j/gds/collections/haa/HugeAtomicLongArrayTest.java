@@ -400,6 +400,31 @@ final class HugeAtomicLongArrayTest {
         }
     }
 
+    @Test
+    void testOffHeapCursorAndCopy() {
+        var size = HugeAtomicLongArrayFactory.OffHeap.PAGE_SIZE * 2 + 42;
+        var array = offHeapArray(size, i -> i);
+
+        try (var cursor = array.initCursor(array.newCursor(), 23, size - 1)) {
+            long expected = 23;
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    assertThat(cursor.array[i]).isEqualTo(cursor.base + i).isEqualTo(expected++);
+                }
+            }
+            assertThat(expected).isEqualTo(size - 1);
+        }
+
+        var onHeap = pagedArray(size + 1);
+        array.copyTo(onHeap, size);
+        var offHeap = offHeapArray(size + 1, i -> 1337);
+        onHeap.copyTo(offHeap, size);
+        for (int i = 0; i < size; i++) {
+            assertThat(offHeap.get(i)).isEqualTo(i);
+        }
+        assertThat(offHeap.get(size)).isEqualTo(0L);
+    }
+
     @Test
     void testGetAndAddIsWithinBoundsForPagedArray() {
         var size = HugeAtomicLongArrayFactory.Paged.PAGE_SIZE * 2 + 1; // We want an array with three pages
@@ -479,6 +504,7 @@ final class HugeAtomicLongArrayTest {
             block.accept(pagedArray(size));
             block.accept(singleArray(size));
         }
+        block.accept(offHeapArray(size));
     }
 
     private void testArray(int size, LongUnaryOperator valueProducer, Consumer<HugeAtomicLongArray> block) {
@@ -489,6 +515,7 @@ final class HugeAtomicLongArrayTest {
             block.accept(pagedArray(size, valueProducer));
             block.accept(singleArray(size, valueProducer));
         }
+        block.accept(offHeapArray(size, valueProducer));
     }
 
     private HugeAtomicLongArray singleArray(final int size) {
@@ -508,6 +535,14 @@ final class HugeAtomicLongArrayTest {
         return HugeAtomicLongArray.of(size, new PageCreator(valueProducer));
     }
 
+    private HugeAtomicLongArray offHeapArray(final int size) {
+        return offHeapArray(size, null);
+    }
+
+    private HugeAtomicLongArray offHeapArray(final int size, final LongUnaryOperator valueProducer) {
+        return HugeAtomicLongArray.ofOffHeap(size, new PageCreator(valueProducer));
+    }
+
     /**
      * Returns a new started daemon Thread running the given runnable.
      */
@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.collections.primitive;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenHashMapTest {
+
+    @ParameterizedTest
+    @EnumSource(MapType.class)
+    void shouldPutAndGet(MapType mapType) {
+        var map = mapType.create();
+        map.put(42, 1337);
+        map.put(-1, 7);
+        map.put(mapType.minKey, 23);
+        map.put(mapType.maxKey, 5);
+
+        assertThat(map.size()).isEqualTo(4);
+        assertThat(map.getOrDefault(42, 0)).isEqualTo(1337);
+        assertThat(map.getOrDefault(-1, 0)).isEqualTo(7);
+        assertThat(map.getOrDefault(mapType.minKey, 0)).isEqualTo(23);
+        assertThat(map.getOrDefault(mapType.maxKey, 0)).isEqualTo(5);
+        assertThat(map.getOrDefault(0, -42)).isEqualTo(-42);
+
+        map.put(42, 23);
+        assertThat(map.size()).isEqualTo(4);
+        assertThat(map.getOrDefault(42, 0)).isEqualTo(23);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MapType.class)
+    void shouldAddTo(MapType mapType) {
+        var map = mapType.create();
+
+        assertThat(map.addTo(42, 2)).isEqualTo(2);
+        assertThat(map.addTo(42, 3)).isEqualTo(5);
+        assertThat(map.addTo(0, 1)).isEqualTo(1);
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.containsKey(42)).isTrue();
+        assertThat(map.containsKey(1)).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(MapType.class)
+    void shouldAddAll(MapType mapType) {
+        var map = mapType.create();
+        map.addTo(1, 1);
+
+        map.addAll(new long[]{1, 2, 1, 3, 4}, new double[]{10, 20, 30, 40, 50}, 4);
+
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.getOrDefault(1, 0)).isEqualTo(41);
+        assertThat(map.getOrDefault(2, 0)).isEqualTo(20);
+        assertThat(map.getOrDefault(3, 0)).isEqualTo(40);
+        assertThat(map.containsKey(4)).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(MapType.class)
+    void shouldClearWithoutShrinking(MapType mapType) {
+        var map = mapType.create();
+        for (long key = 0; key < 1000; key++) {
+            map.put(key, key);
+        }
+        long[] keysBefore = map.keys();
+
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.keys()).isEmpty();
+        assertThat(map.containsKey(keysBefore[0])).isFalse();
+
+        map.addTo(7, 3);
+        assertThat(map.keys()).containsExactly(7L);
+        assertThat(map.values()).containsExactly(3D);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MapType.class)
+    void shouldBeReusableAfterClear(MapType mapType) {
+        var map = mapType.create(4);
+        for (int round = 0; round < 10; round++) {
+            map.clear();
+            for (int key = 0; key < 100; key++) {
+                map.addTo(key + round, 1);
+            }
+            assertThat(map.size()).isEqualTo(100);
+            assertThat(map.containsKey(round - 1)).isFalse();
+            assertThat(map.getOrDefault(round + 99, 0)).isEqualTo(1);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(MapType.class)
+    void shouldIterateEntries(MapType mapType) {
+        var map = mapType.create();
+        for (long key = -50; key < 50; key++) {
+            map.put(key, key * 2);
+        }
+
+        var fromForEach = map.entriesFromForEach();
+        var fromCursor = map.entriesFromCursor();
+
+        var fromArrays = new HashMap<Long, Double>();
+        long[] keys = map.keys();
+        double[] values = map.values();
+        for (int i = 0; i < keys.length; i++) {
+            fromArrays.put(keys[i], values[i]);
+        }
+
+        assertThat(fromForEach).hasSize(100).allSatisfy((key, value) -> assertThat(value).isEqualTo(key * 2D));
+        assertThat(fromCursor).isEqualTo(fromForEach);
+        assertThat(fromArrays).isEqualTo(fromForEach);
+    }
+
+    static Stream<Arguments> mapTypesAndExpectedElements() {
+        return Arrays.stream(MapType.values())
+            .flatMap(mapType -> IntStream.of(0, 1, 7, 8, 100, 10_000).mapToObj(n -> Arguments.of(mapType, n)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("mapTypesAndExpectedElements")
+    void shouldBehaveLikeAHashMap(MapType mapType, int expectedElements) {
+        var random = new Random(expectedElements);
+        var map = mapType.create(expectedElements);
+        Map<Long, Double> expected = new HashMap<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(20_000) - 10_000;
+            double value = random.nextInt(100);
+            if (random.nextBoolean()) {
+                assertThat(map.addTo(key, value)).isEqualTo(expected.merge(key, value, Double::sum));
+            } else {
+                map.put(key, value);
+                expected.put(key, value);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.getOrDefault(key, -1)).isEqualTo(value));
+        for (int i = 0; i < 1000; i++) {
+            long key = random.nextInt();
+            assertThat(map.containsKey(key)).isEqualTo(expected.containsKey(key));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(MapType.class)
+    void shouldFailWhenExceedingMaximumCapacity(MapType mapType) {
+        var map = mapType.create();
+
+        assertThatThrownBy(() -> map.ensureCapacity(Integer.MAX_VALUE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Maximum capacity exceeded: " + Integer.MAX_VALUE);
+    }
+
+    @ParameterizedTest
+    @EnumSource(MapType.class)
+    void shouldEstimateMemory(MapType mapType) {
+        assertThat(mapType.memoryEstimation(100))
+            .isGreaterThan(mapType.memoryEstimation(10))
+            .isGreaterThan(100 * (mapType.keyBytes + mapType.valueBytes));
+    }
+
+    /**
+     * Views every generated map through {@code long} keys and {@code double} values,
+     * which can represent all keys and values used by this test.
+     */
+    interface TestMap {
+        int size();
+
+        boolean isEmpty();
+
+        boolean containsKey(long key);
+
+        double getOrDefault(long key, double defaultValue);
+
+        void put(long key, double value);
+
+        double addTo(long key, double delta);
+
+        void addAll(long[] keys, double[] deltas, int length);
+
+        void ensureCapacity(int expectedElements);
+
+        void clear();
+
+        long[] keys();
+
+        double[] values();
+
+        Map<Long, Double> entriesFromForEach();
+
+        Map<Long, Double> entriesFromCursor();
+    }
+
+    enum MapType {
+        LONG_LONG(Long.MIN_VALUE, Long.MAX_VALUE, Long.BYTES, Long.BYTES) {
+            @Override
+            TestMap create(int expectedElements) {
+                return of(expectedElements < 0 ? LongLongOpenHashMap.create() : LongLongOpenHashMap.create(expectedElements));
+            }
+
+            @Override
+            long memoryEstimation(long expectedElements) {
+                return LongLongOpenHashMap.memoryEstimation(expectedElements);
+            }
+
+            private TestMap of(LongLongOpenHashMap map) {
+                return new TestMap() {
+                    public int size() {return map.size();}
+
+                    public boolean isEmpty() {return map.isEmpty();}
+
+                    public boolean containsKey(long key) {return map.containsKey(key);}
+
+                    public double getOrDefault(long key, double defaultValue) {return map.getOrDefault(key, (long) defaultValue);}
+
+                    public void put(long key, double value) {map.put(key, (long) value);}
+
+                    public double addTo(long key, double delta) {return map.addTo(key, (long) delta);}
+
+                    public void addAll(long[] keys, double[] deltas, int length) {
+                        map.addAll(keys, Arrays.stream(deltas).mapToLong(d -> (long) d).toArray(), length);
+                    }
+
+                    public void ensureCapacity(int expectedElements) {map.ensureCapacity(expectedElements);}
+
+                    public void clear() {map.clear();}
+
+                    public long[] keys() {return map.keys();}
+
+                    public double[] values() {return Arrays.stream(map.values()).asDoubleStream().toArray();}
+
+                    public Map<Long, Double> entriesFromForEach() {
+                        var entries = new HashMap<Long, Double>();
+                        map.forEach((key, value) -> entries.put(key, (double) value));
+                        return entries;
+                    }
+
+                    public Map<Long, Double> entriesFromCursor() {
+                        var entries = new HashMap<Long, Double>();
+                        var cursor = map.cursor();
+                        while (cursor.next()) {
+                            entries.put(cursor.key(), (double) cursor.value());
+                        }
+                        assertThat(cursor.next()).isFalse();
+                        return entries;
+                    }
+                };
+            }
+        },
+        LONG_DOUBLE(Long.MIN_VALUE, Long.MAX_VALUE, Long.BYTES, Double.BYTES) {
+            @Override
+            TestMap create(int expectedElements) {
+                return of(expectedElements < 0 ? LongDoubleOpenHashMap.create() : LongDoubleOpenHashMap.create(expectedElements));
+            }
+
+            @Override
+            long memoryEstimation(long expectedElements) {
+                return LongDoubleOpenHashMap.memoryEstimation(expectedElements);
+            }
+
+            private TestMap of(LongDoubleOpenHashMap map) {
+                return new TestMap() {
+                    public int size() {return map.size();}
+
+                    public boolean isEmpty() {return map.isEmpty();}
+
+                    public boolean containsKey(long key) {return map.containsKey(key);}
+
+                    public double getOrDefault(long key, double defaultValue) {return map.getOrDefault(key, defaultValue);}
+
+                    public void put(long key, double value) {map.put(key, value);}
+
+                    public double addTo(long key, double delta) {return map.addTo(key, delta);}
+
+                    public void addAll(long[] keys, double[] deltas, int length) {map.addAll(keys, deltas, length);}
+
+                    public void ensureCapacity(int expectedElements) {map.ensureCapacity(expectedElements);}
+
+                    public void clear() {map.clear();}
+
+                    public long[] keys() {return map.keys();}
+
+                    public double[] values() {return map.values();}
+
+                    public Map<Long, Double> entriesFromForEach() {
+                        var entries = new HashMap<Long, Double>();
+                        map.forEach(entries::put);
+                        return entries;
+                    }
+
+                    public Map<Long, Double> entriesFromCursor() {
+                        var entries = new HashMap<Long, Double>();
+                        var cursor = map.cursor();
+                        while (cursor.next()) {
+                            entries.put(cursor.key(), cursor.value());
+                        }
+                        assertThat(cursor.next()).isFalse();
+                        return entries;
+                    }
+                };
+            }
+        },
+        INT_DOUBLE(Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.BYTES, Double.BYTES) {
+            @Override
+            TestMap create(int expectedElements) {
+                return of(expectedElements < 0 ? IntDoubleOpenHashMap.create() : IntDoubleOpenHashMap.create(expectedElements));
+            }
+
+            @Override
+            long memoryEstimation(long expectedElements) {
+                return IntDoubleOpenHashMap.memoryEstimation(expectedElements);
+            }
+
+            private TestMap of(IntDoubleOpenHashMap map) {
+                return new TestMap() {
+                    public int size() {return map.size();}
+
+                    public boolean isEmpty() {return map.isEmpty();}
+
+                    public boolean containsKey(long key) {return map.containsKey(Math.toIntExact(key));}
+
+                    public double getOrDefault(long key, double defaultValue) {
+                        return map.getOrDefault(Math.toIntExact(key), defaultValue);
+                    }
+
+                    public void put(long key, double value) {map.put(Math.toIntExact(key), value);}
+
+                    public double addTo(long key, double delta) {return map.addTo(Math.toIntExact(key), delta);}
+
+                    public void addAll(long[] keys, double[] deltas, int length) {
+                        map.addAll(Arrays.stream(keys).mapToInt(Math::toIntExact).toArray(), deltas, length);
+                    }
+
+                    public void ensureCapacity(int expectedElements) {map.ensureCapacity(expectedElements);}
+
+                    public void clear() {map.clear();}
+
+                    public long[] keys() {return Arrays.stream(map.keys()).asLongStream().toArray();}
+
+                    public double[] values() {return map.values();}
+
+                    public Map<Long, Double> entriesFromForEach() {
+                        var entries = new HashMap<Long, Double>();
+                        map.forEach((key, value) -> entries.put((long) key, value));
+                        return entries;
+                    }
+
+                    public Map<Long, Double> entriesFromCursor() {
+                        var entries = new HashMap<Long, Double>();
+                        var cursor = map.cursor();
+                        while (cursor.next()) {
+                            entries.put((long) cursor.key(), cursor.value());
+                        }
+                        assertThat(cursor.next()).isFalse();
+                        return entries;
+                    }
+                };
+            }
+        };
+
+        final long minKey;
+        final long maxKey;
+        final long keyBytes;
+        final long valueBytes;
+
+        MapType(long minKey, long maxKey, long keyBytes, long valueBytes) {
+            this.minKey = minKey;
+            this.maxKey = maxKey;
+            this.keyBytes = keyBytes;
+            this.valueBytes = valueBytes;
+        }
+
+        TestMap create() {
+            return create(-1);
+        }
+
+        abstract TestMap create(int expectedElements);
+
+        abstract long memoryEstimation(long expectedElements);
+    }
+}
@@ -21,6 +21,7 @@ package org.neo4j.gds.compat._52;
 
 import org.neo4j.gds.annotation.SuppressForbidden;
 import org.neo4j.gds.compat.CompatUserAggregationFunction;
+import org.neo4j.gds.compat.CompatUserAggregationUpdater;
 import org.neo4j.gds.compat.CompatUserAggregator;
 import org.neo4j.internal.kernel.api.exceptions.ProcedureException;
 import org.neo4j.internal.kernel.api.procs.UserAggregationReducer;
@@ -48,7 +49,7 @@ public final class CallableUserAggregationFunctionImpl implements CallableUserAg
         return new UserAggregatorImpl(this.function.create(ctx));
     }
 
-    private static final class UserAggregatorImpl implements UserAggregationReducer, UserAggregationUpdater {
+    private static final class UserAggregatorImpl implements UserAggregationReducer {
         private final CompatUserAggregator aggregator;
 
         private UserAggregatorImpl(CompatUserAggregator aggregator) {
@@ -57,21 +58,30 @@ public final class CallableUserAggregationFunctionImpl implements CallableUserAg
 
         @Override
         public UserAggregationUpdater newUpdater() {
-            return this;
+            return new UserAggregationUpdaterImpl(this.aggregator.newUpdater());
         }
 
         @Override
-        public void update(AnyValue[] input) throws ProcedureException {
-            this.aggregator.update(input);
+        public AnyValue result() throws ProcedureException {
+            return this.aggregator.result();
+        }
+    }
+
+    private static final class UserAggregationUpdaterImpl implements UserAggregationUpdater {
+        private final CompatUserAggregationUpdater updater;
+
+        private UserAggregationUpdaterImpl(CompatUserAggregationUpdater updater) {
+            this.updater = updater;
         }
 
         @Override
-        public void applyUpdates() {
+        public void update(AnyValue[] input) throws ProcedureException {
+            this.updater.update(input);
         }
 
         @Override
-        public AnyValue result() throws ProcedureException {
-            return this.aggregator.result();
+        public void applyUpdates() {
+            this.updater.applyUpdates();
         }
     }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.compat;
+
+import org.neo4j.internal.kernel.api.exceptions.ProcedureException;
+import org.neo4j.values.AnyValue;
+
+/**
+ * Receives the rows of an aggregation.
+ * Runtimes that aggregate in parallel use one updater per worker,
+ * so an updater is never called by two threads at the same time.
+ */
+public interface CompatUserAggregationUpdater {
+    void update(AnyValue[] input) throws ProcedureException;
+
+    /**
+     * Called once the updater has received all of its rows.
+     */
+    default void applyUpdates() {
+    }
+}
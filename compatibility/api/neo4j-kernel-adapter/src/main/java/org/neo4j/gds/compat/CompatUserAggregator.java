@@ -22,8 +22,17 @@ package org.neo4j.gds.compat;
 import org.neo4j.internal.kernel.api.exceptions.ProcedureException;
 import org.neo4j.values.AnyValue;
 
-public interface CompatUserAggregator {
+public interface CompatUserAggregator extends CompatUserAggregationUpdater {
+    @Override
     void update(AnyValue[] input) throws ProcedureException;
 
     AnyValue result() throws ProcedureException;
+
+    /**
+     * Creates an updater for the rows of one worker of the runtime.
+     * The default shares this aggregator between all workers, which requires {@link #update(AnyValue[])} to be thread-safe.
+     */
+    default CompatUserAggregationUpdater newUpdater() {
+        return this;
+    }
 }
@@ -29,12 +29,34 @@ import java.util.concurrent.atomic.AtomicReference;
 public enum GdsFeatureToggles {
 
     SKIP_ORPHANS(false),
-    USE_PARTITIONED_SCAN(false),
+    // Uses partitioned node label index scans and shares store scans between all threads
+    // in batches that shrink towards the end of the scan, to avoid a long tail of busy threads.
+    USE_PARTITIONED_SCAN(true),
     USE_BIT_ID_MAP(true),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
     USE_PACKED_ADJACENCY_LIST(false),
     USE_MIXED_ADJACENCY_LIST(false),
     USE_REORDERED_ADJACENCY_LIST(false),
+    // Picks the compression of each relationship type from its degree distribution,
+    // unless the projection or one of the toggles above asks for a specific one.
+    // Disabling it falls back to var-long compression.
+    USE_ADAPTIVE_ADJACENCY_COMPRESSION(true),
+    // Stores var-long compressed adjacency pages in native memory.
+    // The memory is released when the graph is dropped and its last reader is done,
+    // or by a Cleaner once the adjacency list is no longer reachable.
+    USE_OFF_HEAP_ADJACENCY_LIST(false),
+    // Stores the atomic arrays that algorithms keep for the duration of a run, such as
+    // WCC components, PageRank messages and Louvain community weights, in native memory.
+    USE_OFF_HEAP_ATOMIC_ARRAYS(false),
+    // Decodes var-long adjacency lists eight bytes at a time on little endian platforms.
+    // Read once when the decoder is loaded, so it can only be changed via system property.
+    USE_WORD_PARALLEL_DECODING(true),
+    // Re-encodes relationship properties after import, either as one byte indices into a dictionary
+    // of distinct values or as floats, if that does not lose any precision.
+    USE_COMPRESSED_RELATIONSHIP_PROPERTIES(false),
+    // Stores imported long and double node properties in the smallest lossless column encoding,
+    // such as bit-packed longs or floats, instead of always keeping them in sparse arrays.
+    USE_ADAPTIVE_NODE_PROPERTY_COLUMNS(false),
     ENABLE_ARROW_DATABASE_IMPORT(true),
     // Makes sure end users algorithms don't fail due to errors in log tracking,
     // but keeps the option to find these failures when running tests.
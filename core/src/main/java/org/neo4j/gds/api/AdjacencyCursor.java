@@ -59,6 +59,24 @@ public interface AdjacencyCursor {
      */
     long nextVLong();
 
+    /**
+     * Read and decode up to {@code buffer.length} target ids into the given buffer, starting at index 0.
+     * The cursor is advanced by the number of written targets.
+     *
+     * Implementations that decode their targets in blocks copy whole decoded blocks into the buffer,
+     * which is considerably cheaper than calling {@link #nextVLong()} for every target.
+     * A buffer of {@code 64} elements matches the block size of the compressed adjacency lists.
+     *
+     * @return the number of target ids written into the buffer, {@code 0} if the cursor is exhausted.
+     */
+    default int nextBlock(long[] buffer) {
+        int count = 0;
+        while (count < buffer.length && hasNextVLong()) {
+            buffer[count++] = nextVLong();
+        }
+        return count;
+    }
+
     /**
      * Decode and peek the next target id. Does not progress the internal cursor unlike {@link #nextVLong()}.
      *
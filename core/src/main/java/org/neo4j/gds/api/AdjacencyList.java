@@ -20,6 +20,7 @@
 package org.neo4j.gds.api;
 
 import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.Compression;
 import org.neo4j.gds.core.compression.MemoryInfo;
 
 /**
@@ -103,6 +104,26 @@ public interface AdjacencyList {
      */
     MemoryInfo memoryInfo();
 
+    /**
+     * Returns the compression that has been used to store this adjacency list,
+     * or {@link Compression#DEFAULT} if the adjacency list does not correspond to a single compression.
+     */
+    default Compression compression() {
+        return Compression.DEFAULT;
+    }
+
+    /**
+     * Free the off-heap memory held by this adjacency list, if any.
+     * <p>
+     * This list cannot be used afterwards.
+     * <p>
+     * Off-heap memory is freed as well when the list is garbage collected,
+     * so it is not required to call this method to prevent memory leaks.
+     * Adjacency lists that live entirely on heap ignore this call.
+     */
+    default void free() {
+    }
+
     AdjacencyList EMPTY = new AdjacencyList() {
         @Override
         public int degree(long node) {
@@ -165,6 +165,17 @@ public interface GraphStore {
 
     void addRelationshipType(SingleTypeRelationships relationships);
 
+    /**
+     * Returns the relationships of the given type as they are stored in this graph store.
+     * <p>
+     * The returned relationships can be added to other graph stores with the same id map,
+     * which then share their topology and properties with this graph store.
+     * Graph stores that do not hold their relationships in this form return an empty optional.
+     */
+    default Optional<SingleTypeRelationships> relationships(RelationshipType relationshipType) {
+        return Optional.empty();
+    }
+
     void addInverseIndex(
         RelationshipType relationshipType,
         Topology topology,
@@ -237,4 +248,15 @@ public interface GraphStore {
         RelationshipType relationshipType,
         Collection<String> propertyKeys
     );
+
+    /**
+     * Free the off-heap memory held by the relationships of this graph store.
+     * <p>
+     * Graphs that have been created from this graph store cannot be used afterwards.
+     * The graph catalog calls this method when a graph is dropped and the last reader of it has been released.
+     * Off-heap memory is freed as well when the graph store is garbage collected,
+     * so it is not required to call this method to prevent memory leaks.
+     */
+    default void free() {
+    }
 }
@@ -234,6 +234,11 @@ public abstract class GraphStoreAdapter implements GraphStoreWrapper {
         graphStore.addRelationshipType(relationships);
     }
 
+    @Override
+    public Optional<SingleTypeRelationships> relationships(RelationshipType relationshipType) {
+        return graphStore.relationships(relationshipType);
+    }
+
     @Override
     public void addInverseIndex(
         RelationshipType relationshipType,
@@ -316,4 +321,9 @@ public abstract class GraphStoreAdapter implements GraphStoreWrapper {
     ) {
         return graphStore.getCompositeRelationshipIterator(relationshipType, propertyKeys);
     }
+
+    @Override
+    public void free() {
+        graphStore.free();
+    }
 }
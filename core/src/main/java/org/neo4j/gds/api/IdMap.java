@@ -139,6 +139,17 @@ public interface IdMap extends PartialIdMap, NodeIterator, BatchNodeIterable {
         throw new UnsupportedOperationException("This node mapping does not support label filtering");
     }
 
+    /**
+     * Returns a node mapping that shares the id mapping with this node mapping,
+     * but holds its own copy of the label information.
+     * Labels that are added to the returned node mapping are not visible in this node mapping and vice versa.
+     * <p>
+     * Returns an empty optional if this node mapping cannot share its id mapping.
+     */
+    default Optional<IdMap> withSharedIdMapping() {
+        return Optional.empty();
+    }
+
     @FunctionalInterface
     interface NodeLabelConsumer {
 
@@ -23,6 +23,7 @@ import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 public interface AdjacencyCompressorFactory {
 
@@ -31,6 +32,14 @@ public interface AdjacencyCompressorFactory {
      */
     void init();
 
+    /**
+     * Prepares the compressor for flushing. Factories that pick their compression based on the
+     * degrees of the buffered adjacency lists can request the statistics from the given supplier.
+     */
+    default void init(Supplier<DegreeStatistics> degreeStatistics) {
+        init();
+    }
+
     void init(HugeIntArray degrees, HugeLongArray adjacencyOffsets, HugeLongArray propertyOffsets);
 
     /**
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.api.compress;
+
+import org.neo4j.gds.annotation.ValueClass;
+
+/**
+ * Summary of the degrees of the adjacency lists that are about to be compressed.
+ * Only adjacency lists with at least one target are taken into account.
+ */
+@ValueClass
+public interface DegreeStatistics {
+
+    DegreeStatistics EMPTY = ImmutableDegreeStatistics.of(0, 0, 0, 0);
+
+    long adjacencyListCount();
+
+    long relationshipCount();
+
+    int maxDegree();
+
+    /**
+     * The sum of the squared degrees, used to derive the variance of the distribution.
+     */
+    double sumOfSquaredDegrees();
+
+    default double meanDegree() {
+        var adjacencyListCount = adjacencyListCount();
+        return adjacencyListCount == 0 ? 0 : (double) relationshipCount() / adjacencyListCount;
+    }
+
+    default double standardDeviation() {
+        var adjacencyListCount = adjacencyListCount();
+        if (adjacencyListCount == 0) {
+            return 0;
+        }
+        var mean = meanDegree();
+        var variance = sumOfSquaredDegrees() / adjacencyListCount - mean * mean;
+        return Math.sqrt(Math.max(variance, 0));
+    }
+
+    /**
+     * The standard deviation relative to the mean degree.
+     * Values around or below {@code 1} indicate a fairly regular graph,
+     * heavy-tailed degree distributions lead to much larger values.
+     */
+    default double coefficientOfVariation() {
+        var mean = meanDegree();
+        return mean == 0 ? 0 : standardDeviation() / mean;
+    }
+}
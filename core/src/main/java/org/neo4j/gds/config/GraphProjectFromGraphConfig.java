@@ -62,6 +62,16 @@ public interface GraphProjectFromGraphConfig extends GraphProjectConfig {
         return Collections.emptyMap();
     }
 
+    /**
+     * If disabled, the filtered graph is registered as a read-only view of the original graph
+     * instead of copying the filtered nodes, properties and relationships.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    default boolean materialize() {
+        return true;
+    }
+
     @Value.Check
     default void validateReadConcurrency() {
         ConcurrencyValidatorService.validator().validate(concurrency(), "concurrency", ConcurrencyConfig.CONCURRENCY_LIMITATION);
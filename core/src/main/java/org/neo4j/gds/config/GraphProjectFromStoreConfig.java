@@ -34,6 +34,7 @@ import org.neo4j.gds.api.GraphStoreFactory;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.loading.NativeFactory;
+import org.neo4j.gds.core.loading.NodeOrdering;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -77,6 +78,14 @@ public interface GraphProjectFromStoreConfig extends GraphProjectConfig {
         return PropertyMappings.of();
     }
 
+    @Value.Default
+    @Value.Parameter(false)
+    @Configuration.ConvertWith(method = "org.neo4j.gds.core.loading.NodeOrdering#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.loading.NodeOrdering#toString")
+    default NodeOrdering nodeOrdering() {
+        return NodeOrdering.NONE;
+    }
+
     @Configuration.Ignore
     @Override
     default GraphStoreFactory.Supplier graphStoreFactory() {
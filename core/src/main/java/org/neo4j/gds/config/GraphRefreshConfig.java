@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.config;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreDelta;
+import org.neo4j.gds.core.loading.ImmutableGraphStoreDelta;
+
+import java.util.List;
+import java.util.Map;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface GraphRefreshConfig extends BaseConfig, ConcurrencyConfig {
+
+    static GraphRefreshConfig of(Map<String, Object> rawConfig) {
+        return new GraphRefreshConfigImpl(CypherMapWrapper.create(rawConfig));
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.core.loading.GraphStoreDelta#parseAddedNodes")
+    @Configuration.ToMapValue("org.neo4j.gds.core.loading.GraphStoreDelta#addedNodesToList")
+    default List<GraphStoreDelta.AddedNode> addedNodes() {
+        return List.of();
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.core.loading.GraphStoreDelta#parseRemovedNodes")
+    default List<Long> removedNodes() {
+        return List.of();
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.core.loading.GraphStoreDelta#parseRelationships")
+    @Configuration.ToMapValue("org.neo4j.gds.core.loading.GraphStoreDelta#relationshipsToList")
+    default List<GraphStoreDelta.RelationshipChange> addedRelationships() {
+        return List.of();
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.core.loading.GraphStoreDelta#parseRelationships")
+    @Configuration.ToMapValue("org.neo4j.gds.core.loading.GraphStoreDelta#relationshipsToList")
+    default List<GraphStoreDelta.RelationshipChange> removedRelationships() {
+        return List.of();
+    }
+
+    @Configuration.Ignore
+    default GraphStoreDelta delta() {
+        return ImmutableGraphStoreDelta.builder()
+            .addedNodes(addedNodes())
+            .removedNodes(removedNodes())
+            .addedRelationships(addedRelationships())
+            .removedRelationships(removedRelationships())
+            .build();
+    }
+}
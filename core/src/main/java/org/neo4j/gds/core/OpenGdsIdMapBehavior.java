@@ -25,7 +25,11 @@ import org.neo4j.gds.core.loading.GrowingArrayIdMapBuilder;
 import org.neo4j.gds.core.loading.HighLimitIdMap;
 import org.neo4j.gds.core.loading.HighLimitIdMapBuilder;
 import org.neo4j.gds.core.loading.IdMapBuilder;
+import org.neo4j.gds.core.loading.SuccinctIdMap;
+import org.neo4j.gds.core.loading.SuccinctIdMapBuilder;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Locale;
 import java.util.Optional;
@@ -38,16 +42,21 @@ public class OpenGdsIdMapBehavior implements IdMapBehavior {
         Optional<Long> maxOriginalId,
         Optional<Long> nodeCount
     ) {
-        return nodeCount.or(() -> maxOriginalId.map(maxId -> maxId + 1))
-            .map(capacity -> (IdMapBuilder) ArrayIdMapBuilder.of(capacity))
-            .orElseGet(GrowingArrayIdMapBuilder::of);
+        if (maxOriginalId.isPresent() && nodeCount.isPresent() && useSuccinctIdMap(nodeCount.get(), maxOriginalId.get())) {
+            return SuccinctIdMapBuilder.of(maxOriginalId.get(), nodeCount.get());
+        }
+        return arrayIdMapBuilder(maxOriginalId, nodeCount);
     }
 
     @Override
     public IdMapBuilder create(String id, int concurrency, Optional<Long> maxOriginalId, Optional<Long> nodeCount) {
         var idLowerCase = id.toLowerCase(Locale.US);
         if (idLowerCase.equals(ArrayIdMapBuilder.ID)) {
-            return create(concurrency, maxOriginalId, nodeCount);
+            return arrayIdMapBuilder(maxOriginalId, nodeCount);
+        }
+        if (idLowerCase.equals(SuccinctIdMapBuilder.ID) && maxOriginalId.isPresent()) {
+            var maxId = maxOriginalId.get();
+            return SuccinctIdMapBuilder.of(maxId, nodeCount.orElse(maxId + 1));
         }
         if (HighLimitIdMap.isHighLimitIdMap(idLowerCase)) {
             // We do not pass in the highest original id to the nested id map builder
@@ -63,8 +72,23 @@ public class OpenGdsIdMapBehavior implements IdMapBehavior {
         return create(concurrency, maxOriginalId, nodeCount);
     }
 
+    private static IdMapBuilder arrayIdMapBuilder(Optional<Long> maxOriginalId, Optional<Long> nodeCount) {
+        return nodeCount.or(() -> maxOriginalId.map(maxId -> maxId + 1))
+            .map(capacity -> (IdMapBuilder) ArrayIdMapBuilder.of(capacity))
+            .orElseGet(GrowingArrayIdMapBuilder::of);
+    }
+
+    private static boolean useSuccinctIdMap(long nodeCount, long maxOriginalId) {
+        return GdsFeatureToggles.USE_BIT_ID_MAP.isEnabled() && SuccinctIdMapBuilder.isDense(nodeCount, maxOriginalId);
+    }
+
     @Override
     public MemoryEstimation memoryEstimation() {
-        return ArrayIdMap.memoryEstimation();
+        // the native import passes the highest possible node count as the highest original id
+        return MemoryEstimations.setup("", dimensions ->
+            useSuccinctIdMap(dimensions.nodeCount(), dimensions.highestPossibleNodeCount())
+                ? SuccinctIdMap.memoryEstimation()
+                : ArrayIdMap.memoryEstimation()
+        );
     }
 }
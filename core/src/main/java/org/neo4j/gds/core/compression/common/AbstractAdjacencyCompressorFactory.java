@@ -27,8 +27,10 @@ import org.neo4j.gds.api.compress.AdjacencyListBuilder;
 import org.neo4j.gds.api.compress.AdjacencyListsWithProperties;
 import org.neo4j.gds.api.compress.ImmutableAdjacencyListsWithProperties;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.property.AdjacencyPropertiesCompression;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongSupplier;
@@ -89,9 +91,19 @@ public abstract class AbstractAdjacencyCompressorFactory<TARGET_PAGE, PROPERTY_P
 
         var propertyBuilders = this.propertyBuilders;
         var propertyOffsets = this.propertyOffsets;
-        for (var propertyBuilder : propertyBuilders) {
-            var properties = propertyBuilder.build(this.adjacencyDegrees, propertyOffsets, allowReordering);
-            builder.addProperty(properties);
+        var properties = new AdjacencyProperties[propertyBuilders.length];
+        for (int i = 0; i < propertyBuilders.length; i++) {
+            properties[i] = propertyBuilders[i].build(this.adjacencyDegrees, propertyOffsets, allowReordering);
+        }
+
+        // Building a property list might reorder the shared offsets,
+        // so we can only re-encode the properties once all of them are built.
+        var compressProperties = GdsFeatureToggles.USE_COMPRESSED_RELATIONSHIP_PROPERTIES.isEnabled();
+        for (var property : properties) {
+            builder.addProperty(compressProperties
+                ? AdjacencyPropertiesCompression.compress(property, this.adjacencyDegrees, propertyOffsets)
+                : property
+            );
         }
 
         return builder.relationshipCount(relationshipCounter.longValue()).build();
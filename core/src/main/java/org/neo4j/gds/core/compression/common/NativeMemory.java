@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.common;
+
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allocates the native memory of off-heap adjacency pages and keeps count of how much of it is in use.
+ * <p>
+ * Native memory is invisible to the heap accounting of the JVM,
+ * so every allocation and release of an adjacency page has to go through this class.
+ */
+public final class NativeMemory {
+
+    private static final AtomicLong ALLOCATED_BYTES = new AtomicLong();
+
+    private NativeMemory() {}
+
+    public static long allocate(long bytes) {
+        long address = UnsafeUtil.allocateMemory(bytes, EmptyMemoryTracker.INSTANCE);
+        ALLOCATED_BYTES.addAndGet(bytes);
+        return address;
+    }
+
+    public static void free(long address, long bytes) {
+        UnsafeUtil.free(address, bytes, EmptyMemoryTracker.INSTANCE);
+        ALLOCATED_BYTES.addAndGet(-bytes);
+    }
+
+    /**
+     * Returns the number of bytes that have been allocated and not yet been freed.
+     */
+    public static long allocatedBytes() {
+        return ALLOCATED_BYTES.get();
+    }
+}
@@ -31,6 +31,10 @@ public final class VarLongDecoding {
         int limit,
         long[] out
     ) {
+        if (WordParallelDecoding.ENABLED) {
+            return WordParallelDecoding.decodeDeltaVLongs(startValue, adjacencyPage, offset, limit, out);
+        }
+
         long input, value = 0L;
         int into = 0, shift = 0;
         while (into < limit) {
@@ -56,6 +60,10 @@ public final class VarLongDecoding {
         long[] out,
         int outOffset
     ) {
+        if (WordParallelDecoding.ENABLED) {
+            return WordParallelDecoding.unsafeDecodeDeltaVLongs(length, previousValue, ptr, out, outOffset);
+        }
+
         long input, value = 0L;
         int shift = 0;
         while (length > 0) {
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.common;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Var-long decoding that processes eight bytes per step instead of a single byte.
+ * <p>
+ * Each step reads a little endian word and extracts all leading values of that word which are encoded
+ * in a single byte, i.e. deltas smaller than 128, without branching on every byte.
+ * Longer values fall back to byte-wise decoding.
+ * <p>
+ * The routines are used by {@link VarLongDecoding} if {@link #ENABLED} is set.
+ */
+public final class WordParallelDecoding {
+
+    /**
+     * Word parallel decoding relies on reading little endian words from native memory.
+     * The flag is resolved once, since decoding is on the hot path of every traversal.
+     */
+    public static final boolean ENABLED =
+        ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN &&
+        GdsFeatureToggles.USE_WORD_PARALLEL_DECODING.isEnabled();
+
+    // The stop bit of each byte in a little endian word.
+    private static final long STOP_BITS = 0x8080808080808080L;
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(
+        long[].class,
+        ByteOrder.LITTLE_ENDIAN
+    );
+
+    private WordParallelDecoding() {
+        throw new UnsupportedOperationException("No instances");
+    }
+
+    /**
+     * Word parallel variant of {@link VarLongDecoding#decodeDeltaVLongs(long, byte[], int, int, long[])}.
+     */
+    public static int decodeDeltaVLongs(
+        long startValue,
+        byte[] adjacencyPage,
+        int offset,
+        int limit,
+        long[] out
+    ) {
+        int into = 0;
+        int lastWordOffset = adjacencyPage.length - Long.BYTES;
+        while (into < limit) {
+            if (offset <= lastWordOffset) {
+                long word = (long) LONG_VIEW.get(adjacencyPage, offset);
+                int count = Math.min(singleByteValues(word), limit - into);
+                if (count > 0) {
+                    for (int i = 0; i < count; i++) {
+                        startValue += (word >>> (i << 3)) & 127L;
+                        out[into++] = startValue;
+                    }
+                    offset += count;
+                    continue;
+                }
+            }
+
+            long input, value = 0L;
+            int shift = 0;
+            do {
+                input = adjacencyPage[offset++];
+                value += (input & 127L) << shift;
+                shift += 7;
+            } while ((input & 128L) == 0);
+            startValue += value;
+            out[into++] = startValue;
+        }
+
+        return offset;
+    }
+
+    /**
+     * Word parallel variant of {@link VarLongDecoding#unsafeDecodeDeltaVLongs(int, long, long, long[], int)}.
+     */
+    public static long unsafeDecodeDeltaVLongs(
+        int length,
+        long previousValue,
+        long ptr,
+        long[] out,
+        int outOffset
+    ) {
+        while (length > 0) {
+            // Every remaining value occupies at least one byte,
+            // so a full word can only be read if there are at least eight values left.
+            if (length >= Long.BYTES) {
+                long word = UnsafeUtil.getLong(ptr);
+                int count = singleByteValues(word);
+                if (count > 0) {
+                    for (int i = 0; i < count; i++) {
+                        previousValue += (word >>> (i << 3)) & 127L;
+                        out[outOffset++] = previousValue;
+                    }
+                    ptr += count;
+                    length -= count;
+                    continue;
+                }
+            }
+
+            long input, value = 0L;
+            int shift = 0;
+            do {
+                input = UnsafeUtil.getByte(ptr);
+                ptr++;
+                value += (input & 127L) << shift;
+                shift += 7;
+            } while ((input & 128L) == 0);
+            previousValue += value;
+            out[outOffset++] = previousValue;
+            length--;
+        }
+
+        return ptr;
+    }
+
+    /**
+     * Returns the number of consecutive values, starting at the lowest byte of the given word,
+     * that are encoded in a single byte, i.e. that have their stop bit set.
+     */
+    static int singleByteValues(long word) {
+        return Long.numberOfTrailingZeros(~word & STOP_BITS) >>> 3;
+    }
+}
@@ -22,10 +22,24 @@ package org.neo4j.gds.core.compression.mixed;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.Compression;
 import org.neo4j.gds.core.compression.MemoryInfo;
+import org.neo4j.gds.core.compression.packed.PackedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 
 public class MixedAdjacencyList implements AdjacencyList {
 
+    /**
+     * The estimation assumes that every node has the average degree,
+     * so either all adjacency lists are packed or none of them are.
+     */
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        return MixedCompressor.usePacking(avgDegree)
+            ? PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
+            : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+    }
+
     private final AdjacencyList packedAdjacencyList;
     private final AdjacencyList vlongAdjacencyList;
 
@@ -67,5 +81,16 @@ public class MixedAdjacencyList implements AdjacencyList {
     public MemoryInfo memoryInfo() {
         return this.memoryInfo;
     }
+
+    @Override
+    public Compression compression() {
+        return Compression.MIXED;
+    }
+
+    @Override
+    public void free() {
+        this.packedAdjacencyList.free();
+        this.vlongAdjacencyList.free();
+    }
 }
 
@@ -37,6 +37,7 @@ import org.neo4j.gds.core.compression.packed.Address;
 import org.neo4j.gds.core.compression.packed.AdjacencyPacking;
 import org.neo4j.gds.core.compression.packed.PackedCompressor;
 import org.neo4j.gds.core.compression.varlong.DeltaVarLongCompressor;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.ArrayList;
 import java.util.concurrent.atomic.LongAdder;
@@ -62,7 +63,7 @@ public final class MixedCompressor implements AdjacencyCompressor {
         this.vLongCompressor = vLongCompressor;
     }
 
-    static boolean usePacking(int degree) {
+    public static boolean usePacking(long degree) {
         return degree > PACKING_DEGREE_THRESHOLD;
     }
 
@@ -89,6 +90,28 @@ public final class MixedCompressor implements AdjacencyCompressor {
         Aggregation[] aggregations,
         boolean noAggregation,
         MemoryTracker memoryTracker
+    ) {
+        return factory(
+            nodeCountSupplier,
+            packedAdjacencyListBuilder,
+            vlongAdjacencyListBuilder,
+            propertyMappings,
+            aggregations,
+            noAggregation,
+            memoryTracker,
+            GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get()
+        );
+    }
+
+    public static AdjacencyCompressorFactory factory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyListBuilderFactory<Address, ? extends AdjacencyList, long[], ? extends AdjacencyProperties> packedAdjacencyListBuilder,
+        AdjacencyListBuilderFactory<byte[], ? extends AdjacencyList, long[], ? extends AdjacencyProperties> vlongAdjacencyListBuilder,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        MemoryTracker memoryTracker,
+        GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy
     ) {
         var relationshipCounter = new LongAdder();
 
@@ -98,7 +121,8 @@ public final class MixedCompressor implements AdjacencyCompressor {
             propertyMappings,
             aggregations,
             noAggregation,
-            memoryTracker
+            memoryTracker,
+            packingStrategy
         );
 
         var vlongCompressorFactory = DeltaVarLongCompressor.factory(
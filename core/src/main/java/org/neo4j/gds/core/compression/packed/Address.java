@@ -19,8 +19,7 @@
  */
 package org.neo4j.gds.core.compression.packed;
 
-import org.neo4j.internal.unsafe.UnsafeUtil;
-import org.neo4j.memory.EmptyMemoryTracker;
+import org.neo4j.gds.core.compression.common.NativeMemory;
 
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
@@ -42,6 +41,13 @@ public final class Address {
         this.bytes = bytes;
     }
 
+    /**
+     * Allocates {@code bytes} of native memory, which are tracked by {@link NativeMemory}.
+     */
+    public static Address allocate(long bytes) {
+        return createAddress(NativeMemory.allocate(bytes), bytes);
+    }
+
     public static Address createAddress(long address, long bytes) {
         requirePointerIsValid(address);
         return new Address(address, bytes);
@@ -66,7 +72,7 @@ public final class Address {
     public void free() {
         long address = ADDRESS.getAndSet(this, 0L);
         requirePointerIsValid(address);
-        UnsafeUtil.free(address, bytes, EmptyMemoryTracker.INSTANCE);
+        NativeMemory.free(address, bytes);
     }
 
     /**
@@ -79,7 +85,7 @@ public final class Address {
         return address;
     }
 
-    long bytes() {
+    public long bytes() {
         return this.bytes;
     }
 
@@ -23,15 +23,101 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.Compression;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.lang.ref.Cleaner;
 
+import static org.neo4j.gds.core.compression.common.VarLongEncoding.encodedVLongSize;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
 public class PackedAdjacencyList implements AdjacencyList {
 
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        return adjacencyListEstimation(avgDegree, nodeCount, GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get());
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(
+        long avgDegree,
+        long nodeCount,
+        GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy
+    ) {
+        // Best case scenario:
+        // Difference between node identifiers in each adjacency list is 1.
+        // Every block is packed with a single bit per value.
+        long bestCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, 1, packingStrategy);
+
+        // Worst case scenario:
+        // Relationships are equally distributed across nodes and all identifiers
+        // within an adjacency list have the highest possible difference between each other.
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long worstCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase, packingStrategy);
+
+        int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+
+        // pages are allocated off heap, only their addresses and sizes live on heap
+        long minMemoryReqs = minPages * (long) BumpAllocator.PAGE_SIZE
+                             + MemoryUsage.sizeOfLongArray(minPages)
+                             + MemoryUsage.sizeOfIntArray(minPages);
+        long maxMemoryReqs = maxPages * (long) BumpAllocator.PAGE_SIZE
+                             + MemoryUsage.sizeOfLongArray(maxPages)
+                             + MemoryUsage.sizeOfIntArray(maxPages);
+
+        return MemoryEstimations
+            .builder(PackedAdjacencyList.class)
+            .fixed("pages", MemoryRange.of(minMemoryReqs, maxMemoryReqs))
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    /**
+     * Every adjacency list is padded to a multiple of eight bytes, which dominates the size of small lists.
+     * The first target is estimated like in the var-long encoding, all other values differ by {@code delta}.
+     * The tail of {@link GdsFeatureToggles.AdjacencyPackingStrategy#VAR_LONG_TAIL} is var-long encoded,
+     * all other strategies are estimated in the layout of {@link InlinedHeadPackedTailPacker}.
+     */
+    static long computeAdjacencyByteSize(
+        long avgDegree,
+        long nodeCount,
+        long delta,
+        GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy
+    ) {
+        if (avgDegree == 0) {
+            return 0L;
+        }
+        long firstAdjacencyIdAvgByteSize = ceilDiv(encodedVLongSize(nodeCount), 2);
+        long bitsPerValue = Long.SIZE - Long.numberOfLeadingZeros(delta);
+        long remainingValues = avgDegree - 1;
+
+        long headerSize;
+        long dataSize;
+        if (packingStrategy == GdsFeatureToggles.AdjacencyPackingStrategy.VAR_LONG_TAIL) {
+            long blocks = remainingValues / AdjacencyPacking.BLOCK_SIZE;
+            long tailLength = remainingValues - blocks * AdjacencyPacking.BLOCK_SIZE;
+            headerSize = blocks;
+            dataSize = blocks * AdjacencyPacking.BLOCK_SIZE * bitsPerValue / Byte.SIZE
+                       + firstAdjacencyIdAvgByteSize
+                       + tailLength * encodedVLongSize(delta);
+        } else {
+            headerSize = ceilDiv(remainingValues, AdjacencyPacking.BLOCK_SIZE) + firstAdjacencyIdAvgByteSize;
+            dataSize = ceilDiv(remainingValues * bitsPerValue, Byte.SIZE);
+        }
+
+        return BitUtil.align(BitUtil.align(headerSize, Long.BYTES) + dataSize, Long.BYTES) * nodeCount;
+    }
+
     private static final Cleaner CLEANER = Cleaner.create();
 
     private final long[] pages;
@@ -180,12 +266,26 @@ public class PackedAdjacencyList implements AdjacencyList {
     private final NewReuseCursor newReuseCursor;
     private final NewRawCursor newRawCursor;
 
+    private final GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy;
+
+    @TestOnly
     PackedAdjacencyList(
         long[] pages,
         int[] allocationSizes,
         HugeIntArray degrees,
         HugeLongArray offsets,
         MemoryInfo memoryInfo
+    ) {
+        this(pages, allocationSizes, degrees, offsets, memoryInfo, GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get());
+    }
+
+    PackedAdjacencyList(
+        long[] pages,
+        int[] allocationSizes,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        MemoryInfo memoryInfo,
+        GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy
     ) {
         this.pages = pages;
         this.degrees = degrees;
@@ -193,9 +293,9 @@ public class PackedAdjacencyList implements AdjacencyList {
         this.memoryInfo = memoryInfo;
         this.cleanable = CLEANER.register(this, new AdjacencyListCleaner(pages, allocationSizes));
 
-        var adjacencyPackingStrategy = GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get();
+        this.packingStrategy = packingStrategy;
 
-        switch (adjacencyPackingStrategy) {
+        switch (packingStrategy) {
             case VAR_LONG_TAIL:
                 this.newCursor = PackedAdjacencyList::newCursorWithVarLongTail;
                 this.newReuseCursor = PackedAdjacencyList::newReuseCursorWithVarLengthTail;
@@ -217,7 +317,7 @@ public class PackedAdjacencyList implements AdjacencyList {
                 this.newRawCursor = PackedAdjacencyList::newRawCursorWithInlinedHeadPackedTail;
                 break;
             default:
-                throw new IllegalArgumentException("Unsupported packing strategy: " + adjacencyPackingStrategy);
+                throw new IllegalArgumentException("Unsupported packing strategy: " + packingStrategy);
         }
     }
 
@@ -258,15 +358,16 @@ public class PackedAdjacencyList implements AdjacencyList {
         return this.memoryInfo;
     }
 
-    /**
-     * Free the underlying memory.
-     * <p>
-     * This list cannot be used afterwards.
-     * <p>
-     * When this list is garbage collected, the memory is freed as well,
-     * so it is not required to call this method to prevent memory leaks.
-     */
-    @TestOnly
+    @Override
+    public Compression compression() {
+        return Compression.PACKED;
+    }
+
+    public GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy() {
+        return this.packingStrategy;
+    }
+
+    @Override
     public void free() {
         this.cleanable.clean();
     }
@@ -29,8 +29,7 @@ import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.mem.MemoryUsage;
-import org.neo4j.internal.unsafe.UnsafeUtil;
-import org.neo4j.memory.EmptyMemoryTracker;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
 import java.util.Optional;
@@ -39,10 +38,15 @@ public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<Ad
 
     private final BumpAllocator<Address> builder;
     private final MemoryTracker memoryTracker;
+    private final GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy;
 
-    PackedAdjacencyListBuilder(MemoryTracker memoryTracker) {
+    PackedAdjacencyListBuilder(
+        MemoryTracker memoryTracker,
+        GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy
+    ) {
         this.builder = new BumpAllocator<>(Factory.INSTANCE);
         this.memoryTracker = memoryTracker;
+        this.packingStrategy = packingStrategy;
     }
 
     @Override
@@ -72,7 +76,7 @@ public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<Ad
 
         var memoryInfo = memoryInfo(allocationSizes, degrees, offsets);
 
-        return new PackedAdjacencyList(pages, allocationSizes, degrees, offsets, memoryInfo);
+        return new PackedAdjacencyList(pages, allocationSizes, degrees, offsets, memoryInfo, this.packingStrategy);
     }
 
     private MemoryInfo memoryInfo(int[] allocationSizes, HugeIntArray degrees, HugeLongArray offsets) {
@@ -101,8 +105,7 @@ public final class PackedAdjacencyListBuilder implements AdjacencyListBuilder<Ad
 
         @Override
         public Address newPage(int length) {
-            long ptr = UnsafeUtil.allocateMemory(length, EmptyMemoryTracker.INSTANCE);
-            return Address.createAddress(ptr, length);
+            return Address.allocate(length);
         }
     }
 
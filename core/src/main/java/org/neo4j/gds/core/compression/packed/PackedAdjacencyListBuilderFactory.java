@@ -23,19 +23,31 @@ import org.neo4j.gds.api.compress.AdjacencyListBuilderFactory;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
 import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyListBuilder;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 public final class PackedAdjacencyListBuilderFactory implements AdjacencyListBuilderFactory<Address, PackedAdjacencyList, long[], UncompressedAdjacencyList> {
 
+    private final GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy;
+
     public static PackedAdjacencyListBuilderFactory of() {
-        return new PackedAdjacencyListBuilderFactory();
+        return of(GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get());
+    }
+
+    public static PackedAdjacencyListBuilderFactory of(GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy) {
+        return new PackedAdjacencyListBuilderFactory(packingStrategy);
+    }
+
+    private PackedAdjacencyListBuilderFactory(GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy) {
+        this.packingStrategy = packingStrategy;
     }
 
-    private PackedAdjacencyListBuilderFactory() {
+    public GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy() {
+        return this.packingStrategy;
     }
 
     @Override
     public PackedAdjacencyListBuilder newAdjacencyListBuilder(MemoryTracker memoryTracker) {
-        return new PackedAdjacencyListBuilder(memoryTracker);
+        return new PackedAdjacencyListBuilder(memoryTracker, this.packingStrategy);
     }
 
     @Override
@@ -49,6 +49,30 @@ public final class PackedCompressor implements AdjacencyCompressor {
         Aggregation[] aggregations,
         boolean noAggregation,
         MemoryTracker memoryTracker
+    ) {
+        return factory(
+            nodeCountSupplier,
+            adjacencyListBuilderFactory,
+            propertyMappings,
+            aggregations,
+            noAggregation,
+            memoryTracker,
+            GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get()
+        );
+    }
+
+    /**
+     * The packing strategy must match the strategy of the adjacency lists
+     * that are built by the given {@code adjacencyListBuilderFactory}.
+     */
+    public static AdjacencyCompressorFactory factory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyListBuilderFactory<Address, ? extends AdjacencyList, long[], ? extends AdjacencyProperties> adjacencyListBuilderFactory,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        MemoryTracker memoryTracker,
+        GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy
     ) {
         AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders = new AdjacencyListBuilder[propertyMappings
             .numberOfMappings()];
@@ -60,13 +84,15 @@ public final class PackedCompressor implements AdjacencyCompressor {
             propertyBuilders,
             noAggregation,
             aggregations,
-            memoryTracker
+            memoryTracker,
+            packingStrategy
         );
     }
 
     static class Factory extends AbstractAdjacencyCompressorFactory<Address, long[]> {
 
         private final MemoryTracker memoryTracker;
+        private final GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy;
 
         Factory(
             LongSupplier nodeCountSupplier,
@@ -74,7 +100,8 @@ public final class PackedCompressor implements AdjacencyCompressor {
             AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
             boolean noAggregation,
             Aggregation[] aggregations,
-            MemoryTracker memoryTracker
+            MemoryTracker memoryTracker,
+            GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy
         ) {
             super(
                 nodeCountSupplier,
@@ -85,6 +112,7 @@ public final class PackedCompressor implements AdjacencyCompressor {
             );
 
             this.memoryTracker = memoryTracker;
+            this.packingStrategy = packingStrategy;
         }
 
         @Override
@@ -122,7 +150,8 @@ public final class PackedCompressor implements AdjacencyCompressor {
                 propertyOffsets,
                 noAggregation,
                 aggregations,
-                this.memoryTracker
+                this.memoryTracker,
+                this.packingStrategy
             );
         }
     }
@@ -152,7 +181,8 @@ public final class PackedCompressor implements AdjacencyCompressor {
         HugeLongArray propertyOffsets,
         boolean noAggregation,
         Aggregation[] aggregations,
-        MemoryTracker memoryTracker
+        MemoryTracker memoryTracker,
+        GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy
     ) {
         this.adjacencyAllocator = adjacencyAllocator;
         this.firstPropertyAllocator = firstPropertyAllocator;
@@ -168,7 +198,7 @@ public final class PackedCompressor implements AdjacencyCompressor {
         this.propertySlice = ModifiableSlice.create();
         this.degree = new MutableInt(0);
 
-        this.packingStrategy = GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get();
+        this.packingStrategy = packingStrategy;
     }
 
     @Override
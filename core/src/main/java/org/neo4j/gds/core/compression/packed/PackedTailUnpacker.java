@@ -85,6 +85,19 @@ final class PackedTailUnpacker {
         return block[this.idxInBlock++];
     }
 
+    void next(long[] buffer, int length) {
+        int offset = 0;
+        while (offset < length) {
+            if (this.idxInBlock == BLOCK_SIZE) {
+                decompressBlock();
+            }
+            int count = Math.min(length - offset, BLOCK_SIZE - this.idxInBlock);
+            System.arraycopy(this.block, this.idxInBlock, buffer, offset, count);
+            this.idxInBlock += count;
+            offset += count;
+        }
+    }
+
     long peek() {
         if (this.idxInBlock == BLOCK_SIZE) {
             decompressBlock();
@@ -75,6 +75,14 @@ public final class VarLongTailCursor implements AdjacencyCursor {
         return decompressingReader.next();
     }
 
+    @Override
+    public int nextBlock(long[] buffer) {
+        int count = Math.min(buffer.length, remaining());
+        this.currentPosition += count;
+        this.decompressingReader.next(buffer, count);
+        return count;
+    }
+
     @Override
     public long peekVLong() {
         return decompressingReader.peek();
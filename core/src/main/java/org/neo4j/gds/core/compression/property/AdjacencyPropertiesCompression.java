@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.property;
+
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.core.compression.common.BumpAllocator.PAGE_MASK;
+import static org.neo4j.gds.core.compression.common.BumpAllocator.PAGE_SHIFT;
+
+/**
+ * Re-encodes uncompressed relationship properties into a smaller representation if that can be done losslessly.
+ *
+ * The encoding is chosen per property, based on the values that have been imported:
+ * <ul>
+ *     <li>At most {@value #MAX_DICTIONARY_SIZE} distinct values are stored as one byte per relationship,
+ *     which indexes into a dictionary of the distinct values.</li>
+ *     <li>Values that all survive a round trip through {@code float} are stored with four bytes per relationship.</li>
+ *     <li>All other properties are kept as they are.</li>
+ * </ul>
+ *
+ * The encoded pages mirror the layout of the original pages, so the property offsets that are
+ * shared between all properties of a relationship type remain valid for the encoded properties.
+ */
+public final class AdjacencyPropertiesCompression {
+
+    static final int MAX_DICTIONARY_SIZE = 256;
+
+    private AdjacencyPropertiesCompression() {}
+
+    public static AdjacencyProperties compress(
+        AdjacencyProperties properties,
+        HugeIntArray degrees,
+        HugeLongArray offsets
+    ) {
+        var nodeCount = degrees.size();
+        var cursor = properties.rawPropertyCursor();
+
+        var dictionary = new LongIntHashMap();
+        var fitsDictionary = true;
+        var fitsFloat = true;
+        var pageCount = 0;
+
+        for (long node = 0; node < nodeCount && (fitsDictionary || fitsFloat); node++) {
+            int degree = degrees.get(node);
+            if (degree == 0) {
+                continue;
+            }
+            long offset = offsets.get(node);
+            pageCount = Math.max(pageCount, pageIndex(offset, PAGE_SHIFT) + 1);
+
+            cursor.init(offset, degree);
+            while (cursor.hasNextLong()) {
+                long bits = cursor.nextLong();
+                if (fitsFloat && Double.doubleToRawLongBits((float) Double.longBitsToDouble(bits)) != bits) {
+                    fitsFloat = false;
+                }
+                if (fitsDictionary && !dictionary.containsKey(bits)) {
+                    if (dictionary.size() == MAX_DICTIONARY_SIZE) {
+                        fitsDictionary = false;
+                    } else {
+                        dictionary.put(bits, dictionary.size());
+                    }
+                }
+            }
+        }
+
+        if (fitsDictionary) {
+            return encodeDictionary(properties, degrees, offsets, pageLengths(degrees, offsets, pageCount), dictionary);
+        }
+        if (fitsFloat) {
+            return encodeFloats(properties, degrees, offsets, pageLengths(degrees, offsets, pageCount));
+        }
+        return properties;
+    }
+
+    private static AdjacencyProperties encodeDictionary(
+        AdjacencyProperties properties,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        int[] pageLengths,
+        LongIntHashMap dictionary
+    ) {
+        var values = new long[dictionary.size()];
+        for (var entry : dictionary) {
+            values[entry.value] = entry.key;
+        }
+
+        var pages = new byte[pageLengths.length][];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = new byte[pageLengths[i]];
+        }
+
+        var cursor = properties.rawPropertyCursor();
+        var nodeCount = degrees.size();
+        for (long node = 0; node < nodeCount; node++) {
+            int degree = degrees.get(node);
+            if (degree == 0) {
+                continue;
+            }
+            long offset = offsets.get(node);
+            var page = pages[pageIndex(offset, PAGE_SHIFT)];
+            int indexInPage = indexInPage(offset, PAGE_MASK);
+
+            cursor.init(offset, degree);
+            while (cursor.hasNextLong()) {
+                page[indexInPage++] = (byte) dictionary.get(cursor.nextLong());
+            }
+        }
+
+        return new DictionaryAdjacencyProperties(pages, values, degrees, offsets);
+    }
+
+    private static AdjacencyProperties encodeFloats(
+        AdjacencyProperties properties,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        int[] pageLengths
+    ) {
+        var pages = new float[pageLengths.length][];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = new float[pageLengths[i]];
+        }
+
+        var cursor = properties.rawPropertyCursor();
+        var nodeCount = degrees.size();
+        for (long node = 0; node < nodeCount; node++) {
+            int degree = degrees.get(node);
+            if (degree == 0) {
+                continue;
+            }
+            long offset = offsets.get(node);
+            var page = pages[pageIndex(offset, PAGE_SHIFT)];
+            int indexInPage = indexInPage(offset, PAGE_MASK);
+
+            cursor.init(offset, degree);
+            while (cursor.hasNextLong()) {
+                page[indexInPage++] = (float) Double.longBitsToDouble(cursor.nextLong());
+            }
+        }
+
+        return new FloatAdjacencyProperties(pages, degrees, offsets);
+    }
+
+    /**
+     * The encoded pages only need to be as long as the last property that has been written into them.
+     */
+    private static int[] pageLengths(HugeIntArray degrees, HugeLongArray offsets, int pageCount) {
+        var pageLengths = new int[pageCount];
+        var nodeCount = degrees.size();
+        for (long node = 0; node < nodeCount; node++) {
+            int degree = degrees.get(node);
+            if (degree == 0) {
+                continue;
+            }
+            long offset = offsets.get(node);
+            int pageIndex = pageIndex(offset, PAGE_SHIFT);
+            int end = indexInPage(offset, PAGE_MASK) + degree;
+            if (end > pageLengths[pageIndex]) {
+                pageLengths[pageIndex] = end;
+            }
+        }
+        return pageLengths;
+    }
+}
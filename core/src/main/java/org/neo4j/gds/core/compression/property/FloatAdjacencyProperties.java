@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.property;
+
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.core.compression.common.BumpAllocator.PAGE_MASK;
+import static org.neo4j.gds.core.compression.common.BumpAllocator.PAGE_SHIFT;
+
+/**
+ * Relationship properties that can be represented as {@code float} without loss of precision.
+ */
+final class FloatAdjacencyProperties implements AdjacencyProperties {
+
+    private final float[][] pages;
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
+
+    FloatAdjacencyProperties(float[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        var cursor = new Cursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        if (reuse instanceof Cursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(pages);
+    }
+
+    static final class Cursor implements PropertyCursor {
+
+        private final float[][] pages;
+
+        private float[] currentPage;
+        private int offset;
+        private int limit;
+
+        private Cursor(float[][] pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            this.currentPage = pages[pageIndex(index, PAGE_SHIFT)];
+            this.offset = indexInPage(index, PAGE_MASK);
+            this.limit = offset + degree;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return offset < limit;
+        }
+
+        @Override
+        public long nextLong() {
+            return Double.doubleToRawLongBits(currentPage[offset++]);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
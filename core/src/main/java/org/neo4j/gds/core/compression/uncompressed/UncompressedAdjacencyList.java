@@ -26,6 +26,7 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.core.Compression;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.api.PropertyCursor;
 import org.neo4j.gds.collections.ArrayUtil;
@@ -193,6 +194,11 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
         return this.memoryInfo;
     }
 
+    @Override
+    public Compression compression() {
+        return Compression.UNCOMPRESSED;
+    }
+
     public static final class Cursor extends MutableIntValue implements AdjacencyCursor, PropertyCursor {
 
         private long[][] pages;
@@ -249,6 +255,14 @@ public final class UncompressedAdjacencyList implements AdjacencyList, Adjacency
             return currentPage[offset];
         }
 
+        @Override
+        public int nextBlock(long[] buffer) {
+            int count = Math.min(buffer.length, limit - offset);
+            System.arraycopy(currentPage, offset, buffer, 0, count);
+            offset += count;
+            return count;
+        }
+
         @Override
         public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
             var dest = destination instanceof Cursor
@@ -25,6 +25,7 @@ import java.util.Arrays;
 
 import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
 import static org.neo4j.gds.core.compression.common.VarLongDecoding.decodeDeltaVLongs;
+import static org.neo4j.gds.core.compression.common.VarLongDecoding.unsafeDecodeDeltaVLongs;
 
 final class AdjacencyDecompressingReader {
 
@@ -32,8 +33,10 @@ final class AdjacencyDecompressingReader {
 
     private final long[] block;
     private int pos;
+    // either a heap page and the offset into that page,
+    // or no page and the address of the next block in native memory
     private byte[] array;
-    private int offset;
+    private long offset;
 
     AdjacencyDecompressingReader() {
         this.block = new long[CHUNK_SIZE];
@@ -61,11 +64,28 @@ final class AdjacencyDecompressingReader {
 
     int reset(byte[] adjacencyPage, int offset, int degree) {
         this.array = adjacencyPage;
-        this.offset = decodeDeltaVLongs(0L, adjacencyPage, offset, Math.min(degree, CHUNK_SIZE), block);
+        this.offset = offset;
+        decodeBlock(0L, Math.min(degree, CHUNK_SIZE));
         pos = 0;
         return degree;
     }
 
+    int reset(long address, int degree) {
+        this.array = null;
+        this.offset = address;
+        decodeBlock(0L, Math.min(degree, CHUNK_SIZE));
+        pos = 0;
+        return degree;
+    }
+
+    private void decodeBlock(long startValue, int limit) {
+        if (array != null) {
+            offset = decodeDeltaVLongs(startValue, array, (int) offset, limit, block);
+        } else {
+            offset = unsafeDecodeDeltaVLongs(limit, startValue, offset, block, 0);
+        }
+    }
+
     long next(int remaining) {
         int pos = this.pos++;
         if (pos < CHUNK_SIZE) {
@@ -77,6 +97,24 @@ final class AdjacencyDecompressingReader {
         return readNextBlock(remaining);
     }
 
+    void next(long[] buffer, int length, int remaining) {
+        int pos = this.pos;
+        long[] block = this.block;
+        int offset = 0;
+        while (offset < length) {
+            if (pos == CHUNK_SIZE) {
+                // `remaining - offset` targets are left, including the ones we are about to copy
+                decodeBlock(block[CHUNK_SIZE - 1], Math.min(remaining - offset, CHUNK_SIZE));
+                pos = 0;
+            }
+            int count = Math.min(length - offset, CHUNK_SIZE - pos);
+            System.arraycopy(block, pos, buffer, offset, count);
+            pos += count;
+            offset += count;
+        }
+        this.pos = pos;
+    }
+
     long peek(int remaining) {
         int pos = this.pos;
         if (pos < CHUNK_SIZE) {
@@ -90,7 +128,7 @@ final class AdjacencyDecompressingReader {
     }
 
     private long readNextBlock(int remaining) {
-        offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
+        decodeBlock(block[CHUNK_SIZE - 1], Math.min(remaining, CHUNK_SIZE));
         return block[0];
     }
 
@@ -104,7 +142,7 @@ final class AdjacencyDecompressingReader {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             available -= skippedInThisBlock;
             int needToDecode = Math.min(CHUNK_SIZE, available);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            decodeBlock(block[CHUNK_SIZE - 1], needToDecode);
             pos = 0;
         }
 
@@ -140,7 +178,7 @@ final class AdjacencyDecompressingReader {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             available -= skippedInThisBlock;
             int needToDecode = Math.min(CHUNK_SIZE, available);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            decodeBlock(block[CHUNK_SIZE - 1], needToDecode);
             pos = 0;
         }
 
@@ -177,7 +215,7 @@ final class AdjacencyDecompressingReader {
             // we need to decode the full block of the adjacency list, even if we would only
             // skip it partially. We would get wrong data after the skip position otherwise.
             int needToDecode = Math.min(CHUNK_SIZE, skip + availableBeyondSkip);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            decodeBlock(block[CHUNK_SIZE - 1], needToDecode);
             pos = 0;
         }
 
@@ -25,9 +25,11 @@ import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.Compression;
 import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.collections.PageUtil;
 import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.packed.Address;
 import org.neo4j.gds.core.loading.MutableIntValue;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -36,6 +38,8 @@ import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
 import org.neo4j.gds.mem.MemoryUsage;
 
+import java.lang.ref.Cleaner;
+
 import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
 import static org.neo4j.gds.collections.PageUtil.indexInPage;
 import static org.neo4j.gds.collections.PageUtil.pageIndex;
@@ -99,17 +103,83 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         return (firstAdjacencyIdAvgByteSize + compressedAdjacencyByteSize) * nodeCount;
     }
 
-    private byte[][] pages;
-    private HugeIntArray degrees;
-    private HugeLongArray offsets;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    // Exactly one of `pages` and `pageAddresses` is set,
+    // depending on whether the pages live on heap or off heap.
+    private final byte[][] pages;
+    private final long[] pageAddresses;
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
 
     private final MemoryInfo memoryInfo;
+    private final Cleaner.Cleanable cleanable;
+    // keeps memory that is owned by someone else reachable, e.g. a memory-mapped file
+    private final Object pageOwner;
+
+    /**
+     * Creates an adjacency list over var-long encoded pages that live in memory owned by {@code pageOwner},
+     * for example a memory-mapped file. Each page address must point to a page that is laid out exactly
+     * like the pages of a regular compressed adjacency list.
+     * <p>
+     * The owner is kept reachable for as long as this adjacency list is reachable.
+     * It remains responsible for releasing the memory, so {@link #free()} does not do anything.
+     */
+    public static CompressedAdjacencyList ofExternalPages(
+        long[] pageAddresses,
+        Object pageOwner,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        MemoryInfo memoryInfo
+    ) {
+        return new CompressedAdjacencyList(pageAddresses, pageOwner, degrees, offsets, memoryInfo);
+    }
 
     CompressedAdjacencyList(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets, MemoryInfo memoryInfo) {
         this.pages = pages;
+        this.pageAddresses = null;
+        this.degrees = degrees;
+        this.offsets = offsets;
+        this.memoryInfo = memoryInfo;
+        this.cleanable = null;
+        this.pageOwner = null;
+    }
+
+    private CompressedAdjacencyList(
+        long[] pageAddresses,
+        Object pageOwner,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        MemoryInfo memoryInfo
+    ) {
+        this.pages = null;
+        this.pageAddresses = pageAddresses;
+        this.degrees = degrees;
+        this.offsets = offsets;
+        this.memoryInfo = memoryInfo;
+        this.cleanable = null;
+        this.pageOwner = pageOwner;
+    }
+
+    /**
+     * Creates an adjacency list that reads its pages from off-heap memory.
+     * The memory is owned by the adjacency list and freed on {@link #free()}
+     * or when the adjacency list is garbage collected.
+     */
+    CompressedAdjacencyList(
+        long[] pageAddresses,
+        int[] pageSizes,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        MemoryInfo memoryInfo
+    ) {
+        this.pages = null;
+        this.pageAddresses = pageAddresses;
         this.degrees = degrees;
         this.offsets = offsets;
         this.memoryInfo = memoryInfo;
+        this.cleanable = CLEANER.register(this, new AdjacencyListCleaner(pageAddresses, pageSizes));
+        this.pageOwner = null;
     }
 
     @Override
@@ -125,7 +195,7 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         if (degree == 0) {
             return AdjacencyCursor.empty();
         }
-        var cursor = new DecompressingCursor(pages);
+        var cursor = new DecompressingCursor(pages, pageAddresses);
         var offset = offsets.get(node);
         cursor.init(offset, degree);
         return cursor;
@@ -146,7 +216,7 @@ public final class CompressedAdjacencyList implements AdjacencyList {
 
     @Override
     public AdjacencyCursor rawAdjacencyCursor() {
-        return new DecompressingCursor(pages);
+        return new DecompressingCursor(pages, pageAddresses);
     }
 
     @Override
@@ -154,26 +224,77 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         return this.memoryInfo;
     }
 
+    @Override
+    public Compression compression() {
+        return Compression.VAR_LONG;
+    }
+
+    /**
+     * Returns true iff the pages of this adjacency list are stored off heap.
+     */
+    public boolean isOffHeap() {
+        return this.pageAddresses != null;
+    }
+
+    @Override
+    public void free() {
+        if (this.cleanable != null) {
+            this.cleanable.clean();
+        }
+    }
+
+    private static class AdjacencyListCleaner implements Runnable {
+        private final long[] pageAddresses;
+        private final int[] pageSizes;
+
+        AdjacencyListCleaner(long[] pageAddresses, int[] pageSizes) {
+            this.pageAddresses = pageAddresses;
+            this.pageSizes = pageSizes;
+        }
+
+        @Override
+        public void run() {
+            Address address = null;
+            for (int pageIdx = 0; pageIdx < pageAddresses.length; pageIdx++) {
+                if (address == null) {
+                    address = Address.createAddress(pageAddresses[pageIdx], pageSizes[pageIdx]);
+                } else {
+                    address.reset(pageAddresses[pageIdx], pageSizes[pageIdx]);
+                }
+                address.free();
+                pageAddresses[pageIdx] = 0;
+            }
+        }
+    }
+
     public static final class DecompressingCursor extends MutableIntValue implements AdjacencyCursor {
 
         private final byte[][] pages;
+        private final long[] pageAddresses;
         private final AdjacencyDecompressingReader decompress;
 
         private int maxTargets;
         private int currentPosition;
 
-        private DecompressingCursor(byte[][] pages) {
+        private DecompressingCursor(byte[][] pages, long[] pageAddresses) {
             this.pages = pages;
+            this.pageAddresses = pageAddresses;
             this.decompress = new AdjacencyDecompressingReader();
         }
 
         @Override
         public void init(long fromIndex, int degree) {
-            maxTargets = decompress.reset(
-                pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)],
-                indexInPage(fromIndex, BumpAllocator.PAGE_MASK),
-                degree
-            );
+            int pageIndex = pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT);
+            int indexInPage = indexInPage(fromIndex, BumpAllocator.PAGE_MASK);
+            if (pages != null) {
+                maxTargets = decompress.reset(pages[pageIndex], indexInPage, degree);
+            } else {
+                long pageAddress = pageAddresses[pageIndex];
+                if (pageAddress == 0) {
+                    throw new IllegalStateException("This page has already been freed.");
+                }
+                maxTargets = decompress.reset(pageAddress + indexInPage, degree);
+            }
             currentPosition = 0;
         }
 
@@ -181,7 +302,7 @@ public final class CompressedAdjacencyList implements AdjacencyList {
         public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
             var dest = destination instanceof DecompressingCursor
                 ? (DecompressingCursor) destination
-                : new DecompressingCursor(pages);
+                : new DecompressingCursor(pages, pageAddresses);
             dest.decompress.copyFrom(this.decompress);
             dest.currentPosition = this.currentPosition;
             dest.maxTargets = this.maxTargets;
@@ -210,6 +331,15 @@ public final class CompressedAdjacencyList implements AdjacencyList {
             return decompress.next(remaining);
         }
 
+        @Override
+        public int nextBlock(long[] buffer) {
+            int remaining = maxTargets - currentPosition;
+            int count = Math.min(buffer.length, remaining);
+            decompress.next(buffer, count, remaining);
+            currentPosition += count;
+            return count;
+        }
+
         @Override
         public long peekVLong() {
             int remaining = maxTargets - currentPosition;
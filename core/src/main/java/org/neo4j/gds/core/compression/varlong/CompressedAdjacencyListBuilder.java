@@ -28,22 +28,33 @@ import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.core.compression.MemoryInfoUtil;
 import org.neo4j.gds.core.compression.common.BumpAllocator;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.core.compression.packed.Address;
+import org.neo4j.gds.core.utils.PageReordering;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.internal.unsafe.UnsafeUtil;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilder<byte[], CompressedAdjacencyList> {
 
     private final BumpAllocator<byte[]> builder;
+    // Set instead of `builder` when the pages are allocated off heap.
+    private final BumpAllocator<Address> offHeapBuilder;
     private final MemoryTracker memoryTracker;
 
-    CompressedAdjacencyListBuilder(MemoryTracker memoryTracker) {
-        this.builder = new BumpAllocator<>(Factory.INSTANCE);
+    CompressedAdjacencyListBuilder(MemoryTracker memoryTracker, boolean offHeap) {
+        this.builder = offHeap ? null : new BumpAllocator<>(Factory.INSTANCE);
+        this.offHeapBuilder = offHeap ? new BumpAllocator<>(OffHeapFactory.INSTANCE) : null;
         this.memoryTracker = memoryTracker;
     }
 
     @Override
-    public Allocator newAllocator() {
+    public AdjacencyListBuilder.Allocator<byte[]> newAllocator() {
+        if (this.offHeapBuilder != null) {
+            return new OffHeapAllocator(this.offHeapBuilder.newLocalAllocator(), this.memoryTracker);
+        }
         return new Allocator(this.builder.newLocalAllocator(), this.memoryTracker);
     }
 
@@ -54,6 +65,9 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
 
     @Override
     public CompressedAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets, boolean allowReordering) {
+        if (this.offHeapBuilder != null) {
+            return buildOffHeap(degrees, offsets, allowReordering);
+        }
         byte[][] intoPages = builder.intoPages();
         if (allowReordering) {
             reorder(intoPages, offsets, degrees);
@@ -63,6 +77,24 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
         return new CompressedAdjacencyList(intoPages, degrees, offsets, memoryInfo);
     }
 
+    private CompressedAdjacencyList buildOffHeap(HugeIntArray degrees, HugeLongArray offsets, boolean allowReordering) {
+        Address[] intoPages = offHeapBuilder.intoPages();
+        if (allowReordering && GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled() && intoPages.length > 0) {
+            PageReordering.reorder(intoPages, offsets, degrees);
+        }
+        long[] pageAddresses = new long[intoPages.length];
+        int[] pageSizes = new int[intoPages.length];
+        for (int i = 0; i < intoPages.length; i++) {
+            Address page = intoPages[i];
+            pageAddresses[i] = page.address();
+            pageSizes[i] = Math.toIntExact(page.bytes());
+        }
+
+        var memoryInfo = offHeapMemoryInfo(pageSizes, degrees, offsets);
+
+        return new CompressedAdjacencyList(pageAddresses, pageSizes, degrees, offsets, memoryInfo);
+    }
+
     private MemoryInfo memoryInfo(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
         for (byte[] page : pages) {
             this.memoryTracker.recordPageSize(page.length * Byte.BYTES);
@@ -82,6 +114,22 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
         return memoryInfoBuilder.build();
     }
 
+    private MemoryInfo offHeapMemoryInfo(int[] pageSizes, HugeIntArray degrees, HugeLongArray offsets) {
+        long bytesOffHeap = Arrays.stream(pageSizes).peek(this.memoryTracker::recordPageSize).asLongStream().sum();
+
+        var memoryInfoBuilder = MemoryInfoUtil
+            .builder(memoryTracker, Optional.empty())
+            .pages(pageSizes.length)
+            .bytesOffHeap(bytesOffHeap);
+
+        var sizeOnHeap = new MutableLong();
+        MemoryUsage.sizeOfObject(degrees).ifPresent(sizeOnHeap::add);
+        MemoryUsage.sizeOfObject(offsets).ifPresent(sizeOnHeap::add);
+        memoryInfoBuilder.bytesOnHeap(sizeOnHeap.longValue());
+
+        return memoryInfoBuilder.build();
+    }
+
     enum Factory implements BumpAllocator.Factory<byte[]> {
         INSTANCE;
 
@@ -96,6 +144,20 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
         }
     }
 
+    private enum OffHeapFactory implements BumpAllocator.Factory<Address> {
+        INSTANCE;
+
+        @Override
+        public Address[] newEmptyPages() {
+            return new Address[0];
+        }
+
+        @Override
+        public Address newPage(int length) {
+            return Address.allocate(length);
+        }
+    }
+
     static final class Allocator implements AdjacencyListBuilder.Allocator<byte[]> {
 
         private final BumpAllocator.LocalAllocator<byte[]> allocator;
@@ -116,4 +178,62 @@ public final class CompressedAdjacencyListBuilder implements AdjacencyListBuilde
         public void close() {
         }
     }
+
+    /**
+     * Allocates the adjacency lists in native pages.
+     * <p>
+     * The compressor encodes into the slice it is handed, which has to be a byte array.
+     * Each allocation therefore hands out a reusable heap buffer and the encoded bytes
+     * are copied into the native page on the next allocation or when the allocator is closed.
+     */
+    static final class OffHeapAllocator implements AdjacencyListBuilder.Allocator<byte[]> {
+
+        private static final int BYTE_ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(byte[].class);
+
+        private final BumpAllocator.LocalAllocator<Address> allocator;
+        private final MemoryTracker memoryTracker;
+        private final ModifiableSlice<Address> page;
+
+        private byte[] buffer;
+        private long pendingAddress;
+        private int pendingLength;
+
+        private OffHeapAllocator(BumpAllocator.LocalAllocator<Address> allocator, MemoryTracker memoryTracker) {
+            this.allocator = allocator;
+            this.memoryTracker = memoryTracker;
+            this.page = ModifiableSlice.create();
+            this.buffer = new byte[0];
+        }
+
+        @Override
+        public long allocate(int allocationSize, Slice<byte[]> into) {
+            flush();
+            this.memoryTracker.recordNativeAllocation(allocationSize);
+            long address = allocator.insertInto(allocationSize, this.page);
+
+            if (this.buffer.length < allocationSize) {
+                this.buffer = new byte[allocationSize];
+            }
+            var slice = (ModifiableSlice<byte[]>) into;
+            slice.setSlice(this.buffer);
+            slice.setOffset(0);
+            slice.setLength(allocationSize);
+
+            this.pendingAddress = this.page.slice().address() + this.page.offset();
+            this.pendingLength = allocationSize;
+            return address;
+        }
+
+        private void flush() {
+            if (this.pendingLength > 0) {
+                UnsafeUtil.copyMemory(this.buffer, BYTE_ARRAY_BASE_OFFSET, null, this.pendingAddress, this.pendingLength);
+                this.pendingLength = 0;
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
 }
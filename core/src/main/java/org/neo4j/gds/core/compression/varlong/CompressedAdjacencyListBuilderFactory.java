@@ -23,19 +23,27 @@ import org.neo4j.gds.api.compress.AdjacencyListBuilderFactory;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
 import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyListBuilder;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 public final class CompressedAdjacencyListBuilderFactory implements AdjacencyListBuilderFactory<byte[], CompressedAdjacencyList, long[], UncompressedAdjacencyList> {
 
+    private final boolean offHeap;
+
     public static CompressedAdjacencyListBuilderFactory of() {
-        return new CompressedAdjacencyListBuilderFactory();
+        return of(GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled());
+    }
+
+    public static CompressedAdjacencyListBuilderFactory of(boolean offHeap) {
+        return new CompressedAdjacencyListBuilderFactory(offHeap);
     }
 
-    private CompressedAdjacencyListBuilderFactory() {
+    private CompressedAdjacencyListBuilderFactory(boolean offHeap) {
+        this.offHeap = offHeap;
     }
 
     @Override
     public CompressedAdjacencyListBuilder newAdjacencyListBuilder(MemoryTracker memoryTracker) {
-        return new CompressedAdjacencyListBuilder(memoryTracker);
+        return new CompressedAdjacencyListBuilder(memoryTracker, this.offHeap);
     }
 
     @Override
@@ -98,6 +98,8 @@ public class HugeGraph implements CSRGraph {
 
     static final double NO_PROPERTY_VALUE = Double.NaN;
 
+    private static final int TARGET_BLOCK_SIZE = 64;
+
     protected final IdMap idMap;
 
     protected final GraphSchema schema;
@@ -118,6 +120,8 @@ public class HugeGraph implements CSRGraph {
     private @Nullable AdjacencyCursor inverseAdjacencyCursorCache;
     private @Nullable PropertyCursor propertyCursorCache;
     private @Nullable PropertyCursor inversePropertyCursorCache;
+    // null while a traversal is decoding into it, nested traversals allocate their own block
+    private @Nullable long[] targetBlock;
 
     protected final boolean hasRelationshipProperty;
     protected final boolean isMultiGraph;
@@ -180,6 +184,7 @@ public class HugeGraph implements CSRGraph {
         this.inverseAdjacencyCursorCache = inverseAdjacency != null ? inverseAdjacency.rawAdjacencyCursor() : null;
         this.propertyCursorCache = relationshipProperty != null ? relationshipProperty.rawPropertyCursor() : null;
         this.inversePropertyCursorCache = inverseRelationshipProperty != null ? inverseRelationshipProperty.rawPropertyCursor() : null;
+        this.targetBlock = new long[TARGET_BLOCK_SIZE];
     }
 
     @Override
@@ -563,10 +568,23 @@ public class HugeGraph implements CSRGraph {
         AdjacencyCursor adjacencyCursor,
         RelationshipConsumer consumer
     ) {
-        while (adjacencyCursor.hasNextVLong()) {
-            if (!consumer.accept(sourceId, adjacencyCursor.nextVLong())) {
-                break;
+        // Decoding whole blocks avoids two virtual calls on the cursor per relationship.
+        var targetBlock = this.targetBlock;
+        this.targetBlock = null;
+        if (targetBlock == null) {
+            targetBlock = new long[TARGET_BLOCK_SIZE];
+        }
+        try {
+            int blockLength;
+            while ((blockLength = adjacencyCursor.nextBlock(targetBlock)) > 0) {
+                for (int i = 0; i < blockLength; i++) {
+                    if (!consumer.accept(sourceId, targetBlock[i])) {
+                        return;
+                    }
+                }
             }
+        } finally {
+            this.targetBlock = targetBlock;
         }
     }
 
@@ -19,10 +19,13 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.StoreScan;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.transaction.TransactionContext;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.internal.kernel.api.Cursor;
+import org.neo4j.internal.kernel.api.Scan;
 import org.neo4j.kernel.api.KernelTransaction;
 
 abstract class AbstractCursorBasedScanner<Reference, EntityCursor extends Cursor>
@@ -134,6 +137,23 @@ abstract class AbstractCursorBasedScanner<Reference, EntityCursor extends Cursor
      */
     abstract void closeCursorReference(Reference reference);
 
+    /**
+     * Wraps a scan over the whole store.
+     * With partitioned scans enabled, the batches are shared between all threads and shrink towards the end of the scan,
+     * otherwise every batch has the same size of {@link #batchSize()} records.
+     */
+    StoreScan<EntityCursor> storeScan(Scan<EntityCursor> scan, long recordCount, int threadCount) {
+        if (GdsFeatureToggles.USE_PARTITIONED_SCAN.isEnabled()) {
+            return new AdaptiveStoreScan<>(
+                batchSize -> Neo4jProxy.scanToStoreScan(scan, batchSize),
+                batchSize(),
+                recordCount,
+                threadCount
+            );
+        }
+        return Neo4jProxy.scanToStoreScan(scan, batchSize());
+    }
+
     int batchSize() {
         // We want to scan about 100 pages per bulk, so start with that value
         var bulkSize = prefetchSize * recordsPerPage();
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.compress.AdjacencyCompressor;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.api.compress.AdjacencyListsWithProperties;
+import org.neo4j.gds.api.compress.DegreeStatistics;
+import org.neo4j.gds.api.compress.ImmutableAdjacencyListsWithProperties;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.Compression;
+import org.neo4j.gds.core.compression.mixed.MixedCompressor;
+import org.neo4j.gds.core.compression.packed.AdjacencyPacking;
+import org.neo4j.gds.core.compression.packed.PackedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Defers the choice of the adjacency compression until all relationships are buffered.
+ * The compression is then selected based on the degree distribution of the buffered adjacency lists:
+ *
+ * <ul>
+ *     <li>Near-regular graphs, e.g. road networks, are packed.
+ *     Graphs with a low average degree use a var-long encoded tail, since most lists never fill a block.</li>
+ *     <li>Graphs with a heavy-tailed degree distribution use the mixed representation,
+ *     which packs the adjacency lists of the hubs and var-long encodes the long tail of small lists.</li>
+ *     <li>Everything else is var-long encoded.</li>
+ * </ul>
+ *
+ * Uncompressed adjacency lists are never selected, as they trade a lot of memory for traversal speed.
+ */
+final class AdaptiveCompressorFactory implements AdjacencyCompressorFactory {
+
+    /**
+     * Degree distributions with a coefficient of variation up to this value are considered regular.
+     * Power-law graphs are usually way above that threshold.
+     */
+    static final double REGULAR_DEGREE_VARIATION = 1.0;
+
+    /**
+     * Below this average degree most adjacency lists consist of a short tail only.
+     */
+    static final double SHORT_TAIL_DEGREE = AdjacencyPacking.BLOCK_SIZE / 8.0;
+
+    private final LongSupplier nodeCountSupplier;
+    private final PropertyMappings propertyMappings;
+    private final Aggregation[] aggregations;
+    private final boolean noAggregation;
+    private final LongAdder relationshipCounter;
+
+    private AdjacencyCompressorFactory delegate;
+
+    AdaptiveCompressorFactory(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        this.nodeCountSupplier = nodeCountSupplier;
+        this.propertyMappings = propertyMappings;
+        this.aggregations = aggregations;
+        this.noAggregation = noAggregation;
+        this.relationshipCounter = new LongAdder();
+    }
+
+    /**
+     * The degree distribution is not known before the relationships are imported,
+     * so the estimation covers the larger one of the packed and the var-long representation.
+     * The mixed representation stores each adjacency list in one of the two.
+     */
+    static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        return MemoryEstimations.maxEstimation(List.of(
+            CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount),
+            PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount, packingStrategy(avgDegree))
+        ));
+    }
+
+    static Compression compression(DegreeStatistics degreeStatistics) {
+        if (degreeStatistics.relationshipCount() == 0) {
+            return Compression.VAR_LONG;
+        }
+        if (degreeStatistics.coefficientOfVariation() <= REGULAR_DEGREE_VARIATION) {
+            return Compression.PACKED;
+        }
+        if (MixedCompressor.usePacking(degreeStatistics.maxDegree())) {
+            return Compression.MIXED;
+        }
+        return Compression.VAR_LONG;
+    }
+
+    static GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy(DegreeStatistics degreeStatistics) {
+        return packingStrategy(degreeStatistics.meanDegree());
+    }
+
+    private static GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy(double meanDegree) {
+        return meanDegree < SHORT_TAIL_DEGREE
+            ? GdsFeatureToggles.AdjacencyPackingStrategy.VAR_LONG_TAIL
+            : GdsFeatureToggles.AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL;
+    }
+
+    @Override
+    public void init() {
+        init(() -> DegreeStatistics.EMPTY);
+    }
+
+    @Override
+    public void init(Supplier<DegreeStatistics> degreeStatistics) {
+        this.delegate = select(degreeStatistics.get());
+        this.delegate.init();
+    }
+
+    @Override
+    public void init(HugeIntArray degrees, HugeLongArray adjacencyOffsets, HugeLongArray propertyOffsets) {
+        if (this.delegate == null) {
+            this.delegate = select(DegreeStatistics.EMPTY);
+        }
+        this.delegate.init(degrees, adjacencyOffsets, propertyOffsets);
+    }
+
+    @Override
+    public AdjacencyCompressor createCompressor() {
+        return this.delegate.createCompressor();
+    }
+
+    @Override
+    public LongAdder relationshipCounter() {
+        return this.relationshipCounter;
+    }
+
+    @Override
+    public AdjacencyListsWithProperties build(boolean allowReordering) {
+        // the relationships have been counted by this factory, not by the delegate
+        return ImmutableAdjacencyListsWithProperties
+            .builder()
+            .from(this.delegate.build(allowReordering))
+            .relationshipCount(this.relationshipCounter.longValue())
+            .build();
+    }
+
+    private AdjacencyCompressorFactory select(DegreeStatistics degreeStatistics) {
+        switch (compression(degreeStatistics)) {
+            case PACKED:
+                return AdjacencyListBehavior.packed(
+                    this.nodeCountSupplier,
+                    this.propertyMappings,
+                    this.aggregations,
+                    this.noAggregation,
+                    packingStrategy(degreeStatistics)
+                );
+            case MIXED:
+                // only the lists of the hubs are packed, those span several blocks
+                return AdjacencyListBehavior.mixed(
+                    this.nodeCountSupplier,
+                    this.propertyMappings,
+                    this.aggregations,
+                    this.noAggregation,
+                    GdsFeatureToggles.AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL
+                );
+            default:
+                return AdjacencyListBehavior.compressed(
+                    this.nodeCountSupplier,
+                    this.propertyMappings,
+                    this.aggregations,
+                    this.noAggregation
+                );
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.compat.StoreScan;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.internal.kernel.api.Cursor;
+import org.neo4j.kernel.api.KernelTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * A store scan that is shared by all scanner threads and shrinks its batches towards the end of the scan.
+ * <p>
+ * Every thread reserves its next batch from the same underlying scan, so fast threads
+ * implicitly steal work from slow ones. A batch is sized to a fraction of the records
+ * that have not been reserved yet, divided by the number of threads (guided self-scheduling).
+ * The scan starts with full batches of {@code maxBatchSize} records and ends with small
+ * batches, so that all threads finish at about the same time instead of waiting for the
+ * last few threads that reserved a full batch.
+ * <p>
+ * Every thread measures the time between two of its reservations, which is the time it needed
+ * to process its previous batch. A thread that processes fewer records per second than the average
+ * of all threads, e.g. because it scans dense nodes, reserves proportionally smaller batches,
+ * so that its last batch does not hold back the other threads.
+ * <p>
+ * The batch sizes are powers of two fractions of {@code maxBatchSize},
+ * so that the underlying scans for all sizes can be created upfront.
+ */
+final class AdaptiveStoreScan<C extends Cursor> implements StoreScan<C> {
+
+    // Every thread should reserve at least this many batches of the remaining records,
+    // which leaves enough batches to balance threads that are slowed down by dense records.
+    static final int BATCHES_PER_THREAD = 4;
+
+    // Number of batch sizes, each half of the previous one. The smallest batch is 1/16 of the largest.
+    static final int SIZE_CLASSES = 5;
+
+    // Weight of the latest batch in the moving averages of the throughput.
+    private static final double THROUGHPUT_SMOOTHING = 0.25;
+
+    private final List<StoreScan<C>> scans;
+    private final int[] batchSizes;
+    private final long recordCount;
+    private final long threadCount;
+    private final AtomicLong reservedRecords;
+    private final LongSupplier nanoTime;
+    private final ThreadLocal<BatchTiming> batchTimings;
+    // records per nanosecond of all threads, stored as double bits, 0 until the first batch has been measured
+    private final AtomicLong averageThroughput;
+
+    AdaptiveStoreScan(
+        IntFunction<StoreScan<C>> scanForBatchSize,
+        int maxBatchSize,
+        long recordCount,
+        int threadCount
+    ) {
+        this(scanForBatchSize, maxBatchSize, recordCount, threadCount, System::nanoTime);
+    }
+
+    AdaptiveStoreScan(
+        IntFunction<StoreScan<C>> scanForBatchSize,
+        int maxBatchSize,
+        long recordCount,
+        int threadCount,
+        LongSupplier nanoTime
+    ) {
+        this.batchSizes = batchSizes(maxBatchSize);
+        this.scans = new ArrayList<>(batchSizes.length);
+        for (int batchSize : batchSizes) {
+            scans.add(scanForBatchSize.apply(batchSize));
+        }
+        this.recordCount = recordCount;
+        this.threadCount = Math.max(1, threadCount);
+        this.reservedRecords = new AtomicLong();
+        this.nanoTime = nanoTime;
+        this.batchTimings = ThreadLocal.withInitial(BatchTiming::new);
+        this.averageThroughput = new AtomicLong();
+    }
+
+    @Override
+    public boolean reserveBatch(C cursor, KernelTransaction ktx) {
+        var timing = batchTimings.get();
+        long now = nanoTime.getAsLong();
+        double batchThroughput = timing.finishBatch(now);
+        if (batchThroughput > 0) {
+            averageThroughput.updateAndGet(bits -> Double.doubleToLongBits(
+                smooth(Double.longBitsToDouble(bits), batchThroughput)
+            ));
+        }
+
+        int sizeClass = sizeClass(reservedRecords.get(), relativeThroughput(timing));
+        int batchSize = batchSizes[sizeClass];
+        reservedRecords.addAndGet(batchSize);
+        timing.startBatch(now, batchSize);
+
+        return scans.get(sizeClass).reserveBatch(cursor, ktx);
+    }
+
+    int sizeClass(long reservedRecords) {
+        return sizeClass(reservedRecords, 1.0);
+    }
+
+    /**
+     * @param relativeThroughput the throughput of the reserving thread relative to the average of all threads, at most 1
+     * @return the index of the largest batch size that does not exceed the target batch size for the remaining records.
+     */
+    int sizeClass(long reservedRecords, double relativeThroughput) {
+        long remainingRecords = Math.max(0L, recordCount - reservedRecords);
+        long targetBatchSize = (long) (remainingRecords * relativeThroughput / (threadCount * BATCHES_PER_THREAD));
+
+        int sizeClass = 0;
+        while (sizeClass < batchSizes.length - 1 && batchSizes[sizeClass] > targetBatchSize) {
+            sizeClass++;
+        }
+        return sizeClass;
+    }
+
+    int batchSize(int sizeClass) {
+        return batchSizes[sizeClass];
+    }
+
+    /**
+     * Threads that are faster than the average keep the batch size of the remaining work,
+     * only slower threads shrink their batches.
+     */
+    private double relativeThroughput(BatchTiming timing) {
+        double average = Double.longBitsToDouble(averageThroughput.get());
+        if (timing.throughput == 0 || average == 0) {
+            return 1.0;
+        }
+        return Math.min(1.0, timing.throughput / average);
+    }
+
+    private static double smooth(double average, double value) {
+        return average == 0 ? value : average + THROUGHPUT_SMOOTHING * (value - average);
+    }
+
+    // Must not reference the scan, otherwise the thread locals of pooled threads keep it alive.
+    private static final class BatchTiming {
+        private long startedAt;
+        private int batchSize;
+        // records per nanosecond of this thread, 0 until its first batch has been measured
+        private double throughput;
+
+        void startBatch(long now, int batchSize) {
+            this.startedAt = now;
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * @return the throughput of the batch that was reserved last, or 0 if it cannot be measured.
+         */
+        double finishBatch(long now) {
+            long elapsed = now - startedAt;
+            if (batchSize == 0 || elapsed <= 0) {
+                return 0;
+            }
+            double batchThroughput = (double) batchSize / elapsed;
+            this.throughput = smooth(throughput, batchThroughput);
+            return batchThroughput;
+        }
+    }
+
+    private static int[] batchSizes(int maxBatchSize) {
+        var batchSizes = new int[SIZE_CLASSES];
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            // the kernel aligns batches by 64, so we do the same to not exceed our buffers
+            batchSizes[i] = (int) Math.max(64L, BitUtil.align(maxBatchSize >>> i, 64));
+        }
+        return batchSizes;
+    }
+}
@@ -27,7 +27,10 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.compress.AdjacencyCompressor;
 import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.api.compress.DegreeStatistics;
+import org.neo4j.gds.api.compress.ImmutableDegreeStatistics;
 import org.neo4j.gds.api.compress.LongArrayBuffer;
+import org.neo4j.gds.collections.hsl.LongIntConsumer;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compression.common.AdjacencyCompression;
 import org.neo4j.gds.core.compression.common.ZigZagLongDecoding;
@@ -42,7 +45,6 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.LongConsumer;
 
-import static org.neo4j.gds.core.loading.AdjacencyPreAggregation.preAggregate;
 import static org.neo4j.gds.mem.BitUtil.ceilDiv;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
 import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_PROPERTY_KEY;
@@ -173,6 +175,7 @@ public final class AdjacencyBuffer {
      * @param propertyValues index-synchronised with targets. the list for each index are the properties for that source-target combo. null if no props
      * @param offsets        offsets into targets; every offset position indicates a source node group
      * @param length         length of offsets array (how many source tuples to import)
+     * @param preAggregation the calling thread's buffers to aggregate parallel relationships
      */
     @SuppressFBWarnings("UL_UNRELEASED_LOCK")
     void addAll(
@@ -180,7 +183,8 @@ public final class AdjacencyBuffer {
         long[] targets,
         long[] @Nullable [] propertyValues,
         int[] offsets,
-        int length
+        int length,
+        AdjacencyPreAggregation preAggregation
     ) {
         var paging = this.paging;
 
@@ -220,7 +224,7 @@ public final class AdjacencyBuffer {
                     compressedTargets.add(localId, targets, startOffset, endOffset, targetsToImport);
                 } else {
                     if (aggregations[0] != Aggregation.NONE && targetsToImport > 1) {
-                        targetsToImport = preAggregate(targets, propertyValues, startOffset, endOffset, aggregations);
+                        targetsToImport = preAggregation.preAggregate(targets, propertyValues, startOffset, endOffset, aggregations);
                     }
                     compressedTargets.add(localId, targets, propertyValues, startOffset, endOffset, targetsToImport);
                 }
@@ -238,7 +242,7 @@ public final class AdjacencyBuffer {
         Optional<AdjacencyCompressor.ValueMapper> mapper,
         Optional<LongConsumer> drainCountConsumer
     ) {
-        adjacencyCompressorFactory.init();
+        adjacencyCompressorFactory.init(this::degreeStatistics);
 
         var tasks = new ArrayList<AdjacencyListBuilderTask>(chunkedAdjacencyLists.length + 1);
         for (int page = 0; page < chunkedAdjacencyLists.length; page++) {
@@ -256,6 +260,18 @@ public final class AdjacencyBuffer {
         return tasks;
     }
 
+    /**
+     * Summarizes the degrees of all buffered adjacency lists.
+     * The degrees are counted before duplicate relationships are aggregated.
+     */
+    DegreeStatistics degreeStatistics() {
+        var accumulator = new DegreeAccumulator();
+        for (ChunkedAdjacencyLists chunkedAdjacencyList : chunkedAdjacencyLists) {
+            chunkedAdjacencyList.forEachDegree(accumulator);
+        }
+        return accumulator.build();
+    }
+
     int[] getPropertyKeyIds() {
         return propertyKeyIds;
     }
@@ -333,6 +349,30 @@ public final class AdjacencyBuffer {
         }
     }
 
+    private static final class DegreeAccumulator implements LongIntConsumer {
+        private long adjacencyListCount;
+        private long relationshipCount;
+        private int maxDegree;
+        private double sumOfSquaredDegrees;
+
+        @Override
+        public void consume(long localId, int degree) {
+            this.adjacencyListCount++;
+            this.relationshipCount += degree;
+            this.maxDegree = Math.max(this.maxDegree, degree);
+            this.sumOfSquaredDegrees += (double) degree * degree;
+        }
+
+        DegreeStatistics build() {
+            return ImmutableDegreeStatistics.of(
+                this.adjacencyListCount,
+                this.relationshipCount,
+                this.maxDegree,
+                this.sumOfSquaredDegrees
+            );
+        }
+    }
+
     private static final class PagingWithKnownPageSize implements AdjacencyBufferPaging {
         private final int pageShift;
         private final int pageMask;
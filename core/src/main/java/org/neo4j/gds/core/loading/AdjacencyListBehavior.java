@@ -23,8 +23,11 @@ import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.Compression;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.core.compression.mixed.MixedAdjacencyList;
 import org.neo4j.gds.core.compression.mixed.MixedCompressor;
+import org.neo4j.gds.core.compression.packed.PackedAdjacencyList;
 import org.neo4j.gds.core.compression.packed.PackedAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.compression.packed.PackedCompressor;
 import org.neo4j.gds.core.compression.uncompressed.RawCompressor;
@@ -38,10 +41,10 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
-import java.util.function.BiFunction;
 import java.util.function.LongSupplier;
 
 import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
 
 /**
  * Manages different configurations of adjacency list building,
@@ -53,17 +56,60 @@ public interface AdjacencyListBehavior {
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
         Aggregation[] aggregations
+    ) {
+        return asConfigured(nodeCountSupplier, propertyMappings, aggregations, Compression.DEFAULT);
+    }
+
+    /**
+     * Creates the factory for the requested compression.
+     * {@link Compression#DEFAULT} is resolved via {@link #resolve(Compression)}.
+     */
+    static AdjacencyCompressorFactory asConfigured(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        Compression compression
     ) {
         var resolvedAggregations = Arrays.stream(aggregations).map(Aggregation::resolve).toArray(Aggregation[]::new);
         var noAggregation = Arrays.stream(aggregations).map(Aggregation::resolve).allMatch(Aggregation::equivalentToNone);
 
-        return GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()
-            ? packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-            : GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.isEnabled()
-                ? mixed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-                : GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-                    ? uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-                    : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+        switch (resolve(compression)) {
+            case AUTO:
+                return new AdaptiveCompressorFactory(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            case VAR_LONG:
+                return compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            case PACKED:
+                return packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            case MIXED:
+                return mixed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            case UNCOMPRESSED:
+                return uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            default:
+                throw new IllegalArgumentException("Unknown compression: " + compression);
+        }
+    }
+
+    /**
+     * Resolves {@link Compression#DEFAULT} to the compression that is forced by the feature toggles.
+     * Without such a toggle, the compression is picked per relationship type, see {@link Compression#AUTO}.
+     * Any other compression is returned as is.
+     */
+    static Compression resolve(Compression compression) {
+        if (compression != Compression.DEFAULT) {
+            return compression;
+        }
+        if (GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.isEnabled()) {
+            return Compression.PACKED;
+        }
+        if (GdsFeatureToggles.USE_MIXED_ADJACENCY_LIST.isEnabled()) {
+            return Compression.MIXED;
+        }
+        if (GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()) {
+            return Compression.UNCOMPRESSED;
+        }
+        return GdsFeatureToggles.USE_ADAPTIVE_ADJACENCY_COMPRESSION.isEnabled()
+            ? Compression.AUTO
+            : Compression.VAR_LONG;
     }
 
     static AdjacencyCompressorFactory compressed(
@@ -103,14 +149,31 @@ public interface AdjacencyListBehavior {
         PropertyMappings propertyMappings,
         Aggregation[] aggregations,
         boolean noAggregation
+    ) {
+        return packed(
+            nodeCountSupplier,
+            propertyMappings,
+            aggregations,
+            noAggregation,
+            GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get()
+        );
+    }
+
+    static AdjacencyCompressorFactory packed(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy
     ) {
         return PackedCompressor.factory(
             nodeCountSupplier,
-            PackedAdjacencyListBuilderFactory.of(),
+            PackedAdjacencyListBuilderFactory.of(packingStrategy),
             propertyMappings,
             aggregations,
             noAggregation,
-            MemoryTracker.create()
+            MemoryTracker.create(),
+            packingStrategy
         );
     }
 
@@ -119,35 +182,81 @@ public interface AdjacencyListBehavior {
         PropertyMappings propertyMappings,
         Aggregation[] aggregations,
         boolean noAggregation
+    ) {
+        return mixed(
+            nodeCountSupplier,
+            propertyMappings,
+            aggregations,
+            noAggregation,
+            GdsFeatureToggles.ADJACENCY_PACKING_STRATEGY.get()
+        );
+    }
+
+    static AdjacencyCompressorFactory mixed(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation,
+        GdsFeatureToggles.AdjacencyPackingStrategy packingStrategy
     ) {
         return MixedCompressor.factory(
             nodeCountSupplier,
-            PackedAdjacencyListBuilderFactory.of(),
+            PackedAdjacencyListBuilderFactory.of(packingStrategy),
             CompressedAdjacencyListBuilderFactory.of(),
             propertyMappings,
             aggregations,
             noAggregation,
-            MemoryTracker.create()
+            MemoryTracker.create(),
+            packingStrategy
         );
     }
 
     static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
-            : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        return adjacencyListEstimation(avgDegree, nodeCount, Compression.DEFAULT);
+    }
+
+    /**
+     * Estimates the adjacency list that is built for the given compression,
+     * i.e. {@link Compression#DEFAULT} is resolved in the same way as in {@link #asConfigured}.
+     */
+    static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount, Compression compression) {
+        switch (resolve(compression)) {
+            case AUTO:
+                return AdaptiveCompressorFactory.adjacencyListEstimation(avgDegree, nodeCount);
+            case VAR_LONG:
+                return CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+            case PACKED:
+                return PackedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+            case MIXED:
+                return MixedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+            case UNCOMPRESSED:
+                return UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+            default:
+                throw new IllegalArgumentException("Unknown compression: " + compression);
+        }
     }
 
     static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
-        return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
-            : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        return adjacencyListEstimation(relationshipType, undirected, Compression.DEFAULT);
     }
 
-    static MemoryEstimation adjacencyListsFromStarEstimation(boolean undirected) {
-        BiFunction<RelationshipType, Boolean, MemoryEstimation> estimationMethod = GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
-            ? UncompressedAdjacencyList::adjacencyListEstimation
-            : CompressedAdjacencyList::adjacencyListEstimation;
+    static MemoryEstimation adjacencyListEstimation(
+        RelationshipType relationshipType,
+        boolean undirected,
+        Compression compression
+    ) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return adjacencyListEstimation(avgDegree, nodeCount, compression);
+        });
+    }
 
+    static MemoryEstimation adjacencyListsFromStarEstimation(boolean undirected) {
         return MemoryEstimations.setup("Adjacency Lists", dimensions -> {
             var builder = MemoryEstimations.builder();
 
@@ -156,7 +265,7 @@ public interface AdjacencyListBehavior {
             } else {
                 dimensions
                     .relationshipCounts()
-                    .forEach((type, count) -> builder.add(type.name, estimationMethod.apply(type, undirected)));
+                    .forEach((type, count) -> builder.add(type.name, adjacencyListEstimation(type, undirected)));
             }
 
             return builder.build();
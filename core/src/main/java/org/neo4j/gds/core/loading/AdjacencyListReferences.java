@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.GraphStore;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Frees adjacency lists that may be shared between graph stores.
+ *
+ * Graph stores derived from another graph store, e.g. by filtering,
+ * share the adjacency lists of their parent instead of copying them.
+ * A list is only freed if no graph store in the {@link GraphStoreCatalog} holds it
+ * and no graph store that is still being read holds it, see {@link GraphStoreReaders}.
+ * A graph store should therefore be removed from the catalog before it is freed,
+ * which is what dropping a graph does, see {@link GraphStoreCatalog#remove}.
+ * Lists that are not freed are left to the garbage collector, which releases their off-heap memory as well.
+ */
+public final class AdjacencyListReferences {
+
+    /**
+     * Frees the adjacency lists of the given graph store that are not held by any
+     * graph store in the catalog or by any graph store that is still being read.
+     */
+    public static void freeUnreferenced(GraphStore graphStore) {
+        unreferencedAdjacencyLists(graphStore).forEach(AdjacencyList::free);
+    }
+
+    static List<AdjacencyList> unreferencedAdjacencyLists(GraphStore graphStore) {
+        Set<AdjacencyList> referenced = Collections.newSetFromMap(new IdentityHashMap<>());
+        Stream.concat(
+            GraphStoreCatalog.getAllGraphStores().map(GraphStoreCatalog.GraphStoreWithUserNameAndConfig::graphStore),
+            GraphStoreReaders.readGraphStores().stream()
+        )
+            .flatMap(AdjacencyListReferences::adjacencyLists)
+            .forEach(referenced::add);
+
+        return adjacencyLists(graphStore)
+            .filter(adjacencyList -> !referenced.contains(adjacencyList))
+            .collect(Collectors.toList());
+    }
+
+    private static Stream<AdjacencyList> adjacencyLists(GraphStore graphStore) {
+        return graphStore
+            .relationshipTypes()
+            .stream()
+            .flatMap(relationshipType -> graphStore.relationships(relationshipType).stream())
+            .flatMap(relationships -> Stream.concat(
+                Stream.of(relationships.topology()),
+                relationships.inverseTopology().stream()
+            ))
+            .map(topology -> topology.adjacencyList())
+            // refreshed graph stores share the base of a patched list with the graph store they have been refreshed from
+            .flatMap(PatchedAdjacencyList::components);
+    }
+
+    private AdjacencyListReferences() {}
+}
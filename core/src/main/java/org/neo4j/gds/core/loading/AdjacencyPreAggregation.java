@@ -19,10 +19,23 @@
  */
 package org.neo4j.gds.core.loading;
 
-import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.gds.collections.ArrayUtil;
 import org.neo4j.gds.core.Aggregation;
-import org.neo4j.gds.core.utils.AscendingLongComparator;
 
+import java.util.Arrays;
+
+/**
+ * Aggregates parallel relationships of a single adjacency chunk before it is buffered.
+ *
+ * The targets are sorted together with their position in the chunk, which
+ * groups equal targets while keeping them in insertion order. The properties
+ * of every target are merged into its first occurrence, all later occurrences
+ * are marked with {@link #IGNORE_VALUE}.
+ *
+ * Instances hold the sort buffers and are not thread-safe.
+ * Each importing thread holds its own instance, which makes the aggregation
+ * allocation free once the buffers have grown to the largest chunk.
+ */
 public final class AdjacencyPreAggregation {
 
     // Used to replace target ids for aggregated relationships.
@@ -32,46 +45,75 @@ public final class AdjacencyPreAggregation {
     // The value is used during compression to filter targets.
     public static final long IGNORE_VALUE = Long.MIN_VALUE;
 
-    static int preAggregate(
+    // Chunks up to this length are sorted by insertion sort,
+    // for which a radix sort has too much overhead.
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private static final int RADIX = 8;
+    private static final int HIST_SIZE = 1 << RADIX;
+    private static final long[] EMPTY = new long[0];
+
+    // (target, position) pairs of the chunk that is being aggregated
+    private long[] pairs;
+    private long[] pairsCopy;
+    private final int[] histogram;
+
+    AdjacencyPreAggregation() {
+        this.pairs = EMPTY;
+        this.pairsCopy = EMPTY;
+        this.histogram = new int[HIST_SIZE];
+    }
+
+    int preAggregate(
         long[] targetIds,
         long[][] propertiesList,
         int startOffset,
         int endOffset,
         Aggregation[] aggregations
     ) {
+        int length = endOffset - startOffset;
+        long[] pairs = ensureCapacity(length);
 
+        // Step 1: Sort the targetIds together with their positions
+        long allBits = 0L;
+        for (int i = 0, position = startOffset; position < endOffset; i += 2, position++) {
+            long target = targetIds[position];
+            pairs[i] = target;
+            pairs[i + 1] = position;
+            allBits |= target;
+        }
+
+        if (length <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(pairs, length);
+        } else {
+            pairs = radixSort(pairs, this.pairsCopy, this.histogram, length, allBits);
+        }
 
-        // Step 1: Sort the targetIds (indirectly)
-        var order = IndirectSort.mergesort(
-            startOffset,
-            endOffset - startOffset,
-            new AscendingLongComparator(targetIds)
-        );
-        
         // Step 2: Aggregate the properties into the first property list of each distinct value
         //         Every subsequent instance of any value is set to LONG.MIN_VALUE
-        int targetIndex = order[0];
-        long lastSeenTargetId = targetIds[targetIndex];
+        int targetIndex = (int) pairs[1];
+        long lastSeenTargetId = pairs[0];
         var distinctValues = 1;
 
-        for (int orderIndex = 1; orderIndex < order.length; orderIndex++) {
-            int currentIndex = order[orderIndex];
+        for (int i = 2, end = length << 1; i < end; i += 2) {
+            long currentTargetId = pairs[i];
+            int currentIndex = (int) pairs[i + 1];
 
-            if (targetIds[currentIndex] != lastSeenTargetId) {
+            if (currentTargetId != lastSeenTargetId) {
                 targetIndex = currentIndex;
-                lastSeenTargetId = targetIds[currentIndex];
+                lastSeenTargetId = currentTargetId;
                 distinctValues++;
             } else {
                 for (int propertyId = 0; propertyId < propertiesList.length; propertyId++) {
                     long[] properties = propertiesList[propertyId];
                     double runningTotal = Double.longBitsToDouble(properties[targetIndex]);
-                    double value = Double.longBitsToDouble(propertiesList[propertyId][currentIndex]);
+                    double value = Double.longBitsToDouble(properties[currentIndex]);
 
                     double updatedProperty = aggregations[propertyId].merge(
                         runningTotal,
                         value
                     );
-                    propertiesList[propertyId][targetIndex] = Double.doubleToLongBits(updatedProperty);
+                    properties[targetIndex] = Double.doubleToLongBits(updatedProperty);
                 }
 
                 targetIds[currentIndex] = IGNORE_VALUE;
@@ -81,7 +123,73 @@ public final class AdjacencyPreAggregation {
         return distinctValues;
     }
 
+    private long[] ensureCapacity(int length) {
+        int minSize = length << 1;
+        if (this.pairs.length < minSize) {
+            int newSize = ArrayUtil.oversize(minSize, Long.BYTES);
+            this.pairs = new long[newSize];
+            this.pairsCopy = new long[newSize];
+        }
+        return this.pairs;
+    }
 
-    private AdjacencyPreAggregation() {
+    /**
+     * Stable insertion sort of the pairs by their first element.
+     */
+    private static void insertionSort(long[] pairs, int length) {
+        for (int i = 2, end = length << 1; i < end; i += 2) {
+            long target = pairs[i];
+            long position = pairs[i + 1];
+            int j = i - 2;
+            while (j >= 0 && pairs[j] > target) {
+                pairs[j + 2] = pairs[j];
+                pairs[j + 3] = pairs[j + 1];
+                j -= 2;
+            }
+            pairs[j + 2] = target;
+            pairs[j + 3] = position;
+        }
+    }
+
+    /**
+     * Stable LSD radix sort of the pairs by their first element.
+     * Only the digits that are set in any of the targets are sorted, and digits that
+     * are equal for all targets are skipped. The order only needs to group equal
+     * targets, so negative targets are treated as unsigned values.
+     *
+     * @return the array that holds the sorted pairs, which is either {@code pairs} or {@code copy}.
+     */
+    private static long[] radixSort(long[] pairs, long[] copy, int[] histogram, int length, long allBits) {
+        int end = length << 1;
+        for (int shift = 0; shift < Long.SIZE && (allBits >>> shift) != 0L; shift += RADIX) {
+            Arrays.fill(histogram, 0);
+            for (int i = 0; i < end; i += 2) {
+                histogram[(int) ((pairs[i] >>> shift) & (HIST_SIZE - 1))]++;
+            }
+
+            if (histogram[(int) ((pairs[0] >>> shift) & (HIST_SIZE - 1))] == length) {
+                continue;
+            }
+
+            int offset = 0;
+            for (int bucket = 0; bucket < HIST_SIZE; bucket++) {
+                int count = histogram[bucket];
+                histogram[bucket] = offset;
+                offset += count << 1;
+            }
+
+            for (int i = 0; i < end; i += 2) {
+                int bucket = (int) ((pairs[i] >>> shift) & (HIST_SIZE - 1));
+                int out = histogram[bucket];
+                histogram[bucket] = out + 2;
+                copy[out] = pairs[i];
+                copy[out + 1] = pairs[i + 1];
+            }
+
+            long[] tmp = pairs;
+            pairs = copy;
+            copy = tmp;
+        }
+        return pairs;
     }
 }
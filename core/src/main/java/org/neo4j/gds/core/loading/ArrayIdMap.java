@@ -124,6 +124,17 @@ public class ArrayIdMap extends LabeledIdMap {
         return highestNeoId;
     }
 
+    @Override
+    public Optional<IdMap> withSharedIdMapping() {
+        return Optional.of(new ArrayIdMap(
+            internalToOriginalIds,
+            originalToInternalIds,
+            labelInformation.copy(),
+            nodeCount(),
+            highestNeoId
+        ));
+    }
+
     @Override
     public Optional<FilteredIdMap> withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
         labelInformation.validateNodeLabelFilter(nodeLabels);
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.FilteredIdMap;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.primitive.PrimitiveLongIterable;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.LazyBatchCollection;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A filtered id mapping that is defined by a bit set over the nodes of a root id map.
+ *
+ * Root node ids are mapped to filtered node ids by ranking the bit set,
+ * for which the number of set bits before every word is stored next to the words.
+ * Only the mapping from filtered to root node ids is stored explicitly.
+ * Together, this takes two bits per root node and eight bytes per filtered node,
+ * while labels and original ids are looked up in the root id map.
+ *
+ * The id map cannot be mutated, adding labels is not supported.
+ */
+public final class BitSetFilteredIdMap implements FilteredIdMap {
+
+    private static final int WORD_SHIFT = 6;
+
+    private final IdMap rootIdMap;
+    // bit r is set, iff root node r is contained in this id map
+    private final HugeLongArray words;
+    // number of set bits in all words before the word at the same index
+    private final HugeLongArray ranks;
+    private final HugeLongArray filteredToRootIds;
+    private final long nodeCount;
+    private final Map<NodeLabel, Long> nodeCountPerLabel;
+
+    /**
+     * Creates an id map that contains all nodes of the root id map that are accepted by the filter.
+     * The filter is evaluated in parallel, every thread uses its own predicate from the given supplier.
+     */
+    public static BitSetFilteredIdMap of(
+        IdMap rootIdMap,
+        Supplier<LongPredicate> filterSupplier,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var rootNodeCount = rootIdMap.nodeCount();
+        var wordCount = BitUtil.ceilDiv(rootNodeCount, Long.SIZE);
+        var words = HugeLongArray.newArray(wordCount);
+
+        // every batch of words is evaluated by one thread, so the words can be written without synchronization
+        ParallelUtil.readParallel(concurrency, wordCount, executorService, (startWord, endWord) -> {
+            var filter = filterSupplier.get();
+            for (long wordIndex = startWord; wordIndex < endWord; wordIndex++) {
+                long word = 0L;
+                long startNode = wordIndex << WORD_SHIFT;
+                long endNode = Math.min(rootNodeCount, startNode + Long.SIZE);
+                for (long node = startNode; node < endNode; node++) {
+                    if (filter.test(node)) {
+                        word |= 1L << (node - startNode);
+                    }
+                }
+                words.set(wordIndex, word);
+            }
+        });
+
+        return of(rootIdMap, words, concurrency, executorService);
+    }
+
+    private static BitSetFilteredIdMap of(
+        IdMap rootIdMap,
+        HugeLongArray words,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var wordCount = words.size();
+        var ranks = HugeLongArray.newArray(wordCount);
+        long nodeCount = 0L;
+        for (long wordIndex = 0; wordIndex < wordCount; wordIndex++) {
+            ranks.set(wordIndex, nodeCount);
+            nodeCount += Long.bitCount(words.get(wordIndex));
+        }
+
+        var filteredToRootIds = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.readParallel(concurrency, wordCount, executorService, (startWord, endWord) -> {
+            for (long wordIndex = startWord; wordIndex < endWord; wordIndex++) {
+                long word = words.get(wordIndex);
+                long filteredNode = ranks.get(wordIndex);
+                while (word != 0L) {
+                    filteredToRootIds.set(filteredNode++, (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        });
+
+        return new BitSetFilteredIdMap(rootIdMap, words, ranks, filteredToRootIds, nodeCount);
+    }
+
+    private BitSetFilteredIdMap(
+        IdMap rootIdMap,
+        HugeLongArray words,
+        HugeLongArray ranks,
+        HugeLongArray filteredToRootIds,
+        long nodeCount
+    ) {
+        this.rootIdMap = rootIdMap;
+        this.words = words;
+        this.ranks = ranks;
+        this.filteredToRootIds = filteredToRootIds;
+        this.nodeCount = nodeCount;
+        this.nodeCountPerLabel = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public String typeId() {
+        return rootIdMap.typeId();
+    }
+
+    @Override
+    public long toFilteredNodeId(long rootNodeId) {
+        if (!containsRootNodeId(rootNodeId)) {
+            return NOT_FOUND;
+        }
+        long wordIndex = rootNodeId >>> WORD_SHIFT;
+        long lowerBits = words.get(wordIndex) & ((1L << rootNodeId) - 1);
+        return ranks.get(wordIndex) + Long.bitCount(lowerBits);
+    }
+
+    @Override
+    public boolean containsRootNodeId(long rootNodeId) {
+        return rootNodeId >= 0
+               && rootNodeId < rootIdMap.nodeCount()
+               && (words.get(rootNodeId >>> WORD_SHIFT) & (1L << rootNodeId)) != 0;
+    }
+
+    @Override
+    public long toMappedNodeId(long originalNodeId) {
+        var rootNodeId = rootIdMap.toMappedNodeId(originalNodeId);
+        return rootNodeId == NOT_FOUND ? NOT_FOUND : toFilteredNodeId(rootNodeId);
+    }
+
+    @Override
+    public long toOriginalNodeId(long filteredNodeId) {
+        return rootIdMap.toOriginalNodeId(toRootNodeId(filteredNodeId));
+    }
+
+    @Override
+    public long toRootNodeId(long filteredNodeId) {
+        return filteredToRootIds.get(filteredNodeId);
+    }
+
+    @Override
+    public boolean containsOriginalId(long originalNodeId) {
+        var rootNodeId = rootIdMap.toMappedNodeId(originalNodeId);
+        return rootNodeId != NOT_FOUND && containsRootNodeId(rootNodeId);
+    }
+
+    @Override
+    public OptionalLong rootNodeCount() {
+        return rootIdMap.rootNodeCount();
+    }
+
+    @Override
+    public IdMap rootIdMap() {
+        return rootIdMap;
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public long nodeCount(NodeLabel nodeLabel) {
+        return nodeCountPerLabel.computeIfAbsent(nodeLabel, label -> {
+            long count = 0L;
+            for (long filteredNode = 0; filteredNode < nodeCount; filteredNode++) {
+                if (hasLabel(filteredNode, label)) {
+                    count++;
+                }
+            }
+            return count;
+        });
+    }
+
+    @Override
+    public long highestOriginalId() {
+        return rootIdMap.highestOriginalId();
+    }
+
+    @Override
+    public List<NodeLabel> nodeLabels(long filteredNodeId) {
+        return rootIdMap.nodeLabels(toRootNodeId(filteredNodeId));
+    }
+
+    @Override
+    public void forEachNodeLabel(long filteredNodeId, NodeLabelConsumer consumer) {
+        rootIdMap.forEachNodeLabel(toRootNodeId(filteredNodeId), consumer);
+    }
+
+    @Override
+    public Set<NodeLabel> availableNodeLabels() {
+        return rootIdMap.availableNodeLabels();
+    }
+
+    @Override
+    public boolean hasLabel(long filteredNodeId, NodeLabel label) {
+        return rootIdMap.hasLabel(toRootNodeId(filteredNodeId), label);
+    }
+
+    @Override
+    public void addNodeLabel(NodeLabel nodeLabel) {
+        throw new UnsupportedOperationException("Adding labels to a filtered id map is not supported");
+    }
+
+    @Override
+    public void addNodeIdToLabel(long nodeId, NodeLabel nodeLabel) {
+        throw new UnsupportedOperationException("Adding labels to a filtered id map is not supported");
+    }
+
+    @Override
+    public void forEachNode(LongPredicate consumer) {
+        for (long filteredNode = 0; filteredNode < nodeCount; filteredNode++) {
+            if (!consumer.test(filteredNode)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong nodeIterator() {
+        return new IdIterator(nodeCount);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong nodeIterator(Set<NodeLabel> labels) {
+        if (labels.contains(NodeLabel.ALL_NODES)) {
+            return nodeIterator();
+        }
+        return new PrimitiveIterator.OfLong() {
+            long next = advance(0);
+
+            private long advance(long from) {
+                for (long filteredNode = from; filteredNode < nodeCount; filteredNode++) {
+                    for (NodeLabel label : labels) {
+                        if (hasLabel(filteredNode, label)) {
+                            return filteredNode;
+                        }
+                    }
+                }
+                return NOT_FOUND;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != NOT_FOUND;
+            }
+
+            @Override
+            public long nextLong() {
+                var current = next;
+                next = advance(current + 1);
+                return current;
+            }
+        };
+    }
+
+    @Override
+    public Collection<PrimitiveLongIterable> batchIterables(long batchSize) {
+        return LazyBatchCollection.of(nodeCount, batchSize, IdIterable::new);
+    }
+
+    @Override
+    public Optional<FilteredIdMap> withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
+        var availableLabels = availableNodeLabels();
+        if (!availableLabels.containsAll(nodeLabels)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Specified labels %s do not correspond to any of the node projections %s.",
+                nodeLabels,
+                availableLabels
+            ));
+        }
+        if (nodeLabels.containsAll(availableLabels)) {
+            return Optional.of(this);
+        }
+
+        var labeledWords = HugeLongArray.newArray(words.size());
+        ParallelUtil.readParallel(concurrency, words.size(), Pools.DEFAULT, (startWord, endWord) -> {
+            for (long wordIndex = startWord; wordIndex < endWord; wordIndex++) {
+                long word = words.get(wordIndex);
+                long labeledWord = 0L;
+                for (long remaining = word; remaining != 0L; remaining &= remaining - 1) {
+                    int bit = Long.numberOfTrailingZeros(remaining);
+                    long rootNodeId = (wordIndex << WORD_SHIFT) + bit;
+                    for (NodeLabel label : nodeLabels) {
+                        if (rootIdMap.hasLabel(rootNodeId, label)) {
+                            labeledWord |= 1L << bit;
+                            break;
+                        }
+                    }
+                }
+                labeledWords.set(wordIndex, labeledWord);
+            }
+        });
+
+        return Optional.of(of(rootIdMap, labeledWords, concurrency, Pools.DEFAULT));
+    }
+}
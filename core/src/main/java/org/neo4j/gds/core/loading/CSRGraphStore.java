@@ -394,6 +394,11 @@ public final class CSRGraphStore implements GraphStore {
             .orElseThrow(() -> new IllegalArgumentException("No relationship properties found for relationship type `" + relationshipType + "` and property key `" + propertyKey + "`."));
     }
 
+    @Override
+    public Optional<SingleTypeRelationships> relationships(RelationshipType relationshipType) {
+        return Optional.ofNullable(relationships.get(relationshipType));
+    }
+
     @Override
     public void addRelationshipType(SingleTypeRelationships relationships) {
         updateGraphStore(graphStore -> {
@@ -541,6 +546,12 @@ public final class CSRGraphStore implements GraphStore {
         return nodes.nodeCount();
     }
 
+    @Override
+    public void free() {
+        // Lists that are shared with graph stores in the catalog are left to the garbage collector.
+        AdjacencyListReferences.freeUnreferenced(this);
+    }
+
     private synchronized void updateGraphStore(Consumer<CSRGraphStore> updateFunction) {
         updateFunction.accept(this);
         this.modificationTime = TimeUtil.now();
@@ -25,6 +25,7 @@ import org.neo4j.gds.collections.hsa.HugeSparseCollections;
 import org.neo4j.gds.collections.hsl.HugeSparseIntList;
 import org.neo4j.gds.collections.hsl.HugeSparseLongArrayList;
 import org.neo4j.gds.collections.hsl.HugeSparseLongList;
+import org.neo4j.gds.collections.hsl.LongIntConsumer;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
@@ -237,6 +238,14 @@ public final class ChunkedAdjacencyLists {
         return targetLists.contains(index);
     }
 
+    /**
+     * Applies the given consumer to the local id and the number of buffered targets
+     * of every non-empty adjacency list. Does not consume the buffered lists.
+     */
+    public void forEachDegree(LongIntConsumer consumer) {
+        this.lengths.forAll(consumer);
+    }
+
     public void consume(Consumer consumer) {
         new CompositeDrainingIterator(targetLists, properties, positions, lastValues, lengths).consume(consumer);
     }
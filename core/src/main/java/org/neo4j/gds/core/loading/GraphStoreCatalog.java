@@ -171,6 +171,23 @@ public final class GraphStoreCatalog {
         set(config, graphStore, true);
     }
 
+    /**
+     * Replaces the graph store of the given config, but only if the catalog still holds {@code expectedGraphStore}.
+     * Returns {@code false} without changing the catalog if the graph has been dropped or replaced in the meantime.
+     */
+    public static boolean replace(GraphProjectConfig config, GraphStore expectedGraphStore, GraphStore graphStore) {
+        var replaced = getUserCatalog(config.username()).replace(
+            UserCatalog.UserCatalogKey.of(graphStore.databaseId(), config.graphName()),
+            config,
+            expectedGraphStore,
+            graphStore
+        );
+        if (replaced) {
+            notifyListeners(config, graphStore);
+        }
+        return replaced;
+    }
+
     private static void set(GraphProjectConfig config, GraphStore graphStore, boolean overwrite) {
         userCatalogs.compute(config.username(), (user, userCatalog) -> {
             if (userCatalog == null) {
@@ -185,6 +202,10 @@ public final class GraphStoreCatalog {
             return userCatalog;
         });
 
+        notifyListeners(config, graphStore);
+    }
+
+    private static void notifyListeners(GraphProjectConfig config, GraphStore graphStore) {
         listeners.forEach(listener -> ExceptionUtil.safeRunWithLogException(
                 log.orElseGet(Neo4jProxy::testLog),
                 () -> String.format(
@@ -329,6 +350,31 @@ public final class GraphStoreCatalog {
                 ));
             }
             graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            if (overwrite) {
+                // the distribution was computed for the graph store we just replaced
+                removeDegreeDistribution(userCatalogKey);
+            }
+        }
+
+        private boolean replace(
+            UserCatalogKey userCatalogKey,
+            GraphProjectConfig config,
+            GraphStore expectedGraphStore,
+            GraphStore graphStore
+        ) {
+            var replacement = GraphStoreWithConfig.of(graphStore, config);
+            var current = graphsByName.computeIfPresent(
+                userCatalogKey,
+                (key, graphStoreWithConfig) -> graphStoreWithConfig.graphStore() == expectedGraphStore
+                    ? replacement
+                    : graphStoreWithConfig
+            );
+            if (current != replacement) {
+                return false;
+            }
+            // the distribution was computed for the graph store we just replaced
+            removeDegreeDistribution(userCatalogKey);
+            return true;
         }
 
         private void setDegreeDistribution(UserCatalogKey userCatalogKey, Map<String, Object> degreeDistribution) {
@@ -392,6 +438,9 @@ public final class GraphStoreCatalog {
                     removedGraphConsumer.accept(graphStoreWithConfig);
                     removeDegreeDistribution(userCatalogKey);
                     graphsByName.remove(userCatalogKey);
+                    // native memory is invisible to the GC, so waiting for the graph store
+                    // to become unreachable can keep large amounts of it alive for a long time
+                    GraphStoreReaders.freeWhenUnread(graphStoreWithConfig.graphStore());
                     return Boolean.TRUE;
                 })
                 .orElse(Boolean.FALSE);
@@ -162,4 +162,12 @@ public class GraphStoreCatalogService {
     public void set(GraphProjectConfig configuration, GraphStore graphStore) {
         GraphStoreCatalog.set(configuration, graphStore);
     }
+
+    public void overwrite(GraphProjectConfig configuration, GraphStore graphStore) {
+        GraphStoreCatalog.overwrite(configuration, graphStore);
+    }
+
+    public boolean replace(GraphProjectConfig configuration, GraphStore expectedGraphStore, GraphStore graphStore) {
+        return GraphStoreCatalog.replace(configuration, expectedGraphStore, graphStore);
+    }
 }
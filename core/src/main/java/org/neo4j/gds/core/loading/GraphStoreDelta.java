@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A batch of database changes that {@link GraphStoreRefresh} applies to an existing graph store.
+ * All node ids are original (database) node ids.
+ */
+@ValueClass
+public interface GraphStoreDelta {
+
+    String NODE_ID_KEY = "nodeId";
+    String NODE_LABELS_KEY = "nodeLabels";
+    String SOURCE_NODE_ID_KEY = "sourceNodeId";
+    String TARGET_NODE_ID_KEY = "targetNodeId";
+    String RELATIONSHIP_TYPE_KEY = "relationshipType";
+    String PROPERTIES_KEY = "properties";
+
+    @Value.Default
+    default List<AddedNode> addedNodes() {
+        return List.of();
+    }
+
+    @Value.Default
+    default List<Long> removedNodes() {
+        return List.of();
+    }
+
+    @Value.Default
+    default List<RelationshipChange> addedRelationships() {
+        return List.of();
+    }
+
+    @Value.Default
+    default List<RelationshipChange> removedRelationships() {
+        return List.of();
+    }
+
+    @Value.Derived
+    default boolean changesNodes() {
+        return !addedNodes().isEmpty() || !removedNodes().isEmpty();
+    }
+
+    @Value.Derived
+    default boolean isEmpty() {
+        return !changesNodes() && addedRelationships().isEmpty() && removedRelationships().isEmpty();
+    }
+
+    @ValueClass
+    interface AddedNode {
+        long originalId();
+
+        List<NodeLabel> labels();
+    }
+
+    @ValueClass
+    interface RelationshipChange {
+        long sourceOriginalId();
+
+        long targetOriginalId();
+
+        /**
+         * Can be omitted if the graph contains a single relationship type.
+         */
+        Optional<RelationshipType> relationshipType();
+
+        Map<String, Double> properties();
+    }
+
+    static GraphStoreDelta empty() {
+        return ImmutableGraphStoreDelta.builder().build();
+    }
+
+    static List<AddedNode> parseAddedNodes(Object input) {
+        var addedNodes = new ArrayList<AddedNode>();
+        for (var element : asList(input, "addedNodes")) {
+            if (element instanceof Number) {
+                addedNodes.add(ImmutableAddedNode.of(((Number) element).longValue(), List.of()));
+            } else {
+                var map = asMap(element, "addedNodes");
+                var labels = new ArrayList<NodeLabel>();
+                var labelInput = map.get(NODE_LABELS_KEY);
+                if (labelInput instanceof String) {
+                    labels.add(NodeLabel.of((String) labelInput));
+                } else if (labelInput != null) {
+                    for (var label : asList(labelInput, NODE_LABELS_KEY)) {
+                        labels.add(NodeLabel.of(String.valueOf(label)));
+                    }
+                }
+                addedNodes.add(ImmutableAddedNode.of(requireId(map, NODE_ID_KEY), labels));
+            }
+        }
+        return addedNodes;
+    }
+
+    static List<Long> parseRemovedNodes(Object input) {
+        var removedNodes = new ArrayList<Long>();
+        for (var element : asList(input, "removedNodes")) {
+            if (!(element instanceof Number)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Expected node ids for `removedNodes`. Got %s.",
+                    element == null ? "null" : element.getClass().getSimpleName()
+                ));
+            }
+            removedNodes.add(((Number) element).longValue());
+        }
+        return removedNodes;
+    }
+
+    static List<RelationshipChange> parseRelationships(Object input) {
+        var relationships = new ArrayList<RelationshipChange>();
+        for (var element : asList(input, "relationships")) {
+            var map = asMap(element, "relationships");
+            var relationshipType = Optional
+                .ofNullable(map.get(RELATIONSHIP_TYPE_KEY))
+                .map(type -> RelationshipType.of(String.valueOf(type)));
+
+            var properties = new HashMap<String, Double>();
+            var propertyInput = map.get(PROPERTIES_KEY);
+            if (propertyInput != null) {
+                asMap(propertyInput, PROPERTIES_KEY).forEach((key, value) -> {
+                    if (!(value instanceof Number)) {
+                        throw new IllegalArgumentException(formatWithLocale(
+                            "Relationship property `%s` must be numeric. Got %s.",
+                            key,
+                            value
+                        ));
+                    }
+                    properties.put(key, ((Number) value).doubleValue());
+                });
+            }
+
+            relationships.add(ImmutableRelationshipChange.of(
+                requireId(map, SOURCE_NODE_ID_KEY),
+                requireId(map, TARGET_NODE_ID_KEY),
+                relationshipType,
+                properties
+            ));
+        }
+        return relationships;
+    }
+
+    static List<Object> addedNodesToList(List<AddedNode> addedNodes) {
+        return addedNodes
+            .stream()
+            .map(addedNode -> Map.of(
+                NODE_ID_KEY, addedNode.originalId(),
+                NODE_LABELS_KEY, addedNode.labels().stream().map(NodeLabel::name).collect(Collectors.toList())
+            ))
+            .collect(Collectors.toList());
+    }
+
+    static List<Object> relationshipsToList(List<RelationshipChange> relationships) {
+        return relationships
+            .stream()
+            .map(relationship -> {
+                var map = new HashMap<String, Object>();
+                map.put(SOURCE_NODE_ID_KEY, relationship.sourceOriginalId());
+                map.put(TARGET_NODE_ID_KEY, relationship.targetOriginalId());
+                relationship.relationshipType().ifPresent(type -> map.put(RELATIONSHIP_TYPE_KEY, type.name));
+                if (!relationship.properties().isEmpty()) {
+                    map.put(PROPERTIES_KEY, relationship.properties());
+                }
+                return map;
+            })
+            .collect(Collectors.toList());
+    }
+
+    private static Collection<?> asList(Object input, String key) {
+        if (input instanceof Collection) {
+            return (Collection<?>) input;
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected a list for `%s`. Got %s.",
+            key,
+            input == null ? "null" : input.getClass().getSimpleName()
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object input, String key) {
+        if (input instanceof Map) {
+            return (Map<String, Object>) input;
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected a map for the elements of `%s`. Got %s.",
+            key,
+            input == null ? "null" : input.getClass().getSimpleName()
+        ));
+    }
+
+    private static long requireId(Map<String, Object> map, String key) {
+        var id = map.get(key);
+        if (!(id instanceof Number)) {
+            throw new IllegalArgumentException(formatWithLocale("Expected a node id for `%s`. Got %s.", key, id));
+        }
+        return ((Number) id).longValue();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.GraphStore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Counts the readers of graph stores, so that a graph store that is dropped from the {@link GraphStoreCatalog}
+ * can free its off-heap memory as soon as nobody reads it anymore, instead of waiting for the garbage collector.
+ * <p>
+ * Code that reads a graph store from the catalog holds a {@link Reader} until it is done with the graph store
+ * and every graph, cursor and result that has been created from it.
+ * Dropping a graph store without readers frees it right away, otherwise the last reader frees it on release.
+ * A graph store that has been freed cannot be read anymore.
+ */
+public final class GraphStoreReaders {
+
+    // Graph store implementations do not override equals, so these are identity maps that do not retain their keys.
+    // A reader that is never released, e.g. of a result stream that is never closed, can then not leak its graph store.
+    private static final Map<GraphStore, MutableReaderCount> READERS = new WeakHashMap<>();
+    private static final Set<GraphStore> FREED = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private GraphStoreReaders() {}
+
+    /**
+     * Registers a reader of the given graph store.
+     *
+     * @throws IllegalStateException if the graph store has already been dropped and freed.
+     */
+    public static Reader acquire(GraphStore graphStore) {
+        synchronized (READERS) {
+            if (FREED.contains(graphStore)) {
+                throw new IllegalStateException("The graph has been dropped from the catalog and can no longer be read.");
+            }
+            READERS.computeIfAbsent(graphStore, ignore -> new MutableReaderCount()).readers++;
+        }
+        return new Reader(graphStore);
+    }
+
+    /**
+     * Frees the given graph store, which has just been removed from the catalog, once it has no readers left.
+     * Graph stores that are still in the catalog under another name are left untouched.
+     */
+    static void freeWhenUnread(GraphStore graphStore) {
+        synchronized (READERS) {
+            var readerCount = READERS.get(graphStore);
+            if (readerCount != null) {
+                readerCount.dropped = true;
+                return;
+            }
+            free(graphStore);
+        }
+    }
+
+    /**
+     * Returns the graph stores that currently have at least one reader.
+     */
+    static Collection<GraphStore> readGraphStores() {
+        synchronized (READERS) {
+            return new ArrayList<>(READERS.keySet());
+        }
+    }
+
+    private static void release(GraphStore graphStore) {
+        synchronized (READERS) {
+            var readerCount = READERS.get(graphStore);
+            if (--readerCount.readers > 0) {
+                return;
+            }
+            READERS.remove(graphStore);
+            if (readerCount.dropped) {
+                free(graphStore);
+            }
+        }
+    }
+
+    // Runs while holding the lock, so that nobody can start to read the graph store while it is being freed.
+    private static void free(GraphStore graphStore) {
+        boolean inCatalog = GraphStoreCatalog
+            .getAllGraphStores()
+            .anyMatch(entry -> entry.graphStore() == graphStore);
+        if (!inCatalog) {
+            FREED.add(graphStore);
+            graphStore.free();
+        }
+    }
+
+    private static final class MutableReaderCount {
+        private int readers;
+        private boolean dropped;
+    }
+
+    public static final class Reader implements AutoCloseable {
+
+        private final GraphStore graphStore;
+        private final AtomicBoolean released;
+
+        private Reader(GraphStore graphStore) {
+            this.graphStore = graphStore;
+            this.released = new AtomicBoolean(false);
+        }
+
+        /**
+         * Releases this reader. Releasing a reader more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(graphStore);
+            }
+        }
+    }
+}
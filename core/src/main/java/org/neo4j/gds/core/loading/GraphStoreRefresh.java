@@ -0,0 +1,665 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongObjectHashMap;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CompositeRelationshipIterator;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.graph.GraphPropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Applies a {@link GraphStoreDelta} to an in-memory graph store without reading from the database again.
+ * <p>
+ * The result is a new graph store. Parts that are not affected by the delta are shared with the given graph store:
+ * if the node set does not change, the id map, all node properties and the adjacency lists of relationship types
+ * without changes are reused as they are.
+ * <p>
+ * As long as the existing nodes keep their mapped ids, which is the case if nodes are only added,
+ * the adjacency lists of changed relationship types are patched: only the lists of the nodes touched by the delta
+ * are rewritten, all other lists are read from the existing adjacency list, see {@link PatchedAdjacencyList}.
+ * Patches of earlier refreshes are carried over, so that reads go through at most one patch.
+ * Once the patched nodes exceed {@link #MAX_PATCHED_NODES_RATIO} of all nodes, the relationship type is rebuilt.
+ * <p>
+ * If nodes are removed, the mapped ids of the remaining nodes change, so the id map, node properties and all
+ * relationship types are rebuilt.
+ */
+public final class GraphStoreRefresh {
+
+    static final double MAX_PATCHED_NODES_RATIO = 0.125;
+
+    private GraphStoreRefresh() {}
+
+    public static CSRGraphStore refresh(CSRGraphStore graphStore, GraphStoreDelta delta, int concurrency) {
+        if (delta.isEmpty()) {
+            return graphStore;
+        }
+
+        var addedRelationships = groupByType(graphStore, delta.addedRelationships());
+        var removedRelationships = groupByType(graphStore, delta.removedRelationships());
+        validateProperties(graphStore, addedRelationships);
+
+        IdMap idMap;
+        NodePropertyStore nodeProperties;
+        LongHashSet removedNodes = new LongHashSet();
+        if (delta.changesNodes()) {
+            delta.removedNodes().forEach(removedNodes::add);
+            idMap = refreshIdMap(graphStore, delta, removedNodes, concurrency);
+            nodeProperties = NodeRelabeling.copyNodeProperties(graphStore, idMap, concurrency);
+        } else {
+            idMap = graphStore.nodes();
+            var nodePropertyStoreBuilder = NodePropertyStore.builder();
+            graphStore
+                .nodePropertyKeys()
+                .forEach(key -> nodePropertyStoreBuilder.putProperty(key, graphStore.nodeProperty(key)));
+            nodeProperties = nodePropertyStoreBuilder.build();
+        }
+
+        var keepsMappedIds = !delta.changesNodes() || keepsMappedIds(graphStore.nodes(), idMap, removedNodes);
+
+        var relationships = new HashMap<RelationshipType, SingleTypeRelationships>();
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            var added = addedRelationships.getOrDefault(relationshipType, List.of());
+            var removed = removedRelationships.getOrDefault(relationshipType, List.of());
+            if (!delta.changesNodes() && added.isEmpty() && removed.isEmpty()) {
+                relationships.put(relationshipType, graphStore.relationships(relationshipType).orElseThrow());
+            } else if (keepsMappedIds) {
+                relationships.put(
+                    relationshipType,
+                    patchRelationships(graphStore, relationshipType, idMap, added, removed, concurrency)
+                );
+            } else {
+                relationships.put(
+                    relationshipType,
+                    refreshRelationships(graphStore, relationshipType, idMap, removedNodes, added, removed, concurrency)
+                );
+            }
+        }
+
+        var graphPropertyStoreBuilder = GraphPropertyStore.builder();
+        graphStore
+            .graphPropertyKeys()
+            .forEach(key -> graphPropertyStoreBuilder.putProperty(key, graphStore.graphProperty(key)));
+
+        var schema = MutableGraphSchema.from(graphStore.schema());
+
+        return new GraphStoreBuilder()
+            .databaseId(graphStore.databaseId())
+            .capabilities(graphStore.capabilities())
+            .schema(schema)
+            .nodes(ImmutableNodes.of(schema.nodeSchema(), idMap, nodeProperties))
+            .relationshipImportResult(RelationshipImportResult.of(relationships))
+            .graphProperties(graphPropertyStoreBuilder.build())
+            .concurrency(concurrency)
+            .build();
+    }
+
+    private static Map<RelationshipType, List<GraphStoreDelta.RelationshipChange>> groupByType(
+        CSRGraphStore graphStore,
+        List<GraphStoreDelta.RelationshipChange> changes
+    ) {
+        var relationshipTypes = graphStore.relationshipTypes();
+        var changesByType = new HashMap<RelationshipType, List<GraphStoreDelta.RelationshipChange>>();
+        for (var change : changes) {
+            var relationshipType = change.relationshipType().orElseGet(() -> {
+                if (relationshipTypes.size() != 1) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "The `%s` must be specified for graphs with multiple relationship types.",
+                        GraphStoreDelta.RELATIONSHIP_TYPE_KEY
+                    ));
+                }
+                return relationshipTypes.iterator().next();
+            });
+            if (!relationshipTypes.contains(relationshipType)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Relationship type `%s` does not exist in the graph. Available types are %s.",
+                    relationshipType.name,
+                    relationshipTypes.stream().map(type -> type.name).sorted().collect(Collectors.toList())
+                ));
+            }
+            changesByType.computeIfAbsent(relationshipType, __ -> new ArrayList<>()).add(change);
+        }
+        return changesByType;
+    }
+
+    private static void validateProperties(
+        CSRGraphStore graphStore,
+        Map<RelationshipType, List<GraphStoreDelta.RelationshipChange>> addedRelationships
+    ) {
+        addedRelationships.forEach((relationshipType, changes) -> {
+            var propertyKeys = graphStore.relationshipPropertyKeys(relationshipType);
+            for (var change : changes) {
+                for (var propertyKey : change.properties().keySet()) {
+                    if (!propertyKeys.contains(propertyKey)) {
+                        throw new IllegalArgumentException(formatWithLocale(
+                            "Relationship property `%s` does not exist for relationship type `%s`. Available properties are %s.",
+                            propertyKey,
+                            relationshipType.name,
+                            propertyKeys.stream().sorted().collect(Collectors.toList())
+                        ));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Keeps the relative order of the remaining nodes and appends the added nodes.
+     */
+    private static IdMap refreshIdMap(
+        CSRGraphStore graphStore,
+        GraphStoreDelta delta,
+        LongHashSet removedNodes,
+        int concurrency
+    ) {
+        var idMap = graphStore.nodes();
+
+        for (var removedNode : removedNodes) {
+            if (idMap.safeToMappedNodeId(removedNode.value) == IdMap.NOT_FOUND) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot remove node %d, it does not exist in the graph.",
+                    removedNode.value
+                ));
+            }
+        }
+
+        var availableLabels = new ArrayList<>(graphStore.nodeLabels());
+        boolean allNodes = availableLabels.size() == 1 && availableLabels.get(0) == NodeLabel.ALL_NODES;
+        long highestOriginalId = idMap.highestOriginalId();
+        var addedNodes = new LongHashSet();
+        for (var addedNode : delta.addedNodes()) {
+            long originalId = addedNode.originalId();
+            if (idMap.safeToMappedNodeId(originalId) != IdMap.NOT_FOUND || !addedNodes.add(originalId)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot add node %d, it already exists in the graph.",
+                    originalId
+                ));
+            }
+            for (var label : addedNode.labels()) {
+                if (allNodes || !availableLabels.contains(label)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Cannot add node %d with label `%s`, the label does not exist in the graph.",
+                        originalId,
+                        label.name
+                    ));
+                }
+            }
+            highestOriginalId = Math.max(highestOriginalId, originalId);
+        }
+
+        var nodeCount = idMap.nodeCount() - removedNodes.size() + delta.addedNodes().size();
+        var idMapRebuilder = IdMapRebuilder.of(idMap.typeId(), availableLabels, nodeCount, highestOriginalId, concurrency);
+
+        for (long nodeId = 0; nodeId < idMap.nodeCount(); nodeId++) {
+            var originalNodeId = idMap.toOriginalNodeId(nodeId);
+            if (!removedNodes.contains(originalNodeId)) {
+                idMapRebuilder.add(originalNodeId, idMap.nodeLabels(nodeId));
+            }
+        }
+        for (var addedNode : delta.addedNodes()) {
+            idMapRebuilder.add(addedNode.originalId(), addedNode.labels());
+        }
+
+        return idMapRebuilder.build();
+    }
+
+    private static boolean keepsMappedIds(IdMap oldIdMap, IdMap idMap, LongHashSet removedNodes) {
+        if (!removedNodes.isEmpty()) {
+            return false;
+        }
+        // id maps that order nodes themselves, e.g. by original id, may move existing nodes when nodes are added
+        for (long nodeId = 0; nodeId < oldIdMap.nodeCount(); nodeId++) {
+            if (idMap.toOriginalNodeId(nodeId) != oldIdMap.toOriginalNodeId(nodeId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rewrites the lists of the nodes that are touched by the changes and shares all other lists
+     * with the given graph store. Requires that the existing nodes keep their mapped ids.
+     */
+    private static SingleTypeRelationships patchRelationships(
+        CSRGraphStore graphStore,
+        RelationshipType relationshipType,
+        IdMap idMap,
+        List<GraphStoreDelta.RelationshipChange> added,
+        List<GraphStoreDelta.RelationshipChange> removed,
+        int concurrency
+    ) {
+        var relationships = graphStore.relationships(relationshipType).orElseThrow();
+        var schemaEntry = graphStore.schema().relationshipSchema().get(relationshipType);
+        var undirected = schemaEntry.isUndirected();
+        var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relationshipType));
+        var addedProperties = addedProperties(graphStore, relationshipType, propertyKeys, idMap, added);
+        var removedTargets = removedTargets(removed, undirected);
+
+        // the lists of sources are patched, and the inverse lists of targets
+        var patchedSources = patchedNodes(relationships.topology(), idMap);
+        var patchedTargets = relationships.inverseTopology().map(topology -> patchedNodes(topology, idMap));
+        for (var changes : List.of(added, removed)) {
+            for (var change : changes) {
+                var source = idMap.safeToMappedNodeId(change.sourceOriginalId());
+                var target = idMap.safeToMappedNodeId(change.targetOriginalId());
+                if (source == IdMap.NOT_FOUND || target == IdMap.NOT_FOUND) {
+                    continue;
+                }
+                patchedSources.set(source);
+                patchedTargets.ifPresent(patched -> patched.set(target));
+                if (undirected) {
+                    patchedSources.set(target);
+                    patchedTargets.ifPresent(patched -> patched.set(source));
+                }
+            }
+        }
+
+        long maxPatchedNodes = (long) (idMap.nodeCount() * MAX_PATCHED_NODES_RATIO);
+        if (patchedSources.cardinality() > maxPatchedNodes
+            || patchedTargets.map(BitSet::cardinality).orElse(0L) > maxPatchedNodes) {
+            return refreshRelationships(
+                graphStore,
+                relationshipType,
+                idMap,
+                new LongHashSet(),
+                added,
+                removed,
+                concurrency
+            );
+        }
+
+        var oldIdMap = graphStore.nodes();
+        var compositeIterator = graphStore.getCompositeRelationshipIterator(relationshipType, propertyKeys);
+
+        var patchBuilder = NodeRelabeling.relationshipsBuilder(
+            graphStore,
+            relationshipType,
+            propertyKeys,
+            idMap,
+            false,
+            concurrency
+        );
+        forEachPatchedNode(compositeIterator, patchedSources, oldIdMap.nodeCount(), concurrency, (iterator, nodeId) -> {
+            var originalSource = oldIdMap.toOriginalNodeId(nodeId);
+            var removedTargetsOfSource = removedTargets.get(originalSource);
+            iterator.forEachRelationship(nodeId, (source, target, properties) -> {
+                var originalTarget = oldIdMap.toOriginalNodeId(target);
+                if (removedTargetsOfSource == null || !removedTargetsOfSource.contains(originalTarget)) {
+                    add(patchBuilder, originalSource, originalTarget, properties);
+                }
+                return true;
+            });
+        });
+        for (int i = 0; i < added.size(); i++) {
+            var change = added.get(i);
+            add(patchBuilder, change.sourceOriginalId(), change.targetOriginalId(), addedProperties[i]);
+            if (undirected) {
+                add(patchBuilder, change.targetOriginalId(), change.sourceOriginalId(), addedProperties[i]);
+            }
+        }
+        var patch = patchBuilder.build();
+
+        var topology = patchTopology(relationships.topology(), patch.topology(), patchedSources, oldIdMap.nodeCount());
+        var patchedRelationships = SingleTypeRelationships.builder()
+            .relationshipSchemaEntry(MutableRelationshipSchemaEntry.from(schemaEntry))
+            .topology(topology)
+            .properties(relationships.properties().map(properties -> patchProperties(
+                properties,
+                patch.properties().orElseThrow(),
+                patchedSources,
+                oldIdMap.nodeCount(),
+                topology.elementCount()
+            )));
+
+        if (patchedTargets.isPresent()) {
+            var inverseBuilder = NodeRelabeling.relationshipsBuilder(
+                graphStore,
+                relationshipType,
+                propertyKeys,
+                idMap,
+                false,
+                concurrency
+            );
+            forEachPatchedNode(compositeIterator, patchedTargets.get(), oldIdMap.nodeCount(), concurrency, (iterator, nodeId) -> {
+                var originalTarget = oldIdMap.toOriginalNodeId(nodeId);
+                iterator.forEachInverseRelationship(nodeId, (target, source, properties) -> {
+                    var originalSource = oldIdMap.toOriginalNodeId(source);
+                    var removedTargetsOfSource = removedTargets.get(originalSource);
+                    if (removedTargetsOfSource == null || !removedTargetsOfSource.contains(originalTarget)) {
+                        add(inverseBuilder, originalTarget, originalSource, properties);
+                    }
+                    return true;
+                });
+            });
+            for (int i = 0; i < added.size(); i++) {
+                var change = added.get(i);
+                add(inverseBuilder, change.targetOriginalId(), change.sourceOriginalId(), addedProperties[i]);
+                if (undirected) {
+                    add(inverseBuilder, change.sourceOriginalId(), change.targetOriginalId(), addedProperties[i]);
+                }
+            }
+            var inversePatch = inverseBuilder.build();
+
+            var inverseTopology = patchTopology(
+                relationships.inverseTopology().orElseThrow(),
+                inversePatch.topology(),
+                patchedTargets.get(),
+                oldIdMap.nodeCount()
+            );
+            patchedRelationships
+                .inverseTopology(inverseTopology)
+                .inverseProperties(relationships.inverseProperties().map(properties -> patchProperties(
+                    properties,
+                    inversePatch.properties().orElseThrow(),
+                    patchedTargets.get(),
+                    oldIdMap.nodeCount(),
+                    inverseTopology.elementCount()
+                )));
+        }
+
+        return patchedRelationships.build();
+    }
+
+    /**
+     * Returns the nodes that have been patched by earlier refreshes, these are patched again
+     * so that the new patch replaces the earlier one.
+     */
+    private static BitSet patchedNodes(Topology topology, IdMap idMap) {
+        var patchedNodes = new BitSet(idMap.nodeCount());
+        if (topology.adjacencyList() instanceof PatchedAdjacencyList) {
+            patchedNodes.union(((PatchedAdjacencyList) topology.adjacencyList()).patchedNodes());
+        }
+        return patchedNodes;
+    }
+
+    private static void forEachPatchedNode(
+        CompositeRelationshipIterator compositeIterator,
+        BitSet patchedNodes,
+        long nodeCount,
+        int concurrency,
+        PatchedNodeConsumer consumer
+    ) {
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var iterator = compositeIterator.concurrentCopy();
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = patchedNodes.nextSetBit(partition.startNode());
+                     nodeId != -1 && nodeId < end;
+                     nodeId = patchedNodes.nextSetBit(nodeId + 1)) {
+                    consumer.accept(iterator, nodeId);
+                }
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(Pools.DEFAULT)
+            .run();
+    }
+
+    private static Topology patchTopology(Topology topology, Topology patch, BitSet patchedNodes, long nodeCount) {
+        var adjacencyList = topology.adjacencyList();
+
+        long elementCount = topology.elementCount() + patch.elementCount();
+        for (long nodeId = patchedNodes.nextSetBit(0);
+             nodeId != -1 && nodeId < nodeCount;
+             nodeId = patchedNodes.nextSetBit(nodeId + 1)) {
+            elementCount -= adjacencyList.degree(nodeId);
+        }
+
+        // patch the unpatched list, the patch already contains the lists of earlier patches
+        var base = adjacencyList;
+        var baseNodeCount = nodeCount;
+        if (adjacencyList instanceof PatchedAdjacencyList) {
+            base = ((PatchedAdjacencyList) adjacencyList).base();
+            baseNodeCount = ((PatchedAdjacencyList) adjacencyList).baseNodeCount();
+        }
+
+        return ImmutableTopology.of(
+            new PatchedAdjacencyList(base, patch.adjacencyList(), patchedNodes, baseNodeCount),
+            elementCount,
+            topology.isMultiGraph() || patch.isMultiGraph()
+        );
+    }
+
+    private static RelationshipPropertyStore patchProperties(
+        RelationshipPropertyStore properties,
+        RelationshipPropertyStore patch,
+        BitSet patchedNodes,
+        long nodeCount,
+        long elementCount
+    ) {
+        var builder = RelationshipPropertyStore.builder();
+        properties.relationshipProperties().forEach((propertyKey, property) -> {
+            var values = property.values();
+            var patchValues = patch.get(propertyKey).values();
+
+            var base = values.propertiesList();
+            var baseNodeCount = nodeCount;
+            if (base instanceof PatchedAdjacencyProperties) {
+                baseNodeCount = ((PatchedAdjacencyProperties) base).baseNodeCount();
+                base = ((PatchedAdjacencyProperties) base).base();
+            }
+
+            builder.putRelationshipProperty(propertyKey, ImmutableRelationshipProperty.builder()
+                .from(property)
+                .values(ImmutableProperties.of(
+                    new PatchedAdjacencyProperties(base, patchValues.propertiesList(), patchedNodes, baseNodeCount),
+                    elementCount,
+                    values.defaultPropertyValue()
+                ))
+                .build());
+        });
+        return builder.build();
+    }
+
+    private static SingleTypeRelationships refreshRelationships(
+        CSRGraphStore graphStore,
+        RelationshipType relationshipType,
+        IdMap idMap,
+        LongHashSet removedNodes,
+        List<GraphStoreDelta.RelationshipChange> added,
+        List<GraphStoreDelta.RelationshipChange> removed,
+        int concurrency
+    ) {
+        var oldIdMap = graphStore.nodes();
+        var schemaEntry = graphStore.schema().relationshipSchema().get(relationshipType);
+        var undirected = schemaEntry.isUndirected();
+        var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relationshipType));
+        var addedProperties = addedProperties(graphStore, relationshipType, propertyKeys, idMap, added);
+        var removedTargets = removedTargets(removed, undirected);
+
+        var relationshipsBuilder = NodeRelabeling.relationshipsBuilder(
+            graphStore,
+            relationshipType,
+            propertyKeys,
+            idMap,
+            concurrency
+        );
+
+        var compositeIterator = graphStore.getCompositeRelationshipIterator(relationshipType, propertyKeys);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            oldIdMap.nodeCount(),
+            partition -> (Runnable) () -> {
+                var iterator = compositeIterator.concurrentCopy();
+                partition.consume(nodeId -> {
+                    var originalSource = oldIdMap.toOriginalNodeId(nodeId);
+                    if (removedNodes.contains(originalSource)) {
+                        return;
+                    }
+                    var removedTargetsOfSource = removedTargets.get(originalSource);
+                    iterator.forEachRelationship(nodeId, (source, target, properties) -> {
+                        var originalTarget = oldIdMap.toOriginalNodeId(target);
+                        if (removedNodes.contains(originalTarget)
+                            || (removedTargetsOfSource != null && removedTargetsOfSource.contains(originalTarget))) {
+                            return true;
+                        }
+                        add(relationshipsBuilder, originalSource, originalTarget, properties);
+                        return true;
+                    });
+                });
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(Pools.DEFAULT)
+            .run();
+
+        for (int i = 0; i < added.size(); i++) {
+            var change = added.get(i);
+            add(relationshipsBuilder, change.sourceOriginalId(), change.targetOriginalId(), addedProperties[i]);
+            if (undirected) {
+                add(relationshipsBuilder, change.targetOriginalId(), change.sourceOriginalId(), addedProperties[i]);
+            }
+        }
+
+        // The builder adds every relationship in natural orientation, since undirected
+        // relationships are already stored in both directions. Keep the projected schema instead.
+        return SingleTypeRelationships.builder()
+            .from(relationshipsBuilder.build())
+            .relationshipSchemaEntry(MutableRelationshipSchemaEntry.from(schemaEntry))
+            .build();
+    }
+
+    /**
+     * Returns the removed targets by the original id of their source.
+     * Undirected relationships are stored in both directions, so both of them are removed.
+     */
+    private static LongObjectHashMap<LongHashSet> removedTargets(
+        List<GraphStoreDelta.RelationshipChange> removed,
+        boolean undirected
+    ) {
+        var removedTargets = new LongObjectHashMap<LongHashSet>();
+        for (var change : removed) {
+            addRemoved(removedTargets, change.sourceOriginalId(), change.targetOriginalId());
+            if (undirected) {
+                addRemoved(removedTargets, change.targetOriginalId(), change.sourceOriginalId());
+            }
+        }
+        return removedTargets;
+    }
+
+    /**
+     * Validates that the nodes of the added relationships exist and returns their property values.
+     * Added relationships are read like relationships from the database, e.g. they count as one for COUNT.
+     * Relationships that already exist are aggregated with them according to the projected aggregation.
+     */
+    private static double[][] addedProperties(
+        CSRGraphStore graphStore,
+        RelationshipType relationshipType,
+        List<String> propertyKeys,
+        IdMap idMap,
+        List<GraphStoreDelta.RelationshipChange> added
+    ) {
+        var schemaEntry = graphStore.schema().relationshipSchema().get(relationshipType);
+        var defaultValues = new double[propertyKeys.size()];
+        var aggregations = new Aggregation[propertyKeys.size()];
+        for (int i = 0; i < propertyKeys.size(); i++) {
+            var propertyKey = propertyKeys.get(i);
+            defaultValues[i] = graphStore.relationshipPropertyValues(relationshipType, propertyKey).defaultValue().doubleValue();
+            aggregations[i] = Aggregation.resolve(schemaEntry.properties().get(propertyKey).aggregation());
+        }
+
+        var addedProperties = new double[added.size()][];
+        for (int changeIndex = 0; changeIndex < added.size(); changeIndex++) {
+            var change = added.get(changeIndex);
+            var source = change.sourceOriginalId();
+            var target = change.targetOriginalId();
+            for (var nodeId : new long[]{source, target}) {
+                if (idMap.safeToMappedNodeId(nodeId) == IdMap.NOT_FOUND) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Cannot add relationship (%d)-[:%s]->(%d), node %d does not exist in the graph.",
+                        source,
+                        relationshipType.name,
+                        target,
+                        nodeId
+                    ));
+                }
+            }
+            var properties = defaultValues.clone();
+            for (int i = 0; i < propertyKeys.size(); i++) {
+                var value = change.properties().get(propertyKeys.get(i));
+                if (value != null) {
+                    properties[i] = value;
+                }
+                properties[i] = aggregations[i].normalizePropertyValue(properties[i]);
+            }
+            addedProperties[changeIndex] = properties;
+        }
+        return addedProperties;
+    }
+
+    private static void addRemoved(LongObjectHashMap<LongHashSet> removedTargets, long source, long target) {
+        var targets = removedTargets.get(source);
+        if (targets == null) {
+            targets = new LongHashSet();
+            removedTargets.put(source, targets);
+        }
+        targets.add(target);
+    }
+
+    private static void add(RelationshipsBuilder relationshipsBuilder, long source, long target, double[] properties) {
+        if (properties.length == 0) {
+            relationshipsBuilder.add(source, target);
+        } else if (properties.length == 1) {
+            relationshipsBuilder.add(source, target, properties[0]);
+        } else {
+            relationshipsBuilder.add(source, target, properties);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PatchedNodeConsumer {
+        void accept(CompositeRelationshipIterator iterator, long nodeId);
+    }
+}
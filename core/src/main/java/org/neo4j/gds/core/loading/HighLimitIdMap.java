@@ -31,10 +31,12 @@ import java.util.Optional;
 public class HighLimitIdMap extends IdMapAdapter {
 
     private final ShardedLongLongMap highToLowIdSpace;
+    private final IdMap internalIdMap;
 
     public HighLimitIdMap(ShardedLongLongMap intermediateIdMap, IdMap internalIdMap) {
         super(internalIdMap);
         this.highToLowIdSpace = intermediateIdMap;
+        this.internalIdMap = internalIdMap;
     }
 
     @Override
@@ -76,6 +78,13 @@ public class HighLimitIdMap extends IdMapAdapter {
             .map(filteredIdMap -> new FilteredHighLimitIdMap(this.highToLowIdSpace, filteredIdMap));
     }
 
+    @Override
+    public Optional<IdMap> withSharedIdMapping() {
+        return internalIdMap
+            .withSharedIdMapping()
+            .map(sharedIdMap -> new HighLimitIdMap(this.highToLowIdSpace, sharedIdMap));
+    }
+
     public static boolean isHighLimitIdMap(String typeId) {
         return typeId.startsWith(HighLimitIdMapBuilder.ID);
     }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.IdMapBehaviorServiceProvider;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds a new id map of the same type as an existing one from a sequence of original ids and their labels.
+ * <p>
+ * Nodes are assigned mapped ids in the order they are added, except for id map types that
+ * define the order themselves, such as the succinct id map which orders nodes by original id.
+ * Labels are recorded with the ids that the id map builder writes back into the batch,
+ * which are the intermediate ids for high-limit id maps.
+ * <p>
+ * Instances are not thread-safe.
+ */
+final class IdMapRebuilder {
+
+    private static final int BATCH_SIZE = ParallelUtil.DEFAULT_BATCH_SIZE;
+
+    private final IdMapBuilder idMapBuilder;
+    private final LabelInformation.Builder labelInformationBuilder;
+    private final boolean hasLabelInformation;
+    private final long highestOriginalId;
+    private final int concurrency;
+
+    private final long[] batch;
+    private final List<Collection<NodeLabel>> batchLabels;
+    private int length;
+
+    static IdMapRebuilder of(
+        String idMapType,
+        Collection<NodeLabel> availableLabels,
+        long nodeCount,
+        long highestOriginalId,
+        int concurrency
+    ) {
+        var idMapBuilder = IdMapBehaviorServiceProvider
+            .idMapBehavior()
+            .create(idMapType, concurrency, Optional.of(highestOriginalId), Optional.of(nodeCount));
+
+        boolean hasLabelInformation = !(availableLabels.size() == 1 && availableLabels.contains(NodeLabel.ALL_NODES));
+        // high-limit id maps store labels by their intermediate ids, which are bounded by the node count
+        long labelCapacity = HighLimitIdMap.isHighLimitIdMap(idMapType) ? nodeCount : highestOriginalId + 1;
+        var labelInformationBuilder = hasLabelInformation
+            ? LabelInformationBuilders.multiLabelWithCapacityAndLabelInformation(
+                labelCapacity,
+                new ArrayList<>(availableLabels),
+                List.of()
+            )
+            : LabelInformationBuilders.allNodes();
+
+        return new IdMapRebuilder(
+            idMapBuilder,
+            labelInformationBuilder,
+            hasLabelInformation,
+            highestOriginalId,
+            concurrency
+        );
+    }
+
+    private IdMapRebuilder(
+        IdMapBuilder idMapBuilder,
+        LabelInformation.Builder labelInformationBuilder,
+        boolean hasLabelInformation,
+        long highestOriginalId,
+        int concurrency
+    ) {
+        this.idMapBuilder = idMapBuilder;
+        this.labelInformationBuilder = labelInformationBuilder;
+        this.hasLabelInformation = hasLabelInformation;
+        this.highestOriginalId = highestOriginalId;
+        this.concurrency = concurrency;
+        this.batch = new long[BATCH_SIZE];
+        this.batchLabels = new ArrayList<>(BATCH_SIZE);
+    }
+
+    void add(long originalId, Collection<NodeLabel> labels) {
+        batch[length++] = originalId;
+        if (hasLabelInformation) {
+            batchLabels.add(labels);
+        }
+        if (length == BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    IdMap build() {
+        flush();
+        return idMapBuilder.build(labelInformationBuilder, highestOriginalId, concurrency);
+    }
+
+    private void flush() {
+        if (length == 0) {
+            return;
+        }
+        var ids = length == BATCH_SIZE ? batch : Arrays.copyOf(batch, length);
+        idMapBuilder.allocate(length).insert(ids);
+        if (hasLabelInformation) {
+            for (int i = 0; i < length; i++) {
+                long nodeId = ids[i];
+                batchLabels.get(i).forEach(label -> labelInformationBuilder.addNodeIdToLabel(label, nodeId));
+            }
+            batchLabels.clear();
+        }
+        length = 0;
+    }
+}
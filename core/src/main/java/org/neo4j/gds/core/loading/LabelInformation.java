@@ -22,6 +22,7 @@ package org.neo4j.gds.core.loading;
 import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.utils.paged.HugeCompressedBitSet;
 
 import java.util.Collection;
 import java.util.List;
@@ -61,8 +62,13 @@ public interface LabelInformation {
 
     LabelInformation toMultiLabel(NodeLabel nodeLabelToMutate);
 
+    /**
+     * Returns label information that can be mutated independently of this one.
+     */
+    LabelInformation copy();
+
     interface LabelInformationConsumer {
-        boolean accept(NodeLabel nodeLabel, BitSet bitSet);
+        boolean accept(NodeLabel nodeLabel, HugeCompressedBitSet bitSet);
     }
 
     interface Builder {
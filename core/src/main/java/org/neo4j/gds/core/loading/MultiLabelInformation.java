@@ -25,9 +25,11 @@ import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.BatchNodeIterable;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.core.utils.paged.HugeAtomicGrowingBitSet;
+import org.neo4j.gds.core.utils.paged.HugeCompressedBitSet;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.PrimitiveIterator;
@@ -39,9 +41,9 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class MultiLabelInformation implements LabelInformation {
 
-    private final Map<NodeLabel, BitSet> labelInformation;
+    private final Map<NodeLabel, HugeCompressedBitSet> labelInformation;
 
-    private MultiLabelInformation(Map<NodeLabel, BitSet> labelInformation) {
+    private MultiLabelInformation(Map<NodeLabel, HugeCompressedBitSet> labelInformation) {
         this.labelInformation = labelInformation;
     }
 
@@ -52,7 +54,7 @@ public final class MultiLabelInformation implements LabelInformation {
 
     @Override
     public void forEach(LabelInformationConsumer consumer) {
-        for (Map.Entry<NodeLabel, BitSet> entry : labelInformation.entrySet()) {
+        for (Map.Entry<NodeLabel, HugeCompressedBitSet> entry : labelInformation.entrySet()) {
             if (!consumer.accept(entry.getKey(), entry.getValue())) {
                 return;
             }
@@ -71,7 +73,7 @@ public final class MultiLabelInformation implements LabelInformation {
         assert labelInformation.keySet().containsAll(nodeLabels);
 
         BitSet unionBitSet = new BitSet(nodeCount);
-        nodeLabels.forEach(label -> unionBitSet.union(labelInformation.get(label)));
+        nodeLabels.forEach(label -> labelInformation.get(label).orInto(unionBitSet));
         return unionBitSet;
     }
 
@@ -85,7 +87,7 @@ public final class MultiLabelInformation implements LabelInformation {
 
     @Override
     public void addLabel(NodeLabel nodeLabel) {
-        labelInformation.computeIfAbsent(nodeLabel, (ignored) -> new BitSet());
+        labelInformation.computeIfAbsent(nodeLabel, (ignored) -> HugeCompressedBitSet.create(0));
     }
 
     @Override
@@ -98,6 +100,13 @@ public final class MultiLabelInformation implements LabelInformation {
         return false;
     }
 
+    @Override
+    public LabelInformation copy() {
+        var copiedLabelInformation = new HashMap<NodeLabel, HugeCompressedBitSet>(labelInformation.size());
+        labelInformation.forEach((nodeLabel, bitSet) -> copiedLabelInformation.put(nodeLabel, bitSet.copy()));
+        return new MultiLabelInformation(copiedLabelInformation);
+    }
+
     @Override
     public LabelInformation toMultiLabel(NodeLabel nodeLabelToMutate) {
         addLabel(nodeLabelToMutate);
@@ -204,17 +213,19 @@ public final class MultiLabelInformation implements LabelInformation {
                 ).set(nodeId);
         }
 
-        private Map<NodeLabel, BitSet> buildInner(long nodeCount, LongUnaryOperator mappedIdFn) {
+        private Map<NodeLabel, HugeCompressedBitSet> buildInner(long nodeCount, LongUnaryOperator mappedIdFn) {
             return this.labelInformation
                 .entrySet()
                 .stream()
                 .collect(Collectors.toMap(Map.Entry::getKey, e -> {
                     var importBitSet = e.getValue();
-                    var internBitSet = new BitSet(nodeCount);
+                    // Mapped ids do not arrive in order. Collecting them in a dense bit set orders them,
+                    // so that the containers are built at once instead of by inserting into sorted arrays.
+                    var mappedIds = new BitSet(nodeCount);
 
-                    importBitSet.forEachSetBit(neoId -> internBitSet.set(mappedIdFn.applyAsLong(neoId)));
+                    importBitSet.forEachSetBit(neoId -> mappedIds.set(mappedIdFn.applyAsLong(neoId)));
 
-                    return internBitSet;
+                    return HugeCompressedBitSet.of(mappedIds);
                 }));
         }
 
@@ -230,7 +241,7 @@ public final class MultiLabelInformation implements LabelInformation {
 
             // set the whole range for '*' projections
             for (NodeLabel starLabel : starNodeLabelMappings) {
-                var bitSet = new BitSet(nodeCount);
+                var bitSet = HugeCompressedBitSet.create(nodeCount);
                 bitSet.set(0, nodeCount);
                 labelInformation.put(starLabel, bitSet);
             }
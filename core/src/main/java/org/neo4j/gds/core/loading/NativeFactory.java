@@ -234,7 +234,11 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         // adjacency list
         afterLoadingEstimation.add(
             formatWithLocale("adjacency list for '%s'%s", relationshipType, indexSuffix),
-            AdjacencyListBehavior.adjacencyListEstimation(relationshipType, undirected)
+            AdjacencyListBehavior.adjacencyListEstimation(
+                relationshipType,
+                undirected,
+                relationshipProjection.compression()
+            )
         );
         // all properties per projection
         relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
@@ -303,6 +307,7 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
             Nodes nodes = loadNodes(concurrency);
             RelationshipImportResult relationships = loadRelationships(nodes.idMap(), concurrency);
             CSRGraphStore graphStore = createGraphStore(nodes, relationships);
+            graphStore = relabel(graphStore, concurrency);
 
             logLoadingSummary(graphStore);
 
@@ -312,6 +317,26 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         }
     }
 
+    private CSRGraphStore relabel(CSRGraphStore graphStore, int concurrency) {
+        var nodeOrdering = storeConfig.nodeOrdering();
+        if (nodeOrdering == NodeOrdering.NONE) {
+            return graphStore;
+        }
+
+        var bytesBefore = NodeRelabeling.bytesPerRelationship(graphStore);
+        var relabeledGraphStore = NodeRelabeling.relabel(graphStore, nodeOrdering, concurrency);
+        var bytesAfter = NodeRelabeling.bytesPerRelationship(relabeledGraphStore);
+
+        progressTracker.logInfo(formatWithLocale(
+            "Relabeled nodes using %s ordering, bytes per relationship: %.2f before, %.2f after",
+            nodeOrdering,
+            bytesBefore,
+            bytesAfter
+        ));
+
+        return relabeledGraphStore;
+    }
+
     private Nodes loadNodes(int concurrency) {
         var scanningNodesImporter = new ScanningNodesImporterBuilder()
             .concurrency(concurrency)
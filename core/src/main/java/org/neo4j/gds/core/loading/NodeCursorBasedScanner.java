@@ -27,8 +27,18 @@ import org.neo4j.kernel.api.KernelTransaction;
 
 final class NodeCursorBasedScanner extends AbstractNodeCursorBasedScanner<NodeCursor> {
 
-    NodeCursorBasedScanner(int prefetchSize, TransactionContext transaction) {
+    private final long highestPossibleNodeCount;
+    private final int threadCount;
+
+    NodeCursorBasedScanner(
+        int prefetchSize,
+        TransactionContext transaction,
+        long highestPossibleNodeCount,
+        int threadCount
+    ) {
         super(prefetchSize, transaction);
+        this.highestPossibleNodeCount = highestPossibleNodeCount;
+        this.threadCount = threadCount;
     }
 
     @Override
@@ -38,7 +48,7 @@ final class NodeCursorBasedScanner extends AbstractNodeCursorBasedScanner<NodeCu
 
     @Override
     StoreScan<NodeCursor> entityCursorScan(KernelTransaction transaction) {
-        return Neo4jProxy.scanToStoreScan(transaction.dataRead().allNodesScan(), batchSize());
+        return storeScan(transaction.dataRead().allNodesScan(), highestPossibleNodeCount, threadCount);
     }
 
     @Override
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.EnumParsing;
+
+/**
+ * The order in which nodes are assigned mapped ids after a native projection.
+ * Orderings other than {@link #NONE} relabel the projected graph so that nodes which are
+ * accessed together are stored close to each other, see {@link NodeRelabeling}.
+ */
+public enum NodeOrdering {
+    /**
+     * Keep the mapped ids in the order they have been imported.
+     */
+    NONE,
+    /**
+     * Order nodes by descending degree, placing hub nodes at the beginning of the id space.
+     */
+    DEGREE,
+    /**
+     * Order nodes by a breadth-first traversal, starting each component at its highest degree node.
+     */
+    BFS,
+    /**
+     * Order nodes by the reverse Cuthill-McKee traversal, which minimizes the bandwidth of the adjacency matrix.
+     */
+    CUTHILL_MCKEE;
+
+    public static NodeOrdering parse(Object input) {
+        return EnumParsing.parse(input, NodeOrdering.class, "Node ordering");
+    }
+
+    public static String toString(NodeOrdering nodeOrdering) {
+        return nodeOrdering.toString();
+    }
+}
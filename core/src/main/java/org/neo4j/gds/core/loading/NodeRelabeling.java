@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.loading.nodeproperties.DoubleArrayNodePropertiesBuilder;
+import org.neo4j.gds.core.loading.nodeproperties.DoubleNodePropertiesBuilder;
+import org.neo4j.gds.core.loading.nodeproperties.FloatArrayNodePropertiesBuilder;
+import org.neo4j.gds.core.loading.nodeproperties.LongArrayNodePropertiesBuilder;
+import org.neo4j.gds.core.loading.nodeproperties.LongNodePropertiesBuilder;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Renumbers the mapped node ids of a graph store according to a {@link NodeOrdering}.
+ * <p>
+ * The ordering is computed on the union of all relationship types.
+ * Afterwards, the id map, the node properties and all adjacency lists are rebuilt in the new order.
+ * Neighbours that are close in the new id space yield smaller gaps in the delta encoded
+ * adjacency lists and are more likely to be found in the same cache line during traversals.
+ */
+public final class NodeRelabeling {
+
+    private NodeRelabeling() {}
+
+    public static CSRGraphStore relabel(CSRGraphStore graphStore, NodeOrdering nodeOrdering, int concurrency) {
+        if (nodeOrdering == NodeOrdering.NONE) {
+            return graphStore;
+        }
+
+        var order = computeOrder(graphStore.getUnion(), nodeOrdering);
+        var idMap = relabelIdMap(graphStore.nodes(), graphStore.nodeLabels(), order, concurrency);
+        var nodeProperties = copyNodeProperties(graphStore, idMap, concurrency);
+
+        var relationships = new HashMap<RelationshipType, SingleTypeRelationships>();
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            relationships.put(relationshipType, copyRelationships(graphStore, relationshipType, idMap, concurrency));
+        }
+
+        var schema = MutableGraphSchema.from(graphStore.schema());
+
+        return new GraphStoreBuilder()
+            .databaseId(graphStore.databaseId())
+            .capabilities(graphStore.capabilities())
+            .schema(schema)
+            .nodes(ImmutableNodes.of(schema.nodeSchema(), idMap, nodeProperties))
+            .relationshipImportResult(RelationshipImportResult.of(relationships))
+            .concurrency(concurrency)
+            .build();
+    }
+
+    /**
+     * Returns the number of bytes that the adjacency lists of the given graph store occupy per stored relationship.
+     */
+    public static double bytesPerRelationship(CSRGraphStore graphStore) {
+        var relationshipCount = graphStore.relationshipCount();
+        if (relationshipCount == 0) {
+            return 0;
+        }
+        long bytes = 0;
+        for (var topology : graphStore.getUnion().relationshipTopologies().values()) {
+            bytes += topology.adjacencyList().memoryInfo().bytesTotal().orElse(0);
+        }
+        return (double) bytes / relationshipCount;
+    }
+
+    /**
+     * Computes the new order of the nodes, the value at index {@code i} is the old mapped id of the node
+     * that will be assigned the mapped id {@code i}.
+     */
+    static HugeLongArray computeOrder(Graph graph, NodeOrdering nodeOrdering) {
+        switch (nodeOrdering) {
+            case DEGREE:
+                return degreeOrder(graph, true);
+            case BFS:
+                return traversalOrder(graph, degreeOrder(graph, true), false);
+            case CUTHILL_MCKEE:
+                return reverse(traversalOrder(graph, degreeOrder(graph, false), true));
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node ordering `%s` does not define an order.",
+                    nodeOrdering
+                ));
+        }
+    }
+
+    /**
+     * Orders all nodes by their degree using a counting sort, ties are broken by the old mapped id.
+     */
+    private static HugeLongArray degreeOrder(Graph graph, boolean descending) {
+        var nodeCount = graph.nodeCount();
+        int maxDegree = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            maxDegree = Math.max(maxDegree, graph.degree(nodeId));
+        }
+
+        var offsets = new long[maxDegree + 2];
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets[bucket(graph.degree(nodeId), maxDegree, descending) + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+
+        var order = HugeLongArray.newArray(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            order.set(offsets[bucket(graph.degree(nodeId), maxDegree, descending)]++, nodeId);
+        }
+        return order;
+    }
+
+    private static int bucket(int degree, int maxDegree, boolean descending) {
+        return descending ? maxDegree - degree : degree;
+    }
+
+    /**
+     * Orders all nodes by a breadth-first traversal.
+     * A new traversal is started from the first unvisited node of the given {@code seeds} order
+     * whenever the previous traversal has been exhausted.
+     * The new order is used as the traversal queue at the same time.
+     */
+    private static HugeLongArray traversalOrder(Graph graph, HugeLongArray seeds, boolean sortNeighboursByDegree) {
+        var nodeCount = graph.nodeCount();
+        var order = HugeLongArray.newArray(nodeCount);
+        var visited = new BitSet(nodeCount);
+        var neighbours = new NeighbourBuffer(graph, sortNeighboursByDegree);
+
+        long tail = 0;
+        long head = 0;
+        for (long seedIndex = 0; seedIndex < nodeCount; seedIndex++) {
+            var seed = seeds.get(seedIndex);
+            if (visited.get(seed)) {
+                continue;
+            }
+            visited.set(seed);
+            order.set(tail++, seed);
+
+            while (head < tail) {
+                var nodeId = order.get(head++);
+                neighbours.reset();
+                graph.forEachRelationship(nodeId, (source, target) -> {
+                    if (!visited.get(target)) {
+                        visited.set(target);
+                        neighbours.add(target);
+                    }
+                    return true;
+                });
+                for (int i = 0; i < neighbours.size(); i++) {
+                    order.set(tail++, neighbours.get(i));
+                }
+            }
+        }
+        return order;
+    }
+
+    private static HugeLongArray reverse(HugeLongArray order) {
+        var size = order.size();
+        for (long lo = 0, hi = size - 1; lo < hi; lo++, hi--) {
+            var tmp = order.get(lo);
+            order.set(lo, order.get(hi));
+            order.set(hi, tmp);
+        }
+        return order;
+    }
+
+    private static IdMap relabelIdMap(IdMap idMap, Collection<NodeLabel> nodeLabels, HugeLongArray order, int concurrency) {
+        var nodeCount = idMap.nodeCount();
+        // succinct id maps order nodes by their original id, which would undo the relabeling
+        var idMapType = idMap.typeId().equals(SuccinctIdMapBuilder.ID) ? ArrayIdMapBuilder.ID : idMap.typeId();
+        var idMapRebuilder = IdMapRebuilder.of(idMapType, nodeLabels, nodeCount, idMap.highestOriginalId(), concurrency);
+
+        for (long newNodeId = 0; newNodeId < nodeCount; newNodeId++) {
+            var oldNodeId = order.get(newNodeId);
+            idMapRebuilder.add(idMap.toOriginalNodeId(oldNodeId), idMap.nodeLabels(oldNodeId));
+        }
+
+        return idMapRebuilder.build();
+    }
+
+    /**
+     * Copies all node properties of the graph store into the given id map, matching nodes by their original id.
+     * Nodes that are missing from the id map are dropped, nodes that are new to it get the default value.
+     */
+    static NodePropertyStore copyNodeProperties(GraphStore graphStore, IdMap idMap, int concurrency) {
+        var oldIdMap = graphStore.nodes();
+        var builder = NodePropertyStore.builder();
+
+        for (var propertyKey : graphStore.nodePropertyKeys()) {
+            var nodeProperty = graphStore.nodeProperty(propertyKey);
+            var values = nodeProperty.values();
+            var defaultValue = nodeProperty.propertySchema().defaultValue();
+
+            NodePropertyValues relabeledValues;
+            switch (values.valueType()) {
+                case LONG:
+                    var longBuilder = LongNodePropertiesBuilder.of(defaultValue, concurrency);
+                    forEachNode(oldIdMap, concurrency, nodeId -> longBuilder.set(
+                        oldIdMap.toOriginalNodeId(nodeId),
+                        values.longValue(nodeId)
+                    ));
+                    relabeledValues = longBuilder.build(idMap.nodeCount(), idMap, idMap.highestOriginalId());
+                    break;
+                case DOUBLE:
+                    var doubleBuilder = new DoubleNodePropertiesBuilder(defaultValue, concurrency);
+                    forEachNode(oldIdMap, concurrency, nodeId -> doubleBuilder.set(
+                        oldIdMap.toOriginalNodeId(nodeId),
+                        values.doubleValue(nodeId)
+                    ));
+                    relabeledValues = doubleBuilder.build(idMap.nodeCount(), idMap, idMap.highestOriginalId());
+                    break;
+                case DOUBLE_ARRAY:
+                    var doubleArrayBuilder = new DoubleArrayNodePropertiesBuilder(defaultValue, concurrency);
+                    forEachNode(oldIdMap, concurrency, nodeId -> {
+                        var value = values.doubleArrayValue(nodeId);
+                        if (value != null) {
+                            doubleArrayBuilder.set(oldIdMap.toOriginalNodeId(nodeId), value);
+                        }
+                    });
+                    relabeledValues = doubleArrayBuilder.build(idMap.nodeCount(), idMap, idMap.highestOriginalId());
+                    break;
+                case FLOAT_ARRAY:
+                    var floatArrayBuilder = new FloatArrayNodePropertiesBuilder(defaultValue, concurrency);
+                    forEachNode(oldIdMap, concurrency, nodeId -> {
+                        var value = values.floatArrayValue(nodeId);
+                        if (value != null) {
+                            floatArrayBuilder.set(oldIdMap.toOriginalNodeId(nodeId), value);
+                        }
+                    });
+                    relabeledValues = floatArrayBuilder.build(idMap.nodeCount(), idMap, idMap.highestOriginalId());
+                    break;
+                case LONG_ARRAY:
+                    var longArrayBuilder = new LongArrayNodePropertiesBuilder(defaultValue, concurrency);
+                    forEachNode(oldIdMap, concurrency, nodeId -> {
+                        var value = values.longArrayValue(nodeId);
+                        if (value != null) {
+                            longArrayBuilder.set(oldIdMap.toOriginalNodeId(nodeId), value);
+                        }
+                    });
+                    relabeledValues = longArrayBuilder.build(idMap.nodeCount(), idMap, idMap.highestOriginalId());
+                    break;
+                default:
+                    throw new UnsupportedOperationException(formatWithLocale(
+                        "Cannot relabel node property `%s` of type %s",
+                        propertyKey,
+                        values.valueType()
+                    ));
+            }
+
+            builder.putProperty(
+                propertyKey,
+                ImmutableNodeProperty.of(relabeledValues, nodeProperty.propertySchema())
+            );
+        }
+
+        return builder.build();
+    }
+
+    private static void forEachNode(IdMap idMap, int concurrency, LongConsumer consumer) {
+        ParallelUtil.parallelForEachNode(idMap.nodeCount(), concurrency, TerminationFlag.RUNNING_TRUE, consumer);
+    }
+
+    private static SingleTypeRelationships copyRelationships(
+        GraphStore graphStore,
+        RelationshipType relationshipType,
+        IdMap idMap,
+        int concurrency
+    ) {
+        var oldIdMap = graphStore.nodes();
+        var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relationshipType));
+
+        var relationshipsBuilder = relationshipsBuilder(graphStore, relationshipType, propertyKeys, idMap, concurrency);
+
+        var compositeIterator = graphStore.getCompositeRelationshipIterator(relationshipType, propertyKeys);
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            oldIdMap.nodeCount(),
+            partition -> (Runnable) () -> {
+                var iterator = compositeIterator.concurrentCopy();
+                partition.consume(nodeId -> iterator.forEachRelationship(nodeId, (source, target, properties) -> {
+                    var originalSource = oldIdMap.toOriginalNodeId(source);
+                    var originalTarget = oldIdMap.toOriginalNodeId(target);
+                    if (properties.length == 0) {
+                        relationshipsBuilder.add(originalSource, originalTarget);
+                    } else if (properties.length == 1) {
+                        relationshipsBuilder.add(originalSource, originalTarget, properties[0]);
+                    } else {
+                        relationshipsBuilder.add(originalSource, originalTarget, properties);
+                    }
+                    return true;
+                }));
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(Pools.DEFAULT)
+            .run();
+
+        // The builder adds every relationship in natural orientation, since undirected
+        // relationships are already stored in both directions. Keep the projected schema instead.
+        var schemaEntry = graphStore.schema().relationshipSchema().get(relationshipType);
+        return SingleTypeRelationships.builder()
+            .from(relationshipsBuilder.build())
+            .relationshipSchemaEntry(MutableRelationshipSchemaEntry.from(schemaEntry))
+            .build();
+    }
+
+    /**
+     * Creates a builder that imports relationships of the given type the same way they have been projected:
+     * with the aggregation of every property, the multi-graph flag, the adjacency compression
+     * and the inverse index of the existing topology.
+     */
+    static RelationshipsBuilder relationshipsBuilder(
+        GraphStore graphStore,
+        RelationshipType relationshipType,
+        List<String> propertyKeys,
+        IdMap idMap,
+        int concurrency
+    ) {
+        return relationshipsBuilder(
+            graphStore,
+            relationshipType,
+            propertyKeys,
+            idMap,
+            graphStore.inverseIndexedRelationshipTypes().contains(relationshipType),
+            concurrency
+        );
+    }
+
+    static RelationshipsBuilder relationshipsBuilder(
+        GraphStore graphStore,
+        RelationshipType relationshipType,
+        List<String> propertyKeys,
+        IdMap idMap,
+        boolean indexInverse,
+        int concurrency
+    ) {
+        var topology = graphStore.relationships(relationshipType).orElseThrow().topology();
+        var propertySchemas = graphStore.schema().relationshipSchema().get(relationshipType).properties();
+        // Types without properties only record their aggregation in the topology.
+        // Aggregating already unique relationships with SINGLE keeps them as they are.
+        var topologyAggregation = topology.isMultiGraph() ? Aggregation.NONE : Aggregation.SINGLE;
+
+        var propertyConfigs = propertyKeys
+            .stream()
+            .map(propertyKey -> {
+                var aggregation = Aggregation.resolve(propertySchemas.get(propertyKey).aggregation());
+                return GraphFactory.PropertyConfig.of(
+                    propertyKey,
+                    Aggregation.equivalentToNone(aggregation) ? topologyAggregation : aggregation,
+                    graphStore.relationshipPropertyValues(relationshipType, propertyKey).defaultValue()
+                );
+            })
+            .collect(Collectors.toList());
+
+        return GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(relationshipType)
+            .concurrency(concurrency)
+            .aggregation(topologyAggregation)
+            .addAllPropertyConfigs(propertyConfigs)
+            .indexInverse(indexInverse)
+            .compression(topology.adjacencyList().compression())
+            .build();
+    }
+
+    /**
+     * Collects the unvisited neighbours of a single node, optionally sorted by ascending degree.
+     */
+    private static final class NeighbourBuffer {
+        private final Graph graph;
+        private final boolean sortByDegree;
+        private long[] targets;
+        private long[] degrees;
+        private int size;
+        private int[] order;
+
+        NeighbourBuffer(Graph graph, boolean sortByDegree) {
+            this.graph = graph;
+            this.sortByDegree = sortByDegree;
+            this.targets = new long[16];
+            this.degrees = new long[16];
+        }
+
+        void reset() {
+            this.size = 0;
+            this.order = null;
+        }
+
+        void add(long target) {
+            if (size == targets.length) {
+                targets = Arrays.copyOf(targets, size * 2);
+                degrees = Arrays.copyOf(degrees, size * 2);
+            }
+            targets[size] = target;
+            degrees[size] = graph.degree(target);
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long get(int index) {
+            if (!sortByDegree) {
+                return targets[index];
+            }
+            if (order == null) {
+                order = IndirectSort.mergesort(0, size, new AscendingLongComparator(degrees));
+            }
+            return targets[order[index]];
+        }
+    }
+}
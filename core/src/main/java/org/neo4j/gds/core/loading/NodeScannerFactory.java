@@ -35,6 +35,8 @@ public final class NodeScannerFactory {
     public static StoreScanner.Factory<NodeReference> create(
         TransactionContext transactionContext,
         int[] labelIds,
+        long highestPossibleNodeCount,
+        int concurrency,
         Log log
     ) {
         var hasNodeLabelIndex = hasNodeLabelIndex(transactionContext);
@@ -44,7 +46,12 @@ public final class NodeScannerFactory {
         }
 
         if (Arrays.stream(labelIds).anyMatch(labelId -> labelId == ANY_LABEL) || !hasNodeLabelIndex) {
-            return NodeCursorBasedScanner::new;
+            return (prefetchSize, transaction) -> new NodeCursorBasedScanner(
+                prefetchSize,
+                transaction,
+                highestPossibleNodeCount,
+                concurrency
+            );
         } else if (labelIds.length == 1) {
             return (prefetchSize, transaction) -> new NodeLabelIndexBasedScanner(
                 labelIds[0],
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.core.Compression;
+import org.neo4j.gds.core.compression.MemoryInfo;
+
+import java.util.stream.Stream;
+
+/**
+ * An adjacency list that replaces the lists of some nodes of another adjacency list.
+ * <p>
+ * The lists of the patched nodes are read from the patch, all other lists from the base.
+ * Nodes that have been appended after the base has been built and that are not patched have no relationships.
+ * This allows a refresh to only rewrite the lists that changed, while sharing the base with the previous graph store.
+ */
+final class PatchedAdjacencyList implements AdjacencyList {
+
+    private final AdjacencyList base;
+    private final AdjacencyList patch;
+    private final BitSet patchedNodes;
+    private final long baseNodeCount;
+
+    PatchedAdjacencyList(AdjacencyList base, AdjacencyList patch, BitSet patchedNodes, long baseNodeCount) {
+        this.base = base;
+        this.patch = patch;
+        this.patchedNodes = patchedNodes;
+        this.baseNodeCount = baseNodeCount;
+    }
+
+    AdjacencyList base() {
+        return base;
+    }
+
+    BitSet patchedNodes() {
+        return patchedNodes;
+    }
+
+    long baseNodeCount() {
+        return baseNodeCount;
+    }
+
+    /**
+     * Returns the lists that hold the data of the given list, which are the base and the patch for patched lists.
+     */
+    static Stream<AdjacencyList> components(AdjacencyList adjacencyList) {
+        if (adjacencyList instanceof PatchedAdjacencyList) {
+            var patched = (PatchedAdjacencyList) adjacencyList;
+            return Stream.of(patched.base, patched.patch);
+        }
+        return Stream.of(adjacencyList);
+    }
+
+    @Override
+    public int degree(long node) {
+        if (patchedNodes.get(node)) {
+            return patch.degree(node);
+        }
+        return node < baseNodeCount ? base.degree(node) : 0;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        if (patchedNodes.get(node)) {
+            return patch.adjacencyCursor(node, fallbackValue);
+        }
+        return node < baseNodeCount ? base.adjacencyCursor(node, fallbackValue) : AdjacencyCursor.empty();
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        if (!(reuse instanceof Cursor)) {
+            return adjacencyCursor(node, fallbackValue);
+        }
+        // callers may keep using the cursor they passed in, so it is initialized in place
+        var cursor = (Cursor) reuse;
+        if (patchedNodes.get(node)) {
+            cursor.current = patch.adjacencyCursor(cursor.patchCursor, node, fallbackValue);
+        } else if (node < baseNodeCount) {
+            cursor.current = base.adjacencyCursor(cursor.baseCursor, node, fallbackValue);
+        } else {
+            cursor.current = AdjacencyCursor.empty();
+        }
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new Cursor(base.rawAdjacencyCursor(), patch.rawAdjacencyCursor());
+    }
+
+    @Override
+    public MemoryInfo memoryInfo() {
+        return base.memoryInfo().merge(patch.memoryInfo());
+    }
+
+    @Override
+    public Compression compression() {
+        return base.compression();
+    }
+
+    @Override
+    public void free() {
+        base.free();
+        patch.free();
+    }
+
+    private static final class Cursor implements AdjacencyCursor {
+
+        private final AdjacencyCursor baseCursor;
+        private final AdjacencyCursor patchCursor;
+        private AdjacencyCursor current;
+
+        Cursor(AdjacencyCursor baseCursor, AdjacencyCursor patchCursor) {
+            this.baseCursor = baseCursor;
+            this.patchCursor = patchCursor;
+            this.current = AdjacencyCursor.empty();
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            throw new UnsupportedOperationException(
+                "A cursor of a patched adjacency list can only be initialized through its adjacency list."
+            );
+        }
+
+        @Override
+        public int size() {
+            return current.size();
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return current.hasNextVLong();
+        }
+
+        @Override
+        public long nextVLong() {
+            return current.nextVLong();
+        }
+
+        @Override
+        public int nextBlock(long[] buffer) {
+            return current.nextBlock(buffer);
+        }
+
+        @Override
+        public long peekVLong() {
+            return current.peekVLong();
+        }
+
+        @Override
+        public int remaining() {
+            return current.remaining();
+        }
+
+        @Override
+        public long skipUntil(long nodeId) {
+            return current.skipUntil(nodeId);
+        }
+
+        @Override
+        public long advance(long nodeId) {
+            return current.advance(nodeId);
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            return current.advanceBy(n);
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var copy = destination instanceof Cursor
+                ? (Cursor) destination
+                : new Cursor(baseCursor.shallowCopy(null), patchCursor.shallowCopy(null));
+            if (current == baseCursor) {
+                copy.current = baseCursor.shallowCopy(copy.baseCursor);
+            } else if (current == patchCursor) {
+                copy.current = patchCursor.shallowCopy(copy.patchCursor);
+            } else {
+                copy.current = current.shallowCopy(null);
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+
+/**
+ * The properties of a {@link PatchedAdjacencyList}, which are read from the patch for patched nodes and from the base otherwise.
+ */
+final class PatchedAdjacencyProperties implements AdjacencyProperties {
+
+    private final AdjacencyProperties base;
+    private final AdjacencyProperties patch;
+    private final BitSet patchedNodes;
+    private final long baseNodeCount;
+
+    PatchedAdjacencyProperties(
+        AdjacencyProperties base,
+        AdjacencyProperties patch,
+        BitSet patchedNodes,
+        long baseNodeCount
+    ) {
+        this.base = base;
+        this.patch = patch;
+        this.patchedNodes = patchedNodes;
+        this.baseNodeCount = baseNodeCount;
+    }
+
+    AdjacencyProperties base() {
+        return base;
+    }
+
+    long baseNodeCount() {
+        return baseNodeCount;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        if (patchedNodes.get(node)) {
+            return patch.propertyCursor(node, fallbackValue);
+        }
+        return node < baseNodeCount ? base.propertyCursor(node, fallbackValue) : PropertyCursor.empty();
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        if (!(reuse instanceof Cursor)) {
+            return propertyCursor(node, fallbackValue);
+        }
+        // callers may keep using the cursor they passed in, so it is initialized in place
+        var cursor = (Cursor) reuse;
+        if (patchedNodes.get(node)) {
+            cursor.current = patch.propertyCursor(cursor.patchCursor, node, fallbackValue);
+        } else if (node < baseNodeCount) {
+            cursor.current = base.propertyCursor(cursor.baseCursor, node, fallbackValue);
+        } else {
+            cursor.current = PropertyCursor.empty();
+        }
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(base.rawPropertyCursor(), patch.rawPropertyCursor());
+    }
+
+    private static final class Cursor implements PropertyCursor {
+
+        private final PropertyCursor baseCursor;
+        private final PropertyCursor patchCursor;
+        private PropertyCursor current;
+
+        Cursor(PropertyCursor baseCursor, PropertyCursor patchCursor) {
+            this.baseCursor = baseCursor;
+            this.patchCursor = patchCursor;
+            this.current = PropertyCursor.empty();
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            throw new UnsupportedOperationException(
+                "A cursor of patched adjacency properties can only be initialized through its properties."
+            );
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return current.hasNextLong();
+        }
+
+        @Override
+        public long nextLong() {
+            return current.nextLong();
+        }
+
+        @Override
+        public void close() {
+            baseCursor.close();
+            patchCursor.close();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.mem.BitUtil;
+
+/**
+ * An immutable bit set that answers rank and select queries.
+ *
+ * The rank of a bit is the number of set bits before it, select is the inverse and
+ * returns the position of the set bit with a given rank.
+ * For every block of 512 bits, the rank of its first bit is stored, which adds 1/8 bit per bit.
+ * For every 64th set bit, its position is sampled, which adds one bit per set bit.
+ * Rank counts the bits of at most eight words.
+ * Select starts at the preceding sample and counts the bits of the following words,
+ * unless the next sample is more than a block away, in which case it binary searches the blocks in between.
+ */
+final class RankSelectBitmap {
+
+    private static final int WORD_SHIFT = 6;
+    private static final int BLOCK_SHIFT = 3;
+    private static final int WORDS_PER_BLOCK = 1 << BLOCK_SHIFT;
+    private static final int SAMPLE_SHIFT = 6;
+    private static final long SAMPLE_MASK = (1L << SAMPLE_SHIFT) - 1;
+
+    private final HugeLongArray words;
+    // number of set bits in all blocks before the block at the same index
+    private final HugeLongArray blockRanks;
+    // position of the set bit with rank (i << SAMPLE_SHIFT)
+    private final HugeLongArray selectSamples;
+    private final long size;
+    private final long cardinality;
+
+    /**
+     * Estimates a bitmap over the highest possible node count with one set bit per node.
+     */
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.setup("", dimensions -> {
+            long wordCount = BitUtil.ceilDiv(dimensions.highestPossibleNodeCount(), Long.SIZE);
+            return MemoryEstimations
+                .builder(RankSelectBitmap.class)
+                .fixed("words", HugeLongArray.memoryEstimation(wordCount))
+                .fixed("block ranks", HugeLongArray.memoryEstimation(BitUtil.ceilDiv(wordCount, WORDS_PER_BLOCK)))
+                .fixed(
+                    "select samples",
+                    HugeLongArray.memoryEstimation(BitUtil.ceilDiv(dimensions.nodeCount(), 1L << SAMPLE_SHIFT))
+                )
+                .build();
+        });
+    }
+
+    static RankSelectBitmap of(HugeLongArray words, long size, int concurrency) {
+        var blockCount = BitUtil.ceilDiv(words.size(), WORDS_PER_BLOCK);
+        var blockRanks = HugeLongArray.newArray(blockCount);
+
+        ParallelUtil.readParallel(concurrency, blockCount, Pools.DEFAULT, (startBlock, endBlock) -> {
+            for (long block = startBlock; block < endBlock; block++) {
+                long count = 0;
+                for (long wordIndex = block << BLOCK_SHIFT, end = Math.min(words.size(), wordIndex + WORDS_PER_BLOCK); wordIndex < end; wordIndex++) {
+                    count += Long.bitCount(words.get(wordIndex));
+                }
+                blockRanks.set(block, count);
+            }
+        });
+
+        long cardinality = 0;
+        for (long block = 0; block < blockCount; block++) {
+            long count = blockRanks.get(block);
+            blockRanks.set(block, cardinality);
+            cardinality += count;
+        }
+
+        var selectSamples = HugeLongArray.newArray(BitUtil.ceilDiv(cardinality, 1L << SAMPLE_SHIFT));
+        ParallelUtil.readParallel(concurrency, blockCount, Pools.DEFAULT, (startBlock, endBlock) -> {
+            for (long block = startBlock; block < endBlock; block++) {
+                long rank = blockRanks.get(block);
+                for (long wordIndex = block << BLOCK_SHIFT, end = Math.min(words.size(), wordIndex + WORDS_PER_BLOCK); wordIndex < end; wordIndex++) {
+                    long word = words.get(wordIndex);
+                    int count = Long.bitCount(word);
+                    // every sample is written by the word that contains its bit
+                    for (long sample = BitUtil.ceilDiv(rank, 1L << SAMPLE_SHIFT); (sample << SAMPLE_SHIFT) < rank + count; sample++) {
+                        selectSamples.set(sample, (wordIndex << WORD_SHIFT) + selectInWord(word, (int) ((sample << SAMPLE_SHIFT) - rank)));
+                    }
+                    rank += count;
+                }
+            }
+        });
+
+        return new RankSelectBitmap(words, blockRanks, selectSamples, size, cardinality);
+    }
+
+    private RankSelectBitmap(
+        HugeLongArray words,
+        HugeLongArray blockRanks,
+        HugeLongArray selectSamples,
+        long size,
+        long cardinality
+    ) {
+        this.words = words;
+        this.blockRanks = blockRanks;
+        this.selectSamples = selectSamples;
+        this.size = size;
+        this.cardinality = cardinality;
+    }
+
+    long size() {
+        return this.size;
+    }
+
+    long cardinality() {
+        return this.cardinality;
+    }
+
+    boolean get(long index) {
+        return index >= 0 && index < this.size && (this.words.get(index >>> WORD_SHIFT) & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the number of set bits before the given index.
+     */
+    long rank(long index) {
+        long wordIndex = index >>> WORD_SHIFT;
+        long block = wordIndex >>> BLOCK_SHIFT;
+        long rank = this.blockRanks.get(block);
+        for (long i = block << BLOCK_SHIFT; i < wordIndex; i++) {
+            rank += Long.bitCount(this.words.get(i));
+        }
+        return rank + Long.bitCount(this.words.get(wordIndex) & ((1L << index) - 1));
+    }
+
+    /**
+     * Returns the index of the set bit with the given rank, which must be smaller than the cardinality.
+     */
+    long select(long rank) {
+        long sample = rank >>> SAMPLE_SHIFT;
+        long position = this.selectSamples.get(sample);
+        long remaining = rank & SAMPLE_MASK;
+        if (remaining == 0) {
+            return position;
+        }
+
+        long nextPosition = sample + 1 < this.selectSamples.size()
+            ? this.selectSamples.get(sample + 1)
+            : this.size;
+        long wordIndex = position >>> WORD_SHIFT;
+        if ((nextPosition >>> WORD_SHIFT) - wordIndex > WORDS_PER_BLOCK) {
+            return selectInBlocks(rank, wordIndex >>> BLOCK_SHIFT, (nextPosition - 1) >>> (WORD_SHIFT + BLOCK_SHIFT));
+        }
+
+        // the sampled bit has rank 0 within the masked word
+        return selectInWords(wordIndex, this.words.get(wordIndex) & (-1L << position), remaining);
+    }
+
+    private long selectInBlocks(long rank, long low, long high) {
+        // find the last block that starts at or before the rank
+        while (low < high) {
+            long mid = (low + high + 1) >>> 1;
+            if (this.blockRanks.get(mid) <= rank) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        long wordIndex = low << BLOCK_SHIFT;
+        return selectInWords(wordIndex, this.words.get(wordIndex), rank - this.blockRanks.get(low));
+    }
+
+    private long selectInWords(long wordIndex, long word, long remaining) {
+        while (true) {
+            int count = Long.bitCount(word);
+            if (remaining < count) {
+                return (wordIndex << WORD_SHIFT) + selectInWord(word, (int) remaining);
+            }
+            remaining -= count;
+            word = this.words.get(++wordIndex);
+        }
+    }
+
+    /**
+     * Returns the position of the set bit with the given rank within the word.
+     */
+    static int selectInWord(long word, int rank) {
+        int position = 0;
+        for (int width = Integer.SIZE; width > 0; width >>>= 1) {
+            int count = Long.bitCount(word & ((1L << width) - 1));
+            if (rank >= count) {
+                rank -= count;
+                word >>>= width;
+                position += width;
+            }
+        }
+        return position;
+    }
+}
@@ -30,10 +30,27 @@ import org.neo4j.kernel.impl.store.format.standard.RelationshipRecordFormat;
 
 public final class RelationshipScanCursorBasedScanner extends AbstractCursorBasedScanner<RelationshipReference, RelationshipScanCursor> {
 
-    public static final StoreScanner.Factory<RelationshipReference> FACTORY = RelationshipScanCursorBasedScanner::new;
+    private final long relationshipCount;
+    private final int threadCount;
 
-    private RelationshipScanCursorBasedScanner(int prefetchSize, TransactionContext transaction) {
+    public static StoreScanner.Factory<RelationshipReference> factory(GraphDimensions dimensions, int threadCount) {
+        return (prefetchSize, transaction) -> new RelationshipScanCursorBasedScanner(
+            prefetchSize,
+            transaction,
+            1L + dimensions.highestRelationshipId(),
+            threadCount
+        );
+    }
+
+    private RelationshipScanCursorBasedScanner(
+        int prefetchSize,
+        TransactionContext transaction,
+        long relationshipCount,
+        int threadCount
+    ) {
         super(prefetchSize, transaction);
+        this.relationshipCount = relationshipCount;
+        this.threadCount = threadCount;
     }
 
     @Override
@@ -55,7 +72,7 @@ public final class RelationshipScanCursorBasedScanner extends AbstractCursorBase
 
     @Override
     StoreScan<RelationshipScanCursor> entityCursorScan(KernelTransaction transaction) {
-        return Neo4jProxy.scanToStoreScan(transaction.dataRead().allRelationshipsScan(), batchSize());
+        return storeScan(transaction.dataRead().allRelationshipsScan(), relationshipCount, threadCount);
     }
 
     @Override
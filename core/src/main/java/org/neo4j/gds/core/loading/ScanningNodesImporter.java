@@ -58,7 +58,12 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
     ) {
         var expectedCapacity = dimensions.highestPossibleNodeCount();
 
-        var scannerFactory = scannerFactory(loadingContext.transactionContext(), dimensions, loadingContext.log());
+        var scannerFactory = scannerFactory(
+            loadingContext.transactionContext(),
+            dimensions,
+            concurrency,
+            loadingContext.log()
+        );
 
         var idMapBuilder = IdMapBehaviorServiceProvider
             .idMapBehavior()
@@ -135,13 +140,20 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
     private static StoreScanner.Factory<NodeReference> scannerFactory(
         TransactionContext transaction,
         GraphDimensions dimensions,
+        int concurrency,
         Log log
     ) {
         var tokenNodeLabelMapping = dimensions.tokenNodeLabelMapping();
         assert tokenNodeLabelMapping != null : "Only null in Cypher loader";
 
         int[] labelIds = tokenNodeLabelMapping.keys().toArray();
-        return NodeScannerFactory.create(transaction, labelIds, log);
+        return NodeScannerFactory.create(
+            transaction,
+            labelIds,
+            dimensions.highestPossibleNodeCount(),
+            concurrency,
+            log
+        );
     }
 
     @Override
@@ -71,7 +71,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
         int concurrency
     ) {
         super(
-            RelationshipScanCursorBasedScanner.FACTORY,
+            RelationshipScanCursorBasedScanner.factory(dimensions, concurrency),
             loadingContext,
             dimensions,
             progressTracker,
@@ -113,14 +113,14 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
 
                     var contexts = new ArrayList<SingleTypeRelationshipImportContext>();
 
-                    contexts.add(ImmutableSingleTypeRelationshipImportContext.builder()
-                        .relationshipType(relationshipType)
-                        .relationshipProjection(projection)
-                        .singleTypeRelationshipImporter(importer)
-                        .build());
-
                     if (projection.indexInverse()) {
-                        contexts.add(createInverseImporterContext(sizing, relationshipType, projection));
+                        var inverseContext = createInverseImporterContext(sizing, relationshipType, projection);
+                        // both directions are imported by the scanners of the forward importer
+                        importer = importer.withInverseIndex(inverseContext.singleTypeRelationshipImporter());
+                        contexts.add(forwardImporterContext(relationshipType, projection, importer));
+                        contexts.add(inverseContext);
+                    } else {
+                        contexts.add(forwardImporterContext(relationshipType, projection, importer));
                     }
 
                     return contexts.stream();
@@ -134,11 +134,24 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
             storeScanner,
             this.importContexts
                 .stream()
+                .filter(context -> context.inverseOfRelationshipType().isEmpty())
                 .map(SingleTypeRelationshipImportContext::singleTypeRelationshipImporter)
                 .collect(Collectors.toList())
         );
     }
 
+    private static SingleTypeRelationshipImportContext forwardImporterContext(
+        RelationshipType relationshipType,
+        RelationshipProjection projection,
+        SingleTypeRelationshipImporter importer
+    ) {
+        return ImmutableSingleTypeRelationshipImportContext.builder()
+            .relationshipType(relationshipType)
+            .relationshipProjection(projection)
+            .singleTypeRelationshipImporter(importer)
+            .build();
+    }
+
     private SingleTypeRelationshipImportContext createInverseImporterContext(
         ImportSizing sizing,
         RelationshipType relationshipType,
@@ -139,6 +139,12 @@ final class SingleLabelInformation implements LabelInformation {
         return true;
     }
 
+    @Override
+    public LabelInformation copy() {
+        // mutating single label information always creates new label information
+        return this;
+    }
+
     @Override
     public LabelInformation toMultiLabel(NodeLabel nodeLabelToMutate) {
         return LabelInformationBuilders
@@ -32,6 +32,7 @@ import org.neo4j.gds.api.compress.AdjacencyListsWithProperties;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.kernel.api.KernelTransaction;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -46,6 +47,7 @@ public final class SingleTypeRelationshipImporter {
     private final int typeId;
 
     private final AdjacencyBuffer adjacencyBuffer;
+    private final Optional<AdjacencyBuffer> inverseAdjacencyBuffer;
 
     @org.immutables.builder.Builder.Factory
     public static SingleTypeRelationshipImporter of(
@@ -56,7 +58,8 @@ public final class SingleTypeRelationshipImporter {
         var adjacencyCompressorFactory = AdjacencyListBehavior.asConfigured(
             nodeCountSupplier,
             importMetaData.projection().properties(),
-            importMetaData.aggregations()
+            importMetaData.aggregations(),
+            importMetaData.projection().compression()
         );
 
         var adjacencyBuffer = new AdjacencyBufferBuilder()
@@ -69,7 +72,8 @@ public final class SingleTypeRelationshipImporter {
             adjacencyCompressorFactory,
             adjacencyBuffer,
             importMetaData,
-            importMetaData.typeTokenId()
+            importMetaData.typeTokenId(),
+            Optional.empty()
         );
     }
 
@@ -77,23 +81,56 @@ public final class SingleTypeRelationshipImporter {
         AdjacencyCompressorFactory adjacencyCompressorFactory,
         AdjacencyBuffer adjacencyBuffer,
         ImportMetaData importMetaData,
-        int typeToken
+        int typeToken,
+        Optional<AdjacencyBuffer> inverseAdjacencyBuffer
     ) {
         this.adjacencyCompressorFactory = adjacencyCompressorFactory;
         this.importMetaData = importMetaData;
         this.typeId = typeToken;
         this.adjacencyBuffer = adjacencyBuffer;
+        this.inverseAdjacencyBuffer = inverseAdjacencyBuffer;
+    }
+
+    /**
+     * Returns an importer that builds the same adjacency list as this importer and
+     * in addition feeds the adjacency buffer of the given inverse importer.
+     * Thread local importers of the returned importer buffer every relationship
+     * once and import it into both directions in the same pass.
+     *
+     * No thread local importers or adjacency list builder tasks must be created
+     * for the inverse importer, it is only used to build the inverse adjacency list.
+     */
+    public SingleTypeRelationshipImporter withInverseIndex(SingleTypeRelationshipImporter inverseImporter) {
+        return new SingleTypeRelationshipImporter(
+            adjacencyCompressorFactory,
+            adjacencyBuffer,
+            importMetaData,
+            typeId,
+            Optional.of(inverseImporter.adjacencyBuffer)
+        );
     }
 
     public Collection<AdjacencyBuffer.AdjacencyListBuilderTask> adjacencyListBuilderTasks(Optional<AdjacencyCompressor.ValueMapper> mapper) {
-        return adjacencyBuffer.adjacencyListBuilderTasks(mapper, Optional.empty());
+        return adjacencyListBuilderTasks(mapper, Optional.empty());
     }
 
+    /**
+     * Returns the tasks that build the adjacency list of this importer.
+     * If this importer also feeds an inverse index, the tasks that build
+     * the inverse adjacency list are included, so that both directions
+     * are compressed concurrently.
+     */
     public Collection<AdjacencyBuffer.AdjacencyListBuilderTask> adjacencyListBuilderTasks(
         Optional<AdjacencyCompressor.ValueMapper> mapper,
         Optional<LongConsumer> drainCountConsumer
     ) {
-        return adjacencyBuffer.adjacencyListBuilderTasks(mapper, drainCountConsumer);
+        var tasks = adjacencyBuffer.adjacencyListBuilderTasks(mapper, drainCountConsumer);
+        if (inverseAdjacencyBuffer.isEmpty()) {
+            return tasks;
+        }
+        var allTasks = new ArrayList<>(tasks);
+        allTasks.addAll(inverseAdjacencyBuffer.get().adjacencyListBuilderTasks(mapper, drainCountConsumer));
+        return allTasks;
     }
 
     public ThreadLocalSingleTypeRelationshipImporter threadLocalImporter(
@@ -106,6 +143,7 @@ public final class SingleTypeRelationshipImporter {
             .relationshipsBatchBuffer(createBuffer(idMap, bulkSize, false))
             .importMetaData(importMetaData)
             .propertyReader(propertyReader)
+            .inverseAdjacencyBuffer(inverseAdjacencyBuffer)
             .build();
     }
 
@@ -126,6 +164,7 @@ public final class SingleTypeRelationshipImporter {
             .relationshipsBatchBuffer(createBuffer(idMap, bulkSize, useCheckedBuffers))
             .importMetaData(importMetaData)
             .propertyReader(propertyReader)
+            .inverseAdjacencyBuffer(inverseAdjacencyBuffer)
             .build();
     }
 
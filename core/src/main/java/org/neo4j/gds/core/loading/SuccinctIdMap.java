@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.FilteredIdMap;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.LabeledIdMap;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.hsa.HugeSparseLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * An id map for original ids that densely cover their id space.
+ *
+ * The original ids are stored as a bit set over the id space and the mapped id of
+ * an original id is its rank in that bit set, i.e. mapped ids are ordered by original id.
+ * Both directions are answered by rank and select queries on the bit set,
+ * which takes about 1.125 bits per possible original id and one bit per node, instead of
+ * 16 bytes per node that an {@link ArrayIdMap} requires.
+ * In return, looking up an original id counts the bits following a sampled position rather than accessing an array.
+ */
+public class SuccinctIdMap extends LabeledIdMap {
+
+    private static final MemoryEstimation ESTIMATION = MemoryEstimations
+        .builder(SuccinctIdMap.class)
+        .add("Neo4j identifiers", RankSelectBitmap.memoryEstimation())
+        .perGraphDimension(
+            "Node Label BitSets",
+            (dimensions, concurrency) ->
+                MemoryRange.of(dimensions.estimationNodeLabelCount() * MemoryUsage.sizeOfBitset(dimensions.nodeCount()))
+        )
+        .build();
+
+    private final RankSelectBitmap originalIds;
+
+    public static MemoryEstimation memoryEstimation() {
+        return ESTIMATION;
+    }
+
+    SuccinctIdMap(RankSelectBitmap originalIds, LabelInformation labelInformation) {
+        super(labelInformation, originalIds.cardinality());
+        this.originalIds = originalIds;
+    }
+
+    @Override
+    public String typeId() {
+        return SuccinctIdMapBuilder.ID;
+    }
+
+    @Override
+    public long toMappedNodeId(long originalNodeId) {
+        return this.originalIds.get(originalNodeId)
+            ? this.originalIds.rank(originalNodeId)
+            : NOT_FOUND;
+    }
+
+    @Override
+    public long toOriginalNodeId(long mappedNodeId) {
+        return this.originalIds.select(mappedNodeId);
+    }
+
+    @Override
+    public long toRootNodeId(long mappedNodeId) {
+        return mappedNodeId;
+    }
+
+    @Override
+    public IdMap rootIdMap() {
+        return this;
+    }
+
+    @Override
+    public boolean containsOriginalId(long originalNodeId) {
+        return this.originalIds.get(originalNodeId);
+    }
+
+    @Override
+    public OptionalLong rootNodeCount() {
+        return OptionalLong.of(nodeCount());
+    }
+
+    @Override
+    public long highestOriginalId() {
+        return nodeCount() == 0 ? 0 : this.originalIds.select(nodeCount() - 1);
+    }
+
+    @Override
+    public Optional<IdMap> withSharedIdMapping() {
+        return Optional.of(new SuccinctIdMap(this.originalIds, this.labelInformation.copy()));
+    }
+
+    @Override
+    public Optional<FilteredIdMap> withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
+        labelInformation.validateNodeLabelFilter(nodeLabels);
+
+        if (labelInformation.isEmpty()) {
+            return Optional.empty();
+        }
+
+        BitSet unionBitSet = labelInformation.unionBitSet(nodeLabels, nodeCount());
+
+        long nodeId = -1L;
+        long cursor = 0L;
+        long newNodeCount = unionBitSet.cardinality();
+        HugeLongArray newGraphIds = HugeLongArray.newArray(newNodeCount);
+
+        while ((nodeId = unionBitSet.nextSetBit(nodeId + 1)) != -1) {
+            newGraphIds.set(cursor, nodeId);
+            cursor++;
+        }
+
+        HugeSparseLongArray newNodeToGraphIds = ArrayIdMapBuilderOps.buildSparseIdMap(
+            newNodeCount,
+            nodeCount(),
+            concurrency,
+            newGraphIds
+        );
+
+        var rootToFilteredIdMap = new ArrayIdMap(
+            newGraphIds,
+            newNodeToGraphIds,
+            labelInformation.filter(nodeLabels),
+            newNodeCount,
+            nodeCount()
+        );
+
+        return Optional.of(new FilteredLabeledIdMap(this, rootToFilteredIdMap));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class SuccinctIdMapBuilder implements IdMapBuilder {
+
+    public static final String ID = "succinct";
+
+    // The share of the id space that needs to be used by nodes
+    // for the builder to be chosen over an array based id map.
+    static final double DENSITY_THRESHOLD = 0.5;
+
+    private final HugeAtomicLongArray words;
+    private final long idSpaceSize;
+    private final long capacity;
+    private final AtomicLong allocationIndex;
+    // ids that exceed the id space, e.g. of nodes that were created during loading
+    private final LongArrayList overflowIds;
+    private final CloseableThreadLocal<BulkAdder> adders;
+
+    public static boolean isDense(long nodeCount, long maxOriginalId) {
+        return nodeCount >= DENSITY_THRESHOLD * (maxOriginalId + 1);
+    }
+
+    public static SuccinctIdMapBuilder of(long maxOriginalId, long capacity) {
+        return new SuccinctIdMapBuilder(maxOriginalId + 1, capacity);
+    }
+
+    private SuccinctIdMapBuilder(long idSpaceSize, long capacity) {
+        this.idSpaceSize = idSpaceSize;
+        this.capacity = capacity;
+        this.words = HugeAtomicLongArray.of(BitUtil.ceilDiv(idSpaceSize, Long.SIZE), ParalleLongPageCreator.passThrough(1));
+        this.allocationIndex = new AtomicLong();
+        this.overflowIds = new LongArrayList();
+        this.adders = CloseableThreadLocal.withInitial(BulkAdder::new);
+    }
+
+    @Override
+    public IdMapAllocator allocate(int batchLength) {
+        long startIndex = allocationIndex.getAndAccumulate(batchLength, this::upperAllocation);
+        var adder = adders.get();
+        adder.reset((int) (upperAllocation(startIndex, batchLength) - startIndex));
+        return adder;
+    }
+
+    private long upperAllocation(long lower, long nodes) {
+        return Math.min(capacity, lower + nodes);
+    }
+
+    @Override
+    public IdMap build(
+        LabelInformation.Builder labelInformationBuilder,
+        long highestNodeId,
+        int concurrency
+    ) {
+        adders.close();
+
+        long size = this.idSpaceSize;
+        for (var cursor : this.overflowIds) {
+            size = Math.max(size, cursor.value + 1);
+        }
+
+        var atomicWords = this.words;
+        var words = HugeLongArray.newArray(BitUtil.ceilDiv(size, Long.SIZE));
+        ParallelUtil.readParallel(concurrency, atomicWords.size(), Pools.DEFAULT, (start, end) -> {
+            for (long wordIndex = start; wordIndex < end; wordIndex++) {
+                words.set(wordIndex, atomicWords.get(wordIndex));
+            }
+        });
+        atomicWords.release();
+        for (var cursor : this.overflowIds) {
+            words.or(cursor.value >>> 6, 1L << cursor.value);
+        }
+
+        var originalIds = RankSelectBitmap.of(words, size, concurrency);
+        var labelInformation = labelInformationBuilder.build(originalIds.cardinality(), originalIds::rank);
+        return new SuccinctIdMap(originalIds, labelInformation);
+    }
+
+    private final class BulkAdder implements IdMapAllocator {
+
+        private int allocatedSize;
+
+        private void reset(int allocatedSize) {
+            this.allocatedSize = allocatedSize;
+        }
+
+        @Override
+        public int allocatedSize() {
+            return this.allocatedSize;
+        }
+
+        @Override
+        public void insert(long[] nodeIds) {
+            // Ids are mostly ascending, so we collect the bits of a word before setting them at once.
+            long wordIndex = -1;
+            long bits = 0;
+            for (int i = 0; i < this.allocatedSize; i++) {
+                long nodeId = nodeIds[i];
+                if (nodeId >= idSpaceSize) {
+                    synchronized (overflowIds) {
+                        overflowIds.add(nodeId);
+                    }
+                    continue;
+                }
+                long nodeWordIndex = nodeId >>> 6;
+                if (nodeWordIndex != wordIndex) {
+                    setBits(wordIndex, bits);
+                    wordIndex = nodeWordIndex;
+                    bits = 0;
+                }
+                bits |= 1L << nodeId;
+            }
+            setBits(wordIndex, bits);
+        }
+
+        private void setBits(long wordIndex, long bits) {
+            if (bits == 0) {
+                return;
+            }
+            long oldWord = words.get(wordIndex);
+            while (true) {
+                long newWord = oldWord | bits;
+                if (newWord == oldWord) {
+                    return;
+                }
+                long currentWord = words.compareAndExchange(wordIndex, oldWord, newWord);
+                if (currentWord == oldWord) {
+                    return;
+                }
+                oldWord = currentWord;
+            }
+        }
+    }
+}
@@ -24,6 +24,9 @@ import org.immutables.value.Value;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.core.utils.RawValues;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 /**
@@ -34,25 +37,62 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
  *
  * Each importing thread holds an instance of this class for each relationship
  * type that is being imported.
+ *
+ * If an inverse {@link AdjacencyBuffer} is given, the same relationship buffer
+ * feeds both the forward and the inverse adjacency buffer. Each relationship
+ * is buffered and its properties are read only once for both directions.
  */
 @Value.Style(typeBuilder = "ThreadLocalSingleTypeRelationshipImporterBuilder")
 public abstract class ThreadLocalSingleTypeRelationshipImporter {
 
     private final AdjacencyBuffer adjacencyBuffer;
     private final RelationshipsBatchBuffer relationshipsBatchBuffer;
+    private final AdjacencyPreAggregation preAggregation;
 
     final PropertyReader propertyReader;
 
-    @Builder.Factory
     static ThreadLocalSingleTypeRelationshipImporter of(
         AdjacencyBuffer adjacencyBuffer,
         RelationshipsBatchBuffer relationshipsBatchBuffer,
         SingleTypeRelationshipImporter.ImportMetaData importMetaData,
         PropertyReader propertyReader
+    ) {
+        return of(adjacencyBuffer, relationshipsBatchBuffer, importMetaData, propertyReader, Optional.empty());
+    }
+
+    @Builder.Factory
+    static ThreadLocalSingleTypeRelationshipImporter of(
+        AdjacencyBuffer adjacencyBuffer,
+        RelationshipsBatchBuffer relationshipsBatchBuffer,
+        SingleTypeRelationshipImporter.ImportMetaData importMetaData,
+        PropertyReader propertyReader,
+        Optional<AdjacencyBuffer> inverseAdjacencyBuffer
     ) {
         var orientation = importMetaData.projection().orientation();
         var loadProperties = importMetaData.projection().properties().hasMappings();
 
+        if (inverseAdjacencyBuffer.isPresent()) {
+            if (orientation == Orientation.UNDIRECTED) {
+                throw new IllegalArgumentException("Cannot index the inverse of an undirected relationship projection");
+            }
+            var forwardBySource = orientation == Orientation.NATURAL;
+            return loadProperties
+                ? new IndexedWithProperties(
+                adjacencyBuffer,
+                inverseAdjacencyBuffer.get(),
+                relationshipsBatchBuffer,
+                propertyReader,
+                forwardBySource
+            )
+                : new Indexed(
+                adjacencyBuffer,
+                inverseAdjacencyBuffer.get(),
+                relationshipsBatchBuffer,
+                propertyReader,
+                forwardBySource
+            );
+        }
+
         if (orientation == Orientation.UNDIRECTED) {
             return loadProperties
                 ? new UndirectedWithProperties(
@@ -90,6 +130,7 @@ public abstract class ThreadLocalSingleTypeRelationshipImporter {
         this.adjacencyBuffer = adjacencyBuffer;
         this.relationshipsBatchBuffer = relationshipsBatchBuffer;
         this.propertyReader = propertyReader;
+        this.preAggregation = new AdjacencyPreAggregation();
     }
 
     public abstract long importRelationships();
@@ -140,7 +181,8 @@ public abstract class ThreadLocalSingleTypeRelationshipImporter {
             targets,
             properties,
             offsets,
-            nodesLength
+            nodesLength,
+            preAggregation
         );
 
         return batchLength >> 1; // divide by 2
@@ -306,4 +348,94 @@ public abstract class ThreadLocalSingleTypeRelationshipImporter {
             return RawValues.combineIntInt(importedIn, importedIn);
         }
     }
+
+    private static final class Indexed extends ThreadLocalSingleTypeRelationshipImporter {
+
+        private final AdjacencyBuffer inverseAdjacencyBuffer;
+        private final boolean forwardBySource;
+
+        private Indexed(
+            AdjacencyBuffer adjacencyBuffer,
+            AdjacencyBuffer inverseAdjacencyBuffer,
+            RelationshipsBatchBuffer relationshipsBatchBuffer,
+            PropertyReader propertyReader,
+            boolean forwardBySource
+        ) {
+            super(adjacencyBuffer, relationshipsBatchBuffer, propertyReader);
+            this.inverseAdjacencyBuffer = inverseAdjacencyBuffer;
+            this.forwardBySource = forwardBySource;
+        }
+
+        @Override
+        public long importRelationships() {
+            long[] batch = forwardBySource ? sourceBuffer().sortBySource() : sourceBuffer().sortByTarget();
+            int imported = importRelationships(sourceBuffer(), batch, null, targetBuffer());
+            // sorting by target swaps each pair, which flips it for either forward orientation
+            batch = sourceBuffer().sortByTarget();
+            importRelationships(sourceBuffer(), batch, null, inverseAdjacencyBuffer);
+            return RawValues.combineIntInt(imported, 0);
+        }
+    }
+
+    private static final class IndexedWithProperties extends ThreadLocalSingleTypeRelationshipImporter {
+
+        private final AdjacencyBuffer inverseAdjacencyBuffer;
+        private final boolean forwardBySource;
+
+        private IndexedWithProperties(
+            AdjacencyBuffer adjacencyBuffer,
+            AdjacencyBuffer inverseAdjacencyBuffer,
+            RelationshipsBatchBuffer relationshipsBatchBuffer,
+            PropertyReader propertyReader,
+            boolean forwardBySource
+        ) {
+            super(adjacencyBuffer, relationshipsBatchBuffer, propertyReader);
+            this.inverseAdjacencyBuffer = inverseAdjacencyBuffer;
+            this.forwardBySource = forwardBySource;
+        }
+
+        @Override
+        public long importRelationships() {
+            int batchLength = sourceBuffer().length();
+            int relationshipCount = batchLength / RelationshipsBatchBuffer.ENTRIES_PER_RELATIONSHIP;
+
+            long[] batch = forwardBySource ? sourceBuffer().sortBySource() : sourceBuffer().sortByTarget();
+            long[][] properties = propertyReader.readProperty(
+                sourceBuffer().relationshipReferences(),
+                sourceBuffer().propertyReferences(),
+                relationshipCount,
+                targetBuffer().getPropertyKeyIds(),
+                targetBuffer().getDefaultValues(),
+                targetBuffer().getAggregations(),
+                targetBuffer().atLeastOnePropertyToLoad()
+            );
+
+            // pre-aggregation merges the properties of parallel relationships in place
+            long[][] forwardProperties = new long[properties.length][];
+            for (int i = 0; i < properties.length; i++) {
+                forwardProperties[i] = Arrays.copyOf(properties[i], relationshipCount);
+            }
+            int imported = importRelationships(sourceBuffer(), batch, properties, targetBuffer());
+
+            // The relationship references are not needed anymore after the properties have been read.
+            // We replace them with the forward position of each relationship, the inverse sort permutes
+            // them along with the batch and tells us where to take the property values from.
+            long[] forwardPositions = sourceBuffer().relationshipReferences();
+            for (int i = 0; i < relationshipCount; i++) {
+                forwardPositions[i] = i;
+            }
+            // sorting by target swaps each pair, which flips it for either forward orientation
+            batch = sourceBuffer().sortByTarget();
+            for (int i = 0; i < properties.length; i++) {
+                long[] inverseProperties = properties[i];
+                long[] sourceProperties = forwardProperties[i];
+                for (int j = 0; j < relationshipCount; j++) {
+                    inverseProperties[j] = sourceProperties[(int) forwardPositions[j]];
+                }
+            }
+            importRelationships(sourceBuffer(), batch, properties, inverseAdjacencyBuffer);
+
+            return RawValues.combineIntInt(imported, imported);
+        }
+    }
 }
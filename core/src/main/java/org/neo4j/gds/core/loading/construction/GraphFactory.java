@@ -39,6 +39,7 @@ import org.neo4j.gds.api.schema.MutableNodeSchema;
 import org.neo4j.gds.api.schema.MutableRelationshipSchema;
 import org.neo4j.gds.api.schema.NodeSchema;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.Compression;
 import org.neo4j.gds.core.IdMapBehaviorServiceProvider;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.huge.HugeGraph;
@@ -223,6 +224,7 @@ public final class GraphFactory {
         Optional<Boolean> skipDanglingRelationships,
         Optional<Integer> concurrency,
         Optional<Boolean> indexInverse,
+        Optional<Compression> compression,
         Optional<ExecutorService> executorService
     ) {
         var loadRelationshipProperties = !propertyConfigs.isEmpty();
@@ -241,7 +243,8 @@ public final class GraphFactory {
             .builder()
             .type(relationshipType.name())
             .orientation(actualOrientation)
-            .indexInverse(indexInverse.orElse(false));
+            .indexInverse(indexInverse.orElse(false))
+            .compression(compression.orElse(Compression.DEFAULT));
 
         propertyConfigs.forEach(propertyConfig -> projectionBuilder.addProperty(
             propertyConfig.propertyKey(),
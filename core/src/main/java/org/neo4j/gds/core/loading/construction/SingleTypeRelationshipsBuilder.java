@@ -44,8 +44,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.function.LongConsumer;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 abstract class SingleTypeRelationshipsBuilder {
     final PartialIdMap idMap;
@@ -308,15 +306,18 @@ abstract class SingleTypeRelationshipsBuilder {
                 executorService,
                 concurrency
             );
-            this.forwardImporter = forwardImporter;
+            this.forwardImporter = forwardImporter.withInverseIndex(inverseImporter);
             this.inverseImporter = inverseImporter;
         }
 
         @Override
         ThreadLocalRelationshipsBuilder threadLocalRelationshipsBuilder() {
-            return new ThreadLocalRelationshipsBuilder.Indexed(
-                new ThreadLocalRelationshipsBuilder.NonIndexed(idMap, forwardImporter, bufferSize, propertyConfigs.size()),
-                new ThreadLocalRelationshipsBuilder.NonIndexed(idMap, inverseImporter, bufferSize, propertyConfigs.size())
+            // the forward importer feeds the inverse index from the same buffers
+            return new ThreadLocalRelationshipsBuilder.NonIndexed(
+                idMap,
+                forwardImporter,
+                bufferSize,
+                propertyConfigs.size()
             );
         }
 
@@ -325,10 +326,8 @@ abstract class SingleTypeRelationshipsBuilder {
             Optional<AdjacencyCompressor.ValueMapper> mapper,
             Optional<LongConsumer> drainCountConsumer
         ) {
-            var forwardTasks = forwardImporter.adjacencyListBuilderTasks(mapper, drainCountConsumer);
-            var reverseTasks = inverseImporter.adjacencyListBuilderTasks(mapper, drainCountConsumer);
-
-            return Stream.concat(forwardTasks.stream(), reverseTasks.stream()).collect(Collectors.toList());
+            // includes the tasks for the inverse index
+            return forwardImporter.adjacencyListBuilderTasks(mapper, drainCountConsumer);
         }
 
         @Override
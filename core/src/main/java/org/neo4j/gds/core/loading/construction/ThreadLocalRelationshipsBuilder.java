@@ -111,39 +111,4 @@ abstract class ThreadLocalRelationshipsBuilder implements AutoCloseable {
             localRelationshipId = 0;
         }
     }
-
-    static class Indexed extends ThreadLocalRelationshipsBuilder {
-
-        private final NonIndexed forwardBuilder;
-        private final NonIndexed reverseBuilder;
-
-        Indexed(NonIndexed forwardBuilder, NonIndexed reverseBuilder) {
-            this.forwardBuilder = forwardBuilder;
-            this.reverseBuilder = reverseBuilder;
-        }
-
-        @Override
-        void addRelationship(long source, long target) {
-            this.forwardBuilder.addRelationship(source, target);
-            this.reverseBuilder.addRelationship(source, target);
-        }
-
-        @Override
-        void addRelationship(long source, long target, double relationshipPropertyValue) {
-            this.forwardBuilder.addRelationship(source, target, relationshipPropertyValue);
-            this.reverseBuilder.addRelationship(source, target, relationshipPropertyValue);
-        }
-
-        @Override
-        void addRelationship(long source, long target, double[] relationshipPropertyValues) {
-            this.forwardBuilder.addRelationship(source, target, relationshipPropertyValues);
-            this.reverseBuilder.addRelationship(source, target, relationshipPropertyValues);
-        }
-
-        @Override
-        public void close() throws Exception {
-            this.forwardBuilder.close();
-            this.reverseBuilder.close();
-        }
-    }
 }
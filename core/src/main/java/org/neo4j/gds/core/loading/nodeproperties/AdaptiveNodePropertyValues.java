@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.collections.ha.HugeByteArray;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.collections.hsa.HugeSparseDoubleArray;
+import org.neo4j.gds.collections.hsa.HugeSparseLongArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+/**
+ * Chooses the smallest lossless column encoding for imported node property values.
+ *
+ * Long values are stored relative to their minimum, using only as many bits as the value range requires:
+ * one byte or one int per node if that width is a close fit, bit-packed otherwise.
+ * Nodes without a value take an additional code, so they do not widen the value range.
+ * Double values are stored as floats if none of them loses precision.
+ *
+ * The sparse array that the values have been imported into is kept if it is smaller
+ * than the encoded column, which is the case if only few nodes have a value.
+ */
+final class AdaptiveNodePropertyValues {
+
+    // page size of the HugeSparse*Array implementations
+    private static final int SPARSE_PAGE_SIZE = 4096;
+
+    private AdaptiveNodePropertyValues() {}
+
+    static LongNodePropertyValues of(HugeSparseLongArray values, long size, OptionalLong maxValue, long defaultValue) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        boolean hasDefault = false;
+        long sparsePages = 0;
+
+        for (long pageStart = 0; pageStart < size; pageStart += SPARSE_PAGE_SIZE) {
+            long pageEnd = Math.min(size, pageStart + SPARSE_PAGE_SIZE);
+            boolean pageHasValue = false;
+            for (long nodeId = pageStart; nodeId < pageEnd; nodeId++) {
+                long value = values.get(nodeId);
+                if (value == defaultValue) {
+                    hasDefault = true;
+                } else {
+                    pageHasValue = true;
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+            if (pageHasValue) {
+                sparsePages++;
+            }
+        }
+
+        var sparse = new LongNodePropertiesBuilder.LongStoreNodePropertyValues(values, size, maxValue);
+
+        long range = max - min;
+        // no values at all or a value range that does not fit into 63 bits
+        if (min > max || range < 0 || (hasDefault && range == Long.MAX_VALUE)) {
+            return sparse;
+        }
+
+        // code 0 is reserved for nodes without a value
+        long base = hasDefault ? min - 1 : min;
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(hasDefault ? range + 1 : range);
+        long sparseSize = sparsePages * MemoryUsage.sizeOfLongArray(SPARSE_PAGE_SIZE);
+
+        if (bits > 4 && bits <= Byte.SIZE && HugeByteArray.memoryEstimation(size) < sparseSize) {
+            var codes = HugeByteArray.newArray(size);
+            codes.setAll(nodeId -> (byte) encode(values.get(nodeId), base, defaultValue));
+            return new ByteLongValues(codes, base, hasDefault, defaultValue, size, maxValue);
+        }
+        if (bits > 24 && bits <= Integer.SIZE && HugeIntArray.memoryEstimation(size) < sparseSize) {
+            var codes = HugeIntArray.newArray(size);
+            codes.setAll(nodeId -> (int) encode(values.get(nodeId), base, defaultValue));
+            return new IntLongValues(codes, base, hasDefault, defaultValue, size, maxValue);
+        }
+        long words = BitPackedLongValues.words(size, bits);
+        if (HugeLongArray.memoryEstimation(words) < sparseSize) {
+            var packed = HugeLongArray.newArray(words);
+            long word = 0;
+            int usedBits = 0;
+            long wordIndex = 0;
+            for (long nodeId = 0; nodeId < size; nodeId++) {
+                long code = encode(values.get(nodeId), base, defaultValue);
+                word |= code << usedBits;
+                usedBits += bits;
+                if (usedBits >= Long.SIZE) {
+                    packed.set(wordIndex++, word);
+                    usedBits -= Long.SIZE;
+                    // the bits of the code that did not fit into the previous word
+                    word = usedBits == 0 ? 0 : code >>> (bits - usedBits);
+                }
+            }
+            if (usedBits > 0) {
+                packed.set(wordIndex, word);
+            }
+            return new BitPackedLongValues(packed, bits, base, hasDefault, defaultValue, size, maxValue);
+        }
+        return sparse;
+    }
+
+    static DoubleNodePropertyValues of(
+        HugeSparseDoubleArray values,
+        long size,
+        OptionalDouble maxValue,
+        double defaultValue
+    ) {
+        var sparse = new DoubleNodePropertiesBuilder.DoubleStoreNodePropertyValues(values, size, maxValue);
+        long sparsePages = 0;
+
+        for (long pageStart = 0; pageStart < size; pageStart += SPARSE_PAGE_SIZE) {
+            long pageEnd = Math.min(size, pageStart + SPARSE_PAGE_SIZE);
+            boolean pageHasValue = false;
+            for (long nodeId = pageStart; nodeId < pageEnd; nodeId++) {
+                double value = values.get(nodeId);
+                if (Double.doubleToRawLongBits((float) value) != Double.doubleToRawLongBits(value)) {
+                    return sparse;
+                }
+                pageHasValue |= Double.compare(value, defaultValue) != 0;
+            }
+            if (pageHasValue) {
+                sparsePages++;
+            }
+        }
+
+        long sparseSize = sparsePages * MemoryUsage.sizeOfDoubleArray(SPARSE_PAGE_SIZE);
+        if (HugeIntArray.memoryEstimation(size) >= sparseSize) {
+            return sparse;
+        }
+
+        var floatBits = HugeIntArray.newArray(size);
+        floatBits.setAll(nodeId -> Float.floatToRawIntBits((float) values.get(nodeId)));
+        return new FloatDoubleValues(floatBits, size, maxValue);
+    }
+
+    private static long encode(long value, long base, long defaultValue) {
+        return value == defaultValue ? 0 : value - base;
+    }
+
+    abstract static class EncodedLongValues implements LongNodePropertyValues {
+        private final long base;
+        private final boolean hasDefault;
+        private final long defaultValue;
+        private final long size;
+        private final OptionalLong maxValue;
+
+        EncodedLongValues(long base, boolean hasDefault, long defaultValue, long size, OptionalLong maxValue) {
+            this.base = base;
+            this.hasDefault = hasDefault;
+            this.defaultValue = defaultValue;
+            this.size = size;
+            this.maxValue = maxValue;
+        }
+
+        abstract long code(long nodeId);
+
+        @Override
+        public long longValue(long nodeId) {
+            long code = code(nodeId);
+            return hasDefault && code == 0 ? defaultValue : base + code;
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            return maxValue;
+        }
+
+        @Override
+        public long nodeCount() {
+            return size;
+        }
+    }
+
+    static final class ByteLongValues extends EncodedLongValues {
+        private final HugeByteArray codes;
+
+        ByteLongValues(
+            HugeByteArray codes,
+            long base,
+            boolean hasDefault,
+            long defaultValue,
+            long size,
+            OptionalLong maxValue
+        ) {
+            super(base, hasDefault, defaultValue, size, maxValue);
+            this.codes = codes;
+        }
+
+        @Override
+        long code(long nodeId) {
+            return codes.get(nodeId) & 0xFFL;
+        }
+    }
+
+    static final class IntLongValues extends EncodedLongValues {
+        private final HugeIntArray codes;
+
+        IntLongValues(
+            HugeIntArray codes,
+            long base,
+            boolean hasDefault,
+            long defaultValue,
+            long size,
+            OptionalLong maxValue
+        ) {
+            super(base, hasDefault, defaultValue, size, maxValue);
+            this.codes = codes;
+        }
+
+        @Override
+        long code(long nodeId) {
+            return codes.get(nodeId) & 0xFFFF_FFFFL;
+        }
+    }
+
+    static final class BitPackedLongValues extends EncodedLongValues {
+        private final HugeLongArray words;
+        private final int bits;
+        private final long mask;
+
+        static long words(long size, int bits) {
+            return BitUtil.ceilDiv(size * bits, Long.SIZE);
+        }
+
+        BitPackedLongValues(
+            HugeLongArray words,
+            int bits,
+            long base,
+            boolean hasDefault,
+            long defaultValue,
+            long size,
+            OptionalLong maxValue
+        ) {
+            super(base, hasDefault, defaultValue, size, maxValue);
+            this.words = words;
+            this.bits = bits;
+            this.mask = bits == 0 ? 0 : -1L >>> (Long.SIZE - bits);
+        }
+
+        @Override
+        long code(long nodeId) {
+            if (bits == 0) {
+                return 0;
+            }
+            long bitIndex = nodeId * bits;
+            long wordIndex = bitIndex >>> 6;
+            int shift = (int) (bitIndex & 63);
+            long code = words.get(wordIndex) >>> shift;
+            if (shift + bits > Long.SIZE) {
+                code |= words.get(wordIndex + 1) << (Long.SIZE - shift);
+            }
+            return code & mask;
+        }
+    }
+
+    static final class FloatDoubleValues implements DoubleNodePropertyValues {
+        private final HugeIntArray floatBits;
+        private final long size;
+        private final OptionalDouble maxValue;
+
+        FloatDoubleValues(HugeIntArray floatBits, long size, OptionalDouble maxValue) {
+            this.floatBits = floatBits;
+            this.size = size;
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public double doubleValue(long nodeId) {
+            return Float.intBitsToFloat(floatBits.get(nodeId));
+        }
+
+        @Override
+        public OptionalDouble getMaxDoublePropertyValue() {
+            return maxValue;
+        }
+
+        @Override
+        public long nodeCount() {
+            return size;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
 import org.neo4j.gds.collections.hsa.HugeSparseDoubleArray;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.gds.utils.Neo4jValueConversion;
 import org.neo4j.values.storable.Value;
 
@@ -124,6 +125,9 @@ public class DoubleNodePropertiesBuilder implements InnerNodePropertiesBuilder {
             ? OptionalDouble.of((double) MAX_VALUE.getVolatile(DoubleNodePropertiesBuilder.this))
             : OptionalDouble.empty();
 
+        if (GdsFeatureToggles.USE_ADAPTIVE_NODE_PROPERTY_COLUMNS.isEnabled()) {
+            return AdaptiveNodePropertyValues.of(propertyValues, size, maybeMaxValue, defaultValue);
+        }
         return new DoubleStoreNodePropertyValues(propertyValues, size, maybeMaxValue);
     }
 
@@ -27,6 +27,7 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.hsa.HugeSparseLongArray;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.gds.utils.Neo4jValueConversion;
 import org.neo4j.values.storable.Value;
 
@@ -132,6 +133,9 @@ public class LongNodePropertiesBuilder implements InnerNodePropertiesBuilder {
             ? OptionalLong.of((long) MAX_VALUE.getVolatile(LongNodePropertiesBuilder.this))
             : OptionalLong.empty();
 
+        if (GdsFeatureToggles.USE_ADAPTIVE_NODE_PROPERTY_COLUMNS.isEnabled()) {
+            return AdaptiveNodePropertyValues.of(propertyValues, size, maybeMaxValue, defaultValue);
+        }
         return new LongStoreNodePropertyValues(propertyValues, size, maybeMaxValue);
     }
 
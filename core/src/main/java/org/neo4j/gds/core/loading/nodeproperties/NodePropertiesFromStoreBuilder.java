@@ -60,6 +60,20 @@ public final class NodePropertiesFromStoreBuilder {
         return new NodePropertiesFromStoreBuilder(defaultValue, concurrency);
     }
 
+    /**
+     * Creates a builder for values of a type that is known upfront.
+     * Scalar values can then be set without wrapping them in a {@link Value}.
+     */
+    public static NodePropertiesFromStoreBuilder of(
+        DefaultValue defaultValue,
+        ValueType valueType,
+        int concurrency
+    ) {
+        var builder = new NodePropertiesFromStoreBuilder(defaultValue, concurrency);
+        builder.innerBuilder.set(builder.newInnerBuilder(valueType));
+        return builder;
+    }
+
     private final DefaultValue defaultValue;
     private final int concurrency;
     private final AtomicReference<InnerNodePropertiesBuilder> innerBuilder;
@@ -82,6 +96,24 @@ public final class NodePropertiesFromStoreBuilder {
         }
     }
 
+    public void set(long neoNodeId, long value) {
+        var builder = innerBuilder.get();
+        if (builder instanceof LongNodePropertiesBuilder) {
+            ((LongNodePropertiesBuilder) builder).set(neoNodeId, value);
+        } else {
+            set(neoNodeId, Values.longValue(value));
+        }
+    }
+
+    public void set(long neoNodeId, double value) {
+        var builder = innerBuilder.get();
+        if (builder instanceof DoubleNodePropertiesBuilder) {
+            ((DoubleNodePropertiesBuilder) builder).set(neoNodeId, value);
+        } else {
+            set(neoNodeId, Values.doubleValue(value));
+        }
+    }
+
     public NodePropertyValues build(IdMap idMap) {
         if (innerBuilder.get() == null) {
             if (defaultValue.getObject() != null) {
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.gds.collections.haa.HugeAtomicDoubleArray;
+import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
+import org.neo4j.gds.collections.haa.PageCreator;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+/**
+ * Creates the atomic arrays that algorithms keep for the duration of a run.
+ * <p>
+ * The arrays are stored off-heap if {@link GdsFeatureToggles#USE_OFF_HEAP_ATOMIC_ARRAYS} is enabled.
+ * Both variants use the memory reported by {@link HugeAtomicLongArray#memoryEstimation(long)} and
+ * {@link HugeAtomicDoubleArray#memoryEstimation(long)}, so memory estimations do not depend on the toggle.
+ */
+public final class HugeAtomicArrays {
+
+    public static HugeAtomicLongArray longArray(long size, PageCreator.LongPageCreator pageCreator) {
+        return GdsFeatureToggles.USE_OFF_HEAP_ATOMIC_ARRAYS.isEnabled()
+            ? HugeAtomicLongArray.ofOffHeap(size, pageCreator)
+            : HugeAtomicLongArray.of(size, pageCreator);
+    }
+
+    public static HugeAtomicDoubleArray doubleArray(long size, PageCreator.DoublePageCreator pageCreator) {
+        return GdsFeatureToggles.USE_OFF_HEAP_ATOMIC_ARRAYS.isEnabled()
+            ? HugeAtomicDoubleArray.ofOffHeap(size, pageCreator)
+            : HugeAtomicDoubleArray.of(size, pageCreator);
+    }
+
+    private HugeAtomicArrays() {
+        throw new UnsupportedOperationException("No instances");
+    }
+}
@@ -0,0 +1,626 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongConsumer;
+
+/**
+ * A compressed bit set in the style of Roaring bitmaps.
+ * <p>
+ * The index space is split into containers of 2^16 consecutive bits. Containers
+ * without set bits are not allocated. A container stores its bits either as a
+ * sorted array of 16 bit values or, once it holds more than 4096 values, as a
+ * plain bitmap. Sparse bit sets therefore only use a few bytes per set bit, while
+ * dense bit sets use about as much memory as a flat bit set.
+ * <p>
+ * Setting bits is thread-safe. Writers to the same container are serialized on that
+ * container, writers to different containers do not interfere. Reads do not block,
+ * but are only guaranteed to observe writes that happened-before them, for example
+ * by joining the writing tasks. Bulk operations, such as {@link #union(HugeCompressedBitSet)},
+ * must not run concurrently with writes to either of the bit sets.
+ */
+public final class HugeCompressedBitSet {
+
+    // Each container holds the bits of 2^16 consecutive indices.
+    private static final int CONTAINER_SHIFT = 16;
+    private static final int CONTAINER_SIZE = 1 << CONTAINER_SHIFT;
+    private static final int CONTAINER_MASK = CONTAINER_SIZE - 1;
+    private static final int BITMAP_WORDS = CONTAINER_SIZE / Long.SIZE;
+
+    // Beyond this cardinality, the sorted values use more memory than a bitmap.
+    private static final int MAX_ARRAY_CARDINALITY = 4096;
+
+    // Only replaced while holding the monitor of this bit set, which is
+    // also held to install new containers, so that no container gets lost.
+    private volatile AtomicReferenceArray<Container> containers;
+
+    public static HugeCompressedBitSet create(long expectedSize) {
+        return new HugeCompressedBitSet(containerIndex(expectedSize + CONTAINER_MASK));
+    }
+
+    /**
+     * Creates a compressed bit set with the bits of the given dense bit set.
+     * The containers are built from the words of the dense bit set in one pass,
+     * instead of inserting one bit at a time.
+     */
+    public static HugeCompressedBitSet of(BitSet bitSet) {
+        long[] bits = bitSet.bits;
+        int wordCount = bitSet.wlen;
+        var compressedBitSet = new HugeCompressedBitSet((wordCount + BITMAP_WORDS - 1) / BITMAP_WORDS);
+        var containers = compressedBitSet.containers;
+        for (int containerIndex = 0; containerIndex < containers.length(); containerIndex++) {
+            int fromWord = containerIndex * BITMAP_WORDS;
+            int toWord = Math.min(wordCount, fromWord + BITMAP_WORDS);
+            int cardinality = 0;
+            for (int wordIndex = fromWord; wordIndex < toWord; wordIndex++) {
+                cardinality += Long.bitCount(bits[wordIndex]);
+            }
+            if (cardinality > 0) {
+                containers.set(containerIndex, Container.of(bits, fromWord, toWord, cardinality));
+            }
+        }
+        return compressedBitSet;
+    }
+
+    private HugeCompressedBitSet(int containerCount) {
+        this.containers = new AtomicReferenceArray<>(containerCount);
+    }
+
+    /**
+     * Returns the state of the bit at the given index.
+     */
+    public boolean get(long index) {
+        var container = containerOrNull(containerIndex(index));
+        return container != null && container.get((int) index & CONTAINER_MASK);
+    }
+
+    /**
+     * Sets the bit at the given index to true.
+     * The bit set grows if the index exceeds its current size.
+     */
+    public void set(long index) {
+        container(containerIndex(index)).add((int) index & CONTAINER_MASK);
+    }
+
+    /**
+     * Sets the bit at the given index to true and returns its previous state.
+     */
+    public boolean getAndSet(long index) {
+        return !container(containerIndex(index)).add((int) index & CONTAINER_MASK);
+    }
+
+    /**
+     * Sets all bits from {@code startIndex} (inclusive) to {@code endIndex} (exclusive).
+     */
+    public void set(long startIndex, long endIndex) {
+        long index = startIndex;
+        while (index < endIndex) {
+            int containerIndex = containerIndex(index);
+            long containerEnd = Math.min(endIndex, ((long) containerIndex + 1) << CONTAINER_SHIFT);
+            int from = (int) index & CONTAINER_MASK;
+            int to = from + (int) (containerEnd - index);
+            container(containerIndex).addRange(from, to);
+            index = containerEnd;
+        }
+    }
+
+    /**
+     * Returns the number of set bits in the bit set.
+     */
+    public long cardinality() {
+        var containers = this.containers;
+        long cardinality = 0;
+        for (int containerIndex = 0; containerIndex < containers.length(); containerIndex++) {
+            var container = containers.get(containerIndex);
+            if (container != null) {
+                cardinality += container.cardinality;
+            }
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality() == 0;
+    }
+
+    /**
+     * Returns the index of the first set bit that is greater than or equal to the given index,
+     * or {@code -1} if there is no such bit.
+     */
+    public long nextSetBit(long index) {
+        var containers = this.containers;
+        int containerIndex = containerIndex(index);
+        int from = (int) index & CONTAINER_MASK;
+        for (; containerIndex < containers.length(); containerIndex++) {
+            var container = containers.get(containerIndex);
+            if (container != null) {
+                int next = container.nextSetBit(from);
+                if (next >= 0) {
+                    return ((long) containerIndex << CONTAINER_SHIFT) + next;
+                }
+            }
+            from = 0;
+        }
+        return -1;
+    }
+
+    /**
+     * Iterates the bit set in increasing index order and calls the
+     * given consumer for each index with a set bit.
+     */
+    public void forEachSetBit(LongConsumer consumer) {
+        var containers = this.containers;
+        for (int containerIndex = 0; containerIndex < containers.length(); containerIndex++) {
+            var container = containers.get(containerIndex);
+            if (container != null) {
+                container.forEach((long) containerIndex << CONTAINER_SHIFT, consumer);
+            }
+        }
+    }
+
+    /**
+     * Sets all bits that are set in the other bit set.
+     */
+    public synchronized void union(HugeCompressedBitSet other) {
+        var otherContainers = other.containers;
+        for (int containerIndex = 0; containerIndex < otherContainers.length(); containerIndex++) {
+            var otherContainer = otherContainers.get(containerIndex);
+            if (otherContainer == null) {
+                continue;
+            }
+            var container = containerOrNull(containerIndex);
+            if (container == null) {
+                install(containerIndex, otherContainer.copy());
+            } else {
+                container.union(otherContainer);
+            }
+        }
+    }
+
+    /**
+     * Clears all bits that are not set in the other bit set.
+     */
+    public synchronized void intersect(HugeCompressedBitSet other) {
+        var containers = this.containers;
+        for (int containerIndex = 0; containerIndex < containers.length(); containerIndex++) {
+            var container = containers.get(containerIndex);
+            if (container == null) {
+                continue;
+            }
+            var otherContainer = other.containerOrNull(containerIndex);
+            if (otherContainer == null || container.intersect(otherContainer) == 0) {
+                containers.set(containerIndex, null);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bits that are set in both bit sets, without materializing the intersection.
+     */
+    public long intersectionCardinality(HugeCompressedBitSet other) {
+        var containers = this.containers;
+        long cardinality = 0;
+        for (int containerIndex = 0; containerIndex < containers.length(); containerIndex++) {
+            var container = containers.get(containerIndex);
+            if (container == null) {
+                continue;
+            }
+            var otherContainer = other.containerOrNull(containerIndex);
+            if (otherContainer != null) {
+                cardinality += container.intersectionCardinality(otherContainer);
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * Sets all bits of this bit set in the given dense bit set.
+     * Bitmap containers are merged word by word into the words of the given bit set.
+     */
+    public void orInto(BitSet target) {
+        var containers = this.containers;
+        for (int containerIndex = 0; containerIndex < containers.length(); containerIndex++) {
+            var container = containers.get(containerIndex);
+            if (container == null) {
+                continue;
+            }
+            long[] words = container.words;
+            int wordOffset = containerIndex * BITMAP_WORDS;
+            if (words != null && wordOffset + BITMAP_WORDS <= target.wlen) {
+                long[] targetWords = target.bits;
+                for (int word = 0; word < BITMAP_WORDS; word++) {
+                    targetWords[wordOffset + word] |= words[word];
+                }
+            } else {
+                container.forEach((long) containerIndex << CONTAINER_SHIFT, target::set);
+            }
+        }
+    }
+
+    /**
+     * Returns a bit set that can be modified independently of this one.
+     */
+    public HugeCompressedBitSet copy() {
+        var containers = this.containers;
+        var copy = new HugeCompressedBitSet(containers.length());
+        for (int containerIndex = 0; containerIndex < containers.length(); containerIndex++) {
+            var container = containers.get(containerIndex);
+            if (container != null) {
+                copy.containers.set(containerIndex, container.copy());
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the number of bytes currently used by this bit set.
+     */
+    public long sizeInBytes() {
+        var containers = this.containers;
+        long size = MemoryUsage.sizeOfInstance(HugeCompressedBitSet.class) +
+                    MemoryUsage.sizeOfObjectArray(containers.length());
+        for (int containerIndex = 0; containerIndex < containers.length(); containerIndex++) {
+            var container = containers.get(containerIndex);
+            if (container != null) {
+                size += container.sizeInBytes();
+            }
+        }
+        return size;
+    }
+
+    private static int containerIndex(long index) {
+        return Math.toIntExact(index >>> CONTAINER_SHIFT);
+    }
+
+    private Container containerOrNull(int containerIndex) {
+        var containers = this.containers;
+        return containerIndex < containers.length() ? containers.get(containerIndex) : null;
+    }
+
+    private Container container(int containerIndex) {
+        var container = containerOrNull(containerIndex);
+        if (container != null) {
+            return container;
+        }
+        synchronized (this) {
+            container = containerOrNull(containerIndex);
+            if (container == null) {
+                container = new Container();
+                install(containerIndex, container);
+            }
+            return container;
+        }
+    }
+
+    // Must be called while holding the monitor of this bit set.
+    private void install(int containerIndex, Container container) {
+        var containers = this.containers;
+        if (containerIndex >= containers.length()) {
+            var newContainers = new AtomicReferenceArray<Container>(Math.max(containerIndex + 1, containers.length() << 1));
+            for (int i = 0; i < containers.length(); i++) {
+                newContainers.set(i, containers.get(i));
+            }
+            this.containers = containers = newContainers;
+        }
+        containers.set(containerIndex, container);
+    }
+
+    private static final class Container {
+
+        private static final char[] NO_VALUES = new char[0];
+
+        // The sorted values of an array container, or no values once the container turned into a bitmap.
+        private char[] values;
+        // The bits of a bitmap container, or null for an array container.
+        private volatile long[] words;
+        // Written after `values` and `words`, so that a reader that reads the cardinality
+        // first sees values that are at least as new as the cardinality.
+        private volatile int cardinality;
+
+        Container() {
+            this.values = new char[4];
+        }
+
+        private Container(char[] values, long[] words, int cardinality) {
+            this.values = values;
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        static Container of(long[] bits, int fromWord, int toWord, int cardinality) {
+            if (cardinality > MAX_ARRAY_CARDINALITY) {
+                long[] words = new long[BITMAP_WORDS];
+                System.arraycopy(bits, fromWord, words, 0, toWord - fromWord);
+                return new Container(NO_VALUES, words, cardinality);
+            }
+            char[] values = new char[cardinality];
+            int size = 0;
+            for (int wordIndex = fromWord; wordIndex < toWord; wordIndex++) {
+                long word = bits[wordIndex];
+                while (word != 0) {
+                    values[size++] = (char) (((wordIndex - fromWord) << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new Container(values, null, cardinality);
+        }
+
+        boolean get(int value) {
+            long[] words = this.words;
+            if (words != null) {
+                return (words[value >>> 6] & (1L << value)) != 0;
+            }
+            int cardinality = this.cardinality;
+            char[] values = this.values;
+            return Arrays.binarySearch(values, 0, Math.min(cardinality, values.length), (char) value) >= 0;
+        }
+
+        /**
+         * @return true iff the value has not been present before
+         */
+        synchronized boolean add(int value) {
+            long[] words = this.words;
+            if (words != null) {
+                long mask = 1L << value;
+                if ((words[value >>> 6] & mask) != 0) {
+                    return false;
+                }
+                words[value >>> 6] |= mask;
+                cardinality++;
+                return true;
+            }
+
+            int cardinality = this.cardinality;
+            char[] values = this.values;
+            int position = Arrays.binarySearch(values, 0, cardinality, (char) value);
+            if (position >= 0) {
+                return false;
+            }
+            if (cardinality == MAX_ARRAY_CARDINALITY) {
+                toBitmap();
+                return add(value);
+            }
+            position = ~position;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_CARDINALITY, Math.max(4, cardinality << 1)));
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = (char) value;
+            this.values = values;
+            this.cardinality = cardinality + 1;
+            return true;
+        }
+
+        synchronized void addRange(int from, int to) {
+            if (words == null && cardinality + (to - from) <= MAX_ARRAY_CARDINALITY) {
+                for (int value = from; value < to; value++) {
+                    add(value);
+                }
+                return;
+            }
+            if (words == null) {
+                toBitmap();
+            }
+            long[] words = this.words;
+            for (int value = from; value < to; value++) {
+                words[value >>> 6] |= 1L << value;
+            }
+            cardinality = bitCount(words);
+        }
+
+        int nextSetBit(int from) {
+            long[] words = this.words;
+            if (words != null) {
+                int wordIndex = from >>> 6;
+                long word = words[wordIndex] & (-1L << from);
+                while (word == 0) {
+                    if (++wordIndex == BITMAP_WORDS) {
+                        return -1;
+                    }
+                    word = words[wordIndex];
+                }
+                return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            }
+            int cardinality = this.cardinality;
+            char[] values = this.values;
+            cardinality = Math.min(cardinality, values.length);
+            int position = Arrays.binarySearch(values, 0, cardinality, (char) from);
+            if (position < 0) {
+                position = ~position;
+            }
+            return position < cardinality ? values[position] : -1;
+        }
+
+        void forEach(long base, LongConsumer consumer) {
+            long[] words = this.words;
+            if (words != null) {
+                for (int wordIndex = 0; wordIndex < BITMAP_WORDS; wordIndex++) {
+                    long word = words[wordIndex];
+                    while (word != 0) {
+                        consumer.accept(base + (wordIndex << 6) + Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+                return;
+            }
+            int cardinality = this.cardinality;
+            char[] values = this.values;
+            for (int i = 0, end = Math.min(cardinality, values.length); i < end; i++) {
+                consumer.accept(base + values[i]);
+            }
+        }
+
+        synchronized void union(Container other) {
+            long[] otherWords = other.words;
+            if (words == null && otherWords == null && cardinality + other.cardinality <= MAX_ARRAY_CARDINALITY) {
+                char[] merged = new char[cardinality + other.cardinality];
+                int size = mergeUnion(values, cardinality, other.values, other.cardinality, merged);
+                this.values = merged;
+                this.cardinality = size;
+                return;
+            }
+            if (words == null) {
+                toBitmap();
+            }
+            long[] words = this.words;
+            if (otherWords != null) {
+                for (int wordIndex = 0; wordIndex < BITMAP_WORDS; wordIndex++) {
+                    words[wordIndex] |= otherWords[wordIndex];
+                }
+            } else {
+                char[] otherValues = other.values;
+                for (int i = 0; i < other.cardinality; i++) {
+                    words[otherValues[i] >>> 6] |= 1L << otherValues[i];
+                }
+            }
+            cardinality = bitCount(words);
+        }
+
+        /**
+         * @return the cardinality after the intersection
+         */
+        synchronized int intersect(Container other) {
+            long[] words = this.words;
+            long[] otherWords = other.words;
+            if (words != null && otherWords != null) {
+                for (int wordIndex = 0; wordIndex < BITMAP_WORDS; wordIndex++) {
+                    words[wordIndex] &= otherWords[wordIndex];
+                }
+                cardinality = bitCount(words);
+                if (cardinality <= MAX_ARRAY_CARDINALITY) {
+                    toArray();
+                }
+                return cardinality;
+            }
+
+            // At least one of the containers is an array container, so is the intersection.
+            var source = words == null ? this : other;
+            var filter = words == null ? other : this;
+            char[] intersection = new char[source.cardinality];
+            int size = 0;
+            for (int i = 0; i < source.cardinality; i++) {
+                char value = source.values[i];
+                if (filter.get(value)) {
+                    intersection[size++] = value;
+                }
+            }
+            this.values = Arrays.copyOf(intersection, size);
+            this.words = null;
+            this.cardinality = size;
+            return size;
+        }
+
+        int intersectionCardinality(Container other) {
+            long[] words = this.words;
+            long[] otherWords = other.words;
+            if (words != null && otherWords != null) {
+                int cardinality = 0;
+                for (int wordIndex = 0; wordIndex < BITMAP_WORDS; wordIndex++) {
+                    cardinality += Long.bitCount(words[wordIndex] & otherWords[wordIndex]);
+                }
+                return cardinality;
+            }
+            var source = words == null ? this : other;
+            var filter = words == null ? other : this;
+            int cardinality = 0;
+            for (int i = 0; i < source.cardinality; i++) {
+                if (filter.get(source.values[i])) {
+                    cardinality++;
+                }
+            }
+            return cardinality;
+        }
+
+        synchronized Container copy() {
+            long[] words = this.words;
+            return words != null
+                ? new Container(NO_VALUES, words.clone(), cardinality)
+                : new Container(Arrays.copyOf(values, Math.max(cardinality, 1)), null, cardinality);
+        }
+
+        long sizeInBytes() {
+            return MemoryUsage.sizeOfInstance(Container.class) + (words != null
+                ? MemoryUsage.sizeOfLongArray(BITMAP_WORDS)
+                : MemoryUsage.sizeOfCharArray(values.length));
+        }
+
+        private void toBitmap() {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            this.words = words;
+            this.values = NO_VALUES;
+        }
+
+        private void toArray() {
+            char[] values = new char[cardinality];
+            int size = 0;
+            for (int wordIndex = 0; wordIndex < BITMAP_WORDS; wordIndex++) {
+                long word = words[wordIndex];
+                while (word != 0) {
+                    values[size++] = (char) ((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            this.values = values;
+            this.words = null;
+        }
+
+        private static int mergeUnion(char[] left, int leftSize, char[] right, int rightSize, char[] out) {
+            int l = 0, r = 0, size = 0;
+            while (l < leftSize && r < rightSize) {
+                char leftValue = left[l];
+                char rightValue = right[r];
+                if (leftValue < rightValue) {
+                    out[size++] = leftValue;
+                    l++;
+                } else if (rightValue < leftValue) {
+                    out[size++] = rightValue;
+                    r++;
+                } else {
+                    out[size++] = leftValue;
+                    l++;
+                    r++;
+                }
+            }
+            while (l < leftSize) {
+                out[size++] = left[l++];
+            }
+            while (r < rightSize) {
+                out[size++] = right[r++];
+            }
+            return size;
+        }
+
+        private static int bitCount(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            return cardinality;
+        }
+    }
+}
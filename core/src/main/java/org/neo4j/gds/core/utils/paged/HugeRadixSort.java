@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Parallel, stable LSD radix sort for huge arrays, optionally permuting a value array along with the keys.
+ * <p>
+ * Keys are sorted as unsigned {@code long} bits: {@code long} keys have their sign bit flipped
+ * on the fly and {@code double} keys are converted once before and after sorting.
+ * Every pass sorts by one byte of the keys. The array is split into one partition per
+ * thread and each pass runs two parallel phases: every partition first counts the digits
+ * of its keys, then, after the counts have been turned into per-partition write offsets,
+ * scatters its keys into a buffer of the same size. Digits that are equal for all keys
+ * are skipped, so keys with few significant bits only need a few passes.
+ * <p>
+ * The scratch memory is bounded by one buffer per sorted array and one histogram per
+ * partition, see {@link #memoryEstimation(long, int, boolean, boolean)}.
+ */
+public final class HugeRadixSort {
+
+    private static final int RADIX = 8;
+    private static final int HIST_SIZE = 1 << RADIX;
+    private static final int HIST_MASK = HIST_SIZE - 1;
+
+    // Partitions smaller than this are not worth the overhead of another task.
+    private static final long MIN_PARTITION_SIZE = 1L << 16;
+
+    private HugeRadixSort() {}
+
+    /**
+     * Estimates the scratch memory that is allocated to sort an array of {@code long} keys of the given size.
+     *
+     * @param withValues whether a value array is sorted along with the keys
+     */
+    public static long memoryEstimation(long size, int concurrency, boolean withValues) {
+        return memoryEstimation(size, concurrency, withValues, false);
+    }
+
+    /**
+     * Estimates the scratch memory that is allocated to sort an array of the given size.
+     *
+     * @param withValues whether a value array is sorted along with the keys
+     * @param doubleKeys whether the keys are {@code double} values, which are sorted on a copy of their bits
+     */
+    public static long memoryEstimation(long size, int concurrency, boolean withValues, boolean doubleKeys) {
+        long buffer = HugeLongArray.memoryEstimation(size);
+        long histograms = MemoryUsage.sizeOfObjectArray(concurrency) + concurrency * MemoryUsage.sizeOfLongArray(HIST_SIZE);
+        long buffers = 1 + (withValues ? 1 : 0) + (doubleKeys ? 1 : 0);
+        return buffers * buffer + histograms;
+    }
+
+    /**
+     * Sorts the array in ascending order.
+     */
+    public static void sort(HugeLongArray array, int concurrency) {
+        sortLongs(array, null, concurrency);
+    }
+
+    /**
+     * Sorts the keys in ascending order and moves each value to the position of its key.
+     * Keys that are equal keep the order of their values.
+     */
+    public static void sort(HugeLongArray keys, HugeLongArray values, int concurrency) {
+        sortLongs(keys, values, concurrency);
+    }
+
+    /**
+     * Sorts the array in ascending order, using the same order as {@link Double#compare(double, double)}.
+     */
+    public static void sort(HugeDoubleArray array, int concurrency) {
+        sortDoubles(array, null, concurrency);
+    }
+
+    /**
+     * Sorts the keys in ascending order, using the same order as {@link Double#compare(double, double)},
+     * and moves each value to the position of its key. Keys that are equal keep the order of their values.
+     */
+    public static void sort(HugeDoubleArray keys, HugeLongArray values, int concurrency) {
+        sortDoubles(keys, values, concurrency);
+    }
+
+    private static void sortLongs(HugeLongArray keys, @Nullable HugeLongArray values, int concurrency) {
+        long size = keys.size();
+        validateValues(size, values);
+        if (size < 2) {
+            return;
+        }
+
+        long[] bounds = partitionBounds(size, concurrency);
+        int partitionCount = bounds.length - 1;
+
+        // flipping the sign bit makes the unsigned order of the keys their signed order
+        var sortedKeys = sortUnsigned(keys, values, Long.MIN_VALUE, bounds);
+
+        if (sortedKeys != keys) {
+            run(partitionCount, partition -> copy(sortedKeys, keys, bounds[partition], bounds[partition + 1]));
+        }
+    }
+
+    private static void sortDoubles(HugeDoubleArray keys, @Nullable HugeLongArray values, int concurrency) {
+        long size = keys.size();
+        validateValues(size, values);
+        if (size < 2) {
+            return;
+        }
+
+        long[] bounds = partitionBounds(size, concurrency);
+        int partitionCount = bounds.length - 1;
+
+        var bits = HugeLongArray.newArray(size);
+        run(partitionCount, partition -> {
+            try (var cursor = keys.initCursor(keys.newCursor(), bounds[partition], bounds[partition + 1])) {
+                long index = bounds[partition];
+                while (cursor.next()) {
+                    double[] block = cursor.array;
+                    for (int i = cursor.offset; i < cursor.limit; i++) {
+                        bits.set(index++, sortableBits(block[i]));
+                    }
+                }
+            }
+        });
+
+        var sortedBits = sortUnsigned(bits, values, 0L, bounds);
+
+        run(partitionCount, partition -> {
+            try (var cursor = sortedBits.initCursor(sortedBits.newCursor(), bounds[partition], bounds[partition + 1])) {
+                long index = bounds[partition];
+                while (cursor.next()) {
+                    long[] block = cursor.array;
+                    for (int i = cursor.offset; i < cursor.limit; i++) {
+                        keys.set(index++, fromSortableBits(block[i]));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Sorts the keys by the unsigned order of {@code key ^ signFlip} and moves the values along.
+     * The values always end up in the given array, the sorted keys are returned and
+     * are either the given keys or the buffer that the last pass has written to.
+     */
+    private static HugeLongArray sortUnsigned(
+        HugeLongArray keys,
+        @Nullable HugeLongArray values,
+        long signFlip,
+        long[] bounds
+    ) {
+        long size = keys.size();
+        int partitionCount = bounds.length - 1;
+
+        // the sign flip cancels out, so the varying bits can be computed on the keys themselves
+        long firstKey = keys.get(0);
+        long[] differingBits = new long[partitionCount];
+        run(partitionCount, partition -> {
+            long bits = 0L;
+            try (var cursor = keys.initCursor(keys.newCursor(), bounds[partition], bounds[partition + 1])) {
+                while (cursor.next()) {
+                    long[] block = cursor.array;
+                    for (int i = cursor.offset; i < cursor.limit; i++) {
+                        bits |= block[i] ^ firstKey;
+                    }
+                }
+            }
+            differingBits[partition] = bits;
+        });
+        long varyingBits = or(differingBits);
+
+        var source = keys;
+        var target = HugeLongArray.newArray(size);
+        var sourceValues = values;
+        var targetValues = values == null ? null : HugeLongArray.newArray(size);
+        long[][] histograms = new long[partitionCount][HIST_SIZE];
+
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX) {
+            if (((varyingBits >>> shift) & HIST_MASK) == 0) {
+                continue;
+            }
+
+            var passSource = source;
+            var passTarget = target;
+            var passSourceValues = sourceValues;
+            var passTargetValues = targetValues;
+            int passShift = shift;
+
+            run(partitionCount, partition -> {
+                long[] histogram = histograms[partition];
+                Arrays.fill(histogram, 0L);
+                try (var cursor = passSource.initCursor(passSource.newCursor(), bounds[partition], bounds[partition + 1])) {
+                    while (cursor.next()) {
+                        long[] block = cursor.array;
+                        for (int i = cursor.offset; i < cursor.limit; i++) {
+                            histogram[digit(block[i] ^ signFlip, passShift)]++;
+                        }
+                    }
+                }
+            });
+
+            toOffsets(histograms);
+
+            run(partitionCount, partition -> {
+                long[] offsets = histograms[partition];
+                long index = bounds[partition];
+                try (var cursor = passSource.initCursor(passSource.newCursor(), index, bounds[partition + 1])) {
+                    while (cursor.next()) {
+                        long[] block = cursor.array;
+                        for (int i = cursor.offset; i < cursor.limit; i++, index++) {
+                            long key = block[i];
+                            long position = offsets[digit(key ^ signFlip, passShift)]++;
+                            passTarget.set(position, key);
+                            if (passSourceValues != null) {
+                                passTargetValues.set(position, passSourceValues.get(index));
+                            }
+                        }
+                    }
+                }
+            });
+
+            source = passTarget;
+            target = passSource;
+            sourceValues = passTargetValues;
+            targetValues = passSourceValues;
+        }
+
+        if (sourceValues != values) {
+            var sortedValues = sourceValues;
+            run(partitionCount, partition -> copy(sortedValues, values, bounds[partition], bounds[partition + 1]));
+        }
+        return source;
+    }
+
+    // Maps the key to bits whose unsigned order is the order of Double#compare.
+    private static long sortableBits(double key) {
+        long bits = Double.doubleToLongBits(key);
+        // negative values have all bits flipped, positive values only the sign bit
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    private static double fromSortableBits(long sortableBits) {
+        // a cleared sign bit marks a negative value, whose bits have all been flipped
+        return Double.longBitsToDouble(sortableBits ^ ((~sortableBits >> 63) | Long.MIN_VALUE));
+    }
+
+    private static int digit(long sortableBits, int shift) {
+        return (int) (sortableBits >>> shift) & HIST_MASK;
+    }
+
+    /**
+     * Turns the digit counts of all partitions into the first write position of each partition and digit.
+     * Keys are written ordered by digit and, within a digit, by partition, which keeps the sort stable.
+     */
+    private static void toOffsets(long[][] histograms) {
+        long offset = 0L;
+        for (int digit = 0; digit < HIST_SIZE; digit++) {
+            for (long[] histogram : histograms) {
+                long count = histogram[digit];
+                histogram[digit] = offset;
+                offset += count;
+            }
+        }
+    }
+
+    private static long[] partitionBounds(long size, int concurrency) {
+        long maxPartitions = Math.max(1L, size / MIN_PARTITION_SIZE);
+        int partitionCount = (int) Math.min(Math.max(1, concurrency), maxPartitions);
+        long[] bounds = new long[partitionCount + 1];
+        for (int partition = 0; partition <= partitionCount; partition++) {
+            bounds[partition] = size * partition / partitionCount;
+        }
+        return bounds;
+    }
+
+    private static void run(int partitionCount, IntConsumer task) {
+        if (partitionCount == 1) {
+            task.accept(0);
+            return;
+        }
+        var tasks = IntStream
+            .range(0, partitionCount)
+            .mapToObj(partition -> (Runnable) () -> task.accept(partition))
+            .collect(Collectors.toList());
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+    }
+
+    private static void copy(HugeLongArray source, HugeLongArray target, long start, long end) {
+        try (var cursor = source.initCursor(source.newCursor(), start, end)) {
+            long index = start;
+            while (cursor.next()) {
+                long[] block = cursor.array;
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    target.set(index++, block[i]);
+                }
+            }
+        }
+    }
+
+    private static long or(long[] values) {
+        long result = 0L;
+        for (long value : values) {
+            result |= value;
+        }
+        return result;
+    }
+
+    private static void validateValues(long size, @Nullable HugeLongArray values) {
+        if (values != null && values.size() < size) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected at least %d values, but got %d",
+                size,
+                values.size()
+            ));
+        }
+    }
+}
@@ -19,29 +19,51 @@
  */
 package org.neo4j.gds.core.utils.paged;
 
-import org.apache.commons.lang3.mutable.MutableLong;
-import org.eclipse.collections.api.map.primitive.LongLongMap;
 import org.eclipse.collections.api.map.primitive.MutableLongLongMap;
 import org.eclipse.collections.impl.SpreadFunctions;
 import org.eclipse.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
 import org.eclipse.collections.impl.factory.primitive.LongLongMaps;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.loading.IdMapAllocator;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.mem.BitUtil;
 import org.neo4j.gds.utils.CloseableThreadLocal;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+/**
+ * Maps original node ids, which can be arbitrarily large, to a dense range of mapped ids.
+ *
+ * The mapping from original to mapped ids is a single open-addressing table with linear probing.
+ * Keys and values are stored next to each other, so that a lookup usually touches a single cache line.
+ * The table is divided into one region per shard, the shard of a key is given by the top bits of its hash.
+ * Probing wraps around within the region, which allows every shard to be filled by one thread without any locking.
+ */
 public final class ShardedLongLongMap {
 
+    // Values are stored as mappedId + 1, so that a freshly allocated table is empty.
+    private static final long EMPTY = 0L;
+
+    private static final double LOAD_FACTOR = 0.75;
+
     private final HugeLongArray internalNodeMapping;
-    private final LongLongMap[] originalNodeMappingShards;
-    private final int shardShift;
-    private final int shardMask;
+    private final HugeLongArray originalNodeMapping;
+    private final int slotShift;
+    private final long regionMask;
     private final long maxOriginalId;
 
     public static Builder builder(int concurrency) {
@@ -58,26 +80,35 @@ public final class ShardedLongLongMap {
 
     private ShardedLongLongMap(
         HugeLongArray internalNodeMapping,
-        LongLongMap[] originalNodeMappingShards,
-        int shardShift,
-        int shardMask,
+        HugeLongArray originalNodeMapping,
+        int slotShift,
+        long regionMask,
         long maxOriginalId
     ) {
         this.internalNodeMapping = internalNodeMapping;
-        this.originalNodeMappingShards = originalNodeMappingShards;
-        this.shardShift = shardShift;
-        this.shardMask = shardMask;
+        this.originalNodeMapping = originalNodeMapping;
+        this.slotShift = slotShift;
+        this.regionMask = regionMask;
         this.maxOriginalId = maxOriginalId;
     }
 
     public long toMappedNodeId(long nodeId) {
-        var shard = findShard(nodeId, this.originalNodeMappingShards, this.shardShift, this.shardMask);
-        return shard.getIfAbsent(nodeId, IdMap.NOT_FOUND);
+        long slot = SpreadFunctions.longSpreadOne(nodeId) >>> this.slotShift;
+        long regionStart = slot & ~this.regionMask;
+        while (true) {
+            long value = this.originalNodeMapping.get((slot << 1) + 1);
+            if (value == EMPTY) {
+                return IdMap.NOT_FOUND;
+            }
+            if (this.originalNodeMapping.get(slot << 1) == nodeId) {
+                return value - 1;
+            }
+            slot = regionStart | ((slot + 1) & this.regionMask);
+        }
     }
 
     public boolean contains(long originalId) {
-        var shard = findShard(originalId, this.originalNodeMappingShards, this.shardShift, this.shardMask);
-        return shard.containsKey(originalId);
+        return toMappedNodeId(originalId) != IdMap.NOT_FOUND;
     }
 
     public long toOriginalNodeId(long nodeId) {
@@ -112,67 +143,102 @@ public final class ShardedLongLongMap {
         return BitUtil.nextHighestPowerOfTwo(concurrency * 4);
     }
 
-    private static <S extends MapShard> ShardedLongLongMap build(
-        long nodeCount,
-        S[] shards,
+    /**
+     * Builds the original to mapped id table from the mapped to original id mapping.
+     *
+     * The mapped ids are radix partitioned by their shard in two parallel passes,
+     * counting and scattering, after which every shard region is filled by a single task.
+     */
+    private static ShardedLongLongMap build(
+        HugeLongArray internalNodeMapping,
+        int numberOfShards,
         int shardShift,
-        int shardMask
+        int concurrency,
+        OptionalLong knownMaxOriginalId
     ) {
-        var internalNodeMapping = HugeLongArray.newArray(nodeCount);
-        var mapShards = new LongLongMap[shards.length];
-        var maxOriginalIds = new long[shards.length];
-
-        // ignoring concurrency limitation 🤷
-        Arrays.parallelSetAll(mapShards, idx -> {
-            var maxOriginalId = new MutableLong(0);
-            var shard = shards[idx];
-            var mapping = shard.intoMapping();
-            mapping.forEachKeyValue((originalId, mappedId) -> {
-                if (originalId > maxOriginalId.longValue()) {
-                    maxOriginalId.setValue(originalId);
-                }
-                internalNodeMapping.set(mappedId, originalId);
-            });
-            maxOriginalIds[idx] = maxOriginalId.longValue();
-            return mapping;
-        });
+        long nodeCount = internalNodeMapping.size();
+        var partitions = PartitionUtils.rangePartition(concurrency, nodeCount, Function.identity(), Optional.empty());
+        int partitionCount = partitions.size();
+
+        // Pass 1: count the keys of every shard per partition
+        var histograms = new long[partitionCount][numberOfShards];
+        var maxOriginalIds = new long[partitionCount];
+        ParallelUtil.run(IntStream.range(0, partitionCount).mapToObj(partitionIdx -> (Runnable) () -> {
+            var histogram = histograms[partitionIdx];
+            long maxOriginalId = 0;
+            var partition = partitions.get(partitionIdx);
+            for (long mappedId = partition.startNode(), end = partition.startNode() + partition.nodeCount(); mappedId < end; mappedId++) {
+                long originalId = internalNodeMapping.get(mappedId);
+                histogram[shardIdx2(originalId, shardShift, numberOfShards - 1)]++;
+                maxOriginalId = Math.max(maxOriginalId, originalId);
+            }
+            maxOriginalIds[partitionIdx] = maxOriginalId;
+        }).collect(Collectors.toList()), Pools.DEFAULT);
+
+        // Turn the counts into write offsets, partitions of the same shard are laid out in order
+        var shardOffsets = new long[numberOfShards + 1];
+        long maxShardSize = 0;
+        long offset = 0;
+        for (int shard = 0; shard < numberOfShards; shard++) {
+            shardOffsets[shard] = offset;
+            for (int partitionIdx = 0; partitionIdx < partitionCount; partitionIdx++) {
+                long count = histograms[partitionIdx][shard];
+                histograms[partitionIdx][shard] = offset;
+                offset += count;
+            }
+            maxShardSize = Math.max(maxShardSize, offset - shardOffsets[shard]);
+        }
+        shardOffsets[numberOfShards] = offset;
+
+        // Pass 2: scatter the mapped ids into their shard
+        var partitionedIds = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.run(IntStream.range(0, partitionCount).mapToObj(partitionIdx -> (Runnable) () -> {
+            var writeOffsets = histograms[partitionIdx];
+            var partition = partitions.get(partitionIdx);
+            for (long mappedId = partition.startNode(), end = partition.startNode() + partition.nodeCount(); mappedId < end; mappedId++) {
+                int shard = shardIdx2(internalNodeMapping.get(mappedId), shardShift, numberOfShards - 1);
+                partitionedIds.set(writeOffsets[shard]++, mappedId);
+            }
+        }).collect(Collectors.toList()), Pools.DEFAULT);
+
+        // Every region can hold the largest shard with some free slots, which terminates probing
+        long regionSize = BitUtil.nextHighestPowerOfTwo((long) Math.ceil(maxShardSize / LOAD_FACTOR) + 1);
+        long regionMask = regionSize - 1;
+        int slotShift = shardShift - Long.numberOfTrailingZeros(regionSize);
+        var originalNodeMapping = HugeLongArray.newArray((numberOfShards * regionSize) << 1);
+
+        ParallelUtil.run(IntStream.range(0, numberOfShards).mapToObj(shard -> (Runnable) () -> {
+            for (long idx = shardOffsets[shard]; idx < shardOffsets[shard + 1]; idx++) {
+                long mappedId = partitionedIds.get(idx);
+                insert(originalNodeMapping, internalNodeMapping.get(mappedId), mappedId, slotShift, regionMask);
+            }
+        }).collect(Collectors.toList()), Pools.DEFAULT);
 
         return new ShardedLongLongMap(
             internalNodeMapping,
-            mapShards,
-            shardShift,
-            shardMask,
-            Arrays.stream(maxOriginalIds).max().orElse(0)
+            originalNodeMapping,
+            slotShift,
+            regionMask,
+            knownMaxOriginalId.orElseGet(() -> Arrays.stream(maxOriginalIds).max().orElse(0))
         );
     }
 
-    private static <S extends MapShard> ShardedLongLongMap build(
-        long nodeCount,
-        S[] shards,
-        int shardShift,
-        int shardMask,
-        long maxOriginalId
-    ) {
-        var internalNodeMapping = HugeLongArray.newArray(nodeCount);
-        var mapShards = new LongLongMap[shards.length];
-
-        // ignoring concurrency limitation 🤷
-        Arrays.parallelSetAll(mapShards, idx -> {
-            var shard = shards[idx];
-            var mapping = shard.intoMapping();
-            mapping.forEachKeyValue((originalId, mappedId) -> {
-                internalNodeMapping.set(mappedId, originalId);
-            });
-            return mapping;
-        });
-
-        return new ShardedLongLongMap(
-            internalNodeMapping,
-            mapShards,
-            shardShift,
-            shardMask,
-            maxOriginalId
-        );
+    /**
+     * Inserts the key into its region. If the key is already present, its value is replaced.
+     */
+    private static void insert(HugeLongArray table, long key, long mappedId, int slotShift, long regionMask) {
+        long slot = SpreadFunctions.longSpreadOne(key) >>> slotShift;
+        long regionStart = slot & ~regionMask;
+        while (true) {
+            long keyIndex = slot << 1;
+            long value = table.get(keyIndex + 1);
+            if (value == EMPTY || table.get(keyIndex) == key) {
+                table.set(keyIndex, key);
+                table.set(keyIndex + 1, mappedId + 1);
+                return;
+            }
+            slot = regionStart | ((slot + 1) & regionMask);
+        }
     }
 
     abstract static class MapShard {
@@ -207,8 +273,10 @@ public final class ShardedLongLongMap {
         private final Shard[] shards;
         private final int shardShift;
         private final int shardMask;
+        private final int concurrency;
 
         Builder(int concurrency) {
+            this.concurrency = concurrency;
             this.nodeCount = new AtomicLong();
             int numberOfShards = numberOfShards(concurrency);
             this.shardShift = Long.SIZE - Integer.numberOfTrailingZeros(numberOfShards);
@@ -231,20 +299,24 @@ public final class ShardedLongLongMap {
         }
 
         public ShardedLongLongMap build() {
-            return ShardedLongLongMap.build(
-                this.nodeCount.get(),
-                this.shards,
-                this.shardShift,
-                this.shardMask
-            );
+            return build(OptionalLong.empty());
         }
 
         public ShardedLongLongMap build(long maxOriginalId) {
+            return build(OptionalLong.of(maxOriginalId));
+        }
+
+        private ShardedLongLongMap build(OptionalLong maxOriginalId) {
+            var internalNodeMapping = HugeLongArray.newArray(this.nodeCount.get());
+            ParallelUtil.run(Arrays.stream(this.shards).map(shard -> (Runnable) () ->
+                shard.intoMapping().forEachKeyValue((originalId, mappedId) -> internalNodeMapping.set(mappedId, originalId))
+            ).collect(Collectors.toList()), Pools.DEFAULT);
+
             return ShardedLongLongMap.build(
-                this.nodeCount.get(),
-                this.shards,
+                internalNodeMapping,
+                this.shards.length,
                 this.shardShift,
-                this.shardMask,
+                this.concurrency,
                 maxOriginalId
             );
         }
@@ -270,31 +342,32 @@ public final class ShardedLongLongMap {
         }
     }
 
+    /**
+     * Builds the mapping from batches of distinct node ids without any synchronization.
+     *
+     * Every batch reserves a range of mapped ids and every thread appends the original ids
+     * of its batches to a thread-local buffer. The table is built from these buffers in parallel
+     * once all nodes are added.
+     */
     public static final class BatchedBuilder {
 
         private final AtomicLong nodeCount;
-        private final Shard[] shards;
+        private final Queue<Batch> allBatches;
         private final CloseableThreadLocal<Batch> batches;
+        private final int numberOfShards;
         private final int shardShift;
-        private final int shardMask;
+        private final int concurrency;
 
         BatchedBuilder(int concurrency, boolean overrideIds) {
+            this.concurrency = concurrency;
             this.nodeCount = new AtomicLong();
-            int numberOfShards = numberOfShards(concurrency);
+            this.numberOfShards = numberOfShards(concurrency);
             this.shardShift = Long.SIZE - Integer.numberOfTrailingZeros(numberOfShards);
-            this.shardMask = numberOfShards - 1;
-            this.shards = IntStream.range(0, numberOfShards)
-                .mapToObj(__ -> new Shard())
-                .toArray(Shard[]::new);
+            this.allBatches = new ConcurrentLinkedQueue<>();
             this.batches = CloseableThreadLocal.withInitial(() -> {
-                if (overrideIds) {
-                    return new OverridingBatch(this.shards, this.shardShift, this.shardMask);
-                }
-                return new Batch(
-                    this.shards,
-                    this.shardShift,
-                    this.shardMask
-                );
+                var batch = overrideIds ? new OverridingBatch() : new Batch();
+                this.allBatches.add(batch);
+                return batch;
             });
         }
 
@@ -306,39 +379,47 @@ public final class ShardedLongLongMap {
         }
 
         public ShardedLongLongMap build() {
-            this.batches.close();
-            return ShardedLongLongMap.build(
-                this.nodeCount.get(),
-                this.shards,
-                this.shardShift,
-                this.shardMask
-            );
+            return build(OptionalLong.empty());
         }
 
         public ShardedLongLongMap build(long maxOriginalId) {
+            return build(OptionalLong.of(maxOriginalId));
+        }
+
+        private ShardedLongLongMap build(OptionalLong maxOriginalId) {
             this.batches.close();
+
+            var internalNodeMapping = HugeLongArray.newArray(this.nodeCount.get());
+            ParallelUtil.run(this.allBatches.stream().map(batch -> (Runnable) () -> {
+                for (var chunk : batch.chunks) {
+                    long[] originalIds = chunk.originalIds;
+                    for (int i = 0; i < originalIds.length; i++) {
+                        internalNodeMapping.set(chunk.startId + i, originalIds[i]);
+                    }
+                }
+                batch.chunks.clear();
+            }).collect(Collectors.toList()), Pools.DEFAULT);
+
             return ShardedLongLongMap.build(
-                this.nodeCount.get(),
-                this.shards,
+                internalNodeMapping,
+                this.numberOfShards,
                 this.shardShift,
-                this.shardMask,
+                this.concurrency,
                 maxOriginalId
             );
         }
 
         public static class Batch implements IdMapAllocator {
 
-            private final Shard[] shards;
-            private final int shardShift;
-            private final int shardMask;
+            private final List<Chunk> chunks;
 
             private long startId;
+            private long[] originalIds;
             private int length;
+            private int cursor;
 
-            private Batch(Shard[] shards, int shardShift, int shardMask) {
-                this.shards = shards;
-                this.shardShift = shardShift;
-                this.shardMask = shardMask;
+            private Batch() {
+                this.chunks = new ArrayList<>();
             }
 
             @Override
@@ -355,17 +436,17 @@ public final class ShardedLongLongMap {
             }
 
             public long addNode(long nodeId) {
-                long mappedId = this.startId++;
-                var shard = findShard(nodeId, this.shards, this.shardShift, this.shardMask);
-                try (var ignoredLock = shard.acquireLock()) {
-                    shard.addNode(nodeId, mappedId);
-                }
-                return mappedId;
+                assert this.cursor < this.length : "addNode must not be called more often than the batch length";
+                this.originalIds[this.cursor] = nodeId;
+                return this.startId + this.cursor++;
             }
 
             void initBatch(long startId, int length) {
                 this.startId = startId;
                 this.length = length;
+                this.cursor = 0;
+                this.originalIds = new long[length];
+                this.chunks.add(new Chunk(startId, this.originalIds));
             }
         }
 
@@ -374,10 +455,6 @@ public final class ShardedLongLongMap {
          */
         private static final class OverridingBatch extends Batch {
 
-            private OverridingBatch(Shard[] shards, int shardShift, int shardMask) {
-                super(shards, shardShift, shardMask);
-            }
-
             @Override
             public void insert(long[] nodeIds) {
                 int length = allocatedSize();
@@ -387,11 +464,13 @@ public final class ShardedLongLongMap {
             }
         }
 
-        private static final class Shard extends MapShard {
+        private static final class Chunk {
+            private final long startId;
+            private final long[] originalIds;
 
-            void addNode(long nodeId, long mappedId) {
-                this.assertIsUnderLock();
-                this.mapping.put(nodeId, mappedId);
+            private Chunk(long startId, long[] originalIds) {
+                this.startId = startId;
+                this.originalIds = originalIds;
             }
         }
     }
@@ -23,6 +23,7 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.collections.haa.HugeAtomicLongArray;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicArrays;
 import org.neo4j.gds.core.utils.paged.ParalleLongPageCreator;
 
 import java.util.concurrent.atomic.AtomicLong;
@@ -82,7 +83,7 @@ public final class HugeAtomicDisjointSetStruct implements DisjointSetStruct {
     private final AtomicLong maxCommunityId;
 
     public HugeAtomicDisjointSetStruct(long capacity, int concurrency) {
-        this.parent = HugeAtomicLongArray.of(capacity, ParalleLongPageCreator.identity(concurrency));
+        this.parent = HugeAtomicArrays.longArray(capacity, ParalleLongPageCreator.identity(concurrency));
         this.communities = null;
         this.maxCommunityId = null;
     }
@@ -92,8 +93,8 @@ public final class HugeAtomicDisjointSetStruct implements DisjointSetStruct {
         NodePropertyValues communityMapping,
         int concurrency
     ) {
-        this.parent = HugeAtomicLongArray.of(capacity, ParalleLongPageCreator.identity(concurrency));
-        this.communities = HugeAtomicLongArray.of(
+        this.parent = HugeAtomicArrays.longArray(capacity, ParalleLongPageCreator.identity(concurrency));
+        this.communities = HugeAtomicArrays.longArray(
             capacity,
             ParalleLongPageCreator.of(concurrency, nodeId -> {
                 var seedCommunity = communityMapping.longValue(nodeId);
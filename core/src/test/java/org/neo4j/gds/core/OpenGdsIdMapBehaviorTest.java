@@ -19,12 +19,19 @@
  */
 package org.neo4j.gds.core;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.loading.ArrayIdMap;
 import org.neo4j.gds.core.loading.ArrayIdMapBuilder;
 import org.neo4j.gds.core.loading.GrowingArrayIdMapBuilder;
+import org.neo4j.gds.core.loading.SuccinctIdMap;
+import org.neo4j.gds.core.loading.SuccinctIdMapBuilder;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -38,7 +45,12 @@ class OpenGdsIdMapBehaviorTest {
             Arguments.of(ArrayIdMapBuilder.ID, Optional.empty(), Optional.empty(), GrowingArrayIdMapBuilder.class),
             Arguments.of(ArrayIdMapBuilder.ID, Optional.empty(), Optional.of(42L), ArrayIdMapBuilder.class),
             Arguments.of(IdMap.NO_TYPE, Optional.empty(), Optional.empty(), GrowingArrayIdMapBuilder.class),
-            Arguments.of(IdMap.NO_TYPE, Optional.empty(), Optional.of(42L), ArrayIdMapBuilder.class)
+            Arguments.of(IdMap.NO_TYPE, Optional.empty(), Optional.of(42L), ArrayIdMapBuilder.class),
+            Arguments.of(IdMap.NO_TYPE, Optional.of(83L), Optional.of(42L), SuccinctIdMapBuilder.class),
+            Arguments.of(IdMap.NO_TYPE, Optional.of(84L), Optional.of(42L), ArrayIdMapBuilder.class),
+            Arguments.of(ArrayIdMapBuilder.ID, Optional.of(41L), Optional.of(42L), ArrayIdMapBuilder.class),
+            Arguments.of(SuccinctIdMapBuilder.ID, Optional.of(1337L), Optional.of(42L), SuccinctIdMapBuilder.class),
+            Arguments.of(SuccinctIdMapBuilder.ID, Optional.empty(), Optional.of(42L), ArrayIdMapBuilder.class)
         );
     }
 
@@ -54,4 +66,29 @@ class OpenGdsIdMapBehaviorTest {
         assertThat(idMapBuilder).isInstanceOf(idMapBuilderClazz);
     }
 
+    @Test
+    void shouldNotPickSuccinctIdMapWithoutBitIdMap() {
+        GdsFeatureToggles.USE_BIT_ID_MAP.disableAndRun(() -> {
+            var idMapBuilder = new OpenGdsIdMapBehavior().create(IdMap.NO_TYPE, 1, Optional.of(83L), Optional.of(42L));
+            assertThat(idMapBuilder).isInstanceOf(ArrayIdMapBuilder.class);
+        });
+    }
+
+    @Test
+    void shouldEstimateTheIdMapThatIsPicked() {
+        var dense = GraphDimensions.builder().nodeCount(1_000_000).highestPossibleNodeCount(1_500_000).build();
+        var sparse = GraphDimensions.builder().nodeCount(1_000_000).highestPossibleNodeCount(2_500_000).build();
+        var estimation = new OpenGdsIdMapBehavior().memoryEstimation();
+
+        assertThat(usage(estimation, dense)).isEqualTo(usage(SuccinctIdMap.memoryEstimation(), dense));
+        assertThat(usage(estimation, sparse)).isEqualTo(usage(ArrayIdMap.memoryEstimation(), sparse));
+
+        GdsFeatureToggles.USE_BIT_ID_MAP.disableAndRun(() ->
+            assertThat(usage(estimation, dense)).isEqualTo(usage(ArrayIdMap.memoryEstimation(), dense))
+        );
+    }
+
+    private static MemoryRange usage(MemoryEstimation estimation, GraphDimensions dimensions) {
+        return estimation.estimate(dimensions, 1).memoryUsage();
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordParallelDecodingTest {
+
+    @Test
+    void shouldCountLeadingSingleByteValues() {
+        assertThat(WordParallelDecoding.singleByteValues(0L)).isEqualTo(0);
+        assertThat(WordParallelDecoding.singleByteValues(0x80L)).isEqualTo(1);
+        assertThat(WordParallelDecoding.singleByteValues(0x0080_8080L)).isEqualTo(2);
+        assertThat(WordParallelDecoding.singleByteValues(0x8080808080808080L)).isEqualTo(8);
+        assertThat(WordParallelDecoding.singleByteValues(0x0080808080808080L)).isEqualTo(7);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 50, 90, 100})
+    void shouldDecodeDeltaVLongsFromHeap(int singleBytePercentage) {
+        var random = new Random(42);
+        for (int round = 0; round < 100; round++) {
+            var deltas = deltas(random, 1 + random.nextInt(200), singleBytePercentage);
+            var offset = random.nextInt(5);
+            var page = new byte[offset + VarLongEncoding.encodedVLongsSize(deltas, deltas.length)];
+            var end = VarLongEncoding.encodeVLongs(deltas, deltas.length, page, offset);
+
+            var decoded = new long[deltas.length];
+            var decodedEnd = WordParallelDecoding.decodeDeltaVLongs(42L, page, offset, deltas.length, decoded);
+
+            assertThat(decodedEnd).isEqualTo(end);
+            assertThat(decoded).isEqualTo(prefixSum(42L, deltas));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 50, 90, 100})
+    void shouldDecodeDeltaVLongsFromNativeMemory(int singleBytePercentage) {
+        var random = new Random(1337);
+        for (int round = 0; round < 100; round++) {
+            var deltas = deltas(random, 1 + random.nextInt(200), singleBytePercentage);
+            // allocate exactly the encoded size to make sure the decoder does not read beyond it
+            long allocation = VarLongEncoding.encodedVLongsSize(deltas, deltas.length);
+            long ptr = UnsafeUtil.allocateMemory(allocation, EmptyMemoryTracker.INSTANCE);
+            try {
+                var end = VarLongEncoding.encodeVLongs(deltas, 0, deltas.length, ptr);
+
+                var decoded = new long[deltas.length + 1];
+                var decodedEnd = WordParallelDecoding.unsafeDecodeDeltaVLongs(deltas.length, 42L, ptr, decoded, 1);
+
+                assertThat(decodedEnd).isEqualTo(end);
+                var expected = new long[deltas.length + 1];
+                System.arraycopy(prefixSum(42L, deltas), 0, expected, 1, deltas.length);
+                assertThat(decoded).isEqualTo(expected);
+            } finally {
+                UnsafeUtil.free(ptr, allocation, EmptyMemoryTracker.INSTANCE);
+            }
+        }
+    }
+
+    @Test
+    void shouldStopAtTheLimit() {
+        var deltas = new long[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        var page = new byte[VarLongEncoding.encodedVLongsSize(deltas, deltas.length)];
+        VarLongEncoding.encodeVLongs(deltas, deltas.length, page, 0);
+
+        var decoded = new long[3];
+        var end = WordParallelDecoding.decodeDeltaVLongs(0L, page, 0, 3, decoded);
+
+        assertThat(end).isEqualTo(3);
+        assertThat(decoded).containsExactly(1L, 3L, 6L);
+    }
+
+    private static long[] deltas(Random random, int length, int singleBytePercentage) {
+        var deltas = new long[length];
+        for (int i = 0; i < length; i++) {
+            deltas[i] = random.nextInt(100) < singleBytePercentage
+                ? random.nextInt(128)
+                : 128L + (random.nextLong() >>> (1 + random.nextInt(40)));
+        }
+        return deltas;
+    }
+
+    private static long[] prefixSum(long startValue, long[] deltas) {
+        var values = new long[deltas.length];
+        for (int i = 0; i < deltas.length; i++) {
+            startValue += deltas[i];
+            values[i] = startValue;
+        }
+        return values;
+    }
+}
@@ -305,4 +305,35 @@ class AdjacencyPackerTest {
                 .containsExactly(data);
         });
     }
+
+    @ParameterizedTest
+    @MethodSource("strategyAndBlockSizes")
+    void decompressRandomLongsViaNextBlock(GdsFeatureToggles.AdjacencyPackingStrategy strategy, int length) {
+        var random = newRandom();
+        var data = random.random().longs(length, 0, 1L << 50).toArray();
+        var alignedData = Arrays.copyOf(data, AdjacencyPackerUtil.align(length));
+        Arrays.sort(data);
+
+        TestAllocator.testCursor(strategy, alignedData, length, Aggregation.NONE, (cursor, ignore) -> {
+            var decompressed = new long[length];
+            int position = 0;
+
+            // mix single and bulk reads, the buffer is smaller than a block to cross block boundaries
+            if (cursor.hasNextVLong()) {
+                decompressed[position++] = cursor.nextVLong();
+            }
+            var buffer = new long[42];
+            int count;
+            while ((count = cursor.nextBlock(buffer)) > 0) {
+                System.arraycopy(buffer, 0, decompressed, position, count);
+                position += count;
+            }
+
+            assertThat(position).isEqualTo(length);
+            assertThat(cursor.hasNextVLong()).isFalse();
+            assertThat(decompressed)
+                .as("compressed data did not roundtrip, seed = %d", random.seed())
+                .containsExactly(data);
+        });
+    }
 }
@@ -27,11 +27,17 @@ import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.collections.ha.HugeIntArray;
 import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.utils.GdsFeatureToggles.AdjacencyPackingStrategy;
 
 import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.core.compression.packed.PackedAdjacencyList.computeAdjacencyByteSize;
 
 class PackedAdjacencyListTest {
 
@@ -45,6 +51,74 @@ class PackedAdjacencyListTest {
             .hasMessage("This page has already been freed.");
     }
 
+    @Test
+    void shouldComputePackedMemoryEstimationForSinglePage() {
+        var nodeCount = 100;
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .relCountUpperBound(500)
+            .build();
+
+        var memRec = PackedAdjacencyList
+            .adjacencyListEstimation(5, nodeCount, AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL)
+            .estimate(dimensions, 1);
+
+        long classSize = 48;
+        // 100 lists of 16 bytes each fit into a single off-heap page
+        long adjacencyPages = 262_144 + 24 + 24;
+        long degrees = HugeIntArray.memoryEstimation(nodeCount);
+        long offsets = HugeLongArray.memoryEstimation(nodeCount);
+
+        var actual = memRec.memoryUsage();
+        assertThat(actual.min).isEqualTo(classSize + adjacencyPages + degrees + offsets);
+        assertThat(actual.max).isEqualTo(classSize + adjacencyPages + degrees + offsets);
+    }
+
+    @Test
+    void shouldComputeAdjacencyByteSizeWithInlinedHead() {
+        long avgDegree = 1000;
+        long nodeCount = 100_000_000;
+        long delta = 100_000;
+        // 16 block headers and half of the 4 bytes of the var-long encoded first target, padded to 24 bytes
+        long headerSize = 24;
+        // 999 targets with 17 bits each
+        long dataSize = 2123;
+        long expected = BitUtil.align(headerSize + dataSize, 8) * nodeCount;
+
+        assertThat(computeAdjacencyByteSize(
+            avgDegree,
+            nodeCount,
+            delta,
+            AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL
+        )).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldComputeAdjacencyByteSizeWithVarLongTail() {
+        long avgDegree = 100;
+        long nodeCount = 1_000_000;
+        long delta = 10_000;
+        // a single block header, padded to 8 bytes
+        long headerSize = 8;
+        // one block with 14 bits per target, half of the 3 bytes of the first target and 35 two-byte var-longs
+        long dataSize = 112 + 2 + 35 * 2;
+        long expected = BitUtil.align(headerSize + dataSize, 8) * nodeCount;
+
+        assertThat(computeAdjacencyByteSize(
+            avgDegree,
+            nodeCount,
+            delta,
+            AdjacencyPackingStrategy.VAR_LONG_TAIL
+        )).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldComputeAdjacencyByteSizeNoRelationships() {
+        for (var strategy : AdjacencyPackingStrategy.values()) {
+            assertThat(computeAdjacencyByteSize(0, 100, 0, strategy)).isEqualTo(0);
+        }
+    }
+
     private static PackedAdjacencyList adjacencyList(long[] data) {
         var allocator = new TestAllocator();
         var slice = ModifiableSlice.<Address>create();
@@ -26,8 +26,6 @@ import org.neo4j.gds.api.compress.ModifiableSlice;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compression.common.MemoryTracker;
 import org.neo4j.gds.utils.GdsFeatureToggles;
-import org.neo4j.internal.unsafe.UnsafeUtil;
-import org.neo4j.memory.EmptyMemoryTracker;
 
 import java.util.function.BiConsumer;
 
@@ -120,8 +118,7 @@ class TestAllocator implements AdjacencyListBuilder.Allocator<Address> {
     @Override
     public long allocate(int allocationSize, AdjacencyListBuilder.Slice<Address> into) {
         var slice = (ModifiableSlice<Address>) into;
-        long ptr = UnsafeUtil.allocateMemory(allocationSize, EmptyMemoryTracker.INSTANCE);
-        this.address = Address.createAddress(ptr, allocationSize);
+        this.address = Address.allocate(allocationSize);
         slice.setSlice(address);
         slice.setOffset(0);
         slice.setLength(allocationSize);
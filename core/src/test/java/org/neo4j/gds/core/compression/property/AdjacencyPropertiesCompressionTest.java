@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.property;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.compress.ModifiableSlice;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.common.MemoryTracker;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyListBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdjacencyPropertiesCompressionTest {
+
+    @Test
+    void shouldUseDictionaryForFewDistinctValues() {
+        var values = new double[][]{{1.0, 2.0, 3.0}, {}, {3.0, 3.0}, {Math.PI}};
+        var compressed = compress(values);
+
+        assertThat(compressed).isInstanceOf(DictionaryAdjacencyProperties.class);
+        assertValues(compressed, values);
+    }
+
+    @Test
+    void shouldUseFloatsForManyDistinctFloatValues() {
+        var many = IntStream.range(0, 1000).mapToDouble(i -> i * 0.5).toArray();
+        var values = new double[][]{many, {}, {42.0}};
+        var compressed = compress(values);
+
+        assertThat(compressed).isInstanceOf(FloatAdjacencyProperties.class);
+        assertValues(compressed, values);
+    }
+
+    @Test
+    void shouldKeepPropertiesThatCannotBeEncodedLosslessly() {
+        var many = IntStream.range(0, 1000).mapToDouble(i -> i * 0.1).toArray();
+        var values = new double[][]{many, {}, {42.0}};
+        var raw = uncompressed(values);
+        var compressed = AdjacencyPropertiesCompression.compress(raw, degrees(values), offsets);
+
+        assertThat(compressed).isSameAs(raw);
+    }
+
+    @Test
+    void shouldPreserveSpecialValues() {
+        var values = new double[][]{{Double.NaN, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.MIN_VALUE}};
+        var compressed = compress(values);
+
+        assertThat(compressed).isInstanceOf(DictionaryAdjacencyProperties.class);
+        assertValues(compressed, values);
+    }
+
+    @Test
+    void shouldReuseCursors() {
+        var values = new double[][]{{1.5, 2.5}, {}, {3.5}};
+        var compressed = compress(values);
+
+        var cursor = compressed.rawPropertyCursor();
+        assertThat(compressed.propertyCursor(cursor, 0, Double.NaN)).isSameAs(cursor);
+        assertThat(compressed.propertyCursor(cursor, 2, Double.NaN)).isSameAs(cursor);
+        assertThat(cursor.hasNextLong()).isTrue();
+        assertThat(Double.longBitsToDouble(cursor.nextLong())).isEqualTo(3.5);
+        assertThat(cursor.hasNextLong()).isFalse();
+    }
+
+    private HugeLongArray offsets;
+
+    private AdjacencyProperties compress(double[][] values) {
+        return AdjacencyPropertiesCompression.compress(uncompressed(values), degrees(values), offsets);
+    }
+
+    private AdjacencyProperties uncompressed(double[][] values) {
+        var builder = new UncompressedAdjacencyListBuilder(MemoryTracker.empty());
+        var allocator = builder.newAllocator();
+        var slice = ModifiableSlice.<long[]>create();
+        offsets = HugeLongArray.newArray(values.length);
+        for (int node = 0; node < values.length; node++) {
+            var nodeValues = values[node];
+            if (nodeValues.length == 0) {
+                continue;
+            }
+            offsets.set(node, allocator.allocate(nodeValues.length, slice));
+            for (int i = 0; i < nodeValues.length; i++) {
+                slice.slice()[slice.offset() + i] = Double.doubleToRawLongBits(nodeValues[i]);
+            }
+        }
+        allocator.close();
+        return builder.build(degrees(values), offsets, false);
+    }
+
+    private static HugeIntArray degrees(double[][] values) {
+        var degrees = HugeIntArray.newArray(values.length);
+        for (int node = 0; node < values.length; node++) {
+            degrees.set(node, values[node].length);
+        }
+        return degrees;
+    }
+
+    private static void assertValues(AdjacencyProperties properties, double[][] values) {
+        for (int node = 0; node < values.length; node++) {
+            var actual = new ArrayList<Long>();
+            try (var cursor = properties.propertyCursor(node)) {
+                while (cursor.hasNextLong()) {
+                    actual.add(cursor.nextLong());
+                }
+            }
+            assertThat(actual)
+                .as("properties of node %d", node)
+                .containsExactly(
+                    Arrays.stream(values[node]).mapToObj(Double::doubleToRawLongBits).toArray(Long[]::new)
+                );
+        }
+    }
+}
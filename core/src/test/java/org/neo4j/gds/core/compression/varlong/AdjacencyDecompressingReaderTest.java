@@ -144,6 +144,26 @@ class AdjacencyDecompressingReaderTest {
         // read beyond the end -- not possible since no more remaining
     }
 
+    @Test
+    void testNextBlock() {
+        var targets = LongStream.range(0, 200).toArray();
+        var reader = prepareAdjacencyDecompressingReader(targets);
+
+        var remaining = targets.length;
+        var buffer = new long[100];
+
+        // read across the first block boundary
+        assertThat(reader.next(remaining)).isEqualTo(targets[0]);
+        remaining -= 1;
+        reader.next(buffer, 100, remaining);
+        assertThat(buffer).containsExactly(Arrays.copyOfRange(targets, 1, 101));
+        remaining -= 100;
+
+        // read the remainder, including the last partial block
+        reader.next(buffer, remaining, remaining);
+        assertThat(Arrays.copyOf(buffer, remaining)).containsExactly(Arrays.copyOfRange(targets, 101, 200));
+    }
+
     private AdjacencyDecompressingReader prepareAdjacencyDecompressingReader(long[] originalTargets) {
         var targets = originalTargets.clone();
 
@@ -29,7 +29,9 @@ import org.neo4j.gds.core.compression.MemoryInfo;
 import org.neo4j.gds.api.schema.Direction;
 import org.neo4j.gds.beta.generator.RandomGraphGenerator;
 import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.gdl.GdlFactory;
 
+import java.util.ArrayList;
 import java.util.concurrent.atomic.LongAdder;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,6 +72,22 @@ class HugeGraphCursorReuseTest {
         assertThat(adjacencyList.cursorInstanceCount()).isEqualTo(1L);
     }
 
+    @Test
+    void shouldNotShareTheTargetBlockWithNestedTraversals() {
+        var graph = GdlFactory.of("(a)-[:T]->(b), (a)-[:T]->(c), (b)-[:T]->(d), (b)-[:T]->(e)").build().getUnion();
+
+        var outerTargets = new ArrayList<Long>();
+        var innerTargets = new ArrayList<Long>();
+        graph.forEachRelationship(0, (source, target) -> {
+            outerTargets.add(target);
+            graph.forEachRelationship(target, (innerSource, innerTarget) -> innerTargets.add(innerTarget));
+            return true;
+        });
+
+        assertThat(outerTargets).containsExactly(1L, 2L);
+        assertThat(innerTargets).containsExactly(3L, 4L);
+    }
+
 
     private static class TestAdjacencyList implements AdjacencyList {
         private LongAdder cursorInstanceCounter;
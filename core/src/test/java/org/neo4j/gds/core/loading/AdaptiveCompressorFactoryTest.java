@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.compress.DegreeStatistics;
+import org.neo4j.gds.api.compress.ImmutableDegreeStatistics;
+import org.neo4j.gds.core.Compression;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.compression.packed.PackedAdjacencyList;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveCompressorFactoryTest extends AdjacencyListBuilderBaseTest {
+
+    @Override
+    Compression compression() {
+        return Compression.AUTO;
+    }
+
+    @Test
+    void test() {
+        testAdjacencyList();
+    }
+
+    @Test
+    void testWithProperties() {
+        testAdjacencyListWithProperties();
+    }
+
+    @Test
+    void testMapper() {
+        testValueMapper();
+    }
+
+    @Test
+    void testWithAggregations() {
+        testAdjacencyListWithAggregations();
+    }
+
+    @Test
+    void shouldUseVarLongWithoutRelationships() {
+        assertThat(AdaptiveCompressorFactory.compression(DegreeStatistics.EMPTY)).isEqualTo(Compression.VAR_LONG);
+    }
+
+    @Test
+    void shouldPackRegularGraphs() {
+        // 1000 lists with degree 3 or 4, like a road network
+        var degreeStatistics = statistics(500, 3, 500, 4);
+
+        assertThat(AdaptiveCompressorFactory.compression(degreeStatistics)).isEqualTo(Compression.PACKED);
+        assertThat(AdaptiveCompressorFactory.packingStrategy(degreeStatistics))
+            .isEqualTo(GdsFeatureToggles.AdjacencyPackingStrategy.VAR_LONG_TAIL);
+    }
+
+    @Test
+    void shouldPackTailsOfDenseRegularGraphs() {
+        var degreeStatistics = statistics(500, 90, 500, 110);
+
+        assertThat(AdaptiveCompressorFactory.compression(degreeStatistics)).isEqualTo(Compression.PACKED);
+        assertThat(AdaptiveCompressorFactory.packingStrategy(degreeStatistics))
+            .isEqualTo(GdsFeatureToggles.AdjacencyPackingStrategy.INLINED_HEAD_PACKED_TAIL);
+    }
+
+    @Test
+    void shouldMixPowerLawGraphs() {
+        // a few hubs and a long tail of nodes with a single relationship
+        var degreeStatistics = statistics(10, 10_000, 10_000, 1);
+
+        assertThat(AdaptiveCompressorFactory.compression(degreeStatistics)).isEqualTo(Compression.MIXED);
+    }
+
+    @Test
+    void shouldUseVarLongForSkewedGraphsWithoutHubs() {
+        var degreeStatistics = statistics(10, 500, 990, 1);
+
+        assertThat(AdaptiveCompressorFactory.compression(degreeStatistics)).isEqualTo(Compression.VAR_LONG);
+    }
+
+    @Test
+    void shouldResolveDefaultToAuto() {
+        assertThat(AdjacencyListBehavior.resolve(Compression.DEFAULT)).isEqualTo(Compression.AUTO);
+        assertThat(AdjacencyListBehavior.resolve(Compression.VAR_LONG)).isEqualTo(Compression.VAR_LONG);
+
+        GdsFeatureToggles.USE_ADAPTIVE_ADJACENCY_COMPRESSION.disableAndRun(() ->
+            assertThat(AdjacencyListBehavior.resolve(Compression.DEFAULT)).isEqualTo(Compression.VAR_LONG)
+        );
+        GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.enableAndRun(() ->
+            assertThat(AdjacencyListBehavior.resolve(Compression.DEFAULT)).isEqualTo(Compression.PACKED)
+        );
+    }
+
+    @Test
+    void shouldEstimatePackingForSparseGraphs() {
+        // every list is padded to eight bytes, which exceeds its var-long encoding
+        var estimation = AdaptiveCompressorFactory.adjacencyListEstimation(1, 100_000);
+        var packed = PackedAdjacencyList.adjacencyListEstimation(
+            1,
+            100_000,
+            GdsFeatureToggles.AdjacencyPackingStrategy.VAR_LONG_TAIL
+        );
+
+        assertThat(usage(estimation, 100_000)).isEqualTo(usage(packed, 100_000));
+    }
+
+    @Test
+    void shouldEstimateVarLongForDenseGraphs() {
+        var estimation = AdaptiveCompressorFactory.adjacencyListEstimation(200, 100_000_000);
+        var varLong = CompressedAdjacencyList.adjacencyListEstimation(200, 100_000_000);
+
+        assertThat(usage(estimation, 100_000_000)).isEqualTo(usage(varLong, 100_000_000));
+    }
+
+    private static MemoryRange usage(MemoryEstimation estimation, long nodeCount) {
+        return estimation.estimate(GraphDimensions.of(nodeCount), 1).memoryUsage();
+    }
+
+    private static DegreeStatistics statistics(long count1, int degree1, long count2, int degree2) {
+        return ImmutableDegreeStatistics.of(
+            count1 + count2,
+            count1 * degree1 + count2 * degree2,
+            Math.max(degree1, degree2),
+            (double) count1 * degree1 * degree1 + (double) count2 * degree2 * degree2
+        );
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.compat.StoreScan;
+import org.neo4j.internal.kernel.api.Cursor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveStoreScanTest {
+
+    private static final int MAX_BATCH_SIZE = 54_656;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 64})
+    void shouldShrinkBatchesTowardsTheEndOfTheScan(int threadCount) {
+        long recordCount = 8L * AdaptiveStoreScan.BATCHES_PER_THREAD * threadCount * MAX_BATCH_SIZE;
+        var reservedBatches = new ArrayList<Integer>();
+        var scan = scan(recordCount, threadCount, reservedBatches);
+
+        while (scan.reserveBatch(null, null)) {
+            // reserve until the scan is exhausted
+        }
+
+        assertThat(reservedBatches).first().isEqualTo(MAX_BATCH_SIZE);
+        assertThat(reservedBatches).isSortedAccordingTo((a, b) -> Integer.compare(b, a));
+        assertThat(reservedBatches.subList(reservedBatches.size() - threadCount, reservedBatches.size()))
+            .containsOnly(scan.batchSize(AdaptiveStoreScan.SIZE_CLASSES - 1));
+        assertThat(reservedBatches.stream().mapToLong(Integer::longValue).sum()).isGreaterThanOrEqualTo(recordCount);
+    }
+
+    @Test
+    void shouldAlignBatchSizes() {
+        var scan = scan(1, 1, new ArrayList<>());
+
+        for (int sizeClass = 0; sizeClass < AdaptiveStoreScan.SIZE_CLASSES; sizeClass++) {
+            assertThat(scan.batchSize(sizeClass))
+                .isLessThanOrEqualTo(MAX_BATCH_SIZE)
+                .matches(batchSize -> batchSize % 64 == 0);
+        }
+    }
+
+    @Test
+    void shouldUseSmallestBatchesForSmallStores() {
+        var scan = scan(MAX_BATCH_SIZE, 4, new ArrayList<>());
+
+        assertThat(scan.sizeClass(0)).isEqualTo(AdaptiveStoreScan.SIZE_CLASSES - 1);
+    }
+
+    @Test
+    void shouldShrinkBatchesOfSlowThreads() throws InterruptedException {
+        long recordCount = 64L * MAX_BATCH_SIZE;
+        var reservedBatches = new ArrayList<Integer>();
+        var clock = new long[1];
+        var scan = scan(recordCount, 2, reservedBatches, () -> clock[0]);
+
+        runInThread(() -> {
+            scan.reserveBatch(null, null);
+            clock[0] += 1_000;
+            scan.reserveBatch(null, null);
+        });
+        // the second thread needs 16 times as long for its first batch
+        runInThread(() -> {
+            scan.reserveBatch(null, null);
+            clock[0] += 16_000;
+            scan.reserveBatch(null, null);
+        });
+
+        assertThat(reservedBatches).hasSize(4);
+        assertThat(reservedBatches.subList(0, 3)).containsOnly(MAX_BATCH_SIZE);
+        assertThat(reservedBatches.get(3)).isLessThan(MAX_BATCH_SIZE);
+    }
+
+    private static void runInThread(Runnable runnable) throws InterruptedException {
+        var thread = new Thread(runnable);
+        thread.start();
+        thread.join();
+    }
+
+    private static AdaptiveStoreScan<Cursor> scan(long recordCount, int threadCount, List<Integer> reservedBatches) {
+        // a constant clock measures no batches, so only the remaining records determine the batch sizes
+        return scan(recordCount, threadCount, reservedBatches, () -> 0L);
+    }
+
+    private static AdaptiveStoreScan<Cursor> scan(
+        long recordCount,
+        int threadCount,
+        List<Integer> reservedBatches,
+        LongSupplier nanoTime
+    ) {
+        // all scans share the position of the underlying store scan
+        var position = new long[1];
+        return new AdaptiveStoreScan<>(
+            batchSize -> (StoreScan<Cursor>) (cursor, ktx) -> {
+                if (position[0] >= recordCount) {
+                    return false;
+                }
+                position[0] += batchSize;
+                reservedBatches.add(batchSize);
+                return true;
+            },
+            MAX_BATCH_SIZE,
+            recordCount,
+            threadCount,
+            nanoTime
+        );
+    }
+}
@@ -20,8 +20,13 @@
 package org.neo4j.gds.core.loading;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.core.Aggregation;
 
+import java.util.HashMap;
+import java.util.Random;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.neo4j.gds.core.loading.AdjacencyPreAggregation.IGNORE_VALUE;
 
@@ -38,7 +43,7 @@ class AdjacencyPreAggregationTest {
 
         var aggregations = new Aggregation[]{Aggregation.SUM, Aggregation.MAX, Aggregation.SINGLE};
 
-        AdjacencyPreAggregation.preAggregate(targets, properties, 0, targets.length, aggregations);
+        new AdjacencyPreAggregation().preAggregate(targets, properties, 0, targets.length, aggregations);
 
         assertThat(targets).containsExactly(3, 1, IGNORE_VALUE, 2, IGNORE_VALUE, IGNORE_VALUE);
         assertThat(properties[0]).containsExactly(2, 2, 1, 2, 1, 1);
@@ -57,7 +62,7 @@ class AdjacencyPreAggregationTest {
 
         var aggregations = new Aggregation[]{Aggregation.SUM, Aggregation.MAX, Aggregation.SINGLE};
 
-        AdjacencyPreAggregation.preAggregate(targets, properties, 1, 5, aggregations);
+        new AdjacencyPreAggregation().preAggregate(targets, properties, 1, 5, aggregations);
 
         assertThat(targets).containsExactly(3, 1, 3, 2, IGNORE_VALUE, 1);
         assertThat(properties[0]).containsExactly(1, 1, 1, 2, 1, 1);
@@ -65,5 +70,46 @@ class AdjacencyPreAggregationTest {
         assertThat(properties[2]).containsExactly(1, 2, 3, 4, 5, 6);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {AdjacencyPreAggregation.INSERTION_SORT_THRESHOLD, 1_000})
+    void testAggregationMatchesSequentialMerge(int length) {
+        var random = new Random(42);
+        var preAggregation = new AdjacencyPreAggregation();
+
+        // the same instance is reused for chunks of different lengths and target ranges
+        for (long maxTarget : new long[]{length / 4, 1L << 20, 1L << 40}) {
+            var targets = new long[length];
+            var properties = new long[2][length];
+            for (int i = 0; i < length; i++) {
+                targets[i] = Math.floorMod(random.nextLong(), maxTarget);
+                properties[0][i] = Double.doubleToLongBits(random.nextInt(100));
+                properties[1][i] = Double.doubleToLongBits(random.nextInt(100));
+            }
+            var aggregations = new Aggregation[]{Aggregation.SUM, Aggregation.MAX};
+
+            var expectedIndex = new HashMap<Long, Integer>();
+            var expectedSum = new HashMap<Long, Double>();
+            var expectedMax = new HashMap<Long, Double>();
+            for (int i = 0; i < length; i++) {
+                expectedIndex.putIfAbsent(targets[i], i);
+                expectedSum.merge(targets[i], Double.longBitsToDouble(properties[0][i]), Double::sum);
+                expectedMax.merge(targets[i], Double.longBitsToDouble(properties[1][i]), Math::max);
+            }
 
+            var originalTargets = targets.clone();
+            int distinct = preAggregation.preAggregate(targets, properties, 0, length, aggregations);
+
+            assertThat(distinct).isEqualTo(expectedIndex.size());
+            for (int i = 0; i < length; i++) {
+                var target = originalTargets[i];
+                if (expectedIndex.get(target) == i) {
+                    assertThat(targets[i]).isEqualTo(target);
+                    assertThat(Double.longBitsToDouble(properties[0][i])).isEqualTo(expectedSum.get(target));
+                    assertThat(Double.longBitsToDouble(properties[1][i])).isEqualTo(expectedMax.get(target));
+                } else {
+                    assertThat(targets[i]).isEqualTo(IGNORE_VALUE);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.api.IdMap.NOT_FOUND;
+
+class BitSetFilteredIdMapTest {
+
+    @Test
+    void shouldMapBetweenRootAndFilteredIds() {
+        var rootIdMap = GdlFactory.of("(:A), (:B), (:A), (:B), (:A)").build().nodes();
+        var idMap = BitSetFilteredIdMap.of(rootIdMap, () -> node -> node % 2 == 0, 1, Pools.DEFAULT);
+
+        assertThat(idMap.nodeCount()).isEqualTo(3);
+        assertThat(LongStream.range(0, 3).map(idMap::toRootNodeId).toArray()).containsExactly(0, 2, 4);
+        assertThat(LongStream.range(0, 5).map(idMap::toFilteredNodeId).toArray()).containsExactly(0, NOT_FOUND, 1, NOT_FOUND, 2);
+        assertThat(idMap.containsRootNodeId(3)).isFalse();
+
+        assertThat(idMap.toOriginalNodeId(1)).isEqualTo(rootIdMap.toOriginalNodeId(2));
+        assertThat(idMap.toMappedNodeId(rootIdMap.toOriginalNodeId(4))).isEqualTo(2);
+        assertThat(idMap.toMappedNodeId(rootIdMap.toOriginalNodeId(1))).isEqualTo(NOT_FOUND);
+        assertThat(idMap.containsOriginalId(rootIdMap.toOriginalNodeId(1))).isFalse();
+    }
+
+    @Test
+    void shouldRankAcrossWords() {
+        var nodeCount = 1000;
+        var gdl = LongStream.range(0, nodeCount).mapToObj(i -> "()").collect(Collectors.joining(", "));
+        var rootIdMap = GdlFactory.of(gdl).build().nodes();
+        var idMap = BitSetFilteredIdMap.of(rootIdMap, () -> node -> node % 7 == 3, 4, Pools.DEFAULT);
+
+        var expectedRootIds = LongStream.range(0, nodeCount).filter(node -> node % 7 == 3).toArray();
+        assertThat(idMap.nodeCount()).isEqualTo(expectedRootIds.length);
+        for (int filteredNode = 0; filteredNode < expectedRootIds.length; filteredNode++) {
+            assertThat(idMap.toRootNodeId(filteredNode)).isEqualTo(expectedRootIds[filteredNode]);
+            assertThat(idMap.toFilteredNodeId(expectedRootIds[filteredNode])).isEqualTo(filteredNode);
+        }
+    }
+
+    @Test
+    void shouldFilterByLabels() {
+        var rootIdMap = GdlFactory.of("(:A), (:B), (:A), (:B), (:A)").build().nodes();
+        var idMap = BitSetFilteredIdMap.of(rootIdMap, () -> node -> node != 0, 1, Pools.DEFAULT);
+
+        var a = NodeLabel.of("A");
+        var b = NodeLabel.of("B");
+        var rootNodesWithA = LongStream.range(1, 5).filter(node -> rootIdMap.hasLabel(node, a)).toArray();
+        var filteredNodesWithB = LongStream.range(0, 4).filter(node -> rootIdMap.hasLabel(node + 1, b)).boxed().toArray(Long[]::new);
+
+        assertThat(idMap.nodeCount(a)).isEqualTo(rootNodesWithA.length);
+        assertThat(nodes(idMap, List.of(b))).containsExactly(filteredNodesWithB);
+
+        var labelFilteredIdMap = idMap.withFilteredLabels(List.of(a), 1).orElseThrow();
+        assertThat(LongStream.range(0, labelFilteredIdMap.nodeCount()).map(labelFilteredIdMap::toRootNodeId).toArray())
+            .containsExactly(rootNodesWithA);
+
+        assertThat(idMap.withFilteredLabels(List.of(a, b), 1)).containsSame(idMap);
+        assertThatThrownBy(() -> idMap.withFilteredLabels(List.of(NodeLabel.of("C")), 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("do not correspond to any of the node projections");
+    }
+
+    private static List<Long> nodes(IdMap idMap, List<NodeLabel> labels) {
+        var nodes = new ArrayList<Long>();
+        idMap.nodeIterator(Set.copyOf(labels)).forEachRemaining((long node) -> nodes.add(node));
+        return nodes;
+    }
+}
@@ -32,15 +32,20 @@ import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.graph.GraphProperty;
 import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
 import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.gdl.GdlFactory;
 import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -338,4 +343,89 @@ class CSRGraphStoreTest {
         assertThat(graph.nthTarget(0, 1)).isEqualTo(IdMap.NOT_FOUND);
         assertThat(graph.nthTarget(1, 0)).isEqualTo(IdMap.NOT_FOUND);
     }
+
+    @Test
+    void shouldNotFreeAdjacencyListsHeldByGraphStoresInTheCatalog() {
+        var graphStore = GdlFactory.of("(a:A)-[:T]->(b:A), (b)-[:T]->(c:A)").build();
+        var relationshipType = RelationshipType.of("T");
+        var relationships = graphStore.relationships(relationshipType).orElseThrow();
+        var adjacencyList = relationships.topology().adjacencyList();
+
+        var schema = MutableGraphSchema.from(graphStore.schema());
+        var derivedGraphStore = new GraphStoreBuilder()
+            .databaseId(graphStore.databaseId())
+            .capabilities(graphStore.capabilities())
+            .schema(schema)
+            .nodes(ImmutableNodes.of(schema.nodeSchema(), graphStore.nodes().withSharedIdMapping().orElseThrow(), NodePropertyStore.empty()))
+            .relationshipImportResult(RelationshipImportResult.of(Map.of(relationshipType, relationships)))
+            .concurrency(1)
+            .build();
+
+        assertThat(AdjacencyListReferences.unreferencedAdjacencyLists(graphStore)).containsExactly(adjacencyList);
+
+        GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("user", "derived"), derivedGraphStore);
+        try {
+            assertThat(AdjacencyListReferences.unreferencedAdjacencyLists(graphStore)).isEmpty();
+
+            graphStore.free();
+            assertThat(derivedGraphStore.getGraph(relationshipType).relationshipCount()).isEqualTo(2);
+        } finally {
+            GraphStoreCatalog.removeAllLoadedGraphs();
+        }
+
+        assertThat(AdjacencyListReferences.unreferencedAdjacencyLists(derivedGraphStore)).containsExactly(adjacencyList);
+    }
+
+    @Test
+    void shouldFreeSharedAdjacencyListsWhenTheLastGraphStoreHoldingThemIsDropped() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(() -> {
+            var graphStore = GdlFactory.of("(a:A)-[:T]->(b:A), (b)-[:T]->(c:A)").build();
+            var relationshipType = RelationshipType.of("T");
+            var relationships = graphStore.relationships(relationshipType).orElseThrow();
+
+            var schema = MutableGraphSchema.from(graphStore.schema());
+            var derivedGraphStore = new GraphStoreBuilder()
+                .databaseId(graphStore.databaseId())
+                .capabilities(graphStore.capabilities())
+                .schema(schema)
+                .nodes(ImmutableNodes.of(schema.nodeSchema(), graphStore.nodes().withSharedIdMapping().orElseThrow(), NodePropertyStore.empty()))
+                .relationshipImportResult(RelationshipImportResult.of(Map.of(relationshipType, relationships)))
+                .concurrency(1)
+                .build();
+
+            var request = CatalogRequest.of("user", graphStore.databaseId());
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("user", "original"), graphStore);
+            GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("user", "derived"), derivedGraphStore);
+            try {
+                var derivedGraph = derivedGraphStore.getGraph(relationshipType);
+
+                GraphStoreCatalog.remove(request, "original", ignored -> {}, true);
+                var targets = new ArrayList<Long>();
+                derivedGraph.forEachRelationship(0, (source, target) -> targets.add(target));
+                assertThat(targets).containsExactly(1L);
+
+                GraphStoreCatalog.remove(request, "derived", ignored -> {}, true);
+                assertThatThrownBy(() -> derivedGraph.forEachRelationship(0, (source, target) -> true))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("This page has already been freed.");
+            } finally {
+                GraphStoreCatalog.removeAllLoadedGraphs();
+            }
+        });
+    }
+
+    @Test
+    void shouldNotShareLabelsWithSharedIdMapping() {
+        var graphStore = GdlFactory.of("(a:A), (b:B)").build();
+        var idMap = graphStore.nodes();
+        var sharedIdMap = idMap.withSharedIdMapping().orElseThrow();
+
+        var label = NodeLabel.of("C");
+        sharedIdMap.addNodeLabel(label);
+        sharedIdMap.addNodeIdToLabel(0, label);
+
+        assertThat(sharedIdMap.toOriginalNodeId(1)).isEqualTo(idMap.toOriginalNodeId(1));
+        assertThat(sharedIdMap.hasLabel(0, label)).isTrue();
+        assertThat(idMap.availableNodeLabels()).containsExactlyInAnyOrder(NodeLabel.of("A"), NodeLabel.of("B"));
+    }
 }
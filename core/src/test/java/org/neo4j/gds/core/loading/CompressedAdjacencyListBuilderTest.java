@@ -20,10 +20,16 @@
 package org.neo4j.gds.core.loading;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.Compression;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
 class CompressedAdjacencyListBuilderTest extends AdjacencyListBuilderBaseTest {
 
+    @Override
+    Compression compression() {
+        return Compression.VAR_LONG;
+    }
+
     @Test
     void test() {
         GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(this::testAdjacencyList);
@@ -29,7 +29,9 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.util.ArrayList;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -79,6 +81,21 @@ class GraphStoreCatalogTest {
         assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, GRAPH_NAME).graphStore()).isNotEqualTo(graphStore);
     }
 
+    @Test
+    void replaceShouldOnlyReplaceTheExpectedGraphStore() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+
+        assertThat(GraphStoreCatalog.replace(CONFIG, otherGraphStore, graphStore)).isFalse();
+        assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, GRAPH_NAME).graphStore()).isSameAs(graphStore);
+
+        assertThat(GraphStoreCatalog.replace(CONFIG, graphStore, otherGraphStore)).isTrue();
+        assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, GRAPH_NAME).graphStore()).isSameAs(otherGraphStore);
+
+        GraphStoreCatalog.removeAllLoadedGraphs();
+        assertThat(GraphStoreCatalog.replace(CONFIG, otherGraphStore, graphStore)).isFalse();
+        assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
+    }
+
     @Test
     void get() {
         GraphStoreCatalog.set(CONFIG, graphStore);
@@ -197,6 +214,69 @@ class GraphStoreCatalogTest {
         assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
     }
 
+    @Test
+    void removeShouldFreeOffHeapAdjacencyListsOfGraphsWithoutReaders() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(() -> {
+            GraphStore offHeapGraphStore = GdlFactory
+                .builder()
+                .gdlGraph("(a)-->(b)")
+                .databaseId(DATABASE_ID)
+                .build()
+                .build();
+            GraphStoreCatalog.set(CONFIG, offHeapGraphStore);
+            var graph = offHeapGraphStore.getUnion();
+
+            GraphStoreCatalog.remove(
+                CatalogRequest.of(USER_NAME, DATABASE_ID),
+                GRAPH_NAME,
+                graphStoreWithConfig -> {},
+                true
+            );
+
+            assertThatThrownBy(() -> graph.forEachRelationship(0, (source, target) -> true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("This page has already been freed.");
+            assertThatThrownBy(() -> GraphStoreReaders.acquire(offHeapGraphStore))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The graph has been dropped from the catalog and can no longer be read.");
+        });
+    }
+
+    @Test
+    void removeShouldFreeOffHeapAdjacencyListsAfterTheLastReaderIsReleased() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(() -> {
+            GraphStore offHeapGraphStore = GdlFactory
+                .builder()
+                .gdlGraph("(a)-->(b)")
+                .databaseId(DATABASE_ID)
+                .build()
+                .build();
+            GraphStoreCatalog.set(CONFIG, offHeapGraphStore);
+            var graph = offHeapGraphStore.getUnion();
+            var firstReader = GraphStoreReaders.acquire(offHeapGraphStore);
+            var secondReader = GraphStoreReaders.acquire(offHeapGraphStore);
+
+            GraphStoreCatalog.remove(
+                CatalogRequest.of(USER_NAME, DATABASE_ID),
+                GRAPH_NAME,
+                graphStoreWithConfig -> {},
+                true
+            );
+
+            firstReader.close();
+            // releasing the same reader twice must not free the graph while the second reader is still reading
+            firstReader.close();
+            var targets = new ArrayList<Long>();
+            graph.forEachRelationship(0, (source, target) -> targets.add(target));
+            assertThat(targets).containsExactly(1L);
+
+            secondReader.close();
+            assertThatThrownBy(() -> graph.forEachRelationship(0, (source, target) -> true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("This page has already been freed.");
+        });
+    }
+
     @Test
     void removeAsAdmin() {
         GraphStoreCatalog.set(CONFIG, graphStore);
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+class GraphStoreRefreshTest {
+
+    private static final String GDL =
+        "  (a:A)" +
+        ", (b:B)" +
+        ", (c:A:B)" +
+        ", (d:A)" +
+        ", (a)-[:T { w: 1.0 }]->(b)" +
+        ", (a)-[:T { w: 2.0 }]->(c)" +
+        ", (c)-[:T { w: 3.0 }]->(d)" +
+        ", (b)-[:R { w: 4.0 }]->(d)";
+
+    private static final RelationshipType T = RelationshipType.of("T");
+    private static final RelationshipType R = RelationshipType.of("R");
+
+    @Test
+    void shouldOnlyRebuildChangedRelationshipTypes() {
+        var gdlFactory = GdlFactory.of(GDL);
+        var graphStore = gdlFactory.build();
+
+        var delta = ImmutableGraphStoreDelta.builder()
+            .addRemovedRelationship(relationship(gdlFactory.nodeId("a"), gdlFactory.nodeId("b"), T, Map.of()))
+            .addAddedRelationship(relationship(gdlFactory.nodeId("b"), gdlFactory.nodeId("a"), T, Map.of("w", 5.0)))
+            .build();
+
+        var refreshed = GraphStoreRefresh.refresh(graphStore, delta, 4);
+
+        assertThat(refreshed.nodes()).isSameAs(graphStore.nodes());
+        assertThat(refreshed.relationships(R)).isSameAs(graphStore.relationships(R));
+        assertThat(refreshed.relationships(T)).isNotSameAs(graphStore.relationships(T));
+
+        var expected = GdlFactory.of(
+            "  (a:A)" +
+            ", (b:B)" +
+            ", (c:A:B)" +
+            ", (d:A)" +
+            ", (b)-[:T { w: 5.0 }]->(a)" +
+            ", (a)-[:T { w: 2.0 }]->(c)" +
+            ", (c)-[:T { w: 3.0 }]->(d)" +
+            ", (b)-[:R { w: 4.0 }]->(d)"
+        ).build();
+
+        assertGraphEquals(expected.getGraph(T, Optional.of("w")), refreshed.getGraph(T, Optional.of("w")));
+        assertGraphEquals(expected.getGraph(R, Optional.of("w")), refreshed.getGraph(R, Optional.of("w")));
+    }
+
+    @Test
+    void shouldAddAndRemoveNodes() {
+        var gdlFactory = GdlFactory.of(GDL);
+        var graphStore = gdlFactory.build();
+        long newNode = graphStore.nodes().highestOriginalId() + 42;
+
+        var delta = ImmutableGraphStoreDelta.builder()
+            .addAddedNode(ImmutableAddedNode.of(newNode, List.of(NodeLabel.of("B"))))
+            .addRemovedNode(gdlFactory.nodeId("c"))
+            .addAddedRelationship(relationship(gdlFactory.nodeId("d"), newNode, R, Map.of("w", 6.0)))
+            .build();
+
+        var refreshed = GraphStoreRefresh.refresh(graphStore, delta, 4);
+
+        var expected = GdlFactory.of(
+            "  (a:A)" +
+            ", (b:B)" +
+            ", (d:A)" +
+            ", (e:B)" +
+            ", (a)-[:T { w: 1.0 }]->(b)" +
+            ", (b)-[:R { w: 4.0 }]->(d)" +
+            ", (d)-[:R { w: 6.0 }]->(e)"
+        ).build();
+
+        assertThat(refreshed.nodeCount()).isEqualTo(4);
+        assertThat(refreshed.nodes().toMappedNodeId(newNode)).isEqualTo(3);
+        assertThat(refreshed.nodes().hasLabel(3, NodeLabel.of("B"))).isTrue();
+        assertGraphEquals(expected.getUnion(), refreshed.getUnion());
+        assertGraphEquals(expected.getGraph(NodeLabel.of("A")), refreshed.getGraph(NodeLabel.of("A")));
+        assertGraphEquals(expected.getGraph(NodeLabel.of("B")), refreshed.getGraph(NodeLabel.of("B")));
+        assertGraphEquals(expected.getGraph(R, Optional.of("w")), refreshed.getGraph(R, Optional.of("w")));
+    }
+
+    @Test
+    void shouldAggregateAddedRelationshipsLikeAFreshProjection() {
+        var config = ImmutableGraphProjectFromGdlConfig.builder()
+            .gdlGraph("(a)-[:T { w: 1.0 }]->(b), (a)-[:T { w: 2.0 }]->(b), (b)-[:T { w: 3.0 }]->(c)")
+            .graphName("test")
+            .aggregation(Aggregation.SUM)
+            .build();
+        var gdlFactory = GdlFactory.builder().graphProjectConfig(config).build();
+        var graphStore = gdlFactory.build();
+
+        var delta = ImmutableGraphStoreDelta.builder()
+            .addAddedRelationship(relationship(gdlFactory.nodeId("a"), gdlFactory.nodeId("b"), T, Map.of("w", 4.0)))
+            .build();
+
+        var refreshed = GraphStoreRefresh.refresh(graphStore, delta, 4);
+
+        var expected = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .from(config)
+                .gdlGraph(
+                    "  (a)-[:T { w: 1.0 }]->(b)" +
+                    ", (a)-[:T { w: 2.0 }]->(b)" +
+                    ", (a)-[:T { w: 4.0 }]->(b)" +
+                    ", (b)-[:T { w: 3.0 }]->(c)"
+                )
+                .build()
+        ).build().build();
+
+        assertThat(refreshed.getGraph(T).isMultiGraph()).isFalse();
+        assertThat(refreshed.relationshipCount()).isEqualTo(2);
+        assertGraphEquals(expected.getGraph(T, Optional.of("w")), refreshed.getGraph(T, Optional.of("w")));
+    }
+
+    @Test
+    void shouldCopyNodeProperties() {
+        var gdlFactory = GdlFactory.of("(a { p: 1L }), (b { p: 2L }), (a)-[:T]->(b)");
+        var graphStore = gdlFactory.build();
+        long newNode = graphStore.nodes().highestOriginalId() + 1;
+
+        var delta = ImmutableGraphStoreDelta.builder()
+            .addAddedNode(ImmutableAddedNode.of(newNode, List.of()))
+            .addRemovedNode(gdlFactory.nodeId("a"))
+            .build();
+
+        var refreshed = GraphStoreRefresh.refresh(graphStore, delta, 1);
+
+        var values = refreshed.nodeProperty("p").values();
+        var defaultValue = refreshed.nodeProperty("p").propertySchema().defaultValue().longValue();
+        assertThat(values.longValue(refreshed.nodes().toMappedNodeId(gdlFactory.nodeId("b")))).isEqualTo(2L);
+        assertThat(values.longValue(refreshed.nodes().toMappedNodeId(newNode))).isEqualTo(defaultValue);
+        assertThat(refreshed.relationshipCount()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldUpdateBothDirectionsOfUndirectedRelationships() {
+        var gdlFactory = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph("(a)-[:T]->(b), (b)-[:T]->(c), (c)-[:T]->(d)")
+                .graphName("test")
+                .orientation(Orientation.UNDIRECTED)
+                .build()
+        ).build();
+        var graphStore = gdlFactory.build();
+
+        var delta = ImmutableGraphStoreDelta.builder()
+            .addRemovedRelationship(relationship(gdlFactory.nodeId("b"), gdlFactory.nodeId("a"), T, Map.of()))
+            .addAddedRelationship(relationship(gdlFactory.nodeId("d"), gdlFactory.nodeId("a"), T, Map.of()))
+            .build();
+
+        var refreshed = GraphStoreRefresh.refresh(graphStore, delta, 1);
+
+        var expected = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph("(a), (b)-[:T]->(c), (c)-[:T]->(d), (d)-[:T]->(a)")
+                .graphName("expected")
+                .orientation(Orientation.UNDIRECTED)
+                .build()
+        ).build().build();
+
+        assertThat(refreshed.schema().isUndirected()).isTrue();
+        assertGraphEquals(expected.getUnion(), refreshed.getUnion());
+    }
+
+    @Test
+    void shouldOnlyRewriteTheListsOfTouchedNodes() {
+        var gdlFactory = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph(chain(32, ""))
+                .graphName("test")
+                .indexInverse(true)
+                .build()
+        ).build();
+        var graphStore = gdlFactory.build();
+        var adjacencyList = graphStore.relationships(T).orElseThrow().topology().adjacencyList();
+
+        var delta = ImmutableGraphStoreDelta.builder()
+            .addRemovedRelationship(relationship(gdlFactory.nodeId("n0"), gdlFactory.nodeId("n1"), T, Map.of()))
+            .addAddedRelationship(relationship(gdlFactory.nodeId("n1"), gdlFactory.nodeId("n0"), T, Map.of("w", 5.0)))
+            .build();
+        var refreshed = GraphStoreRefresh.refresh(graphStore, delta, 4);
+
+        var patched = refreshed.relationships(T).orElseThrow().topology().adjacencyList();
+        assertThat(patched).isInstanceOf(PatchedAdjacencyList.class);
+        assertThat(((PatchedAdjacencyList) patched).base()).isSameAs(adjacencyList);
+        assertThat(((PatchedAdjacencyList) patched).patchedNodes().cardinality()).isEqualTo(2);
+
+        long newNode = graphStore.nodes().highestOriginalId() + 1;
+        var secondDelta = ImmutableGraphStoreDelta.builder()
+            .addAddedNode(ImmutableAddedNode.of(newNode, List.of(NodeLabel.of("A"))))
+            .addAddedRelationship(relationship(newNode, gdlFactory.nodeId("n0"), T, Map.of("w", 6.0)))
+            .build();
+        var refreshedTwice = GraphStoreRefresh.refresh(refreshed, secondDelta, 4);
+
+        // earlier patches are carried over instead of being stacked
+        var patchedTwice = refreshedTwice.relationships(T).orElseThrow().topology().adjacencyList();
+        assertThat(((PatchedAdjacencyList) patchedTwice).base()).isSameAs(adjacencyList);
+        assertThat(((PatchedAdjacencyList) patchedTwice).patchedNodes().cardinality()).isEqualTo(3);
+
+        var expected = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph(chain(32, ", (n1)-[:T { w: 5.0 }]->(n0), (n32:A)-[:T { w: 6.0 }]->(n0)").replace("(n0)-[:T { w: 1.0 }]->(n1), ", ""))
+                .graphName("expected")
+                .indexInverse(true)
+                .build()
+        ).build().build();
+
+        assertThat(refreshedTwice.relationshipCount()).isEqualTo(expected.relationshipCount());
+        assertThat(refreshedTwice.nodes().toMappedNodeId(newNode)).isEqualTo(32);
+        assertGraphEquals(expected.getGraph(T, Optional.of("w")), refreshedTwice.getGraph(T, Optional.of("w")));
+        assertThat(inverseLists(refreshedTwice.getGraph(T))).isEqualTo(inverseLists(expected.getGraph(T)));
+    }
+
+    @Test
+    void shouldRebuildRelationshipTypesOnceManyNodesArePatched() {
+        var gdlFactory = GdlFactory.of(chain(8, ""));
+        var graphStore = gdlFactory.build();
+
+        var delta = ImmutableGraphStoreDelta.builder()
+            .addAddedRelationship(relationship(gdlFactory.nodeId("n3"), gdlFactory.nodeId("n0"), T, Map.of("w", 5.0)))
+            .addAddedRelationship(relationship(gdlFactory.nodeId("n4"), gdlFactory.nodeId("n0"), T, Map.of("w", 5.0)))
+            .build();
+        var refreshed = GraphStoreRefresh.refresh(graphStore, delta, 1);
+
+        assertThat(refreshed.relationships(T).orElseThrow().topology().adjacencyList())
+            .isNotInstanceOf(PatchedAdjacencyList.class);
+        assertThat(refreshed.relationshipCount()).isEqualTo(graphStore.relationshipCount() + 2);
+    }
+
+    @Test
+    void shouldReturnTheGraphStoreForEmptyDeltas() {
+        var graphStore = GdlFactory.of(GDL).build();
+
+        assertThat(GraphStoreRefresh.refresh(graphStore, GraphStoreDelta.empty(), 1)).isSameAs(graphStore);
+    }
+
+    @Test
+    void shouldFailOnInvalidChanges() {
+        var gdlFactory = GdlFactory.of(GDL);
+        var graphStore = gdlFactory.build();
+        long a = gdlFactory.nodeId("a");
+
+        assertThatThrownBy(() -> GraphStoreRefresh.refresh(
+            graphStore,
+            ImmutableGraphStoreDelta.builder().addAddedNode(ImmutableAddedNode.of(a, List.of())).build(),
+            1
+        )).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("already exists");
+
+        assertThatThrownBy(() -> GraphStoreRefresh.refresh(
+            graphStore,
+            ImmutableGraphStoreDelta.builder().addAddedRelationship(relationship(a, 1337, T, Map.of())).build(),
+            1
+        )).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("node 1337 does not exist");
+
+        assertThatThrownBy(() -> GraphStoreRefresh.refresh(
+            graphStore,
+            ImmutableGraphStoreDelta.builder().addAddedRelationship(relationship(a, a, RelationshipType.of("X"), Map.of())).build(),
+            1
+        )).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Relationship type `X` does not exist");
+
+        assertThatThrownBy(() -> GraphStoreRefresh.refresh(
+            graphStore,
+            ImmutableGraphStoreDelta.builder().addAddedRelationship(relationship(a, a, T, Map.of("x", 1.0))).build(),
+            1
+        )).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Relationship property `x` does not exist");
+    }
+
+    @Test
+    void shouldParseDeltas() {
+        var addedNodes = GraphStoreDelta.parseAddedNodes(List.of(1L, Map.of("nodeId", 2L, "nodeLabels", List.of("A"))));
+        assertThat(addedNodes).containsExactly(
+            ImmutableAddedNode.of(1L, List.of()),
+            ImmutableAddedNode.of(2L, List.of(NodeLabel.of("A")))
+        );
+
+        var relationships = GraphStoreDelta.parseRelationships(List.of(Map.of(
+            "sourceNodeId", 1L,
+            "targetNodeId", 2L,
+            "relationshipType", "T",
+            "properties", Map.of("w", 42L)
+        )));
+        assertThat(relationships).containsExactly(relationship(1L, 2L, T, Map.of("w", 42.0)));
+
+        assertThatThrownBy(() -> GraphStoreDelta.parseRemovedNodes(List.of("a")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Expected node ids for `removedNodes`");
+    }
+
+    private static String chain(int nodeCount, String suffix) {
+        var gdl = new StringBuilder("(n0:A)");
+        for (int i = 1; i < nodeCount; i++) {
+            gdl.append(formatWithLocale(", (n%d:A), (n%d)-[:T { w: 1.0 }]->(n%d)", i, i - 1, i));
+        }
+        return gdl.append(suffix).toString();
+    }
+
+    private static List<List<Long>> inverseLists(Graph graph) {
+        var inverseLists = new ArrayList<List<Long>>();
+        graph.forEachNode(nodeId -> {
+            var sources = new ArrayList<Long>();
+            graph.forEachInverseRelationship(nodeId, (target, source) -> sources.add(graph.toOriginalNodeId(source)));
+            sources.sort(Long::compare);
+            inverseLists.add(sources);
+            return true;
+        });
+        return inverseLists;
+    }
+
+    private static GraphStoreDelta.RelationshipChange relationship(
+        long source,
+        long target,
+        RelationshipType type,
+        Map<String, Double> properties
+    ) {
+        return ImmutableRelationshipChange.of(source, target, Optional.of(type), properties);
+    }
+}
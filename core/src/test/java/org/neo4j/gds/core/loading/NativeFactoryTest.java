@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.ImmutableRelationshipProjections;
 import org.neo4j.gds.NodeProjections;
@@ -30,6 +32,7 @@ import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -37,10 +40,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class NativeFactoryTest {
 
+    @BeforeEach
+    void setup() {
+        // the expected values assume an array id map
+        GdsFeatureToggles.USE_BIT_ID_MAP.toggle(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        GdsFeatureToggles.USE_BIT_ID_MAP.reset();
+    }
+
     @Test
     void memoryEstimationBitMapDisabled() {
-        var expectedMinUsage = 3400612760L;
-        var expectedMaxUsage = 4600799552L;
+        var expectedMinUsage = 3600619496L;
+        var expectedMaxUsage = 5200819720L;
         GraphDimensions dimensions = ImmutableGraphDimensions.builder()
             .nodeCount(100_000_000L)
             .relCountUpperBound(500_000_000L)
@@ -86,6 +86,26 @@ final class NodePropertiesFromStoreBuilderTest {
         assertEquals(42.0, properties.doubleValue(0));
     }
 
+    @Test
+    void setsPrimitiveValuesForKnownTypes() {
+        var longBuilder = NodePropertiesFromStoreBuilder.of(DefaultValue.of(42L), ValueType.LONG, 1);
+        longBuilder.set(1, 1337L);
+        var longProperties = longBuilder.build(idMap(2));
+
+        assertEquals(1337L, longProperties.longValue(1));
+        assertEquals(42L, longProperties.longValue(0));
+        assertEquals(OptionalLong.of(1337L), longProperties.getMaxLongPropertyValue());
+
+        var doubleBuilder = NodePropertiesFromStoreBuilder.of(DefaultValue.of(42.0D), ValueType.DOUBLE, 1);
+        doubleBuilder.set(0, 13.37D);
+        // values of a different type are converted like values passed as `Value`
+        doubleBuilder.set(1, 2L);
+        var doubleProperties = doubleBuilder.build(idMap(2));
+
+        assertEquals(13.37D, doubleProperties.doubleValue(0));
+        assertEquals(2.0D, doubleProperties.doubleValue(1));
+    }
+
     @Test
     void shouldReturnLongArrays() {
         long[] data = {42L, 1337L};
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.HashSet;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+class NodeRelabelingTest {
+
+    private static final String GDL =
+        "  (a:A { p: 1L })" +
+        ", (b:B { p: 2L })" +
+        ", (c:A:B { p: 3L })" +
+        ", (d:A { p: 4L })" +
+        ", (e:B { p: 5L })" +
+        ", (f:A { p: 6L })" +
+        ", (a)-[:T { w: 1.0 }]->(b)" +
+        ", (c)-[:T { w: 2.0 }]->(a)" +
+        ", (c)-[:T { w: 3.0 }]->(b)" +
+        ", (c)-[:T { w: 4.0 }]->(d)" +
+        ", (c)-[:T { w: 5.0 }]->(e)" +
+        ", (d)-[:R { w: 6.0 }]->(e)" +
+        ", (e)-[:R { w: 7.0 }]->(f)";
+
+    @ParameterizedTest
+    @EnumSource(value = NodeOrdering.class, names = "NONE", mode = EnumSource.Mode.EXCLUDE)
+    void shouldPreserveTheGraph(NodeOrdering nodeOrdering) {
+        var graphStore = GdlFactory.of(GDL).build();
+
+        var relabeled = NodeRelabeling.relabel(graphStore, nodeOrdering, 4);
+
+        assertThat(relabeled.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThat(relabeled.relationshipTypes()).isEqualTo(graphStore.relationshipTypes());
+        assertThat(relabeled.nodePropertyKeys()).isEqualTo(graphStore.nodePropertyKeys());
+        assertGraphEquals(graphStore.getUnion(), relabeled.getUnion());
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            assertGraphEquals(
+                graphStore.getGraph(relationshipType, Optional.of("w")),
+                relabeled.getGraph(relationshipType, Optional.of("w"))
+            );
+        }
+        for (var label : graphStore.nodeLabels()) {
+            assertGraphEquals(
+                graphStore.getGraph(label),
+                relabeled.getGraph(label)
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = NodeOrdering.class, names = "NONE", mode = EnumSource.Mode.EXCLUDE)
+    void shouldPreserveUndirectedAndInverseIndexedRelationships(NodeOrdering nodeOrdering) {
+        var graphStore = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph("(a)-[:T]->(b), (b)-[:T]->(c), (c)-[:T]->(d), (a)-[:T]->(d)")
+                .graphName("test")
+                .orientation(Orientation.UNDIRECTED)
+                .build()
+        ).build().build();
+
+        var relabeled = NodeRelabeling.relabel(graphStore, nodeOrdering, 1);
+
+        assertThat(relabeled.schema().relationshipSchema().isUndirected()).isTrue();
+        assertThat(relabeled.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+        assertGraphEquals(graphStore.getUnion(), relabeled.getUnion());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = NodeOrdering.class, names = "NONE", mode = EnumSource.Mode.EXCLUDE)
+    void shouldPreserveAggregatedRelationships(NodeOrdering nodeOrdering) {
+        var graphStore = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph(
+                    "  (a)-[:T { w: 1.0 }]->(b)" +
+                    ", (a)-[:T { w: 2.0 }]->(b)" +
+                    ", (b)-[:T { w: 3.0 }]->(c)" +
+                    ", (c)-[:T { w: 4.0 }]->(a)" +
+                    ", (c)-[:T { w: 5.0 }]->(a)"
+                )
+                .graphName("test")
+                .aggregation(Aggregation.SUM)
+                .build()
+        ).build().build();
+
+        var relabeled = NodeRelabeling.relabel(graphStore, nodeOrdering, 1);
+
+        var relationshipType = RelationshipType.of("T");
+        assertThat(graphStore.getGraph(relationshipType).isMultiGraph()).isFalse();
+        assertThat(relabeled.getGraph(relationshipType).isMultiGraph()).isFalse();
+        assertThat(relabeled.relationshipCount()).isEqualTo(3);
+        assertThat(relabeled.schema().relationshipSchema().get(relationshipType).properties().get("w").aggregation())
+            .isEqualTo(Aggregation.SUM);
+        assertThat(relabeled.relationships(relationshipType).orElseThrow().topology().adjacencyList().compression())
+            .isEqualTo(graphStore.relationships(relationshipType).orElseThrow().topology().adjacencyList().compression());
+        assertThat(relabeled.nodes().typeId()).isEqualTo(graphStore.nodes().typeId());
+        assertGraphEquals(
+            graphStore.getGraph(relationshipType, Optional.of("w")),
+            relabeled.getGraph(relationshipType, Optional.of("w"))
+        );
+    }
+
+    @Test
+    void shouldPlaceHighDegreeNodesFirst() {
+        var gdlFactory = GdlFactory.of(GDL);
+        var graphStore = gdlFactory.build();
+
+        var relabeled = NodeRelabeling.relabel(graphStore, NodeOrdering.DEGREE, 1);
+        var graph = relabeled.getUnion();
+
+        assertThat(relabeled.nodes().toOriginalNodeId(0)).isEqualTo(gdlFactory.nodeId("c"));
+        for (long nodeId = 1; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(graph.degree(nodeId)).isLessThanOrEqualTo(graph.degree(nodeId - 1));
+        }
+    }
+
+    @Test
+    void shouldVisitNeighboursConsecutivelyInBfsOrder() {
+        var gdlFactory = GdlFactory.of(GDL);
+        var graphStore = gdlFactory.build();
+
+        var relabeled = NodeRelabeling.relabel(graphStore, NodeOrdering.BFS, 1);
+        var idMap = relabeled.nodes();
+
+        // c has the highest degree and starts the traversal, its neighbours follow directly
+        assertThat(idMap.toOriginalNodeId(0)).isEqualTo(gdlFactory.nodeId("c"));
+        var neighbours = new HashSet<Long>();
+        for (long nodeId = 1; nodeId <= 4; nodeId++) {
+            neighbours.add(idMap.toOriginalNodeId(nodeId));
+        }
+        assertThat(neighbours).containsExactlyInAnyOrder(
+            gdlFactory.nodeId("a"),
+            gdlFactory.nodeId("b"),
+            gdlFactory.nodeId("d"),
+            gdlFactory.nodeId("e")
+        );
+    }
+
+    @Test
+    void shouldKeepNodeProperties() {
+        var gdlFactory = GdlFactory.of(GDL);
+        var graphStore = gdlFactory.build();
+
+        var relabeled = NodeRelabeling.relabel(graphStore, NodeOrdering.CUTHILL_MCKEE, 1);
+        var values = relabeled.nodeProperty("p").values();
+        var idMap = relabeled.nodes();
+
+        assertThat(relabeled.nodeProperty("p").propertySchema())
+            .isEqualTo(graphStore.nodeProperty("p").propertySchema());
+        for (var variable : new String[]{"a", "b", "c", "d", "e", "f"}) {
+            var mappedId = idMap.toMappedNodeId(gdlFactory.nodeId(variable));
+            var expected = graphStore
+                .nodeProperty("p")
+                .values()
+                .longValue(graphStore.nodes().toMappedNodeId(gdlFactory.nodeId(variable)));
+            assertThat(values.longValue(mappedId)).isEqualTo(expected);
+        }
+        assertThat(idMap.hasLabel(idMap.toMappedNodeId(gdlFactory.nodeId("c")), NodeLabel.of("B"))).isTrue();
+    }
+
+    @Test
+    void shouldReturnTheInputForNoOrdering() {
+        var graphStore = GdlFactory.of(GDL).build();
+
+        assertThat(NodeRelabeling.relabel(graphStore, NodeOrdering.NONE, 1)).isSameAs(graphStore);
+    }
+
+    @Test
+    void shouldParseNodeOrdering() {
+        assertThat(NodeOrdering.parse("cuthill_mckee")).isEqualTo(NodeOrdering.CUTHILL_MCKEE);
+        assertThat(NodeOrdering.parse(NodeOrdering.BFS)).isEqualTo(NodeOrdering.BFS);
+        assertThatThrownBy(() -> NodeOrdering.parse("rabbit"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Node ordering `RABBIT` is not supported. Must be one of: [NONE, DEGREE, BFS, CUTHILL_MCKEE].");
+    }
+
+    @Test
+    void shouldReportBytesPerRelationship() {
+        var graphStore = GdlFactory.of(GDL).build();
+
+        assertThat(NodeRelabeling.bytesPerRelationship(graphStore)).isGreaterThan(0);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.core.Compression;
+import org.neo4j.gds.core.compression.common.NativeMemory;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapCompressedAdjacencyListBuilderTest extends AdjacencyListBuilderBaseTest {
+
+    @Override
+    Compression compression() {
+        return Compression.VAR_LONG;
+    }
+
+    @Test
+    void test() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(this::testAdjacencyList);
+    }
+
+    @Test
+    void testWithProperties() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(this::testAdjacencyListWithProperties);
+    }
+
+    @Test
+    void testMapper() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(this::testValueMapper);
+    }
+
+    @Test
+    void testMapperWithProperties() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(this::testValueMapperWithProperties);
+    }
+
+    @Test
+    void testWithAggregations() {
+        GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(this::testAdjacencyListWithAggregations);
+    }
+
+    @Test
+    void shouldTrackTheNativeMemoryOfTheAdjacencyPages() {
+        // the GDL graph is built with the default compression
+        GdsFeatureToggles.USE_ADAPTIVE_ADJACENCY_COMPRESSION.disableAndRun(() ->
+            GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.enableAndRun(() -> {
+                long allocatedBefore = NativeMemory.allocatedBytes();
+
+                var graphStore = GdlFactory.of("(a)-[:REL]->(b), (a)-[:REL]->(c)").build();
+                var adjacencyList = graphStore
+                    .relationships(RelationshipType.of("REL"))
+                    .topology()
+                    .adjacencyList();
+
+                assertThat(adjacencyList).isInstanceOf(CompressedAdjacencyList.class);
+                assertThat(((CompressedAdjacencyList) adjacencyList).isOffHeap()).isTrue();
+                long bytesOffHeap = adjacencyList.memoryInfo().bytesOffHeap().orElseThrow();
+                assertThat(bytesOffHeap).isPositive();
+                assertThat(NativeMemory.allocatedBytes() - allocatedBefore).isEqualTo(bytesOffHeap);
+
+                adjacencyList.free();
+                assertThat(NativeMemory.allocatedBytes()).isEqualTo(allocatedBefore);
+            }));
+    }
+}
@@ -22,6 +22,7 @@ package org.neo4j.gds.core.loading;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.BaseTest;
 import org.neo4j.gds.NodeProjections;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.PropertyMapping;
 import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipProjection;
@@ -122,6 +123,60 @@ class ScanningRelationshipsImporterTest extends BaseTest {
         //@formatter:on
     }
 
+    @Test
+    void shouldLoadInverseOfReverseRelationships() {
+        var relationshipType = RelationshipType.of("R");
+        var graphProjectConfig = ImmutableGraphProjectFromStoreConfig.builder()
+            .graphName("testGraph")
+            .nodeProjections(NodeProjections.ALL)
+            .relationshipProjections(
+                RelationshipProjections.single(
+                    relationshipType,
+                    RelationshipProjection.builder()
+                        .type("R")
+                        .orientation(Orientation.REVERSE)
+                        .indexInverse(true)
+                        .properties(PropertyMappings.of(PropertyMapping.of("p")))
+                        .build()
+                ))
+            .build();
+
+        var graphLoaderContext = graphLoaderContext();
+        var graphDimensions = graphDimensions(graphProjectConfig, graphLoaderContext);
+        var importer = new ScanningRelationshipsImporterBuilder()
+            .idMap(new DirectIdMap(graphDimensions.nodeCount()))
+            .loadingContext(graphLoaderContext)
+            .progressTracker(ProgressTracker.NULL_TRACKER)
+            .dimensions(graphDimensions)
+            .concurrency(1)
+            .graphProjectConfig(graphProjectConfig)
+            .build();
+
+        var relationshipsAndProperties = importer.call();
+
+        var singleTypeRelationshipImportResult = relationshipsAndProperties.importResults().get(relationshipType);
+        assertThat(singleTypeRelationshipImportResult.inverseTopology()).isPresent();
+        assertThat(singleTypeRelationshipImportResult.inverseProperties()).isPresent();
+
+        var adjacencyList = singleTypeRelationshipImportResult.inverseTopology().get().adjacencyList();
+        var propertyList = singleTypeRelationshipImportResult.inverseProperties().get()
+            .relationshipProperties()
+            .get("p")
+            .values()
+            .propertiesList();
+
+        //@formatter:off
+        assertThat(targets("a", adjacencyList)).isEqualTo(idFunction.of("b", "c", "d")); // (a)-->(b),(a)-->(c),(a)-->(d)
+        assertThat(targets("b", adjacencyList)).isEqualTo(idFunction.of(new String[]{"c"})); // (b)-->(c)
+        assertThat(targets("c", adjacencyList)).isEqualTo(idFunction.of(new String[]{"a"})); // (c)-->(a)
+        assertThat(degree("d", adjacencyList)).isEqualTo(0);
+
+        assertThat(properties("a", propertyList, adjacencyList::degree)).containsExactly(1.0, 2.0, 3.0);
+        assertThat(properties("b", propertyList, adjacencyList::degree)).containsExactly(4.0);
+        assertThat(properties("c", propertyList, adjacencyList::degree)).containsExactly(5.0);
+        //@formatter:on
+    }
+
     private int degree(String nodeVariable, AdjacencyList adjacencyList) {
         return AdjacencyTestUtils.degree(idFunction.of(nodeVariable), adjacencyList);
     }
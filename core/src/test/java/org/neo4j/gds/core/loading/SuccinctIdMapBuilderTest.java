@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.idmap.IdMapBuilderTest;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.api.IdMap.NOT_FOUND;
+
+class SuccinctIdMapBuilderTest extends IdMapBuilderTest {
+
+    @Override
+    protected IdMapBuilder builder(long capacity, int concurrency) {
+        return SuccinctIdMapBuilder.of(capacity - 1, capacity);
+    }
+
+    @Test
+    void shouldMapIdsInOrderOfOriginalIds() {
+        var builder = SuccinctIdMapBuilder.of(2000, 4);
+        builder.allocate(4).insert(new long[]{1999, 3, 1024, 64});
+
+        var idMap = builder.build(LabelInformationBuilders.allNodes(), 1999, 1);
+
+        assertThat(idMap.nodeCount()).isEqualTo(4);
+        assertThat(LongStream.range(0, 4).map(idMap::toOriginalNodeId).toArray()).containsExactly(3, 64, 1024, 1999);
+        assertThat(LongStream.of(3, 64, 1024, 1999).map(idMap::toMappedNodeId).toArray()).containsExactly(0, 1, 2, 3);
+        assertThat(idMap.toMappedNodeId(4)).isEqualTo(NOT_FOUND);
+        assertThat(idMap.toMappedNodeId(2001)).isEqualTo(NOT_FOUND);
+        assertThat(idMap.typeId()).isEqualTo(SuccinctIdMapBuilder.ID);
+    }
+
+    @Test
+    void shouldAcceptIdsBeyondTheExpectedIdSpace() {
+        var builder = SuccinctIdMapBuilder.of(41, 3);
+        builder.allocate(3).insert(new long[]{0, 1337, 41});
+
+        var idMap = builder.build(LabelInformationBuilders.allNodes(), 41, 1);
+
+        assertThat(idMap.nodeCount()).isEqualTo(3);
+        assertThat(idMap.toMappedNodeId(1337)).isEqualTo(2);
+        assertThat(idMap.toOriginalNodeId(2)).isEqualTo(1337);
+        assertThat(idMap.highestOriginalId()).isEqualTo(1337);
+    }
+
+    @Test
+    void shouldSelectAcrossSparseRegions() {
+        // dense runs of ids are sampled, the gaps between them need to be searched
+        long[] originalIds = LongStream.range(0, 100_000)
+            .filter(id -> id % 10_000 < 100 || id % 997 == 0)
+            .toArray();
+        var builder = SuccinctIdMapBuilder.of(99_999, originalIds.length);
+        builder.allocate(originalIds.length).insert(originalIds);
+
+        var idMap = builder.build(LabelInformationBuilders.allNodes(), 99_999, 1);
+
+        assertThat(LongStream.range(0, originalIds.length).map(idMap::toOriginalNodeId).toArray())
+            .containsExactly(originalIds);
+        assertThat(LongStream.of(originalIds).map(idMap::toMappedNodeId).toArray())
+            .containsExactly(LongStream.range(0, originalIds.length).toArray());
+    }
+
+    @Test
+    void shouldSelectWithinWord() {
+        long word = 0b1011_0010L | (1L << 63);
+        assertThat(RankSelectBitmap.selectInWord(word, 0)).isEqualTo(1);
+        assertThat(RankSelectBitmap.selectInWord(word, 1)).isEqualTo(4);
+        assertThat(RankSelectBitmap.selectInWord(word, 2)).isEqualTo(5);
+        assertThat(RankSelectBitmap.selectInWord(word, 3)).isEqualTo(7);
+        assertThat(RankSelectBitmap.selectInWord(word, 4)).isEqualTo(63);
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var dimensions = GraphDimensions.builder().nodeCount(100_000_000).highestPossibleNodeCount(128_000_000).build();
+
+        var memoryUsage = SuccinctIdMap.memoryEstimation().estimate(dimensions, 1).memoryUsage();
+
+        // 2_000_000 words, one block rank per 8 words and one select sample per 64 nodes
+        long expected = MemoryUsage.sizeOfInstance(SuccinctIdMap.class)
+                        + MemoryUsage.sizeOfInstance(RankSelectBitmap.class)
+                        + HugeLongArray.memoryEstimation(2_000_000)
+                        + HugeLongArray.memoryEstimation(250_000)
+                        + HugeLongArray.memoryEstimation(1_562_500);
+        assertThat(memoryUsage.min).isEqualTo(expected);
+        assertThat(memoryUsage.max).isEqualTo(expected);
+        assertThat(memoryUsage.max).isLessThan(ArrayIdMap.memoryEstimation().estimate(dimensions, 1).memoryUsage().min);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.collections.hsa.HugeSparseDoubleArray;
+import org.neo4j.gds.collections.hsa.HugeSparseLongArray;
+
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveNodePropertyValuesTest {
+
+    private static final long NODE_COUNT = 10_000;
+    private static final long DEFAULT_VALUE = Long.MIN_VALUE;
+
+    static Stream<Arguments> longColumns() {
+        return Stream.of(
+            Arguments.of("constant", (LongUnaryOperator) nodeId -> 42, AdaptiveNodePropertyValues.BitPackedLongValues.class),
+            Arguments.of("flags", (LongUnaryOperator) nodeId -> nodeId % 2, AdaptiveNodePropertyValues.BitPackedLongValues.class),
+            Arguments.of("bytes", (LongUnaryOperator) nodeId -> 1000 + nodeId % 200, AdaptiveNodePropertyValues.ByteLongValues.class),
+            Arguments.of("negative", (LongUnaryOperator) nodeId -> -nodeId, AdaptiveNodePropertyValues.BitPackedLongValues.class),
+            Arguments.of("ints", (LongUnaryOperator) nodeId -> nodeId * 100_000, AdaptiveNodePropertyValues.IntLongValues.class),
+            Arguments.of("wide", (LongUnaryOperator) nodeId -> nodeId << 40, AdaptiveNodePropertyValues.BitPackedLongValues.class),
+            Arguments.of("full range", (LongUnaryOperator) nodeId -> nodeId % 2 == 0 ? Long.MAX_VALUE : Long.MIN_VALUE + 1, LongNodePropertiesBuilder.LongStoreNodePropertyValues.class)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("longColumns")
+    void shouldEncodeLongValuesLosslessly(String name, LongUnaryOperator values, Class<?> expectedType) {
+        var builder = HugeSparseLongArray.builder(DEFAULT_VALUE);
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            builder.set(nodeId, values.applyAsLong(nodeId));
+        }
+
+        var column = AdaptiveNodePropertyValues.of(builder.build(), NODE_COUNT, OptionalLong.empty(), DEFAULT_VALUE);
+
+        assertThat(column).isInstanceOf(expectedType);
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            assertThat(column.longValue(nodeId)).isEqualTo(values.applyAsLong(nodeId));
+        }
+    }
+
+    @Test
+    void shouldEncodeMissingValues() {
+        var builder = HugeSparseLongArray.builder(DEFAULT_VALUE);
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId += 3) {
+            builder.set(nodeId, 255);
+        }
+
+        var column = AdaptiveNodePropertyValues.of(builder.build(), NODE_COUNT, OptionalLong.of(255), DEFAULT_VALUE);
+
+        assertThat(column).isInstanceOf(AdaptiveNodePropertyValues.BitPackedLongValues.class);
+        assertThat(column.getMaxLongPropertyValue()).hasValue(255);
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            assertThat(column.longValue(nodeId)).isEqualTo(nodeId % 3 == 0 ? 255 : DEFAULT_VALUE);
+        }
+    }
+
+    @Test
+    void shouldKeepSparseValues() {
+        long nodeCount = 10 * NODE_COUNT;
+        var builder = HugeSparseLongArray.builder(DEFAULT_VALUE);
+        builder.set(0, 0);
+        builder.set(1, Long.MAX_VALUE / 2);
+
+        var column = AdaptiveNodePropertyValues.of(builder.build(), nodeCount, OptionalLong.empty(), DEFAULT_VALUE);
+
+        assertThat(column).isInstanceOf(LongNodePropertiesBuilder.LongStoreNodePropertyValues.class);
+        assertThat(column.longValue(0)).isEqualTo(0);
+        assertThat(column.longValue(1)).isEqualTo(Long.MAX_VALUE / 2);
+        assertThat(column.longValue(nodeCount - 1)).isEqualTo(DEFAULT_VALUE);
+    }
+
+    @Test
+    void shouldStoreDoublesAsFloatsIfLossless() {
+        var builder = HugeSparseDoubleArray.builder(Double.NaN);
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            if (nodeId % 10 != 0) {
+                builder.set(nodeId, nodeId * 0.25);
+            }
+        }
+
+        var column = AdaptiveNodePropertyValues.of(builder.build(), NODE_COUNT, OptionalDouble.empty(), Double.NaN);
+
+        assertThat(column).isInstanceOf(AdaptiveNodePropertyValues.FloatDoubleValues.class);
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            assertThat(column.doubleValue(nodeId)).isEqualTo(nodeId % 10 != 0 ? nodeId * 0.25 : Double.NaN);
+        }
+    }
+
+    @Test
+    void shouldKeepDoublesThatAreNoFloats() {
+        var builder = HugeSparseDoubleArray.builder(Double.NaN);
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            builder.set(nodeId, nodeId * 0.1);
+        }
+
+        var column = AdaptiveNodePropertyValues.of(builder.build(), NODE_COUNT, OptionalDouble.empty(), Double.NaN);
+
+        assertThat(column).isInstanceOf(DoubleNodePropertiesBuilder.DoubleStoreNodePropertyValues.class);
+        assertThat(column.doubleValue(3)).isEqualTo(0.30000000000000004);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HugeAtomicArraysTest {
+
+    @Test
+    void shouldCreateOnHeapArraysByDefault() {
+        GdsFeatureToggles.USE_OFF_HEAP_ATOMIC_ARRAYS.disableAndRun(() -> {
+            var longs = HugeAtomicArrays.longArray(42, ParalleLongPageCreator.identity(1));
+            var doubles = HugeAtomicArrays.doubleArray(42, ParallelDoublePageCreator.passThrough(1));
+
+            assertThat(longs.getClass().getSimpleName()).isNotEqualTo("OffHeap");
+            assertThat(doubles.getClass().getSimpleName()).isNotEqualTo("OffHeap");
+        });
+    }
+
+    @Test
+    void shouldCreateOffHeapArraysWhenEnabled() {
+        GdsFeatureToggles.USE_OFF_HEAP_ATOMIC_ARRAYS.enableAndRun(() -> {
+            var longs = HugeAtomicArrays.longArray(42, ParalleLongPageCreator.identity(1));
+            var doubles = HugeAtomicArrays.doubleArray(42, ParallelDoublePageCreator.of(1, nodeId -> nodeId / 2.0));
+
+            assertThat(longs.getClass().getSimpleName()).isEqualTo("OffHeap");
+            assertThat(doubles.getClass().getSimpleName()).isEqualTo("OffHeap");
+            for (long index = 0; index < 42; index++) {
+                assertThat(longs.get(index)).isEqualTo(index);
+                assertThat(doubles.get(index)).isEqualTo(index / 2.0);
+            }
+        });
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import com.carrotsearch.hppc.BitSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HugeCompressedBitSetTest {
+
+    // bits per container
+    private static final long CONTAINER_SIZE = 1L << 16;
+
+    @Test
+    void testSetAndGet() {
+        var bitSet = HugeCompressedBitSet.create(0);
+        long[] indices = {0, 23, CONTAINER_SIZE + 23, 42 * CONTAINER_SIZE - 1, 1L << 40};
+        for (long index : indices) {
+            assertThat(bitSet.get(index)).isFalse();
+            assertThat(bitSet.getAndSet(index)).isFalse();
+            assertThat(bitSet.get(index)).isTrue();
+            assertThat(bitSet.getAndSet(index)).isTrue();
+        }
+        assertThat(bitSet.cardinality()).isEqualTo(indices.length);
+        assertThat(bitSet.get(24)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.001, 0.05, 0.5})
+    void shouldBehaveLikeADenseBitSet(double density) {
+        long size = 5 * CONTAINER_SIZE + 42;
+        var random = new Random(42);
+        var bitSet = HugeCompressedBitSet.create(size);
+        var expected = new java.util.BitSet();
+        for (int index = 0; index < size; index++) {
+            if (random.nextDouble() < density) {
+                bitSet.set(index);
+                expected.set(index);
+            }
+        }
+
+        assertThat(bitSet.cardinality()).isEqualTo(expected.cardinality());
+        assertThat(setBits(bitSet)).isEqualTo(expected);
+        for (int index = 0; index < size + CONTAINER_SIZE; index += 7) {
+            assertThat(bitSet.get(index)).isEqualTo(expected.get(index));
+            assertThat(bitSet.nextSetBit(index)).isEqualTo(expected.nextSetBit(index));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.001, 0.05, 0.5})
+    void shouldCreateFromDenseBitSet(double density) {
+        long size = 5 * CONTAINER_SIZE + 42;
+        var random = new Random(42);
+        var dense = new BitSet(size);
+        var expected = new java.util.BitSet();
+        for (int index = 0; index < size; index++) {
+            if (random.nextDouble() < density) {
+                dense.set(index);
+                expected.set(index);
+            }
+        }
+
+        var bitSet = HugeCompressedBitSet.of(dense);
+
+        assertThat(bitSet.cardinality()).isEqualTo(expected.cardinality());
+        assertThat(setBits(bitSet)).isEqualTo(expected);
+        assertThat(bitSet.getAndSet(size + 1)).isFalse();
+        assertThat(bitSet.get(size + 1)).isTrue();
+    }
+
+    @Test
+    void shouldSetRanges() {
+        var bitSet = HugeCompressedBitSet.create(0);
+        bitSet.set(10, 20);
+        bitSet.set(CONTAINER_SIZE - 5, 3 * CONTAINER_SIZE + 5);
+
+        assertThat(bitSet.cardinality()).isEqualTo(10 + 2 * CONTAINER_SIZE + 10);
+        assertThat(bitSet.get(9)).isFalse();
+        assertThat(bitSet.get(10)).isTrue();
+        assertThat(bitSet.get(19)).isTrue();
+        assertThat(bitSet.get(20)).isFalse();
+        assertThat(bitSet.get(2 * CONTAINER_SIZE)).isTrue();
+        assertThat(bitSet.get(3 * CONTAINER_SIZE + 5)).isFalse();
+        assertThat(bitSet.nextSetBit(20)).isEqualTo(CONTAINER_SIZE - 5);
+    }
+
+    @Test
+    void shouldUnionAndIntersect() {
+        var random = new Random(1337);
+        long size = 3 * CONTAINER_SIZE;
+        var sparse = HugeCompressedBitSet.create(size);
+        var dense = HugeCompressedBitSet.create(size);
+        var expectedSparse = new java.util.BitSet();
+        var expectedDense = new java.util.BitSet();
+        for (int index = 0; index < size; index++) {
+            if (random.nextInt(100) == 0) {
+                sparse.set(index);
+                expectedSparse.set(index);
+            }
+            if (random.nextInt(2) == 0) {
+                dense.set(index);
+                expectedDense.set(index);
+            }
+        }
+
+        var expectedIntersection = (java.util.BitSet) expectedSparse.clone();
+        expectedIntersection.and(expectedDense);
+        var expectedUnion = (java.util.BitSet) expectedSparse.clone();
+        expectedUnion.or(expectedDense);
+
+        assertThat(sparse.intersectionCardinality(dense)).isEqualTo(expectedIntersection.cardinality());
+        assertThat(dense.intersectionCardinality(sparse)).isEqualTo(expectedIntersection.cardinality());
+
+        var intersection = dense.copy();
+        intersection.intersect(sparse);
+        assertThat(setBits(intersection)).isEqualTo(expectedIntersection);
+        assertThat(intersection.cardinality()).isEqualTo(expectedIntersection.cardinality());
+
+        var union = sparse.copy();
+        union.union(dense);
+        assertThat(setBits(union)).isEqualTo(expectedUnion);
+        assertThat(union.cardinality()).isEqualTo(expectedUnion.cardinality());
+
+        // the copies are independent of their origin
+        assertThat(setBits(sparse)).isEqualTo(expectedSparse);
+        assertThat(setBits(dense)).isEqualTo(expectedDense);
+    }
+
+    @Test
+    void shouldOrIntoDenseBitSet() {
+        var bitSet = HugeCompressedBitSet.create(0);
+        bitSet.set(3);
+        bitSet.set(CONTAINER_SIZE, 2 * CONTAINER_SIZE);
+
+        var target = new BitSet(2 * CONTAINER_SIZE);
+        target.set(4);
+        bitSet.orInto(target);
+
+        assertThat(target.cardinality()).isEqualTo(2 + CONTAINER_SIZE);
+        assertThat(target.get(3)).isTrue();
+        assertThat(target.get(4)).isTrue();
+        assertThat(target.get(CONTAINER_SIZE)).isTrue();
+        assertThat(target.get(2 * CONTAINER_SIZE - 1)).isTrue();
+    }
+
+    @Test
+    void shouldUseLessMemoryForSparseBitSets() {
+        long size = 1L << 30;
+        var bitSet = HugeCompressedBitSet.create(size);
+        for (long index = 0; index < size; index += 1_000_000) {
+            bitSet.set(index);
+        }
+
+        assertThat(bitSet.sizeInBytes()).isLessThan(HugeAtomicBitSet.memoryEstimation(size) / 100);
+    }
+
+    @Test
+    void shouldSetConcurrently() {
+        var bitSet = HugeCompressedBitSet.create(0);
+        int concurrency = 4;
+        long size = 10 * CONTAINER_SIZE;
+
+        // every thread sets every fourth bit of all containers, so they compete for the same containers
+        List<Runnable> tasks = IntStream.range(0, concurrency).mapToObj(offset -> (Runnable) () -> {
+            for (long index = offset; index < size; index += concurrency) {
+                if (index % 3 == 0) {
+                    bitSet.set(index);
+                }
+            }
+        }).collect(Collectors.toList());
+
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+
+        assertThat(bitSet.cardinality()).isEqualTo((size + 2) / 3);
+        var setBits = new ArrayList<Long>();
+        bitSet.forEachSetBit(setBits::add);
+        assertThat(setBits).allMatch(index -> index % 3 == 0).isSorted();
+    }
+
+    private static java.util.BitSet setBits(HugeCompressedBitSet bitSet) {
+        var setBits = new java.util.BitSet();
+        bitSet.forEachSetBit(index -> setBits.set(Math.toIntExact(index)));
+        return setBits;
+    }
+}
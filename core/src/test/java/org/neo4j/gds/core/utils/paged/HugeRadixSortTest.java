@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.collections.ha.HugeDoubleArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HugeRadixSortTest {
+
+    static Stream<Arguments> sizeAndConcurrency() {
+        var random = new Random();
+        return TestSupport.crossArguments(
+            // array sizes
+            () -> Stream.concat(
+                Stream.concat(
+                    random.longs(5, 1, 100).boxed(),
+                    random.longs(5, 100, 1_000).boxed()
+                ),
+                Stream.concat(
+                    random.longs(5, 1_000, 10_000).boxed(),
+                    random.longs(5, 10_000, 1_000_000).boxed()
+                )
+            ).map(Arguments::of),
+            // concurrencies
+            () -> List.of(1, 4).stream().map(Arguments::of),
+            // single vs paged array
+            () -> List.of(true, false).stream().map(Arguments::of)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("sizeAndConcurrency")
+    void sortArray(long size, int concurrency, boolean useSingleArray) {
+        var array = newLongArray(size, useSingleArray);
+        var longs = new Random().longs(size).toArray();
+        for (int i = 0; i < size; i++) {
+            array.set(i, longs[i]);
+        }
+
+        HugeRadixSort.sort(array, concurrency);
+
+        Arrays.sort(longs);
+        for (int i = 0; i < array.size(); i++) {
+            assertThat(array.get(i)).isEqualTo(longs[i]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("sizeAndConcurrency")
+    void sortArrayWithValues(long size, int concurrency, boolean useSingleArray) {
+        var keys = newLongArray(size, useSingleArray);
+        var values = newLongArray(size, useSingleArray);
+        // few distinct keys to have many equal keys
+        var longs = new Random().longs(size, 0, 1_000).toArray();
+        for (int i = 0; i < size; i++) {
+            keys.set(i, longs[i]);
+            values.set(i, i);
+        }
+
+        HugeRadixSort.sort(keys, values, concurrency);
+
+        var expected = IntStream.range(0, (int) size)
+            .boxed()
+            .sorted(Comparator.comparingLong(i -> longs[i]))
+            .mapToLong(i -> i)
+            .toArray();
+        for (int i = 0; i < size; i++) {
+            assertThat(values.get(i)).isEqualTo(expected[i]);
+            assertThat(keys.get(i)).isEqualTo(longs[(int) expected[i]]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("sizeAndConcurrency")
+    void sortDoubleArray(long size, int concurrency, boolean withValues) {
+        var keys = HugeDoubleArray.newArray(size);
+        var values = withValues ? HugeLongArray.newArray(size) : null;
+        var doubles = new Random().doubles(size, -1_000, 1_000).toArray();
+        for (int i = 0; i < size; i++) {
+            keys.set(i, doubles[i]);
+            if (withValues) {
+                values.set(i, Double.doubleToLongBits(doubles[i]));
+            }
+        }
+
+        if (withValues) {
+            HugeRadixSort.sort(keys, values, concurrency);
+        } else {
+            HugeRadixSort.sort(keys, concurrency);
+        }
+
+        Arrays.sort(doubles);
+        for (int i = 0; i < size; i++) {
+            assertThat(keys.get(i)).isEqualTo(doubles[i]);
+            if (withValues) {
+                assertThat(values.get(i)).isEqualTo(Double.doubleToLongBits(doubles[i]));
+            }
+        }
+    }
+
+    @Test
+    void sortSpecialValues() {
+        var longs = new long[]{Long.MAX_VALUE, 0L, -1L, Long.MIN_VALUE, 1L, 42L, -42L};
+        var longArray = HugeLongArray.of(longs.clone());
+        HugeRadixSort.sort(longArray, 1);
+        Arrays.sort(longs);
+        assertThat(longArray.toArray()).containsExactly(longs);
+
+        var doubles = new double[]{
+            Double.NaN,
+            Double.POSITIVE_INFINITY,
+            Double.MAX_VALUE,
+            1.0,
+            Double.MIN_VALUE,
+            0.0,
+            -0.0,
+            -Double.MIN_VALUE,
+            -1.0,
+            -Double.MAX_VALUE,
+            Double.NEGATIVE_INFINITY
+        };
+        var doubleArray = HugeDoubleArray.of(doubles.clone());
+        HugeRadixSort.sort(doubleArray, 1);
+        Arrays.sort(doubles);
+        for (int i = 0; i < doubles.length; i++) {
+            assertThat(Double.compare(doubleArray.get(i), doubles[i])).isZero();
+        }
+    }
+
+    @Test
+    void shouldFailForTooFewValues() {
+        assertThatThrownBy(() -> HugeRadixSort.sort(HugeLongArray.newArray(42), HugeLongArray.newArray(41), 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Expected at least 42 values, but got 41");
+    }
+
+    @Test
+    void memoryEstimation() {
+        long size = 1_000_000;
+        long histograms = MemoryUsage.sizeOfObjectArray(4) + 4 * MemoryUsage.sizeOfLongArray(256);
+
+        assertThat(HugeRadixSort.memoryEstimation(size, 4, false))
+            .isEqualTo(HugeLongArray.memoryEstimation(size) + histograms);
+        assertThat(HugeRadixSort.memoryEstimation(size, 4, true))
+            .isEqualTo(2 * HugeLongArray.memoryEstimation(size) + histograms);
+        assertThat(HugeRadixSort.memoryEstimation(size, 4, false, true))
+            .isEqualTo(2 * HugeLongArray.memoryEstimation(size) + histograms);
+        assertThat(HugeRadixSort.memoryEstimation(size, 4, true, true))
+            .isEqualTo(3 * HugeLongArray.memoryEstimation(size) + histograms);
+    }
+
+    private static HugeLongArray newLongArray(long size, boolean useSingleArray) {
+        return useSingleArray
+            ? HugeLongArray.newSingleArray((int) size)
+            : HugeLongArray.newPagedArray(size);
+    }
+}
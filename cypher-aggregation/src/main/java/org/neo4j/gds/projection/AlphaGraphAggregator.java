@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.projection;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.core.loading.Capabilities.WriteMode;
 import org.neo4j.internal.kernel.api.exceptions.ProcedureException;
@@ -42,7 +43,7 @@ public class AlphaGraphAggregator extends GraphAggregator {
     }
 
     @Override
-    public void update(AnyValue[] input) throws ProcedureException {
+    void update(AnyValue[] input, @Nullable LocalUpdater updater) throws ProcedureException {
         try {
             var nodesConfig = nodeConfigMap(input[3]);
             var relationshipsConfig = relationshipConfigMap(input[4]);
@@ -55,7 +56,8 @@ public class AlphaGraphAggregator extends GraphAggregator {
                 input[2],
                 dataConfig,
                 input[5],
-                NoValue.NO_VALUE
+                NoValue.NO_VALUE,
+                updater
             );
         } catch (Exception e) {
             throw new ProcedureException(
@@ -25,6 +25,7 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.compat.CompatUserAggregationUpdater;
 import org.neo4j.gds.compat.CompatUserAggregator;
 import org.neo4j.gds.core.ConfigKeyValidation;
 import org.neo4j.gds.core.loading.Capabilities.WriteMode;
@@ -95,13 +96,29 @@ abstract class GraphAggregator implements CompatUserAggregator {
         this.extractNodeId = new ExtractNodeId();
     }
 
+    @Override
+    public void update(AnyValue[] input) throws ProcedureException {
+        update(input, null);
+    }
+
+    @Override
+    public CompatUserAggregationUpdater newUpdater() {
+        return new LocalUpdater();
+    }
+
+    /**
+     * @param updater the updater of the worker that produced the row or {@code null} if the row is passed directly to this aggregator
+     */
+    abstract void update(AnyValue[] input, @Nullable LocalUpdater updater) throws ProcedureException;
+
     void projectNextRelationship(
         TextValue graphName,
         AnyValue sourceNode,
         AnyValue targetNode,
         AnyValue dataConfig,
         AnyValue config,
-        AnyValue migrationConfig
+        AnyValue migrationConfig,
+        @Nullable LocalUpdater updater
     ) {
         this.configValidator.validateConfig(dataConfig, config, migrationConfig);
 
@@ -130,16 +147,54 @@ abstract class GraphAggregator implements CompatUserAggregator {
             relationshipType = typeConfig(RELATIONSHIP_TYPE, (MapValue) dataConfig);
         }
 
-        data.update(
-            extractNodeId(sourceNode),
-            targetNode == NoValue.NO_VALUE ? NO_TARGET_NODE : extractNodeId(targetNode),
-            sourceNodePropertyValues,
-            targetNodePropertyValues,
-            sourceNodeLabels,
-            targetNodeLabels,
-            relationshipType,
-            relationshipProperties
-        );
+        var sourceNodeId = extractNodeId(sourceNode);
+        var targetNodeId = targetNode == NoValue.NO_VALUE ? NO_TARGET_NODE : extractNodeId(targetNode);
+
+        if (updater == null) {
+            data.update(
+                sourceNodeId,
+                targetNodeId,
+                sourceNodePropertyValues,
+                targetNodePropertyValues,
+                sourceNodeLabels,
+                targetNodeLabels,
+                relationshipType,
+                relationshipProperties
+            );
+        } else {
+            updater.importerUpdater(data).update(
+                sourceNodeId,
+                targetNodeId,
+                sourceNodePropertyValues,
+                targetNodePropertyValues,
+                sourceNodeLabels,
+                targetNodeLabels,
+                relationshipType,
+                relationshipProperties
+            );
+        }
+    }
+
+    /**
+     * Receives the rows of one worker of a parallel runtime and imports them
+     * through a {@link GraphImporter.Updater} that is not shared with other workers.
+     * All updaters write into the same graph importer, so {@link #result()} builds the graph from the rows of all workers.
+     */
+    final class LocalUpdater implements CompatUserAggregationUpdater {
+        private @Nullable GraphImporter.Updater importerUpdater;
+
+        @Override
+        public void update(AnyValue[] input) throws ProcedureException {
+            GraphAggregator.this.update(input, this);
+        }
+
+        private GraphImporter.Updater importerUpdater(GraphImporter importer) {
+            var importerUpdater = this.importerUpdater;
+            if (importerUpdater == null) {
+                this.importerUpdater = importerUpdater = importer.newUpdater();
+            }
+            return importerUpdater;
+        }
     }
 
     private GraphImporter initGraphData(TextValue graphName, AnyValue config) {
@@ -48,6 +48,7 @@ import org.neo4j.values.AnyValue;
 import org.neo4j.values.storable.TextValue;
 import org.neo4j.values.virtual.MapValue;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -139,43 +140,113 @@ public final class GraphImporter {
         RelationshipType relationshipType,
         @Nullable PropertyValues relationshipProperties
     ) {
-
         var intermediateSourceId = loadNode(sourceNode, sourceNodeLabels, sourceNodePropertyValues);
 
         if (targetNode != NO_TARGET_NODE) {
-            RelationshipsBuilder relImporter;
-            // we do the check before to avoid having to create a new lambda instance on every call
-            if (this.relImporters.containsKey(relationshipType)) {
-                relImporter = this.relImporters.get(relationshipType);
-            } else {
-                var finalRelationshipProperties = relationshipProperties;
-                relImporter = this.relImporters.computeIfAbsent(
-                    relationshipType,
-                    type -> newRelImporter(type, finalRelationshipProperties)
+            var relImporter = relImporter(relationshipType, relationshipProperties);
+            var intermediateTargetId = loadNode(targetNode, targetNodeLabels, targetNodePropertyValues);
+
+            addRelationship(relImporter, intermediateSourceId, intermediateTargetId, relationshipProperties, null);
+        }
+    }
+
+    /**
+     * Creates an updater for the rows of a single worker of a parallel runtime.
+     */
+    Updater newUpdater() {
+        return new Updater();
+    }
+
+    /**
+     * Imports the rows of a single worker.
+     * An updater is never used by two threads at the same time, so it can cache the relationship
+     * builders and reuse its property buffer without synchronization. The builders themselves
+     * buffer per thread, which leaves the sharded id map as the only state that is shared per row.
+     */
+    final class Updater {
+        private final Map<RelationshipType, RelationshipsBuilder> relImporters;
+        private double[] propertyValues;
+
+        private Updater() {
+            this.relImporters = new HashMap<>();
+            this.propertyValues = new double[0];
+        }
+
+        void update(
+            long sourceNode,
+            long targetNode,
+            @Nullable PropertyValues sourceNodePropertyValues,
+            @Nullable PropertyValues targetNodePropertyValues,
+            NodeLabelToken sourceNodeLabels,
+            NodeLabelToken targetNodeLabels,
+            RelationshipType relationshipType,
+            @Nullable PropertyValues relationshipProperties
+        ) {
+            var intermediateSourceId = loadNode(sourceNode, sourceNodeLabels, sourceNodePropertyValues);
+
+            if (targetNode != NO_TARGET_NODE) {
+                var relImporter = this.relImporters.get(relationshipType);
+                if (relImporter == null) {
+                    relImporter = relImporter(relationshipType, relationshipProperties);
+                    this.relImporters.put(relationshipType, relImporter);
+                }
+
+                var intermediateTargetId = loadNode(targetNode, targetNodeLabels, targetNodePropertyValues);
+
+                if (relationshipProperties != null && relationshipProperties.size() > this.propertyValues.length) {
+                    this.propertyValues = new double[relationshipProperties.size()];
+                }
+                addRelationship(
+                    relImporter,
+                    intermediateSourceId,
+                    intermediateTargetId,
+                    relationshipProperties,
+                    this.propertyValues
                 );
             }
+        }
+    }
 
-            var intermediateTargetId = loadNode(targetNode, targetNodeLabels, targetNodePropertyValues);
+    private RelationshipsBuilder relImporter(RelationshipType relationshipType, @Nullable PropertyValues properties) {
+        // we do the check before to avoid having to create a new lambda instance on every call
+        var relImporter = this.relImporters.get(relationshipType);
+        if (relImporter != null) {
+            return relImporter;
+        }
+        return this.relImporters.computeIfAbsent(relationshipType, type -> newRelImporter(type, properties));
+    }
 
-            if (relationshipProperties != null) {
-                if (relationshipProperties.size() == 1) {
-                    relationshipProperties.forEach((key, value) -> {
-                        var property = ReadHelper.extractValue(value, DefaultValue.DOUBLE_DEFAULT_FALLBACK);
-                        relImporter.addFromInternal(intermediateSourceId, intermediateTargetId, property);
-                    });
-                } else {
-                    var propertyValues = new double[relationshipProperties.size()];
-                    int[] index = {0};
-                    relationshipProperties.forEach((key, value) -> {
-                        var property = ReadHelper.extractValue(value, DefaultValue.DOUBLE_DEFAULT_FALLBACK);
-                        var i = index[0]++;
-                        propertyValues[i] = property;
-                    });
-                    relImporter.addFromInternal(intermediateSourceId, intermediateTargetId, propertyValues);
-                }
+    /**
+     * @param propertyValuesBuffer buffer for relationships with more than one property or {@code null} to allocate
+     *                             a new one. The builders copy the values, so it can be reused for the next relationship.
+     */
+    private static void addRelationship(
+        RelationshipsBuilder relImporter,
+        long intermediateSourceId,
+        long intermediateTargetId,
+        @Nullable PropertyValues relationshipProperties,
+        double @Nullable [] propertyValuesBuffer
+    ) {
+        if (relationshipProperties != null) {
+            if (relationshipProperties.size() == 1) {
+                relationshipProperties.forEach((key, value) -> {
+                    var property = ReadHelper.extractValue(value, DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+                    relImporter.addFromInternal(intermediateSourceId, intermediateTargetId, property);
+                });
             } else {
-                relImporter.addFromInternal(intermediateSourceId, intermediateTargetId);
+                var propertyValues = propertyValuesBuffer != null
+                    ? propertyValuesBuffer
+                    : new double[relationshipProperties.size()];
+                int[] index = {0};
+                relationshipProperties.forEach((key, value) -> {
+                    var property = ReadHelper.extractValue(value, DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+                    var i = index[0]++;
+                    propertyValues[i] = property;
+                });
+                relImporter.addFromInternal(intermediateSourceId, intermediateTargetId, propertyValues);
             }
+        } else {
+            relImporter.addFromInternal(intermediateSourceId, intermediateTargetId);
         }
     }
 
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.projection;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.core.loading.Capabilities.WriteMode;
 import org.neo4j.internal.kernel.api.exceptions.ProcedureException;
@@ -40,7 +41,7 @@ public class ProductGraphAggregator extends GraphAggregator {
     }
 
     @Override
-    public void update(AnyValue[] input) throws ProcedureException {
+    void update(AnyValue[] input, @Nullable LocalUpdater updater) throws ProcedureException {
         try {
             super.projectNextRelationship(
                 (TextValue) input[0],
@@ -48,7 +49,8 @@ public class ProductGraphAggregator extends GraphAggregator {
                 input[2],
                 input[3],
                 input[4],
-                input[5]
+                input[5],
+                updater
             );
         } catch (Exception e) {
             throw new ProcedureException(
@@ -23,9 +23,11 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.core.loading.Capabilities.WriteMode;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.values.AnyValue;
 import org.neo4j.values.storable.NoValue;
 import org.neo4j.values.storable.Values;
 import org.neo4j.values.virtual.MapValue;
+import org.neo4j.values.virtual.VirtualValues;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -53,7 +55,8 @@ class ProductGraphAggregatorTest {
             Values.longValue(target),
             MapValue.EMPTY,
             MapValue.EMPTY,
-            NoValue.NO_VALUE
+            NoValue.NO_VALUE,
+            null
         );
 
         var result = aggregator.buildGraph();
@@ -67,4 +70,59 @@ class ProductGraphAggregatorTest {
         assertThat(graphStore.nodes().toOriginalNodeId(0)).isEqualTo(source);
         assertThat(graphStore.nodes().toOriginalNodeId(1)).isEqualTo(target);
     }
+
+    @Test
+    void shouldImportRowsOfAllUpdaters() throws Exception {
+        var userName = "neo4j";
+        var graphName = "graph";
+        var databaseId = DatabaseId.random();
+
+        var aggregator = new ProductGraphAggregator(
+            databaseId,
+            userName,
+            WriteMode.LOCAL,
+            ExecutingQueryProvider.empty()
+        );
+
+        var firstUpdater = aggregator.newUpdater();
+        var secondUpdater = aggregator.newUpdater();
+
+        var properties = MapValue.EMPTY.updatedWith("relationshipProperties", VirtualValues.map(
+            new String[]{"weight"},
+            new AnyValue[]{Values.doubleValue(42.0)}
+        ));
+
+        firstUpdater.update(row(graphName, 0L, 1L, properties));
+        secondUpdater.update(row(graphName, 1L, 2L, properties));
+        firstUpdater.update(row(graphName, 2L, 0L, properties));
+        aggregator.update(row(graphName, 0L, 2L, properties));
+        firstUpdater.applyUpdates();
+        secondUpdater.applyUpdates();
+
+        var result = aggregator.buildGraph();
+
+        assertThat(result.nodeCount()).isEqualTo(3);
+        assertThat(result.relationshipCount()).isEqualTo(4);
+
+        var graphStore = GraphStoreCatalog.get(userName, databaseId, graphName).graphStore();
+        var graph = graphStore.getUnion();
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, Double.NaN, (source, target, weight) -> {
+                assertThat(weight).isEqualTo(42.0);
+                return true;
+            });
+            return true;
+        });
+    }
+
+    private static AnyValue[] row(String graphName, long source, long target, MapValue dataConfig) {
+        return new AnyValue[]{
+            Values.stringValue(graphName),
+            Values.longValue(source),
+            Values.longValue(target),
+            dataConfig,
+            MapValue.EMPTY,
+            NoValue.NO_VALUE
+        };
+    }
 }
@@ -26,12 +26,15 @@ import org.neo4j.gds.GraphStoreAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.core.loading.GraphStoreReaders;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class ProcedureExecutor<
     ALGO extends Algorithm<ALGO_RESULT>,
@@ -93,6 +96,22 @@ public class ProcedureExecutor<
             graph = graphCreation.createGraph(graphStore);
         }
 
+        var reader = GraphStoreReaders.acquire(graphStore);
+        try {
+            return releaseAfterConsumption(computeWithGraph(builder, graphStore, graph, config, memoryEstimationInBytes), reader);
+        } catch (RuntimeException | Error e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    private RESULT computeWithGraph(
+        ImmutableComputationResult.Builder<ALGO, ALGO_RESULT, CONFIG> builder,
+        GraphStore graphStore,
+        Graph graph,
+        CONFIG config,
+        MemoryRange memoryEstimationInBytes
+    ) {
         if (graph.isEmpty()) {
             var emptyComputationResult = builder
                 .isGraphEmpty(true)
@@ -123,6 +142,19 @@ public class ProcedureExecutor<
         return algoSpec.computationResultConsumer().consume(computationResult, executionContext);
     }
 
+    /**
+     * Results that are streams can still read the graph store while they are being consumed,
+     * so we release the reader when the stream is closed instead of right away.
+     */
+    @SuppressWarnings("unchecked")
+    private RESULT releaseAfterConsumption(RESULT result, GraphStoreReaders.Reader reader) {
+        if (result instanceof Stream) {
+            return (RESULT) ((Stream<?>) result).onClose(reader::close);
+        }
+        reader.close();
+        return result;
+    }
+
     private ALGO_RESULT executeAlgorithm(
         ImmutableComputationResult.Builder<ALGO, ALGO_RESULT, CONFIG> builder,
         ALGO algo
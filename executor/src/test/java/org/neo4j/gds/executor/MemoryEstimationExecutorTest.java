@@ -42,13 +42,16 @@ import org.neo4j.gds.core.model.ModelCatalog;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
 import org.neo4j.gds.gdl.GdlGraphs;
+import org.neo4j.gds.results.MemoryEstimateResult;
 import org.neo4j.gds.test.TestAlgorithm;
 import org.neo4j.gds.test.TestAlgorithmResult;
 import org.neo4j.gds.test.TestMutateConfig;
 import org.neo4j.gds.transaction.DatabaseTransactionContext;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.graphdb.Transaction;
 import org.neo4j.internal.kernel.api.procs.ProcedureCallContext;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -157,10 +160,12 @@ class MemoryEstimationExecutorTest extends BaseTest {
             .withoutEntry("nodeProperties")
             .toMap();
 
-        var estimationResult = memoryEstimationExecutor.computeEstimate(
+        // the expected graph estimate assumes an array id map
+        var estimationResult = new ArrayList<MemoryEstimateResult>();
+        GdsFeatureToggles.USE_BIT_ID_MAP.disableAndRun(() -> memoryEstimationExecutor.computeEstimate(
             graphProjectConfig,
             Map.of("mutateProperty", "foo")
-        );
+        ).forEach(estimationResult::add));
 
         estimationResult.forEach(row -> {
             assertEquals(100_000_000L, row.nodeCount);
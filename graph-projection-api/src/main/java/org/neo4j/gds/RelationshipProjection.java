@@ -23,6 +23,7 @@ import org.immutables.value.Value;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.Compression;
 import org.neo4j.gds.core.ConfigKeyValidation;
 
 import java.util.List;
@@ -56,6 +57,11 @@ public abstract class RelationshipProjection extends ElementProjection {
         return false;
     }
 
+    @Value.Default
+    public Compression compression() {
+        return Compression.DEFAULT;
+    }
+
     @Value.Default
     @Value.Parameter(false)
     @Override
@@ -82,6 +88,7 @@ public abstract class RelationshipProjection extends ElementProjection {
     public static final String ORIENTATION_KEY = "orientation";
     public static final String AGGREGATION_KEY = "aggregation";
     public static final String INDEX_INVERSE_KEY = "indexInverse";
+    public static final String COMPRESSION_KEY = "compression";
 
     public static RelationshipProjection fromMap(Map<String, Object> map, RelationshipType relationshipType) {
         RelationshipProjection.Builder builder = RelationshipProjection.builder();
@@ -97,6 +104,9 @@ public abstract class RelationshipProjection extends ElementProjection {
             boolean indexInverse = (boolean) map.get(INDEX_INVERSE_KEY);
             builder.indexInverse(indexInverse);
         }
+        if (map.containsKey(COMPRESSION_KEY)) {
+            builder.compression(Compression.parse(nonEmptyString(map, COMPRESSION_KEY)));
+        }
         if (map.containsKey(AGGREGATION_KEY)) {
             Aggregation aggregation = Aggregation.parse(nonEmptyString(map, AGGREGATION_KEY));
             builder.aggregation(aggregation);
@@ -159,6 +169,10 @@ public abstract class RelationshipProjection extends ElementProjection {
         value.put(ORIENTATION_KEY, orientation().name());
         value.put(AGGREGATION_KEY, aggregation().name());
         value.put(INDEX_INVERSE_KEY, indexInverse());
+        // only written if requested, so that the projections of existing graphs remain unchanged
+        if (compression() != Compression.DEFAULT) {
+            value.put(COMPRESSION_KEY, compression().name());
+        }
     }
 
     @Override
@@ -196,7 +210,8 @@ public abstract class RelationshipProjection extends ElementProjection {
             ORIENTATION_KEY,
             AGGREGATION_KEY,
             PROPERTIES_KEY,
-            INDEX_INVERSE_KEY
+            INDEX_INVERSE_KEY,
+            COMPRESSION_KEY
         ), map.keySet());
     }
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core;
+
+/**
+ * The compression that is used to store the adjacency lists of a projected relationship type.
+ */
+public enum Compression {
+    /**
+     * Placeholder for the compression forced by the JVM-wide feature toggles.
+     * Without such a toggle, this resolves to {@link #AUTO}.
+     */
+    DEFAULT,
+    /**
+     * Select the compression based on the degree distribution of the imported relationships.
+     */
+    AUTO,
+    /**
+     * Delta encoded target ids, stored as variable-length longs on heap.
+     */
+    VAR_LONG,
+    /**
+     * Delta encoded target ids, bit-packed in blocks and stored off heap.
+     */
+    PACKED,
+    /**
+     * Packed adjacency lists for high degree nodes and var-long encoded lists for all others.
+     */
+    MIXED,
+    /**
+     * Target ids without any compression.
+     */
+    UNCOMPRESSED;
+
+    public static Compression parse(Object input) {
+        return EnumParsing.parse(input, Compression.class, "Compression");
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * Parses configuration values of enum-typed options, which are given either as the enum constant
+ * or as its case-insensitive name.
+ */
+public final class EnumParsing {
+
+    private EnumParsing() {}
+
+    /**
+     * @param description the name of the option in error messages, e.g. {@code "Compression"}
+     */
+    public static <E extends Enum<E>> E parse(Object input, Class<E> enumClass, String description) {
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+            var values = Arrays
+                .stream(enumClass.getEnumConstants())
+                .map(Enum::name)
+                .collect(Collectors.toList());
+
+            if (values.contains(inputString)) {
+                return Enum.valueOf(enumClass, inputString);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "%s `%s` is not supported. Must be one of: %s.",
+                description,
+                inputString,
+                values
+            ));
+        } else if (enumClass.isInstance(input)) {
+            return enumClass.cast(input);
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected %s or String. Got %s.",
+            enumClass.getSimpleName(),
+            input.getClass().getSimpleName()
+        ));
+    }
+}
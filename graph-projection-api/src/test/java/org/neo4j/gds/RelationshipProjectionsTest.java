@@ -25,6 +25,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.Compression;
 
 import java.util.Arrays;
 import java.util.LinkedHashMap;
@@ -44,6 +45,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.ElementProjection.PROPERTIES_KEY;
+import static org.neo4j.gds.RelationshipProjection.COMPRESSION_KEY;
 import static org.neo4j.gds.RelationshipProjection.INDEX_INVERSE_KEY;
 import static org.neo4j.gds.RelationshipProjection.ORIENTATION_KEY;
 import static org.neo4j.gds.RelationshipProjection.TYPE_KEY;
@@ -269,6 +271,25 @@ class RelationshipProjectionsTest {
         assertFalse(projection.indexInverse());
     }
 
+    @Test
+    void shouldHandleCompression() {
+        // default
+        var projection = RelationshipProjection.fromMap(Map.of(), RelationshipType.of("FOO"));
+        assertThat(projection.compression(), equalTo(Compression.DEFAULT));
+        assertFalse(projection.toObject().containsKey(COMPRESSION_KEY));
+        // explicitly set, case insensitive
+        projection = RelationshipProjection.fromMap(Map.of(COMPRESSION_KEY, "auto"), RelationshipType.of("FOO"));
+        assertThat(projection.compression(), equalTo(Compression.AUTO));
+        assertThat(projection.toObject().get(COMPRESSION_KEY), equalTo("AUTO"));
+
+        assertThatThrownBy(() -> RelationshipProjection.fromMap(
+            Map.of(COMPRESSION_KEY, "zip"),
+            RelationshipType.of("FOO")
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Compression `ZIP` is not supported");
+    }
+
     static Stream<Arguments> syntacticSugarsSimple() {
         return Stream.of(
             Arguments.of(
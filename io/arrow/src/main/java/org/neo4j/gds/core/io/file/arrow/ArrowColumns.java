@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.apache.arrow.vector.BaseIntVector;
+import org.apache.arrow.vector.FloatingPointVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads the values of Arrow vectors without going through their boxed {@code getObject} accessors.
+ * Integer columns of any width can be read as long or double values, floating point columns only as double values.
+ */
+final class ArrowColumns {
+
+    private ArrowColumns() {}
+
+    /**
+     * Copies the values of a non-nullable integer column into the given buffer.
+     */
+    static void readIds(VectorSchemaRoot root, String columnName, long[] buffer) {
+        var vector = root.getVector(columnName);
+        if (vector == null) {
+            throw new IllegalArgumentException(formatWithLocale("Missing column `%s`.", columnName));
+        }
+        if (!(vector instanceof BaseIntVector)) {
+            throw unsupportedColumn(vector, "id");
+        }
+        var ids = (BaseIntVector) vector;
+        for (int row = 0, rowCount = root.getRowCount(); row < rowCount; row++) {
+            if (vector.isNull(row)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Column `%s` must not contain null values.",
+                    columnName
+                ));
+            }
+            buffer[row] = ids.getValueAsLong(row);
+        }
+    }
+
+    /**
+     * Copies the values of a numeric column into the given buffer, null values are replaced by the default value.
+     */
+    static void readDoubles(ValueVector vector, int rowCount, double defaultValue, double[] buffer) {
+        if (vector instanceof FloatingPointVector) {
+            var doubles = (FloatingPointVector) vector;
+            for (int row = 0; row < rowCount; row++) {
+                buffer[row] = vector.isNull(row) ? defaultValue : doubles.getValueAsDouble(row);
+            }
+        } else if (vector instanceof BaseIntVector) {
+            var longs = (BaseIntVector) vector;
+            for (int row = 0; row < rowCount; row++) {
+                buffer[row] = vector.isNull(row) ? defaultValue : (double) longs.getValueAsLong(row);
+            }
+        } else {
+            throw unsupportedColumn(vector, ValueType.DOUBLE.cypherName());
+        }
+    }
+
+    static long longValue(ValueVector vector, int row) {
+        if (vector instanceof BaseIntVector) {
+            return ((BaseIntVector) vector).getValueAsLong(row);
+        }
+        throw unsupportedColumn(vector, ValueType.LONG.cypherName());
+    }
+
+    static double doubleValue(ValueVector vector, int row) {
+        if (vector instanceof FloatingPointVector) {
+            return ((FloatingPointVector) vector).getValueAsDouble(row);
+        }
+        if (vector instanceof BaseIntVector) {
+            return ((BaseIntVector) vector).getValueAsLong(row);
+        }
+        throw unsupportedColumn(vector, ValueType.DOUBLE.cypherName());
+    }
+
+    static long[] longArray(ValueVector vector, int row) {
+        var list = listVector(vector, ValueType.LONG_ARRAY);
+        int start = list.getElementStartIndex(row);
+        var values = new long[list.getElementEndIndex(row) - start];
+        var elements = list.getDataVector();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = longValue(elements, start + i);
+        }
+        return values;
+    }
+
+    static double[] doubleArray(ValueVector vector, int row) {
+        var list = listVector(vector, ValueType.DOUBLE_ARRAY);
+        int start = list.getElementStartIndex(row);
+        var values = new double[list.getElementEndIndex(row) - start];
+        var elements = list.getDataVector();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = doubleValue(elements, start + i);
+        }
+        return values;
+    }
+
+    static float[] floatArray(ValueVector vector, int row) {
+        var list = listVector(vector, ValueType.FLOAT_ARRAY);
+        int start = list.getElementStartIndex(row);
+        var values = new float[list.getElementEndIndex(row) - start];
+        var elements = list.getDataVector();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (float) doubleValue(elements, start + i);
+        }
+        return values;
+    }
+
+    /**
+     * Reads a single value as the object that the {@link org.neo4j.internal.batchimport.input.InputEntityVisitor} expects.
+     */
+    static Object value(ValueVector vector, int row, ValueType valueType, DefaultValue defaultValue) {
+        if (vector.isNull(row)) {
+            return defaultValue.getObject();
+        }
+        switch (valueType) {
+            case LONG:
+                return longValue(vector, row);
+            case DOUBLE:
+                return doubleValue(vector, row);
+            case LONG_ARRAY:
+                return longArray(vector, row);
+            case DOUBLE_ARRAY:
+                return doubleArray(vector, row);
+            case FLOAT_ARRAY:
+                return floatArray(vector, row);
+            default:
+                throw unsupportedColumn(vector, valueType.cypherName());
+        }
+    }
+
+    private static ListVector listVector(ValueVector vector, ValueType valueType) {
+        if (vector instanceof ListVector) {
+            return (ListVector) vector;
+        }
+        throw unsupportedColumn(vector, valueType.cypherName());
+    }
+
+    private static IllegalArgumentException unsupportedColumn(ValueVector vector, String expectedType) {
+        return new IllegalArgumentException(formatWithLocale(
+            "Column `%s` of type %s cannot be read as %s values.",
+            vector.getName(),
+            vector.getMinorType(),
+            expectedType
+        ));
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.compat.CompatPropertySizeCalculator;
+import org.neo4j.gds.core.io.GraphStoreInput;
+import org.neo4j.gds.core.io.file.FileInput;
+import org.neo4j.gds.core.io.file.GraphInfo;
+import org.neo4j.gds.core.io.file.csv.CsvFileInput;
+import org.neo4j.gds.core.loading.Capabilities;
+import org.neo4j.internal.batchimport.InputIterable;
+import org.neo4j.internal.batchimport.InputIterator;
+import org.neo4j.internal.batchimport.input.Collector;
+import org.neo4j.internal.batchimport.input.Groups;
+import org.neo4j.internal.batchimport.input.IdType;
+import org.neo4j.internal.batchimport.input.Input;
+import org.neo4j.internal.batchimport.input.InputChunk;
+import org.neo4j.internal.batchimport.input.InputEntityVisitor;
+import org.neo4j.internal.batchimport.input.ReadableGroups;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads node and relationship data from Arrow IPC files.
+ * <p>
+ * The import directory contains the meta data files that are written by the CSV export,
+ * i.e. user and graph info, the node, relationship and graph property schemas and the capabilities.
+ * The data of nodes and relationships is stored in Arrow IPC files instead of CSV files:
+ * <ul>
+ *     <li>Files named {@code nodes*.arrow} contain a {@value #NODE_ID_COLUMN} column and one column per node property.
+ *     The labels of all nodes in a file are stored as {@value #LABEL_SEPARATOR}-separated list in the
+ *     {@value #LABELS_METADATA_KEY} entry of the schema meta data.</li>
+ *     <li>Files named {@code relationships*.arrow} contain {@value #START_ID_COLUMN} and {@value #END_ID_COLUMN}
+ *     columns and one column per relationship property.
+ *     The relationship type is stored in the {@value #TYPE_METADATA_KEY} entry of the schema meta data.</li>
+ * </ul>
+ * Properties that do not have a column or are null are set to the default value of their property schema.
+ * Integer columns can be of any width, array properties are stored in list columns.
+ * <p>
+ * Every record batch of a file is a {@link RowGroup} that is imported by a single thread.
+ * The {@link InputIterable}s of this input hand out one row group per chunk.
+ * They box every value for the visitors of the {@link org.neo4j.gds.core.io.file.FileToGraphStoreImporter},
+ * the {@link ArrowToGraphStoreImporter} reads the columns directly into the graph builders.
+ */
+public final class ArrowFileInput implements FileInput {
+
+    public static final String NODE_ID_COLUMN = ":ID";
+    public static final String START_ID_COLUMN = ":START_ID";
+    public static final String END_ID_COLUMN = ":END_ID";
+    public static final String LABELS_METADATA_KEY = "labels";
+    public static final String TYPE_METADATA_KEY = "type";
+    public static final String LABEL_SEPARATOR = ";";
+
+    static final String NODE_FILE_PREFIX = "nodes";
+    static final String RELATIONSHIP_FILE_PREFIX = "relationships";
+    static final String FILE_SUFFIX = ".arrow";
+
+    private static final String[] NO_LABELS = new String[0];
+
+    private final FileInput metaData;
+    private final List<RowGroup> nodeRowGroups;
+    private final List<RowGroup> relationshipRowGroups;
+
+    public ArrowFileInput(Path importPath) {
+        this.metaData = new CsvFileInput(importPath);
+        this.nodeRowGroups = rowGroups(importPath, NODE_FILE_PREFIX);
+        this.relationshipRowGroups = rowGroups(importPath, RELATIONSHIP_FILE_PREFIX);
+    }
+
+    List<RowGroup> nodeRowGroups() {
+        return nodeRowGroups;
+    }
+
+    List<RowGroup> relationshipRowGroups() {
+        return relationshipRowGroups;
+    }
+
+    static String[] labels(Schema schema) {
+        var labels = schema.getCustomMetadata().get(LABELS_METADATA_KEY);
+        return labels == null || labels.isEmpty() ? NO_LABELS : labels.split(LABEL_SEPARATOR);
+    }
+
+    static String relationshipType(Schema schema) {
+        var relationshipType = schema.getCustomMetadata().get(TYPE_METADATA_KEY);
+        if (relationshipType == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Relationship files must declare their relationship type in the `%s` schema meta data.",
+                TYPE_METADATA_KEY
+            ));
+        }
+        return relationshipType;
+    }
+
+    private static List<RowGroup> rowGroups(Path importPath, String prefix) {
+        try (var files = Files.list(importPath); var allocator = new RootAllocator()) {
+            var dataFiles = files
+                .filter(file -> {
+                    var fileName = file.getFileName().toString();
+                    return fileName.startsWith(prefix) && fileName.endsWith(FILE_SUFFIX);
+                })
+                .sorted()
+                .collect(Collectors.toList());
+
+            var rowGroups = new ArrayList<RowGroup>();
+            for (var file : dataFiles) {
+                try (var reader = new ArrowFileReader(FileChannel.open(file, StandardOpenOption.READ), allocator)) {
+                    int recordBatchCount = reader.getRecordBlocks().size();
+                    for (int index = 0; index < recordBatchCount; index++) {
+                        rowGroups.add(ImmutableRowGroup.of(file, index));
+                    }
+                }
+            }
+            return rowGroups;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputIterable nodes(Collector badCollector) {
+        return () -> new RowGroupIterator(nodeRowGroups) {
+            @Override
+            public InputChunk newChunk() {
+                return new NodeChunk(metaData.nodeSchema());
+            }
+        };
+    }
+
+    @Override
+    public InputIterable relationships(Collector badCollector) {
+        return () -> new RowGroupIterator(relationshipRowGroups) {
+            @Override
+            public InputChunk newChunk() {
+                return new RelationshipChunk(metaData.relationshipSchema());
+            }
+        };
+    }
+
+    @Override
+    public InputIterable graphProperties() {
+        return metaData.graphProperties();
+    }
+
+    @Override
+    public IdType idType() {
+        return IdType.ACTUAL;
+    }
+
+    @Override
+    public ReadableGroups groups() {
+        return Groups.EMPTY;
+    }
+
+    @Override
+    public Input.Estimates calculateEstimates(CompatPropertySizeCalculator propertySizeCalculator) {
+        return null;
+    }
+
+    @Override
+    public String userName() {
+        return metaData.userName();
+    }
+
+    @Override
+    public GraphInfo graphInfo() {
+        return metaData.graphInfo();
+    }
+
+    @Override
+    public MutableNodeSchema nodeSchema() {
+        return metaData.nodeSchema();
+    }
+
+    @Override
+    public Optional<HashMap<String, String>> labelMapping() {
+        return metaData.labelMapping();
+    }
+
+    @Override
+    public MutableRelationshipSchema relationshipSchema() {
+        return metaData.relationshipSchema();
+    }
+
+    @Override
+    public Map<String, PropertySchema> graphPropertySchema() {
+        return metaData.graphPropertySchema();
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return metaData.capabilities();
+    }
+
+    abstract static class RowGroupIterator implements InputIterator {
+
+        private final List<RowGroup> rowGroups;
+        private int nextRowGroup;
+
+        RowGroupIterator(List<RowGroup> rowGroups) {
+            this.rowGroups = rowGroups;
+        }
+
+        @Override
+        public synchronized boolean next(InputChunk chunk) throws IOException {
+            if (nextRowGroup < rowGroups.size()) {
+                assert chunk instanceof RowGroupChunk;
+                ((RowGroupChunk) chunk).initialize(rowGroups.get(nextRowGroup++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    abstract static class RowGroupChunk implements InputChunk, GraphStoreInput.LastProgress {
+
+        private final RootAllocator allocator;
+        private final RowGroupReader reader;
+        private final List<ValueVector> propertyVectors;
+        private final List<PropertySchema> propertySchemas;
+
+        VectorSchemaRoot root;
+        private int row;
+
+        RowGroupChunk() {
+            this.allocator = new RootAllocator();
+            this.reader = new RowGroupReader(allocator);
+            this.propertyVectors = new ArrayList<>();
+            this.propertySchemas = new ArrayList<>();
+        }
+
+        void initialize(RowGroup rowGroup) throws IOException {
+            this.root = reader.load(rowGroup);
+            this.row = 0;
+
+            propertyVectors.clear();
+            propertySchemas.clear();
+            var schemas = propertySchemas(root.getSchema());
+            for (var vector : root.getFieldVectors()) {
+                var propertySchema = schemas.get(vector.getName());
+                if (propertySchema != null) {
+                    propertyVectors.add(vector);
+                    propertySchemas.add(propertySchema);
+                }
+            }
+        }
+
+        abstract Map<String, ? extends PropertySchema> propertySchemas(Schema schema);
+
+        abstract void visitRow(int row, InputEntityVisitor visitor);
+
+        @Override
+        public boolean next(InputEntityVisitor visitor) throws IOException {
+            if (root != null && row < root.getRowCount()) {
+                visitRow(row, visitor);
+                for (int i = 0; i < propertyVectors.size(); i++) {
+                    var propertySchema = propertySchemas.get(i);
+                    visitor.property(propertySchema.key(), ArrowColumns.value(
+                        propertyVectors.get(i),
+                        row,
+                        propertySchema.valueType(),
+                        propertySchema.defaultValue()
+                    ));
+                }
+                visitor.endOfEntity();
+                row++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public long lastProgress() {
+            return 1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+            allocator.close();
+        }
+    }
+
+    static final class NodeChunk extends RowGroupChunk {
+
+        private final MutableNodeSchema nodeSchema;
+        private String[] labels;
+
+        NodeChunk(MutableNodeSchema nodeSchema) {
+            this.nodeSchema = nodeSchema;
+        }
+
+        @Override
+        Map<String, ? extends PropertySchema> propertySchemas(Schema schema) {
+            this.labels = labels(schema);
+            return nodeSchema.unionProperties();
+        }
+
+        @Override
+        void visitRow(int row, InputEntityVisitor visitor) {
+            // the node visitor sorts the labels in place
+            visitor.labels(labels.clone());
+            visitor.id(ArrowColumns.longValue(root.getVector(NODE_ID_COLUMN), row));
+        }
+    }
+
+    static final class RelationshipChunk extends RowGroupChunk {
+
+        private final MutableRelationshipSchema relationshipSchema;
+        private String relationshipType;
+
+        RelationshipChunk(MutableRelationshipSchema relationshipSchema) {
+            this.relationshipSchema = relationshipSchema;
+        }
+
+        @Override
+        Map<String, ? extends PropertySchema> propertySchemas(Schema schema) {
+            this.relationshipType = relationshipType(schema);
+            return relationshipSchema.get(RelationshipType.of(relationshipType)).properties();
+        }
+
+        @Override
+        void visitRow(int row, InputEntityVisitor visitor) {
+            visitor.type(relationshipType);
+            visitor.startId(ArrowColumns.longValue(root.getVector(START_ID_COLUMN), row));
+            visitor.endId(ArrowColumns.longValue(root.getVector(END_ID_COLUMN), row));
+        }
+    }
+}
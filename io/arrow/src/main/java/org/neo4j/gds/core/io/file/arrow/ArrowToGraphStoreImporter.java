@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.io.file.FileToGraphStoreImporter;
+import org.neo4j.gds.core.io.file.FileToGraphStoreImporter.UserGraphStore;
+import org.neo4j.gds.core.io.file.ImmutableUserGraphStore;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.HighLimitIdMap;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.Nodes;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
+import org.neo4j.gds.core.loading.construction.NodesBuilder;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
+import org.neo4j.values.storable.Values;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.core.io.file.arrow.ArrowFileInput.END_ID_COLUMN;
+import static org.neo4j.gds.core.io.file.arrow.ArrowFileInput.NODE_ID_COLUMN;
+import static org.neo4j.gds.core.io.file.arrow.ArrowFileInput.START_ID_COLUMN;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Loads a graph store from the Arrow IPC files described in {@link ArrowFileInput}.
+ * <p>
+ * Unlike the {@link FileToGraphStoreImporter}, the values are not passed row by row through visitors.
+ * Every thread loads whole row groups and copies their columns into primitive buffers,
+ * which are then added to the {@link NodesBuilder}, the {@link RelationshipsBuilder}s and
+ * the {@link NodePropertiesFromStoreBuilder}s. Only array properties are allocated per value.
+ */
+public final class ArrowToGraphStoreImporter {
+
+    private final int concurrency;
+    private final Path importPath;
+
+    public ArrowToGraphStoreImporter(int concurrency, Path importPath) {
+        this.concurrency = concurrency;
+        this.importPath = importPath;
+    }
+
+    public UserGraphStore run() {
+        var fileInput = new ArrowFileInput(importPath);
+        if (!fileInput.graphPropertySchema().isEmpty()) {
+            throw new IllegalArgumentException("The Arrow import does not support graph properties.");
+        }
+
+        try (var allocator = new RootAllocator()) {
+            var nodes = importNodes(fileInput, allocator);
+            var relationshipImportResult = importRelationships(fileInput, nodes.idMap(), allocator);
+
+            var graphStore = new GraphStoreBuilder()
+                .databaseId(fileInput.graphInfo().databaseId())
+                .capabilities(fileInput.capabilities())
+                .schema(MutableGraphSchema.of(
+                    fileInput.nodeSchema(),
+                    fileInput.relationshipSchema(),
+                    fileInput.graphPropertySchema()
+                ))
+                .nodes(nodes)
+                .relationshipImportResult(relationshipImportResult)
+                .concurrency(concurrency)
+                .build();
+
+            return ImmutableUserGraphStore.of(fileInput.userName(), graphStore);
+        }
+    }
+
+    private Nodes importNodes(ArrowFileInput fileInput, BufferAllocator allocator) {
+        var graphInfo = fileInput.graphInfo();
+        var nodeSchema = fileInput.nodeSchema();
+
+        // The high limit id map replaces the original ids by intermediate ids during the import,
+        // but the property builders are keyed by the original ids of the files.
+        if (HighLimitIdMap.isHighLimitIdMap(graphInfo.idMapBuilderType())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The Arrow import does not support the `%s` id map.",
+                graphInfo.idMapBuilderType()
+            ));
+        }
+
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .maxOriginalId(graphInfo.maxOriginalId())
+            .nodeCount(graphInfo.nodeCount())
+            .hasLabelInformation(!(nodeSchema.availableLabels().isEmpty() && nodeSchema.containsOnlyAllNodesLabel()))
+            .hasProperties(false)
+            .deduplicateIds(false)
+            .idMapBuilderType(graphInfo.idMapBuilderType())
+            .concurrency(concurrency)
+            .build();
+
+        var propertySchemas = nodeSchema.unionProperties();
+        var propertyBuilders = new HashMap<String, NodePropertiesFromStoreBuilder>();
+        propertySchemas.forEach((propertyKey, propertySchema) -> propertyBuilders.put(
+            propertyKey,
+            NodePropertiesFromStoreBuilder.of(propertySchema.defaultValue(), propertySchema.valueType(), concurrency)
+        ));
+
+        importRowGroups(
+            fileInput.nodeRowGroups(),
+            allocator,
+            () -> new NodeRowGroupImporter(nodesBuilder, propertySchemas, propertyBuilders)
+        );
+
+        var idMap = nodesBuilder.build().idMap();
+
+        var nodePropertyStore = NodePropertyStore.builder();
+        propertySchemas.forEach((propertyKey, propertySchema) -> nodePropertyStore.putProperty(
+            propertyKey,
+            NodeProperty.of(
+                propertyKey,
+                propertySchema.state(),
+                propertyBuilders.get(propertyKey).build(idMap),
+                propertySchema.defaultValue()
+            )
+        ));
+
+        return ImmutableNodes.of(nodeSchema, idMap, nodePropertyStore.build());
+    }
+
+    private RelationshipImportResult importRelationships(
+        ArrowFileInput fileInput,
+        IdMap idMap,
+        BufferAllocator allocator
+    ) {
+        var inverseIndexedRelationshipTypes = fileInput.graphInfo().inverseIndexedRelationshipTypes();
+        var propertySchemasByType = new HashMap<String, List<RelationshipPropertySchema>>();
+        for (var entry : fileInput.relationshipSchema().entries()) {
+            propertySchemasByType.put(entry.identifier().name(), new ArrayList<>(entry.properties().values()));
+        }
+
+        var relationshipBuildersByType = new ConcurrentHashMap<String, RelationshipsBuilder>();
+        importRowGroups(
+            fileInput.relationshipRowGroups(),
+            allocator,
+            () -> new RelationshipRowGroupImporter(propertySchemasByType, relationshipBuildersByType, (relationshipType, propertySchemas) -> {
+                var type = RelationshipType.of(relationshipType);
+                return GraphFactory.initRelationshipsBuilder()
+                    .concurrency(concurrency)
+                    .nodes(idMap)
+                    .relationshipType(type)
+                    .propertyConfigs(propertySchemas
+                        .stream()
+                        .map(schema -> GraphFactory.PropertyConfig.of(
+                            schema.key(),
+                            schema.aggregation(),
+                            schema.defaultValue()
+                        ))
+                        .collect(Collectors.toList()))
+                    .indexInverse(inverseIndexedRelationshipTypes.contains(type))
+                    .skipDanglingRelationships(true)
+                    .build();
+            })
+        );
+
+        return FileToGraphStoreImporter.relationshipImportResult(relationshipBuildersByType);
+    }
+
+    private void importRowGroups(
+        List<RowGroup> rowGroups,
+        BufferAllocator allocator,
+        Supplier<RowGroupImporter> importerSupplier
+    ) {
+        var nextRowGroup = new AtomicInteger();
+        var tasks = ParallelUtil.tasks(concurrency, () -> () -> {
+            var importer = importerSupplier.get();
+            try (var reader = new RowGroupReader(allocator)) {
+                int rowGroup;
+                while ((rowGroup = nextRowGroup.getAndIncrement()) < rowGroups.size()) {
+                    importer.importRowGroup(reader.load(rowGroups.get(rowGroup)));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+    }
+
+    private interface RowGroupImporter {
+        void importRowGroup(VectorSchemaRoot root);
+    }
+
+    private static final class NodeRowGroupImporter implements RowGroupImporter {
+
+        private final NodesBuilder nodesBuilder;
+        private final Map<String, PropertySchema> propertySchemas;
+        private final Map<String, NodePropertiesFromStoreBuilder> propertyBuilders;
+        private long[] ids;
+
+        private NodeRowGroupImporter(
+            NodesBuilder nodesBuilder,
+            Map<String, PropertySchema> propertySchemas,
+            Map<String, NodePropertiesFromStoreBuilder> propertyBuilders
+        ) {
+            this.nodesBuilder = nodesBuilder;
+            this.propertySchemas = propertySchemas;
+            this.propertyBuilders = propertyBuilders;
+            this.ids = new long[0];
+        }
+
+        @Override
+        public void importRowGroup(VectorSchemaRoot root) {
+            int rowCount = root.getRowCount();
+            if (ids.length < rowCount) {
+                ids = new long[rowCount];
+            }
+            ArrowColumns.readIds(root, NODE_ID_COLUMN, ids);
+
+            var labels = ArrowFileInput.labels(root.getSchema());
+            var nodeLabelToken = labels.length == 0 ? NodeLabelTokens.empty() : NodeLabelTokens.ofStrings(labels);
+            for (int row = 0; row < rowCount; row++) {
+                nodesBuilder.addNode(ids[row], nodeLabelToken);
+            }
+
+            for (var vector : root.getFieldVectors()) {
+                var propertyBuilder = propertyBuilders.get(vector.getName());
+                if (propertyBuilder != null) {
+                    importProperty(vector, propertySchemas.get(vector.getName()).valueType(), propertyBuilder, rowCount);
+                }
+            }
+        }
+
+        // Null values are not set, the property builders return the default value for them.
+        private void importProperty(
+            ValueVector vector,
+            ValueType valueType,
+            NodePropertiesFromStoreBuilder propertyBuilder,
+            int rowCount
+        ) {
+            var ids = this.ids;
+            switch (valueType) {
+                case LONG:
+                    for (int row = 0; row < rowCount; row++) {
+                        if (!vector.isNull(row)) {
+                            propertyBuilder.set(ids[row], ArrowColumns.longValue(vector, row));
+                        }
+                    }
+                    break;
+                case DOUBLE:
+                    for (int row = 0; row < rowCount; row++) {
+                        if (!vector.isNull(row)) {
+                            propertyBuilder.set(ids[row], ArrowColumns.doubleValue(vector, row));
+                        }
+                    }
+                    break;
+                case LONG_ARRAY:
+                    for (int row = 0; row < rowCount; row++) {
+                        if (!vector.isNull(row)) {
+                            propertyBuilder.set(ids[row], Values.longArray(ArrowColumns.longArray(vector, row)));
+                        }
+                    }
+                    break;
+                case DOUBLE_ARRAY:
+                    for (int row = 0; row < rowCount; row++) {
+                        if (!vector.isNull(row)) {
+                            propertyBuilder.set(ids[row], Values.doubleArray(ArrowColumns.doubleArray(vector, row)));
+                        }
+                    }
+                    break;
+                case FLOAT_ARRAY:
+                    for (int row = 0; row < rowCount; row++) {
+                        if (!vector.isNull(row)) {
+                            propertyBuilder.set(ids[row], Values.floatArray(ArrowColumns.floatArray(vector, row)));
+                        }
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "The Arrow import does not support node properties of type %s.",
+                        valueType
+                    ));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RelationshipsBuilderFactory {
+        RelationshipsBuilder create(String relationshipType, List<RelationshipPropertySchema> propertySchemas);
+    }
+
+    private static final class RelationshipRowGroupImporter implements RowGroupImporter {
+
+        private final Map<String, List<RelationshipPropertySchema>> propertySchemasByType;
+        private final Map<String, RelationshipsBuilder> relationshipBuildersByType;
+        private final RelationshipsBuilderFactory relationshipsBuilderFactory;
+        private long[] sources;
+        private long[] targets;
+        private double[][] propertyColumns;
+        private double[] propertyValues;
+
+        private RelationshipRowGroupImporter(
+            Map<String, List<RelationshipPropertySchema>> propertySchemasByType,
+            Map<String, RelationshipsBuilder> relationshipBuildersByType,
+            RelationshipsBuilderFactory relationshipsBuilderFactory
+        ) {
+            this.propertySchemasByType = propertySchemasByType;
+            this.relationshipBuildersByType = relationshipBuildersByType;
+            this.relationshipsBuilderFactory = relationshipsBuilderFactory;
+            this.sources = new long[0];
+            this.targets = new long[0];
+            this.propertyColumns = new double[0][];
+            this.propertyValues = new double[0];
+        }
+
+        @Override
+        public void importRowGroup(VectorSchemaRoot root) {
+            var relationshipType = ArrowFileInput.relationshipType(root.getSchema());
+            var propertySchemas = propertySchemasByType.get(relationshipType);
+            if (propertySchemas == null) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Relationship type `%s` is not part of the relationship schema.",
+                    relationshipType
+                ));
+            }
+            var relationshipsBuilder = relationshipBuildersByType.computeIfAbsent(
+                relationshipType,
+                type -> relationshipsBuilderFactory.create(type, propertySchemas)
+            );
+
+            int rowCount = root.getRowCount();
+            int propertyCount = propertySchemas.size();
+            ensureCapacity(rowCount, propertyCount);
+
+            ArrowColumns.readIds(root, START_ID_COLUMN, sources);
+            ArrowColumns.readIds(root, END_ID_COLUMN, targets);
+
+            var sources = this.sources;
+            var targets = this.targets;
+            if (propertyCount == 0) {
+                for (int row = 0; row < rowCount; row++) {
+                    relationshipsBuilder.add(sources[row], targets[row]);
+                }
+                return;
+            }
+
+            for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+                var propertySchema = propertySchemas.get(propertyIndex);
+                var defaultValue = propertySchema.defaultValue().doubleValue();
+                var vector = root.getVector(propertySchema.key());
+                if (vector == null) {
+                    Arrays.fill(propertyColumns[propertyIndex], 0, rowCount, defaultValue);
+                } else {
+                    ArrowColumns.readDoubles(vector, rowCount, defaultValue, propertyColumns[propertyIndex]);
+                }
+            }
+
+            var propertyColumns = this.propertyColumns;
+            var propertyValues = this.propertyValues;
+            for (int row = 0; row < rowCount; row++) {
+                for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+                    propertyValues[propertyIndex] = propertyColumns[propertyIndex][row];
+                }
+                relationshipsBuilder.add(sources[row], targets[row], propertyValues);
+            }
+        }
+
+        private void ensureCapacity(int rowCount, int propertyCount) {
+            if (sources.length < rowCount) {
+                sources = new long[rowCount];
+                targets = new long[rowCount];
+            }
+            if (propertyColumns.length < propertyCount) {
+                propertyColumns = new double[propertyCount][];
+                propertyValues = new double[propertyCount];
+            }
+            for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+                if (propertyColumns[propertyIndex] == null || propertyColumns[propertyIndex].length < rowCount) {
+                    propertyColumns[propertyIndex] = new double[rowCount];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Loads single record batches of Arrow IPC files.
+ * The file of the last loaded row group is kept open, so reading the row groups of a file in order
+ * only reads its footer once.
+ * <p>
+ * The returned {@link VectorSchemaRoot} is reused for every row group and only valid until the next call to {@link #load(RowGroup)}.
+ * Instances are not thread-safe.
+ */
+final class RowGroupReader implements AutoCloseable {
+
+    private final BufferAllocator allocator;
+    private @Nullable Path currentFile;
+    private @Nullable ArrowFileReader reader;
+
+    RowGroupReader(BufferAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    VectorSchemaRoot load(RowGroup rowGroup) throws IOException {
+        var reader = this.reader;
+        if (reader == null || !rowGroup.file().equals(currentFile)) {
+            close();
+            reader = new ArrowFileReader(FileChannel.open(rowGroup.file(), StandardOpenOption.READ), allocator);
+            this.reader = reader;
+            this.currentFile = rowGroup.file();
+        }
+        reader.loadRecordBatch(reader.getRecordBlocks().get(rowGroup.index()));
+        return reader.getVectorSchemaRoot();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+            reader = null;
+            currentFile = null;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.io.file.FileInput;
+import org.neo4j.gds.core.io.file.FileToGraphStoreImporter;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfigImpl;
+import org.neo4j.gds.core.io.file.csv.GraphStoreToCsvExporter;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+class ArrowToGraphStoreImporterTest {
+
+    private static final String GRAPH =
+        "CREATE" +
+        "  (a:A { age: 1, score: 0.5 })" +
+        ", (b:A { age: 2, score: 1.5 })" +
+        ", (c:B { age: 3 })" +
+        ", (a)-[:REL { weight: 1.0 }]->(b)" +
+        ", (b)-[:REL { weight: 2.0 }]->(c)" +
+        ", (c)-[:REL { weight: 3.0 }]->(a)";
+
+    private static final RelationshipType REL = RelationshipType.of("REL");
+
+    @TempDir
+    Path graphLocation;
+
+    private GraphStore graphStore;
+
+    @BeforeEach
+    void setup() throws IOException {
+        var graphFactory = GdlFactory.of(GRAPH);
+        this.graphStore = graphFactory.build();
+
+        writeMetaData(graphStore, graphLocation);
+
+        long a = graphStore.nodes().toOriginalNodeId(graphFactory.nodeId("a"));
+        long b = graphStore.nodes().toOriginalNodeId(graphFactory.nodeId("b"));
+        long c = graphStore.nodes().toOriginalNodeId(graphFactory.nodeId("c"));
+
+        // every node of `A` is in its own record batch, `B` has no score column
+        writeArrowFile(
+            graphLocation.resolve("nodes_A.arrow"),
+            new Schema(
+                List.of(longField(ArrowFileInput.NODE_ID_COLUMN), intField("age"), doubleField("score")),
+                Map.of(ArrowFileInput.LABELS_METADATA_KEY, "A")
+            ),
+            List.of(
+                List.<Object[]>of(new Object[]{a, 1, 0.5}),
+                List.<Object[]>of(new Object[]{b, 2, 1.5})
+            )
+        );
+        writeArrowFile(
+            graphLocation.resolve("nodes_B.arrow"),
+            new Schema(
+                List.of(longField(ArrowFileInput.NODE_ID_COLUMN), intField("age")),
+                Map.of(ArrowFileInput.LABELS_METADATA_KEY, "B")
+            ),
+            List.of(List.<Object[]>of(new Object[]{c, 3}))
+        );
+        writeArrowFile(
+            graphLocation.resolve("relationships_REL.arrow"),
+            new Schema(
+                List.of(
+                    longField(ArrowFileInput.START_ID_COLUMN),
+                    longField(ArrowFileInput.END_ID_COLUMN),
+                    doubleField("weight")
+                ),
+                Map.of(ArrowFileInput.TYPE_METADATA_KEY, REL.name())
+            ),
+            List.of(
+                List.of(new Object[]{a, b, 1.0}, new Object[]{b, c, 2.0}),
+                List.<Object[]>of(new Object[]{c, a, 3.0})
+            )
+        );
+    }
+
+    @Test
+    void shouldImportGraphStore() {
+        var userGraphStore = new ArrowToGraphStoreImporter(4, graphLocation).run();
+
+        assertThat(userGraphStore.userName()).isEqualTo("alice");
+        assertImportedGraphStore(userGraphStore.graphStore());
+    }
+
+    @Test
+    void shouldImportGraphStoreThroughFileInput() {
+        var importer = new FileToGraphStoreImporter(
+            4,
+            graphLocation,
+            Neo4jProxy.testLog(),
+            EmptyTaskRegistryFactory.INSTANCE
+        ) {
+            @Override
+            protected FileInput fileInput(Path importPath) {
+                return new ArrowFileInput(importPath);
+            }
+
+            @Override
+            protected String rootTaskName() {
+                return "Arrow";
+            }
+        };
+
+        assertImportedGraphStore(importer.run().graphStore());
+    }
+
+    @Test
+    void shouldListRowGroupsOfAllFiles() {
+        var fileInput = new ArrowFileInput(graphLocation);
+
+        assertThat(fileInput.nodeRowGroups()).containsExactly(
+            ImmutableRowGroup.of(graphLocation.resolve("nodes_A.arrow"), 0),
+            ImmutableRowGroup.of(graphLocation.resolve("nodes_A.arrow"), 1),
+            ImmutableRowGroup.of(graphLocation.resolve("nodes_B.arrow"), 0)
+        );
+        assertThat(fileInput.relationshipRowGroups()).hasSize(2);
+    }
+
+    private void assertImportedGraphStore(GraphStore importedGraphStore) {
+        assertThat(importedGraphStore.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+        assertGraphEquals(
+            graphStore.getGraph(REL, Optional.of("weight")),
+            importedGraphStore.getGraph(REL, Optional.of("weight"))
+        );
+    }
+
+    private static void writeMetaData(GraphStore graphStore, Path location) throws IOException {
+        var config = GraphStoreToFileExporterConfigImpl
+            .builder()
+            .exportName(location.toString())
+            .writeConcurrency(1)
+            .username("alice")
+            .includeMetaData(true)
+            .build();
+        GraphStoreToCsvExporter.create(graphStore, config, location).run();
+
+        try (var files = Files.list(location)) {
+            for (var file : (Iterable<Path>) files::iterator) {
+                var fileName = file.getFileName().toString();
+                if (fileName.startsWith("nodes_") || fileName.startsWith("relationships_")) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static void writeArrowFile(Path file, Schema schema, List<List<Object[]>> recordBatches) throws IOException {
+        try (
+            var allocator = new RootAllocator();
+            var root = VectorSchemaRoot.create(schema, allocator);
+            var writer = new ArrowFileWriter(
+                root,
+                null,
+                FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)
+            )
+        ) {
+            writer.start();
+            for (var rows : recordBatches) {
+                root.allocateNew();
+                for (int row = 0; row < rows.size(); row++) {
+                    var values = rows.get(row);
+                    for (int column = 0; column < values.length; column++) {
+                        var vector = root.getVector(column);
+                        var value = values[column];
+                        if (value == null) {
+                            ((BaseFixedWidthVector) vector).setNull(row);
+                        } else if (vector instanceof BigIntVector) {
+                            ((BigIntVector) vector).setSafe(row, (long) value);
+                        } else if (vector instanceof IntVector) {
+                            ((IntVector) vector).setSafe(row, (int) value);
+                        } else {
+                            ((Float8Vector) vector).setSafe(row, (double) value);
+                        }
+                    }
+                }
+                root.setRowCount(rows.size());
+                writer.writeBatch();
+            }
+            writer.end();
+        }
+    }
+
+    private static Field longField(String name) {
+        return Field.nullable(name, new ArrowType.Int(64, true));
+    }
+
+    private static Field intField(String name) {
+        return Field.nullable(name, new ArrowType.Int(32, true));
+    }
+
+    private static Field doubleField(String name) {
+        return Field.nullable(name, new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Layout of the binary graph store format.
+ * <p>
+ * The graph metadata (user, graph info, schemas and capabilities) is written in the same files
+ * as the CSV format. Everything else is stored in flat columns using the native byte order,
+ * so that it can be memory-mapped on import instead of being parsed.
+ * The manifest lists the columns and the positions of the adjacency pages.
+ */
+final class BinaryFormat {
+
+    static final String MANIFEST_FILE_NAME = "graph.manifest";
+    static final int MAGIC = 0x47445342;
+    static final int VERSION = 1;
+
+    static final String NODE_IDS_FILE_NAME = "nodes.ids";
+
+    static final String DEGREES = "degrees";
+    static final String OFFSETS = "offsets";
+    static final String PAGES = "pages";
+    static final String PROPERTY_OFFSETS = "property_offsets";
+    static final String VALUES = "values";
+    static final String LENGTHS = "lengths";
+
+    private BinaryFormat() {}
+
+    static String labelFileName(int labelIndex) {
+        return formatWithLocale("nodes.label_%d", labelIndex);
+    }
+
+    static String nodePropertyFileName(int propertyIndex, String column) {
+        return formatWithLocale("nodes.property_%d.%s", propertyIndex, column);
+    }
+
+    static String relationshipFileName(int typeIndex, boolean inverse, String column) {
+        return formatWithLocale(
+            "relationships_%d%s.%s",
+            typeIndex,
+            inverse ? ".inverse" : "",
+            column
+        );
+    }
+
+    static String relationshipPropertyColumn(int propertyIndex) {
+        return formatWithLocale("property_%d", propertyIndex);
+    }
+}
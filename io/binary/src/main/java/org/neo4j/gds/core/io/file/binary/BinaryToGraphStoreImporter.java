@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+import org.neo4j.gds.collections.ha.HugeLongArray;
+import org.neo4j.gds.core.compression.ImmutableMemoryInfo;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.io.file.FileInput;
+import org.neo4j.gds.core.io.file.FileToGraphStoreImporter.UserGraphStore;
+import org.neo4j.gds.core.io.file.ImmutableUserGraphStore;
+import org.neo4j.gds.core.io.file.csv.CsvFileInput;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilder;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.Nodes;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.DEGREES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.MAGIC;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.MANIFEST_FILE_NAME;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.NODE_IDS_FILE_NAME;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.OFFSETS;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.PAGES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.PROPERTY_OFFSETS;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.VERSION;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.labelFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.relationshipFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.relationshipPropertyColumn;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Loads a graph store that has been written by {@link GraphStoreToBinaryExporter}.
+ * <p>
+ * Unlike the {@link org.neo4j.gds.core.io.file.FileToGraphStoreImporter}, nothing is parsed or re-compressed:
+ * the adjacency lists use the var-long encoded pages of the memory-mapped files directly, and node and
+ * relationship properties are read from memory-mapped columns. Only the id map, the label information
+ * and the degrees and offsets of the adjacency lists are rebuilt on heap.
+ * <p>
+ * The mapped files must not be modified or deleted while the graph store is in use.
+ * The mappings are released once the graph store has been garbage collected.
+ */
+public final class BinaryToGraphStoreImporter {
+
+    private static final int ID_BATCH_SIZE = 1 << 16;
+
+    private final int concurrency;
+    private final Path importPath;
+
+    public BinaryToGraphStoreImporter(int concurrency, Path importPath) {
+        this.concurrency = concurrency;
+        this.importPath = importPath;
+    }
+
+    public UserGraphStore run() {
+        var fileInput = new CsvFileInput(importPath);
+        try (var manifest = new DataInputStream(new BufferedInputStream(Files.newInputStream(importPath.resolve(
+            MANIFEST_FILE_NAME))))) {
+            validateHeader(manifest);
+            var nodes = importNodes(manifest, fileInput);
+            var relationshipImportResult = importRelationships(manifest, fileInput, nodes.idMap().nodeCount());
+
+            var graphStore = new GraphStoreBuilder()
+                .databaseId(fileInput.graphInfo().databaseId())
+                .capabilities(fileInput.capabilities())
+                .schema(MutableGraphSchema.of(
+                    fileInput.nodeSchema(),
+                    fileInput.relationshipSchema(),
+                    fileInput.graphPropertySchema()
+                ))
+                .nodes(nodes)
+                .relationshipImportResult(relationshipImportResult)
+                .concurrency(concurrency)
+                .build();
+
+            return ImmutableUserGraphStore.of(fileInput.userName(), graphStore);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void validateHeader(DataInputStream manifest) throws IOException {
+        int magic = manifest.readInt();
+        int version = manifest.readInt();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Unsupported binary graph format, expected version %d but found version %d.",
+                VERSION,
+                version
+            ));
+        }
+        var byteOrder = manifest.readUTF();
+        if (!byteOrder.equals(ByteOrder.nativeOrder().toString())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The graph has been written with byte order %s, but this machine uses %s.",
+                byteOrder,
+                ByteOrder.nativeOrder()
+            ));
+        }
+    }
+
+    private Nodes importNodes(DataInputStream manifest, FileInput fileInput) throws IOException {
+        long nodeCount = manifest.readLong();
+        var originalIds = MappedFile.open(importPath.resolve(NODE_IDS_FILE_NAME));
+
+        // inserting the original ids in order keeps the mapped ids of the exported graph
+        var idMapBuilder = ArrayIdMapBuilder.of(nodeCount);
+        var batch = new long[ID_BATCH_SIZE];
+        for (long start = 0; start < nodeCount; start += ID_BATCH_SIZE) {
+            int length = (int) Math.min(ID_BATCH_SIZE, nodeCount - start);
+            for (int i = 0; i < length; i++) {
+                batch[i] = originalIds.getLong((start + i) * Long.BYTES);
+            }
+            idMapBuilder.allocate(length).insert(batch);
+        }
+
+        var labelInformationBuilder = importLabels(manifest, originalIds, nodeCount);
+        var idMap = idMapBuilder.build(
+            labelInformationBuilder,
+            fileInput.graphInfo().maxOriginalId(),
+            concurrency
+        );
+
+        var nodeSchema = fileInput.nodeSchema();
+        var propertySchemas = nodeSchema.unionProperties();
+        var nodePropertyStore = NodePropertyStore.builder();
+        int propertyCount = manifest.readInt();
+        for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+            var propertyKey = manifest.readUTF();
+            var valueType = ValueType.valueOf(manifest.readUTF());
+            var propertySchema = propertySchemas.get(propertyKey);
+            var values = MappedNodePropertyValues.open(importPath, propertyIndex, valueType, nodeCount);
+            nodePropertyStore.putProperty(
+                propertyKey,
+                NodeProperty.of(propertyKey, propertySchema.state(), values, propertySchema.defaultValue())
+            );
+        }
+
+        return ImmutableNodes.of(nodeSchema, idMap, nodePropertyStore.build());
+    }
+
+    private LabelInformation.Builder importLabels(
+        DataInputStream manifest,
+        MappedFile originalIds,
+        long nodeCount
+    ) throws IOException {
+        int labelCount = manifest.readInt();
+        if (labelCount == 0) {
+            return LabelInformationBuilders.allNodes();
+        }
+
+        var labelInformationBuilder = LabelInformationBuilders.multiLabelWithCapacity(nodeCount);
+        for (int labelIndex = 0; labelIndex < labelCount; labelIndex++) {
+            var label = NodeLabel.of(manifest.readUTF());
+            var bits = MappedFile.open(importPath.resolve(labelFileName(labelIndex)));
+            for (long wordStart = 0; wordStart < nodeCount; wordStart += Long.SIZE) {
+                long word = bits.getLong(wordStart / Long.SIZE * Long.BYTES);
+                while (word != 0) {
+                    long nodeId = wordStart + Long.numberOfTrailingZeros(word);
+                    labelInformationBuilder.addNodeIdToLabel(label, originalIds.getLong(nodeId * Long.BYTES));
+                    word &= word - 1;
+                }
+            }
+        }
+        return labelInformationBuilder;
+    }
+
+    private RelationshipImportResult importRelationships(
+        DataInputStream manifest,
+        FileInput fileInput,
+        long nodeCount
+    ) throws IOException {
+        var relationshipSchema = fileInput.relationshipSchema();
+        var importResult = RelationshipImportResult.builder();
+
+        int typeCount = manifest.readInt();
+        for (int typeIndex = 0; typeIndex < typeCount; typeIndex++) {
+            var relationshipType = RelationshipType.of(manifest.readUTF());
+            long relationshipCount = manifest.readLong();
+            boolean isMultiGraph = manifest.readBoolean();
+            int propertyCount = manifest.readInt();
+            List<String> propertyKeys = new ArrayList<>(propertyCount);
+            for (int i = 0; i < propertyCount; i++) {
+                propertyKeys.add(manifest.readUTF());
+            }
+
+            var schemaEntry = relationshipSchema.get(relationshipType);
+            var adjacency = new AdjacencyImporter(typeIndex, nodeCount, relationshipCount, isMultiGraph);
+            var relationships = SingleTypeRelationships.builder()
+                .relationshipSchemaEntry(schemaEntry)
+                .topology(adjacency.importTopology(manifest, false))
+                .properties(adjacency.importProperties(false, propertyKeys, schemaEntry));
+
+            if (manifest.readBoolean()) {
+                relationships
+                    .inverseTopology(adjacency.importTopology(manifest, true))
+                    .inverseProperties(adjacency.importProperties(true, propertyKeys, schemaEntry));
+            }
+
+            importResult.putImportResult(relationshipType, relationships.build());
+        }
+
+        return importResult.build();
+    }
+
+    private final class AdjacencyImporter {
+        private final int typeIndex;
+        private final long nodeCount;
+        private final long relationshipCount;
+        private final boolean isMultiGraph;
+        private HugeIntArray degrees;
+
+        private AdjacencyImporter(int typeIndex, long nodeCount, long relationshipCount, boolean isMultiGraph) {
+            this.typeIndex = typeIndex;
+            this.nodeCount = nodeCount;
+            this.relationshipCount = relationshipCount;
+            this.isMultiGraph = isMultiGraph;
+        }
+
+        Topology importTopology(DataInputStream manifest, boolean inverse) throws IOException {
+            var degreeColumn = open(inverse, DEGREES);
+            var offsetColumn = open(inverse, OFFSETS);
+            this.degrees = HugeIntArray.newArray(nodeCount);
+            degrees.setAll(nodeId -> degreeColumn.getInt(nodeId * Integer.BYTES));
+            var offsets = HugeLongArray.newArray(nodeCount);
+            offsets.setAll(nodeId -> offsetColumn.getLong(nodeId * Long.BYTES));
+
+            var pages = open(inverse, PAGES);
+            var pageAddresses = new long[manifest.readInt()];
+            for (int page = 0; page < pageAddresses.length; page++) {
+                pageAddresses[page] = pages.address(manifest.readLong());
+            }
+
+            var memoryInfo = ImmutableMemoryInfo.builder()
+                .pages(pageAddresses.length)
+                .bytesOnHeap(degrees.sizeOf() + offsets.sizeOf())
+                .bytesOffHeap(0)
+                .build();
+
+            var adjacencyList = CompressedAdjacencyList.ofExternalPages(
+                pageAddresses,
+                pages,
+                degrees,
+                offsets,
+                memoryInfo
+            );
+            return ImmutableTopology.of(adjacencyList, relationshipCount, isMultiGraph);
+        }
+
+        /**
+         * Must be called after the topology of the same direction has been imported, as it shares the degrees.
+         */
+        Optional<RelationshipPropertyStore> importProperties(
+            boolean inverse,
+            List<String> propertyKeys,
+            MutableRelationshipSchemaEntry schemaEntry
+        ) throws IOException {
+            if (propertyKeys.isEmpty()) {
+                return Optional.empty();
+            }
+
+            var propertyOffsets = open(inverse, PROPERTY_OFFSETS);
+            var propertyStore = RelationshipPropertyStore.builder();
+            for (int propertyIndex = 0; propertyIndex < propertyKeys.size(); propertyIndex++) {
+                var propertyKey = propertyKeys.get(propertyIndex);
+                var propertySchema = schemaEntry.properties().get(propertyKey);
+                var values = new MappedAdjacencyProperties(
+                    open(inverse, relationshipPropertyColumn(propertyIndex)),
+                    propertyOffsets,
+                    degrees
+                );
+                propertyStore.putRelationshipProperty(
+                    propertyKey,
+                    ImmutableRelationshipProperty.of(
+                        ImmutableProperties.of(values, relationshipCount, propertySchema.defaultValue().doubleValue()),
+                        propertySchema
+                    )
+                );
+            }
+            return Optional.of(propertyStore.build());
+        }
+
+        private MappedFile open(boolean inverse, String column) throws IOException {
+            return MappedFile.open(importPath.resolve(relationshipFileName(typeIndex, inverse, column)));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Buffered writer for a single column file. Values are written in native byte order.
+ */
+final class ColumnWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long position;
+
+    ColumnWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.nativeOrder());
+        this.position = 0;
+    }
+
+    long position() {
+        return position;
+    }
+
+    void writeLong(long value) throws IOException {
+        ensureCapacity(Long.BYTES);
+        buffer.putLong(value);
+        position += Long.BYTES;
+    }
+
+    void writeInt(int value) throws IOException {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(value);
+        position += Integer.BYTES;
+    }
+
+    void writeDouble(double value) throws IOException {
+        ensureCapacity(Double.BYTES);
+        buffer.putDouble(value);
+        position += Double.BYTES;
+    }
+
+    void writeFloat(float value) throws IOException {
+        ensureCapacity(Float.BYTES);
+        buffer.putFloat(value);
+        position += Float.BYTES;
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensureCapacity(1);
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+        position += bytes.length;
+    }
+
+    /**
+     * Writes zeros until the column reaches the given position.
+     */
+    void padTo(long targetPosition) throws IOException {
+        while (position < targetPosition) {
+            ensureCapacity(1);
+            int length = (int) Math.min(buffer.remaining(), targetPosition - position);
+            for (int i = 0; i < length; i++) {
+                buffer.put((byte) 0);
+            }
+            position += length;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,465 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.io.MetaDataStore;
+import org.neo4j.gds.core.io.file.csv.CsvGraphCapabilitiesWriter;
+import org.neo4j.gds.core.io.file.csv.CsvGraphInfoVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvGraphPropertySchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvNodeSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvRelationshipSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.UserInfoVisitor;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.DEGREES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.LENGTHS;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.MAGIC;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.MANIFEST_FILE_NAME;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.NODE_IDS_FILE_NAME;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.OFFSETS;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.PAGES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.PROPERTY_OFFSETS;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.VALUES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.VERSION;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.labelFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.nodePropertyFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.relationshipFileName;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.relationshipPropertyColumn;
+import static org.neo4j.gds.core.io.file.binary.MappedNodePropertyValues.MISSING_ARRAY;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a graph store into the binary format, which can be loaded by {@link BinaryToGraphStoreImporter}
+ * without parsing: node properties, relationship properties and the var-long encoded adjacency lists
+ * are memory-mapped directly from the written files.
+ */
+public final class GraphStoreToBinaryExporter {
+
+    private final GraphStore graphStore;
+    private final String userName;
+    private final Path exportPath;
+
+    public GraphStoreToBinaryExporter(GraphStore graphStore, String userName, Path exportPath) {
+        this.graphStore = graphStore;
+        this.userName = userName;
+        this.exportPath = exportPath;
+    }
+
+    public void run() {
+        if (!graphStore.graphPropertyKeys().isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The binary format does not support graph properties, but the graph has the properties %s.",
+                graphStore.graphPropertyKeys()
+            ));
+        }
+
+        try {
+            exportMetaData(MetaDataStore.of(graphStore));
+            try (var manifest = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(exportPath.resolve(
+                MANIFEST_FILE_NAME))))) {
+                manifest.writeInt(MAGIC);
+                manifest.writeInt(VERSION);
+                manifest.writeUTF(ByteOrder.nativeOrder().toString());
+                exportNodes(manifest);
+                exportRelationships(manifest);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void exportMetaData(MetaDataStore metaDataStore) throws IOException {
+        try (var userInfoVisitor = new UserInfoVisitor(exportPath)) {
+            userInfoVisitor.export(userName);
+        }
+        try (var graphInfoVisitor = new CsvGraphInfoVisitor(exportPath)) {
+            graphInfoVisitor.export(metaDataStore.graphInfo());
+        }
+        try (var nodeSchemaVisitor = new CsvNodeSchemaVisitor(exportPath)) {
+            metaDataStore.nodeSchema().entries().forEach(nodeEntry -> {
+                if (nodeEntry.properties().isEmpty()) {
+                    nodeSchemaVisitor.nodeLabel(nodeEntry.identifier());
+                    nodeSchemaVisitor.endOfEntity();
+                } else {
+                    nodeEntry.properties().forEach((propertyKey, propertySchema) -> {
+                        nodeSchemaVisitor.nodeLabel(nodeEntry.identifier());
+                        nodeSchemaVisitor.key(propertyKey);
+                        nodeSchemaVisitor.defaultValue(propertySchema.defaultValue());
+                        nodeSchemaVisitor.valueType(propertySchema.valueType());
+                        nodeSchemaVisitor.state(propertySchema.state());
+                        nodeSchemaVisitor.endOfEntity();
+                    });
+                }
+            });
+        }
+        try (var relationshipSchemaVisitor = new CsvRelationshipSchemaVisitor(exportPath)) {
+            metaDataStore.relationshipSchema().entries().forEach(relationshipEntry -> {
+                if (relationshipEntry.properties().isEmpty()) {
+                    relationshipSchemaVisitor.relationshipType(relationshipEntry.identifier());
+                    relationshipSchemaVisitor.direction(relationshipEntry.direction());
+                    relationshipSchemaVisitor.endOfEntity();
+                } else {
+                    relationshipEntry.properties().forEach((propertyKey, propertySchema) -> {
+                        relationshipSchemaVisitor.relationshipType(relationshipEntry.identifier());
+                        relationshipSchemaVisitor.direction(relationshipEntry.direction());
+                        relationshipSchemaVisitor.key(propertyKey);
+                        relationshipSchemaVisitor.defaultValue(propertySchema.defaultValue());
+                        relationshipSchemaVisitor.valueType(propertySchema.valueType());
+                        relationshipSchemaVisitor.aggregation(propertySchema.aggregation());
+                        relationshipSchemaVisitor.state(propertySchema.state());
+                        relationshipSchemaVisitor.endOfEntity();
+                    });
+                }
+            });
+        }
+        // the graph property schema is always empty, but the CSV loader expects the file
+        new CsvGraphPropertySchemaVisitor(exportPath).close();
+        new CsvGraphCapabilitiesWriter(exportPath).write(graphStore.capabilities());
+    }
+
+    private void exportNodes(DataOutputStream manifest) throws IOException {
+        IdMap idMap = graphStore.nodes();
+        long nodeCount = graphStore.nodeCount();
+        manifest.writeLong(nodeCount);
+
+        try (var ids = new ColumnWriter(exportPath.resolve(NODE_IDS_FILE_NAME))) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                ids.writeLong(idMap.toOriginalNodeId(nodeId));
+            }
+        }
+
+        // a graph without labels is stored without label columns
+        var nodeLabels = graphStore.nodeLabels();
+        List<NodeLabel> labels = nodeLabels.size() == 1 && nodeLabels.contains(NodeLabel.ALL_NODES)
+            ? List.of()
+            : new ArrayList<>(nodeLabels);
+        manifest.writeInt(labels.size());
+        for (int labelIndex = 0; labelIndex < labels.size(); labelIndex++) {
+            var label = labels.get(labelIndex);
+            manifest.writeUTF(label.name());
+            try (var bits = new ColumnWriter(exportPath.resolve(labelFileName(labelIndex)))) {
+                for (long wordStart = 0; wordStart < nodeCount; wordStart += Long.SIZE) {
+                    long word = 0L;
+                    long wordEnd = Math.min(nodeCount, wordStart + Long.SIZE);
+                    for (long nodeId = wordStart; nodeId < wordEnd; nodeId++) {
+                        if (idMap.hasLabel(nodeId, label)) {
+                            word |= 1L << (nodeId - wordStart);
+                        }
+                    }
+                    bits.writeLong(word);
+                }
+            }
+        }
+
+        var propertyKeys = new ArrayList<>(graphStore.nodePropertyKeys());
+        manifest.writeInt(propertyKeys.size());
+        for (int propertyIndex = 0; propertyIndex < propertyKeys.size(); propertyIndex++) {
+            var propertyKey = propertyKeys.get(propertyIndex);
+            var values = graphStore.nodeProperty(propertyKey).values();
+            manifest.writeUTF(propertyKey);
+            manifest.writeUTF(values.valueType().name());
+            exportNodeProperty(propertyIndex, values, nodeCount);
+        }
+    }
+
+    private void exportNodeProperty(int propertyIndex, NodePropertyValues values, long nodeCount) throws IOException {
+        var valueType = values.valueType();
+        try (var valueColumn = new ColumnWriter(exportPath.resolve(nodePropertyFileName(propertyIndex, VALUES)))) {
+            if (valueType == ValueType.LONG) {
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    valueColumn.writeLong(values.longValue(nodeId));
+                }
+                return;
+            }
+            if (valueType == ValueType.DOUBLE) {
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    valueColumn.writeDouble(values.doubleValue(nodeId));
+                }
+                return;
+            }
+            if (valueType != ValueType.LONG_ARRAY && valueType != ValueType.DOUBLE_ARRAY && valueType != ValueType.FLOAT_ARRAY) {
+                throw MappedNodePropertyValues.unsupportedValueType(valueType);
+            }
+
+            try (
+                var offsetColumn = new ColumnWriter(exportPath.resolve(nodePropertyFileName(propertyIndex, OFFSETS)));
+                var lengthColumn = new ColumnWriter(exportPath.resolve(nodePropertyFileName(propertyIndex, LENGTHS)))
+            ) {
+                long offset = 0;
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    offsetColumn.writeLong(offset);
+                    int length = writeArray(valueColumn, values, valueType, nodeId);
+                    lengthColumn.writeInt(length);
+                    offset += Math.max(length, 0);
+                }
+            }
+        }
+    }
+
+    private static int writeArray(
+        ColumnWriter valueColumn,
+        NodePropertyValues values,
+        ValueType valueType,
+        long nodeId
+    ) throws IOException {
+        switch (valueType) {
+            case LONG_ARRAY:
+                var longs = values.longArrayValue(nodeId);
+                if (longs == null) {
+                    return MISSING_ARRAY;
+                }
+                for (long value : longs) {
+                    valueColumn.writeLong(value);
+                }
+                return longs.length;
+            case DOUBLE_ARRAY:
+                var doubles = values.doubleArrayValue(nodeId);
+                if (doubles == null) {
+                    return MISSING_ARRAY;
+                }
+                for (double value : doubles) {
+                    valueColumn.writeDouble(value);
+                }
+                return doubles.length;
+            case FLOAT_ARRAY:
+                var floats = values.floatArrayValue(nodeId);
+                if (floats == null) {
+                    return MISSING_ARRAY;
+                }
+                for (float value : floats) {
+                    valueColumn.writeFloat(value);
+                }
+                return floats.length;
+            default:
+                throw MappedNodePropertyValues.unsupportedValueType(valueType);
+        }
+    }
+
+    private void exportRelationships(DataOutputStream manifest) throws IOException {
+        var relationshipTypes = new ArrayList<>(graphStore.relationshipTypes());
+        var inverseIndexedTypes = graphStore.inverseIndexedRelationshipTypes();
+        manifest.writeInt(relationshipTypes.size());
+
+        for (int typeIndex = 0; typeIndex < relationshipTypes.size(); typeIndex++) {
+            RelationshipType relationshipType = relationshipTypes.get(typeIndex);
+            var graph = graphStore.getGraph(relationshipType);
+            var propertyKeys = new ArrayList<>(graphStore.relationshipPropertyKeys(relationshipType));
+            var propertyGraphs = new ArrayList<Graph>(propertyKeys.size());
+
+            manifest.writeUTF(relationshipType.name());
+            manifest.writeLong(graph.relationshipCount());
+            manifest.writeBoolean(graph.isMultiGraph());
+            manifest.writeInt(propertyKeys.size());
+            for (var propertyKey : propertyKeys) {
+                manifest.writeUTF(propertyKey);
+                propertyGraphs.add(graphStore.getGraph(relationshipType, Optional.of(propertyKey)));
+            }
+
+            exportAdjacency(manifest, typeIndex, false, graph, propertyGraphs);
+
+            boolean inverseIndexed = inverseIndexedTypes.contains(relationshipType);
+            manifest.writeBoolean(inverseIndexed);
+            if (inverseIndexed) {
+                exportAdjacency(manifest, typeIndex, true, graph, propertyGraphs);
+            }
+        }
+    }
+
+    private void exportAdjacency(
+        DataOutputStream manifest,
+        int typeIndex,
+        boolean inverse,
+        Graph graph,
+        List<Graph> propertyGraphs
+    ) throws IOException {
+        long nodeCount = graph.nodeCount();
+        var targets = new TargetBuffer();
+        var properties = new PropertyBuffer();
+        var propertyColumns = new ColumnWriter[propertyGraphs.size()];
+
+        try (
+            var degrees = new ColumnWriter(exportPath.resolve(relationshipFileName(typeIndex, inverse, DEGREES)));
+            var offsets = new ColumnWriter(exportPath.resolve(relationshipFileName(typeIndex, inverse, OFFSETS)));
+            var pageColumn = new ColumnWriter(exportPath.resolve(relationshipFileName(typeIndex, inverse, PAGES)));
+            var propertyOffsets = new ColumnWriter(exportPath.resolve(relationshipFileName(
+                typeIndex,
+                inverse,
+                PROPERTY_OFFSETS
+            )))
+        ) {
+            for (int i = 0; i < propertyColumns.length; i++) {
+                propertyColumns[i] = new ColumnWriter(exportPath.resolve(relationshipFileName(
+                    typeIndex,
+                    inverse,
+                    relationshipPropertyColumn(i)
+                )));
+            }
+
+            var pages = new PageWriter(pageColumn);
+            long propertyOffset = 0;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                targets.length = 0;
+                if (inverse) {
+                    graph.forEachInverseRelationship(nodeId, targets);
+                } else {
+                    graph.forEachRelationship(nodeId, targets);
+                }
+
+                int degree = targets.length;
+                degrees.writeInt(degree);
+                offsets.writeLong(degree == 0
+                    ? 0L
+                    : pages.write(AdjacencyCompression.deltaEncodeAndCompress(targets.buffer, 0, degree, Aggregation.NONE))
+                );
+                propertyOffsets.writeLong(propertyOffset);
+                propertyOffset += degree;
+
+                for (int i = 0; i < propertyColumns.length; i++) {
+                    properties.length = 0;
+                    if (inverse) {
+                        propertyGraphs.get(i).forEachInverseRelationship(nodeId, Double.NaN, properties);
+                    } else {
+                        propertyGraphs.get(i).forEachRelationship(nodeId, Double.NaN, properties);
+                    }
+                    for (int j = 0; j < properties.length; j++) {
+                        propertyColumns[i].writeLong(Double.doubleToRawLongBits(properties.buffer[j]));
+                    }
+                }
+            }
+
+            manifest.writeInt(pages.pageCount);
+            for (int page = 0; page < pages.pageCount; page++) {
+                manifest.writeLong(pages.pagePositions[page]);
+            }
+        } finally {
+            for (var propertyColumn : propertyColumns) {
+                if (propertyColumn != null) {
+                    propertyColumn.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Lays out the encoded adjacency lists in pages the same way as {@link BumpAllocator}
+     * does, so that the written offsets can be used by the compressed adjacency list as they are.
+     * Pages are placed in the file such that no page crosses a segment of the {@link MappedFile}.
+     */
+    private static final class PageWriter {
+        private final ColumnWriter out;
+        private long[] pagePositions;
+        private int pageCount;
+        private int pageOffset;
+
+        private PageWriter(ColumnWriter out) {
+            this.out = out;
+            this.pagePositions = new long[16];
+            this.pageCount = 0;
+            // no page has been started yet
+            this.pageOffset = BumpAllocator.PAGE_SIZE;
+        }
+
+        long write(byte[] encodedTargets) throws IOException {
+            int length = encodedTargets.length;
+            if (length > BumpAllocator.PAGE_SIZE) {
+                long pageIndex = startPage(length);
+                out.writeBytes(encodedTargets);
+                this.pageOffset = BumpAllocator.PAGE_SIZE;
+                return pageIndex << BumpAllocator.PAGE_SHIFT;
+            }
+            if (pageOffset + length > BumpAllocator.PAGE_SIZE) {
+                startPage(BumpAllocator.PAGE_SIZE);
+                this.pageOffset = 0;
+            }
+            long offset = ((long) (pageCount - 1) << BumpAllocator.PAGE_SHIFT) | pageOffset;
+            out.writeBytes(encodedTargets);
+            this.pageOffset += length;
+            return offset;
+        }
+
+        private long startPage(long maxPageLength) throws IOException {
+            if (maxPageLength > MappedFile.SEGMENT_SIZE) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The binary format does not support adjacency lists larger than %d bytes, got %d bytes.",
+                    MappedFile.SEGMENT_SIZE,
+                    maxPageLength
+                ));
+            }
+            long position = MappedFile.alignToSegment(out.position(), maxPageLength);
+            out.padTo(position);
+            if (pageCount == pagePositions.length) {
+                pagePositions = Arrays.copyOf(pagePositions, pageCount * 2);
+            }
+            pagePositions[pageCount] = position;
+            return pageCount++;
+        }
+    }
+
+    private static final class TargetBuffer implements RelationshipConsumer {
+        private long[] buffer = new long[64];
+        private int length;
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, length * 2);
+            }
+            buffer[length++] = targetNodeId;
+            return true;
+        }
+    }
+
+    private static final class PropertyBuffer implements RelationshipWithPropertyConsumer {
+        private double[] buffer = new double[64];
+        private int length;
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, length * 2);
+            }
+            buffer[length++] = property;
+            return true;
+        }
+    }
+}
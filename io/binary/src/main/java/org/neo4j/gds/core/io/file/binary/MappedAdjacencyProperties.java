@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.collections.ha.HugeIntArray;
+
+/**
+ * Relationship properties that are read directly from a memory-mapped column.
+ * The properties of all relationships are stored back to back in the order of the adjacency lists,
+ * and a second column holds the index of the first property of each node.
+ */
+final class MappedAdjacencyProperties implements AdjacencyProperties {
+
+    private final MappedFile values;
+    private final MappedFile offsets;
+    private final HugeIntArray degrees;
+
+    MappedAdjacencyProperties(MappedFile values, MappedFile offsets, HugeIntArray degrees) {
+        this.values = values;
+        this.offsets = offsets;
+        this.degrees = degrees;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        var cursor = new Cursor(values);
+        cursor.init(offsets.getLong(node * Long.BYTES), degrees.get(node));
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        if (reuse instanceof Cursor) {
+            reuse.init(offsets.getLong(node * Long.BYTES), degrees.get(node));
+            return reuse;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        return new Cursor(values);
+    }
+
+    private static final class Cursor implements PropertyCursor {
+
+        private final MappedFile values;
+        private long position;
+        private int remaining;
+
+        private Cursor(MappedFile values) {
+            this.values = values;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            this.position = index * Long.BYTES;
+            this.remaining = degree;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return remaining > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            long value = values.getLong(position);
+            position += Long.BYTES;
+            remaining--;
+            return value;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only, memory-mapped column file.
+ * <p>
+ * The file is mapped in segments of {@link #SEGMENT_SIZE} bytes, since a single mapping
+ * cannot exceed 2GB. Values never cross a segment boundary as long as they are aligned
+ * to their own size, which holds for all columns written by {@link ColumnWriter}.
+ * The mapping is released by the garbage collector once the file is no longer reachable.
+ */
+final class MappedFile {
+
+    static final int SEGMENT_SHIFT = 30;
+    static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final ByteBuffer[] segments;
+
+    static MappedFile open(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int segmentCount = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            var segments = new ByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long position = (long) i << SEGMENT_SHIFT;
+                long length = Math.min(SEGMENT_SIZE, size - position);
+                segments[i] = channel
+                    .map(FileChannel.MapMode.READ_ONLY, position, length)
+                    .order(ByteOrder.nativeOrder());
+            }
+            return new MappedFile(segments);
+        }
+    }
+
+    /**
+     * Returns the first position at or after {@code position} at which
+     * {@code length} bytes can be read without crossing a segment boundary.
+     */
+    static long alignToSegment(long position, long length) {
+        long segmentEnd = (position | SEGMENT_MASK) + 1;
+        return position + length > segmentEnd ? segmentEnd : position;
+    }
+
+    private MappedFile(ByteBuffer[] segments) {
+        this.segments = segments;
+    }
+
+    long getLong(long position) {
+        return segment(position).getLong(indexInSegment(position));
+    }
+
+    int getInt(long position) {
+        return segment(position).getInt(indexInSegment(position));
+    }
+
+    double getDouble(long position) {
+        return segment(position).getDouble(indexInSegment(position));
+    }
+
+    float getFloat(long position) {
+        return segment(position).getFloat(indexInSegment(position));
+    }
+
+    /**
+     * Returns the native address of the given position.
+     * Reads starting at the address must not cross the segment boundary.
+     */
+    long address(long position) {
+        return UnsafeUtil.getDirectByteBufferAddress(segment(position)) + indexInSegment(position);
+    }
+
+    private ByteBuffer segment(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)];
+    }
+
+    private static int indexInSegment(long position) {
+        return (int) (position & SEGMENT_MASK);
+    }
+}
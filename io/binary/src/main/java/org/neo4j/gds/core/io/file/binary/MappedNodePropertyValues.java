@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.LENGTHS;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.OFFSETS;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.VALUES;
+import static org.neo4j.gds.core.io.file.binary.BinaryFormat.nodePropertyFileName;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Node property values that are read directly from memory-mapped columns.
+ * <p>
+ * Scalar properties are a single column indexed by node id.
+ * Array properties use an offset and a length column per node, pointing into a shared value column.
+ * A length of {@code -1} marks a missing array.
+ */
+final class MappedNodePropertyValues {
+
+    static final int MISSING_ARRAY = -1;
+
+    private MappedNodePropertyValues() {}
+
+    static NodePropertyValues open(
+        Path importPath,
+        int propertyIndex,
+        ValueType valueType,
+        long nodeCount
+    ) throws IOException {
+        var values = MappedFile.open(importPath.resolve(nodePropertyFileName(propertyIndex, VALUES)));
+        switch (valueType) {
+            case LONG:
+                return new MappedLongValues(values, nodeCount);
+            case DOUBLE:
+                return new MappedDoubleValues(values, nodeCount);
+            case LONG_ARRAY:
+                return new MappedLongArrayValues(arrayIndex(importPath, propertyIndex, values), nodeCount);
+            case DOUBLE_ARRAY:
+                return new MappedDoubleArrayValues(arrayIndex(importPath, propertyIndex, values), nodeCount);
+            case FLOAT_ARRAY:
+                return new MappedFloatArrayValues(arrayIndex(importPath, propertyIndex, values), nodeCount);
+            default:
+                throw unsupportedValueType(valueType);
+        }
+    }
+
+    static IllegalArgumentException unsupportedValueType(ValueType valueType) {
+        return new IllegalArgumentException(formatWithLocale(
+            "The binary format does not support node properties of type `%s`.",
+            valueType
+        ));
+    }
+
+    private static ArrayIndex arrayIndex(Path importPath, int propertyIndex, MappedFile values) throws IOException {
+        return new ArrayIndex(
+            MappedFile.open(importPath.resolve(nodePropertyFileName(propertyIndex, OFFSETS))),
+            MappedFile.open(importPath.resolve(nodePropertyFileName(propertyIndex, LENGTHS))),
+            values
+        );
+    }
+
+    private static final class ArrayIndex {
+        private final MappedFile offsets;
+        private final MappedFile lengths;
+        private final MappedFile values;
+
+        private ArrayIndex(MappedFile offsets, MappedFile lengths, MappedFile values) {
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.values = values;
+        }
+
+        long offset(long nodeId) {
+            return offsets.getLong(nodeId * Long.BYTES);
+        }
+
+        int length(long nodeId) {
+            return lengths.getInt(nodeId * Integer.BYTES);
+        }
+    }
+
+    private static final class MappedLongValues implements LongNodePropertyValues {
+        private final MappedFile values;
+        private final long nodeCount;
+
+        private MappedLongValues(MappedFile values, long nodeCount) {
+            this.values = values;
+            this.nodeCount = nodeCount;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return values.getLong(nodeId * Long.BYTES);
+        }
+
+        @Override
+        public long nodeCount() {
+            return nodeCount;
+        }
+    }
+
+    private static final class MappedDoubleValues implements DoubleNodePropertyValues {
+        private final MappedFile values;
+        private final long nodeCount;
+
+        private MappedDoubleValues(MappedFile values, long nodeCount) {
+            this.values = values;
+            this.nodeCount = nodeCount;
+        }
+
+        @Override
+        public double doubleValue(long nodeId) {
+            return values.getDouble(nodeId * Double.BYTES);
+        }
+
+        @Override
+        public long nodeCount() {
+            return nodeCount;
+        }
+    }
+
+    private static final class MappedLongArrayValues implements LongArrayNodePropertyValues {
+        private final ArrayIndex index;
+        private final long nodeCount;
+
+        private MappedLongArrayValues(ArrayIndex index, long nodeCount) {
+            this.index = index;
+            this.nodeCount = nodeCount;
+        }
+
+        @Override
+        public @Nullable long[] longArrayValue(long nodeId) {
+            int length = index.length(nodeId);
+            if (length == MISSING_ARRAY) {
+                return null;
+            }
+            long position = index.offset(nodeId) * Long.BYTES;
+            var value = new long[length];
+            for (int i = 0; i < length; i++) {
+                value[i] = index.values.getLong(position + (long) i * Long.BYTES);
+            }
+            return value;
+        }
+
+        @Override
+        public long nodeCount() {
+            return nodeCount;
+        }
+    }
+
+    private static final class MappedDoubleArrayValues implements DoubleArrayNodePropertyValues {
+        private final ArrayIndex index;
+        private final long nodeCount;
+
+        private MappedDoubleArrayValues(ArrayIndex index, long nodeCount) {
+            this.index = index;
+            this.nodeCount = nodeCount;
+        }
+
+        @Override
+        public @Nullable double[] doubleArrayValue(long nodeId) {
+            int length = index.length(nodeId);
+            if (length == MISSING_ARRAY) {
+                return null;
+            }
+            long position = index.offset(nodeId) * Double.BYTES;
+            var value = new double[length];
+            for (int i = 0; i < length; i++) {
+                value[i] = index.values.getDouble(position + (long) i * Double.BYTES);
+            }
+            return value;
+        }
+
+        @Override
+        public long nodeCount() {
+            return nodeCount;
+        }
+    }
+
+    private static final class MappedFloatArrayValues implements FloatArrayNodePropertyValues {
+        private final ArrayIndex index;
+        private final long nodeCount;
+
+        private MappedFloatArrayValues(ArrayIndex index, long nodeCount) {
+            this.index = index;
+            this.nodeCount = nodeCount;
+        }
+
+        @Override
+        public @Nullable float[] floatArrayValue(long nodeId) {
+            int length = index.length(nodeId);
+            if (length == MISSING_ARRAY) {
+                return null;
+            }
+            long position = index.offset(nodeId) * Float.BYTES;
+            var value = new float[length];
+            for (int i = 0; i < length; i++) {
+                value[i] = index.values.getFloat(position + (long) i * Float.BYTES);
+            }
+            return value;
+        }
+
+        @Override
+        public long nodeCount() {
+            return nodeCount;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+class BinaryToGraphStoreImporterTest {
+
+    private static final String GRAPH_WITH_PROPERTIES =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42.0, prop3: [0.30000001192092896D, 0.20000000298023224D], prop4: [1L, 2L], prop5: [1.0F, 2.5F] })" +
+        ", (b:A:B { prop1: 1, prop2: 43.0, prop4: [3L] })" +
+        ", (c:A:C { prop1: 2, prop2: 44.0, prop3: [-0.04D] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 3, prop4: 45 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 4, prop4: 46 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 5, prop4: 47 }]->(a)";
+
+    @TempDir
+    Path graphLocation;
+
+    @Test
+    void shouldImportGraphStoreWithProperties() {
+        var graphStore = GdlFactory.of(GRAPH_WITH_PROPERTIES).build();
+
+        new GraphStoreToBinaryExporter(graphStore, "alice", graphLocation).run();
+        var userGraphStore = new BinaryToGraphStoreImporter(1, graphLocation).run();
+        var importedGraphStore = userGraphStore.graphStore();
+
+        assertThat(userGraphStore.userName()).isEqualTo("alice");
+        assertThat(importedGraphStore.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            for (var propertyKey : graphStore.relationshipPropertyKeys(relationshipType)) {
+                assertGraphEquals(
+                    graphStore.getGraph(relationshipType, Optional.of(propertyKey)),
+                    importedGraphStore.getGraph(relationshipType, Optional.of(propertyKey))
+                );
+            }
+        }
+    }
+
+    @Test
+    void shouldKeepMappedNodeIds() {
+        var graphFactory = GdlFactory.of(GRAPH_WITH_PROPERTIES);
+        var graphStore = graphFactory.build();
+
+        new GraphStoreToBinaryExporter(graphStore, "", graphLocation).run();
+        var importedGraphStore = new BinaryToGraphStoreImporter(1, graphLocation).run().graphStore();
+
+        LongStream.range(0, graphStore.nodeCount()).forEach(nodeId -> assertThat(importedGraphStore
+            .nodes()
+            .toOriginalNodeId(nodeId)).isEqualTo(graphStore.nodes().toOriginalNodeId(nodeId)));
+
+        var nodeA = graphFactory.nodeId("a");
+        var nodeD = graphFactory.nodeId("d");
+        var properties = importedGraphStore.nodeProperty("prop4").values();
+        assertThat(properties.longArrayValue(nodeA)).containsExactly(1L, 2L);
+        assertThat(properties.longArrayValue(nodeD)).isNull();
+        assertThat(importedGraphStore.nodeProperty("prop5").values().floatArrayValue(nodeA)).containsExactly(1.0F, 2.5F);
+        assertThat(importedGraphStore.nodeProperty("prop3").values().doubleArrayValue(nodeD)).isNull();
+    }
+
+    @Test
+    void shouldImportInverseIndexedRelationships() {
+        var graphStore = GdlFactory.builder()
+            .graphProjectConfig(ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph("(a)-[:REL]->(b)-[:REL]->(c),(a)-[:REL]->(c)")
+                .graphName("test")
+                .indexInverse(true)
+                .build()
+            ).build()
+            .build();
+
+        new GraphStoreToBinaryExporter(graphStore, "", graphLocation).run();
+        var importedGraphStore = new BinaryToGraphStoreImporter(1, graphLocation).run().graphStore();
+
+        var relationshipType = RelationshipType.of("REL");
+        assertThat(importedGraphStore.inverseIndexedRelationshipTypes()).containsExactly(relationshipType);
+
+        var expected = graphStore.getGraph(relationshipType);
+        var actual = importedGraphStore.getGraph(relationshipType);
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            assertThat(inverseTargets(actual, nodeId)).isEqualTo(inverseTargets(expected, nodeId));
+        }
+    }
+
+    @Test
+    void shouldImportAdjacencyListsSpanningMultiplePages() throws IOException {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(100)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(42L)
+            .build()
+            .generate();
+        var graphStore = CSRGraphStoreUtil.createFromGraph(DatabaseId.random(), graph, Optional.empty(), 1);
+
+        new GraphStoreToBinaryExporter(graphStore, "", graphLocation).run();
+        var importedGraphStore = new BinaryToGraphStoreImporter(4, graphLocation).run().graphStore();
+
+        var pagesFile = graphLocation.resolve(BinaryFormat.relationshipFileName(0, false, BinaryFormat.PAGES));
+        assertThat(Files.size(pagesFile)).isGreaterThan(BumpAllocator.PAGE_SIZE);
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldFailForGraphProperties() {
+        var graphStore = GdlFactory.of("()").build();
+        graphStore.addGraphProperty("answer", new LongGraphPropertyValues() {
+            @Override
+            public LongStream longValues() {
+                return LongStream.of(42L);
+            }
+
+            @Override
+            public long valueCount() {
+                return 1;
+            }
+        });
+
+        assertThatThrownBy(() -> new GraphStoreToBinaryExporter(graphStore, "", graphLocation).run())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not support graph properties");
+    }
+
+    private static List<Long> inverseTargets(Graph graph, long nodeId) {
+        var targets = new ArrayList<Long>();
+        graph.forEachInverseRelationship(nodeId, (source, target) -> targets.add(target));
+        return targets;
+    }
+}
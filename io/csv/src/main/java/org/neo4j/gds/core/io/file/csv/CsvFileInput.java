@@ -59,7 +59,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-final class CsvFileInput implements FileInput {
+public final class CsvFileInput implements FileInput {
 
     private static final char COLUMN_SEPARATOR = ',';
     private static final String ARRAY_ELEMENT_SEPARATOR = ";";
@@ -88,7 +88,7 @@ final class CsvFileInput implements FileInput {
     private final Map<String, PropertySchema> graphPropertySchema;
     private final Capabilities capabilities;
 
-    CsvFileInput(Path importPath) {
+    public CsvFileInput(Path importPath) {
         this.importPath = importPath;
         this.userName = new UserInfoLoader(importPath).load();
         this.graphInfo = new GraphInfoLoader(importPath, CSV_MAPPER).load();
@@ -75,6 +75,8 @@ public class Splitter {
         for (int featureIdx : featureBag) {
             // By doing a sort of the group by this particular feature, all possible splits will simply be represented
             // by each index in the ordered group.
+            // The sort is serial on purpose, as random forests already train one tree per thread, and it only needs
+            // the preallocated `sortCache` instead of the key and buffer arrays that `HugeRadixSort` would allocate.
             HugeSerialIndirectMergeSort.sort(rightChildArray, group.size(), (long l) -> features.get(l)[featureIdx], sortCache);
 
             group.impurityData().copyTo(rightImpurityData);
@@ -21,7 +21,7 @@ package org.neo4j.gds.ml.nodePropertyPrediction;
 
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.collections.ha.HugeLongArray;
-import org.neo4j.gds.core.utils.paged.HugeMergeSort;
+import org.neo4j.gds.core.utils.paged.HugeRadixSort;
 import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.splitting.FractionSplitter;
@@ -61,7 +61,7 @@ public final class NodeSplitter {
         // sorting the internal id's by the corresponding originalIds makes this deterministic
         // based on the original node-id space -- supporting different graph-projections
         allTrainingExamples.setAll(toOriginalId);
-        HugeMergeSort.sort(allTrainingExamples, concurrency);
+        HugeRadixSort.sort(allTrainingExamples, concurrency);
         allTrainingExamples.setAll(i -> toMappedId.applyAsLong(allTrainingExamples.get(i)));
 
         ShuffleUtil.shuffleArray(allTrainingExamples, createRandomDataGenerator(randomSeed));
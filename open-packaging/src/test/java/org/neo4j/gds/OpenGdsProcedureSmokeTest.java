@@ -48,6 +48,8 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.graph.nodeLabel.mutate",
         "gds.alpha.graph.nodeLabel.write",
 
+        "gds.alpha.graph.refresh",
+
         "gds.graph.sample.rwr",
         "gds.graph.sample.cnarw",
         "gds.graph.sample.cnarw.estimate",
@@ -582,7 +584,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 426;
+        int expectedCount = 427;
         assertEquals(
             expectedCount,
             returnedRows,
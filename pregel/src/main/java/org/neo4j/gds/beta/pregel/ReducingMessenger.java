@@ -25,6 +25,7 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicArrays;
 import org.neo4j.gds.core.utils.paged.ParallelDoublePageCreator;
 
 /**
@@ -49,8 +50,8 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         this.config = config;
         this.reducer = reducer;
 
-        this.receiveArray = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
-        this.sendArray = HugeAtomicDoubleArray.of(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
+        this.receiveArray = HugeAtomicArrays.doubleArray(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
+        this.sendArray = HugeAtomicArrays.doubleArray(graph.nodeCount(), ParallelDoublePageCreator.passThrough(config.concurrency()));
     }
 
     static MemoryEstimation memoryEstimation() {
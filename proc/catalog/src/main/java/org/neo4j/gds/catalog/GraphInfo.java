@@ -51,6 +51,7 @@ public class GraphInfo {
     @Deprecated(forRemoval = true)
     public final Map<String, Object> schema;
     public final Map<String, Object> schemaWithOrientation;
+    public final Map<String, Object> compression;
 
     GraphInfo(
         String graphName,
@@ -63,7 +64,8 @@ public class GraphInfo {
         ZonedDateTime creationTime,
         ZonedDateTime modificationTime,
         Map<String, Object> schema,
-        Map<String, Object> schemaWithOrientation
+        Map<String, Object> schemaWithOrientation,
+        Map<String, Object> compression
     ) {
         this.graphName = graphName;
         this.database = database;
@@ -76,6 +78,7 @@ public class GraphInfo {
         this.modificationTime = modificationTime;
         this.schema = schema;
         this.schemaWithOrientation = schemaWithOrientation;
+        this.compression = compression;
         this.configuration = configuration;
     }
 
@@ -129,10 +132,25 @@ public class GraphInfo {
             graphProjectConfig.creationTime(),
             graphStore.modificationTime(),
             graphStore.schema().toMapOld(),
-            graphStore.schema().toMap()
+            graphStore.schema().toMap(),
+            compression(graphStore)
         );
     }
 
+    /**
+     * The compression that has been used for the adjacency lists of each relationship type.
+     */
+    private static Map<String, Object> compression(GraphStore graphStore) {
+        var compression = new HashMap<String, Object>();
+        graphStore.relationshipTypes().forEach(relationshipType -> graphStore
+            .relationships(relationshipType)
+            .ifPresent(relationships -> compression.put(
+                relationshipType.name(),
+                relationships.topology().adjacencyList().compression().name()
+            )));
+        return compression;
+    }
+
     static final class Visitor implements
         GraphProjectConfig.Visitor,
         GraphProjectFromCypherAggregationConfig.Visitor {
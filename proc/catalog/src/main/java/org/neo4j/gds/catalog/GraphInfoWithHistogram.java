@@ -45,7 +45,8 @@ public class GraphInfoWithHistogram extends GraphInfo {
             graphInfo.creationTime,
             graphInfo.modificationTime,
             graphInfo.schema,
-            graphInfo.schemaWithOrientation
+            graphInfo.schemaWithOrientation,
+            graphInfo.compression
         );
         this.degreeDistribution = degreeDistribution;
     }
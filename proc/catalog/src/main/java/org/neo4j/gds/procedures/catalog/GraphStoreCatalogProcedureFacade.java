@@ -26,6 +26,7 @@ import org.neo4j.gds.applications.graphstorecatalog.GraphMemoryUsage;
 import org.neo4j.gds.applications.graphstorecatalog.GraphStoreCatalogBusinessFacade;
 import org.neo4j.gds.applications.graphstorecatalog.GraphStreamNodePropertiesResult;
 import org.neo4j.gds.applications.graphstorecatalog.MutateLabelResult;
+import org.neo4j.gds.applications.graphstorecatalog.RefreshGraphResult;
 import org.neo4j.gds.catalog.GraphDropGraphPropertiesResult;
 import org.neo4j.gds.catalog.GraphInfo;
 import org.neo4j.gds.catalog.GraphInfoWithHistogram;
@@ -460,6 +461,15 @@ public class GraphStoreCatalogProcedureFacade {
         return Stream.of(result);
     }
 
+    public Stream<RefreshGraphResult> refreshGraph(String graphName, Map<String, Object> configuration) {
+        var user = user();
+        var databaseId = databaseId();
+
+        var result = businessFacade.refreshGraph(user, databaseId, graphName, configuration);
+
+        return Stream.of(result);
+    }
+
     public Stream<StreamGraphPropertyResult> streamGraphProperty(
         String graphName,
         String graphProperty,
@@ -45,6 +45,7 @@ import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -138,19 +139,20 @@ final class GraphInfoTest {
 
         assertThat(graphInfo.creationTime).isEqualTo(creationTime);
         assertThat(graphInfo.configuration).containsExactlyInAnyOrderEntriesOf(
-            Map.of(
-                "creationTime", creationTime,
-                "jobId", "some job",
-                "logProgress", true,
-                "nodeProjection", Map.of(
+            Map.ofEntries(
+                entry("creationTime", creationTime),
+                entry("jobId", "some job"),
+                entry("logProgress", true),
+                entry("nodeProjection", Map.of(
                     "A", Map.of(
                         "label", "A",
                         "properties", emptyMap()
                     )
-                ),
-                "nodeProperties", emptyMap(),
-                "readConcurrency", 4,
-                "relationshipProjection", Map.of(
+                )),
+                entry("nodeProperties", emptyMap()),
+                entry("nodeOrdering", "NONE"),
+                entry("readConcurrency", 4),
+                entry("relationshipProjection", Map.of(
                     "REL", Map.of(
                         "type", "REL",
                         "orientation", "NATURAL",
@@ -158,10 +160,10 @@ final class GraphInfoTest {
                         "indexInverse", false,
                         "properties", emptyMap()
                     )
-                ),
-                "relationshipProperties", emptyMap(),
-                "sudo", false,
-                "validateRelationships", false
+                )),
+                entry("relationshipProperties", emptyMap()),
+                entry("sudo", false),
+                entry("validateRelationships", false)
             )
         );
         assertThat(graphInfo.database).isEqualTo("some database");
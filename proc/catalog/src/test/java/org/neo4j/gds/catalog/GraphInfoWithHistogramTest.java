@@ -28,6 +28,7 @@ import java.time.ZonedDateTime;
 import java.util.Map;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class GraphInfoWithHistogramTest {
@@ -68,19 +69,20 @@ class GraphInfoWithHistogramTest {
 
         assertThat(graphInfoWithHistogram.creationTime).isEqualTo(creationTime);
         assertThat(graphInfoWithHistogram.configuration).containsExactlyInAnyOrderEntriesOf(
-            Map.of(
-                "creationTime", creationTime,
-                "jobId", "some job",
-                "logProgress", true,
-                "nodeProjection", Map.of(
+            Map.ofEntries(
+                entry("creationTime", creationTime),
+                entry("jobId", "some job"),
+                entry("logProgress", true),
+                entry("nodeProjection", Map.of(
                     "A", Map.of(
                         "label", "A",
                         "properties", emptyMap()
                     )
-                ),
-                "nodeProperties", emptyMap(),
-                "readConcurrency", 4,
-                "relationshipProjection", Map.of(
+                )),
+                entry("nodeProperties", emptyMap()),
+                entry("nodeOrdering", "NONE"),
+                entry("readConcurrency", 4),
+                entry("relationshipProjection", Map.of(
                     "REL", Map.of(
                         "type", "REL",
                         "orientation", "NATURAL",
@@ -88,10 +90,10 @@ class GraphInfoWithHistogramTest {
                         "indexInverse", false,
                         "properties", emptyMap()
                     )
-                ),
-                "relationshipProperties", emptyMap(),
-                "sudo", false,
-                "validateRelationships", false
+                )),
+                entry("relationshipProperties", emptyMap()),
+                entry("sudo", false),
+                entry("validateRelationships", false)
             )
         );
         assertThat(graphInfoWithHistogram.database).isEqualTo("some database");
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphListCompressionProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A)" +
+        ", (b:A)" +
+        ", (a)-[:REL]->(b)" +
+        ", (b)-[:OTHER]->(a)";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registerProcedures(
+            GraphProjectProc.class,
+            GraphListProc.class
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldListCompressionPerRelationshipType() {
+        runQuery(
+            "CALL gds.graph.project('graph', 'A', {" +
+            "  REL: {compression: 'VAR_LONG'}," +
+            "  OTHER: {compression: 'UNCOMPRESSED'}" +
+            "})"
+        );
+
+        runQueryWithRowConsumer(
+            "CALL gds.graph.list('graph') YIELD compression",
+            row -> assertThat(row.get("compression")).isEqualTo(Map.of(
+                "REL", "VAR_LONG",
+                "OTHER", "UNCOMPRESSED"
+            ))
+        );
+    }
+}
@@ -30,6 +30,7 @@ import org.neo4j.gds.BaseProcTest;
 import org.neo4j.gds.GdsCypher;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.test.TestProc;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -63,12 +64,17 @@ class GraphProjectProcEstimateTest extends BaseProcTest {
 
     @BeforeEach
     void setup() throws Exception {
+        // the expected values below assume an array id map and var-long compressed adjacency lists
+        GdsFeatureToggles.USE_BIT_ID_MAP.toggle(false);
+        GdsFeatureToggles.USE_ADAPTIVE_ADJACENCY_COMPRESSION.toggle(false);
         registerProcedures(GraphProjectProc.class, TestProc.class);
         runQuery(DB_CYPHER_ESTIMATE);
     }
 
     @AfterEach
     void tearDown() {
+        GdsFeatureToggles.USE_BIT_ID_MAP.reset();
+        GdsFeatureToggles.USE_ADAPTIVE_ADJACENCY_COMPRESSION.reset();
         GraphStoreCatalog.removeAllLoadedGraphs();
     }
 
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphRefreshProcTest extends BaseProcTest {
+
+    @Neo4jGraph(offsetIds = true)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A)" +
+        ", (b:A)" +
+        ", (c:A)" +
+        ", (a)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)";
+
+    @Inject
+    IdFunction idFunction;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registerProcedures(
+            GraphProjectProc.class,
+            GraphListProc.class,
+            GraphRefreshProc.class
+        );
+        runQuery("CALL gds.graph.project('graph', 'A', 'REL')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void refreshGraph() {
+        var query =
+            "CALL gds.alpha.graph.refresh('graph', {" +
+            "  removedNodes: [$c]," +
+            "  addedRelationships: [{sourceNodeId: $b, targetNodeId: $a}]" +
+            "}) YIELD graphName, nodeCount, relationshipCount, nodeCountDelta, relationshipCountDelta";
+
+        assertCypherResult(
+            query,
+            Map.of("a", idFunction.of("a"), "b", idFunction.of("b"), "c", idFunction.of("c")),
+            List.of(Map.of(
+                "graphName", "graph",
+                "nodeCount", 2L,
+                "relationshipCount", 2L,
+                "nodeCountDelta", -1L,
+                "relationshipCountDelta", 0L
+            ))
+        );
+
+        runQueryWithRowConsumer(
+            "CALL gds.graph.list('graph') YIELD nodeCount, relationshipCount",
+            row -> {
+                assertThat(row.getNumber("nodeCount")).isEqualTo(2L);
+                assertThat(row.getNumber("relationshipCount")).isEqualTo(2L);
+            }
+        );
+    }
+
+    @Test
+    void emptyRefreshKeepsGraph() {
+        var graphStore = GraphStoreCatalog.getAllGraphStores().findFirst().orElseThrow().graphStore();
+
+        runQuery("CALL gds.alpha.graph.refresh('graph')");
+
+        assertThat(GraphStoreCatalog.getAllGraphStores().findFirst().orElseThrow().graphStore()).isSameAs(graphStore);
+    }
+}
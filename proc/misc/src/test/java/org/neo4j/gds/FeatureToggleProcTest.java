@@ -87,9 +87,9 @@ class FeatureToggleProcTest extends BaseProcTest {
         USE_PARTITIONED_SCAN.reset();
         assertCypherResult(
             "CALL gds.features.usePartitionedScan.reset()",
-            List.of(Map.of("enabled", false))
+            List.of(Map.of("enabled", true))
         );
-        assertFalse(USE_PARTITIONED_SCAN.isEnabled());
+        assertTrue(USE_PARTITIONED_SCAN.isEnabled());
     }
 
     @Test
@@ -38,6 +38,7 @@ import org.neo4j.gds.applications.graphstorecatalog.ListGraphService;
 import org.neo4j.gds.applications.graphstorecatalog.NativeProjectService;
 import org.neo4j.gds.applications.graphstorecatalog.NodeLabelMutatorService;
 import org.neo4j.gds.applications.graphstorecatalog.PreconditionsService;
+import org.neo4j.gds.applications.graphstorecatalog.RefreshGraphService;
 import org.neo4j.gds.applications.graphstorecatalog.StreamNodePropertiesApplication;
 import org.neo4j.gds.applications.graphstorecatalog.SubGraphProjectService;
 import org.neo4j.gds.beta.filter.GraphStoreFilterService;
@@ -135,6 +136,7 @@ public class ProcedureFacadeProvider implements ThrowingFunction<Context, GraphS
         var dropRelationshipsService = new DropRelationshipsService(log);
         var nodeLabelMutatorService = new NodeLabelMutatorService();
         var streamNodePropertiesApplication = new StreamNodePropertiesApplication(log);
+        var refreshGraphService = new RefreshGraphService(graphStoreCatalogService);
 
         // GDS business facade
         GraphStoreCatalogBusinessFacade businessFacade = new DefaultGraphStoreCatalogBusinessFacade(
@@ -152,7 +154,8 @@ public class ProcedureFacadeProvider implements ThrowingFunction<Context, GraphS
             dropNodePropertiesService,
             dropRelationshipsService,
             nodeLabelMutatorService,
-            streamNodePropertiesApplication
+            streamNodePropertiesApplication,
+            refreshGraphService
         );
 
         // wrap in decorator to enable preconditions checks
@@ -45,6 +45,7 @@ import org.opencypher.v9_0.parser.javacc.ParseException;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
@@ -95,27 +96,48 @@ public final class GraphStoreFilter {
 
         var inputNodes = graphStore.nodes();
 
+        if (!config.materialize()) {
+            return filterView(graphStore, expressions, config, executorService, progressTracker);
+        }
+
         progressTracker.beginSubTask();
         try {
-            var filteredNodes = NodesFilter.filterNodes(
+            // Node filters that accept everything share the id mapping and properties of the input graph store.
+            var sharedNodes = acceptsAll(expressions.nodeExpression())
+                ? NodesFilter.shareNodes(graphStore, progressTracker)
+                : Optional.<NodesFilter.FilteredNodes>empty();
+
+            var filteredNodes = sharedNodes.orElseGet(() -> NodesFilter.filterNodes(
                 graphStore,
                 expressions.nodeExpression(),
                 config.concurrency(),
                 config.parameters(),
                 executorService,
                 progressTracker
-            );
+            ));
 
-            var filteredRelationships = RelationshipsFilter.filterRelationships(
-                graphStore,
-                expressions.relationshipExpression(),
-                inputNodes,
-                filteredNodes.idMap(),
-                config.concurrency(),
-                config.parameters(),
-                executorService,
-                progressTracker
-            );
+            // Relationship types that are accepted entirely share their topology, if the id mapping is shared.
+            var filteredRelationships = sharedNodes.isPresent()
+                ? RelationshipsFilter.shareOrFilterRelationships(
+                    graphStore,
+                    expressions.relationshipExpression(),
+                    inputNodes,
+                    filteredNodes.idMap(),
+                    config.concurrency(),
+                    config.parameters(),
+                    executorService,
+                    progressTracker
+                )
+                : RelationshipsFilter.filterRelationships(
+                    graphStore,
+                    expressions.relationshipExpression(),
+                    inputNodes,
+                    filteredNodes.idMap(),
+                    config.concurrency(),
+                    config.parameters(),
+                    executorService,
+                    progressTracker
+                );
 
             var filteredSchema = filterSchema(graphStore.schema(), filteredNodes, filteredRelationships.keySet());
 
@@ -132,6 +154,53 @@ public final class GraphStoreFilter {
         }
     }
 
+    /**
+     * Creates a read-only view of the nodes that are accepted by the node filter.
+     * Only the node filter is evaluated eagerly, relationships are filtered when they are traversed.
+     */
+    private static GraphStore filterView(
+        GraphStore graphStore,
+        Expressions expressions,
+        GraphProjectFromGraphConfig config,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        if (!acceptsAll(expressions.relationshipExpression())) {
+            throw new IllegalArgumentException(
+                "Graph views do not support relationship filters, use `materialize: true` or a `relationshipFilter` of `*`."
+            );
+        }
+
+        progressTracker.beginSubTask();
+        try {
+            var idMap = NodesFilter.filterNodeIds(
+                graphStore,
+                expressions.nodeExpression(),
+                config.concurrency(),
+                config.parameters(),
+                executorService,
+                progressTracker
+            );
+
+            // node properties and relationships are shared with the input graph store
+            progressTracker.beginSubTask();
+            progressTracker.beginSubTask(0);
+            progressTracker.endSubTask();
+            progressTracker.endSubTask();
+
+            progressTracker.beginSubTask();
+            graphStore.relationshipTypes().forEach(relationshipType -> {
+                progressTracker.beginSubTask(0);
+                progressTracker.endSubTask();
+            });
+            progressTracker.endSubTask();
+
+            return new GraphStoreView(graphStore, idMap, config.concurrency());
+        } finally {
+            progressTracker.endSubTask();
+        }
+    }
+
     @ValueClass
     interface Expressions {
         Expression nodeExpression();
@@ -171,6 +240,10 @@ public final class GraphStoreFilter {
         return ImmutableExpressions.of(nodeExpression, relationshipExpression);
     }
 
+    private static boolean acceptsAll(Expression expression) {
+        return expression instanceof Expression.Literal.TrueLiteral;
+    }
+
     private static String replaceStarWithTrue(String filter) {
         return filter.equals(ElementProjection.PROJECT_ALL) ? "true" : filter;
     }
@@ -0,0 +1,459 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.CompositeRelationshipIterator;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.FilteredIdMap;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.graph.GraphProperty;
+import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.core.huge.NodeFilteredGraph;
+import org.neo4j.gds.core.huge.UnionGraph;
+import org.neo4j.gds.core.loading.AdjacencyListReferences;
+import org.neo4j.gds.core.loading.Capabilities;
+import org.neo4j.gds.core.loading.DeletionResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+
+import java.time.ZonedDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A read-only graph store that exposes the nodes of another graph store that are contained in a filtered id map.
+ *
+ * The view does not copy any node properties or relationships.
+ * Graphs of the view are node filtered graphs over the graphs of the original graph store,
+ * so the filter is applied whenever the relationships are traversed.
+ * Relationship types, their relationships and counts are read from the original graph store on every access,
+ * so the view always reflects the relationships of the original graph store.
+ * The node labels of the view are the labels of the nodes that passed the filter.
+ */
+public final class GraphStoreView implements GraphStore {
+
+    private final GraphStore graphStore;
+    private final FilteredIdMap idMap;
+    private final int concurrency;
+    private final Set<NodeLabel> nodeLabels;
+    // relationship counts together with the relationships of the original graph store they have been counted for
+    private final Map<RelationshipType, Map.Entry<SingleTypeRelationships, Long>> relationshipCounts;
+    // filtered properties together with the property of the original graph store they have been created from
+    private final Map<String, Map.Entry<NodeProperty, NodeProperty>> nodeProperties;
+
+    GraphStoreView(GraphStore graphStore, FilteredIdMap idMap, int concurrency) {
+        this.graphStore = graphStore;
+        this.idMap = idMap;
+        this.concurrency = concurrency;
+        this.relationshipCounts = new ConcurrentHashMap<>();
+        this.nodeProperties = new ConcurrentHashMap<>();
+        this.nodeLabels = containedNodeLabels(graphStore.nodeLabels(), idMap);
+    }
+
+    @Override
+    public DatabaseId databaseId() {
+        return graphStore.databaseId();
+    }
+
+    @Override
+    public GraphSchema schema() {
+        return graphStore.schema().filterNodeLabels(nodeLabels);
+    }
+
+    @Override
+    public ZonedDateTime modificationTime() {
+        return graphStore.modificationTime();
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return graphStore.capabilities();
+    }
+
+    @Override
+    public Set<String> graphPropertyKeys() {
+        return graphStore.graphPropertyKeys();
+    }
+
+    @Override
+    public boolean hasGraphProperty(String propertyKey) {
+        return graphStore.hasGraphProperty(propertyKey);
+    }
+
+    @Override
+    public GraphProperty graphProperty(String propertyKey) {
+        return graphStore.graphProperty(propertyKey);
+    }
+
+    @Override
+    public ValueType graphPropertyType(String propertyKey) {
+        return graphStore.graphPropertyType(propertyKey);
+    }
+
+    @Override
+    public GraphPropertyValues graphPropertyValues(String propertyKey) {
+        return graphStore.graphPropertyValues(propertyKey);
+    }
+
+    @Override
+    public void addGraphProperty(String propertyKey, GraphPropertyValues propertyValues) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeGraphProperty(String propertyKey) {
+        throw readOnly();
+    }
+
+    @Override
+    public long nodeCount() {
+        return idMap.nodeCount();
+    }
+
+    @Override
+    public IdMap nodes() {
+        return idMap;
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels() {
+        return nodeLabels;
+    }
+
+    @Override
+    public void addNodeLabel(NodeLabel nodeLabel) {
+        throw readOnly();
+    }
+
+    @Override
+    public Set<String> nodePropertyKeys(NodeLabel label) {
+        return graphStore.nodePropertyKeys(label);
+    }
+
+    @Override
+    public Set<String> nodePropertyKeys() {
+        return graphStore.nodePropertyKeys();
+    }
+
+    @Override
+    public boolean hasNodeProperty(String propertyKey) {
+        return graphStore.hasNodeProperty(propertyKey);
+    }
+
+    @Override
+    public boolean hasNodeProperty(NodeLabel label, String propertyKey) {
+        return graphStore.hasNodeProperty(label, propertyKey);
+    }
+
+    @Override
+    public boolean hasNodeProperty(Collection<NodeLabel> labels, String propertyKey) {
+        return graphStore.hasNodeProperty(labels, propertyKey);
+    }
+
+    @Override
+    public NodeProperty nodeProperty(String propertyKey) {
+        var nodeProperty = graphStore.nodeProperty(propertyKey);
+        if (nodeProperty == null) {
+            return null;
+        }
+        var filteredProperty = nodeProperties.get(propertyKey);
+        if (filteredProperty == null || filteredProperty.getKey() != nodeProperty) {
+            filteredProperty = Map.entry(nodeProperty, NodeProperty.of(
+                propertyKey,
+                nodeProperty.propertyState(),
+                getGraph(nodeLabels()).nodeProperties(propertyKey),
+                nodeProperty.propertySchema().defaultValue()
+            ));
+            nodeProperties.put(propertyKey, filteredProperty);
+        }
+        return filteredProperty.getValue();
+    }
+
+    @Override
+    public void addNodeProperty(Set<NodeLabel> nodeLabels, String propertyKey, NodePropertyValues propertyValues) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeNodeProperty(String propertyKey) {
+        throw readOnly();
+    }
+
+    @Override
+    public long relationshipCount() {
+        return relationshipTypes().stream().mapToLong(this::relationshipCount).sum();
+    }
+
+    @Override
+    public long relationshipCount(RelationshipType relationshipType) {
+        validateRelationshipType(relationshipType);
+        var relationships = graphStore.relationships(relationshipType).orElse(null);
+        var relationshipCount = relationshipCounts.get(relationshipType);
+        if (relationshipCount == null || relationshipCount.getKey() != relationships) {
+            relationshipCount = new AbstractMap.SimpleImmutableEntry<>(
+                relationships,
+                getGraph(nodeLabels(), List.of(relationshipType), Optional.empty()).relationshipCount()
+            );
+            relationshipCounts.put(relationshipType, relationshipCount);
+        }
+        return relationshipCount.getValue();
+    }
+
+    @Override
+    public Set<RelationshipType> relationshipTypes() {
+        return graphStore.relationshipTypes();
+    }
+
+    @Override
+    public boolean hasRelationshipType(RelationshipType relationshipType) {
+        return graphStore.hasRelationshipType(relationshipType);
+    }
+
+    @Override
+    public Set<RelationshipType> inverseIndexedRelationshipTypes() {
+        return graphStore.inverseIndexedRelationshipTypes();
+    }
+
+    @Override
+    public boolean hasRelationshipProperty(RelationshipType relType, String propertyKey) {
+        return graphStore.hasRelationshipProperty(relType, propertyKey);
+    }
+
+    @Override
+    public ValueType relationshipPropertyType(String propertyKey) {
+        return graphStore.relationshipPropertyType(propertyKey);
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys() {
+        return graphStore.relationshipPropertyKeys();
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys(RelationshipType relationshipType) {
+        validateRelationshipType(relationshipType);
+        return graphStore.relationshipPropertyKeys(relationshipType);
+    }
+
+    @Override
+    public RelationshipProperty relationshipPropertyValues(RelationshipType relationshipType, String propertyKey) {
+        validateRelationshipType(relationshipType);
+        // the graphs of this view traverse the topology of the original graph store, which the properties belong to
+        return graphStore.relationshipPropertyValues(relationshipType, propertyKey);
+    }
+
+    /**
+     * Returns the relationships of the original graph store, which are stored in the id space of the original graph store.
+     */
+    @Override
+    public Optional<SingleTypeRelationships> relationships(RelationshipType relationshipType) {
+        return graphStore.relationships(relationshipType);
+    }
+
+    @Override
+    public void addRelationshipType(SingleTypeRelationships relationships) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addInverseIndex(
+        RelationshipType relationshipType,
+        Topology topology,
+        Optional<RelationshipPropertyStore> properties
+    ) {
+        throw readOnly();
+    }
+
+    @Override
+    public DeletionResult deleteRelationships(RelationshipType relationshipType) {
+        throw readOnly();
+    }
+
+    @Override
+    public Graph getGraph(Collection<NodeLabel> nodeLabels) {
+        return getGraph(nodeLabels, List.of(), Optional.empty());
+    }
+
+    @Override
+    public Graph getGraph(
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        var filteredIdMap = idMap.withFilteredLabels(nodeLabels, concurrency).orElse(idMap);
+
+        if (relationshipTypes.isEmpty()) {
+            return filter(graphStore.getGraph(graphStore.nodeLabels()), filteredIdMap);
+        }
+
+        relationshipTypes.forEach(this::validateRelationshipType);
+
+        var graphs = new ArrayList<CSRGraph>(relationshipTypes.size());
+        for (var relationshipType : relationshipTypes) {
+            var graph = graphStore.getGraph(graphStore.nodeLabels(), List.of(relationshipType), maybeRelationshipProperty);
+            graphs.add(filter(graph, filteredIdMap));
+        }
+        return UnionGraph.of(graphs);
+    }
+
+    @Override
+    public Graph getUnion() {
+        var graphs = new ArrayList<CSRGraph>();
+        for (var relationshipType : relationshipTypes()) {
+            var propertyKeys = relationshipPropertyKeys(relationshipType);
+            if (propertyKeys.isEmpty()) {
+                graphs.add((CSRGraph) getGraph(nodeLabels(), List.of(relationshipType), Optional.empty()));
+            } else {
+                propertyKeys.forEach(propertyKey -> graphs.add(
+                    (CSRGraph) getGraph(nodeLabels(), List.of(relationshipType), Optional.of(propertyKey))
+                ));
+            }
+        }
+        return graphs.isEmpty() ? getGraph(nodeLabels()) : UnionGraph.of(graphs);
+    }
+
+    @Override
+    public CompositeRelationshipIterator getCompositeRelationshipIterator(
+        RelationshipType relationshipType,
+        Collection<String> propertyKeys
+    ) {
+        validateRelationshipType(relationshipType);
+        return new NodeFilteredCompositeRelationshipIterator(
+            graphStore.getCompositeRelationshipIterator(relationshipType, propertyKeys),
+            idMap
+        );
+    }
+
+    @Override
+    public void free() {
+        // Lists that are shared with graph stores in the catalog, e.g. the original graph store, are not freed.
+        AdjacencyListReferences.freeUnreferenced(this);
+    }
+
+    private void validateRelationshipType(RelationshipType relationshipType) {
+        if (!graphStore.hasRelationshipType(relationshipType)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Relationship type '%s' is not part of the graph view.",
+                relationshipType
+            ));
+        }
+    }
+
+    private static Set<NodeLabel> containedNodeLabels(Set<NodeLabel> nodeLabels, IdMap idMap) {
+        var containedLabels = new HashSet<NodeLabel>();
+        for (long nodeId = 0; nodeId < idMap.nodeCount() && containedLabels.size() < nodeLabels.size(); nodeId++) {
+            idMap.forEachNodeLabel(nodeId, nodeLabel -> {
+                containedLabels.add(nodeLabel);
+                return true;
+            });
+        }
+        // keep the labels in the order of the original graph store
+        return nodeLabels.stream().filter(containedLabels::contains).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static CSRGraph filter(Graph graph, FilteredIdMap filteredIdMap) {
+        if (!(graph instanceof CSRGraph)) {
+            throw new IllegalStateException(formatWithLocale(
+                "Graph views can only be created over graphs in CSR format, got `%s`.",
+                graph.getClass().getSimpleName()
+            ));
+        }
+        return new NodeFilteredGraph((CSRGraph) graph, filteredIdMap);
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException(
+            "The graph is a read-only view of another graph. Filter the graph with `materialize: true` to modify it."
+        );
+    }
+
+    private static final class NodeFilteredCompositeRelationshipIterator implements CompositeRelationshipIterator {
+
+        private final CompositeRelationshipIterator iterator;
+        private final FilteredIdMap idMap;
+
+        NodeFilteredCompositeRelationshipIterator(CompositeRelationshipIterator iterator, FilteredIdMap idMap) {
+            this.iterator = iterator;
+            this.idMap = idMap;
+        }
+
+        @Override
+        public int degree(long nodeId) {
+            var degree = new int[1];
+            iterator.forEachRelationship(idMap.toRootNodeId(nodeId), (source, target, properties) -> {
+                if (idMap.containsRootNodeId(target)) {
+                    degree[0]++;
+                }
+                return true;
+            });
+            return degree[0];
+        }
+
+        @Override
+        public void forEachRelationship(long nodeId, RelationshipConsumer consumer) {
+            iterator.forEachRelationship(
+                idMap.toRootNodeId(nodeId),
+                (source, target, properties) -> !idMap.containsRootNodeId(target) ||
+                    consumer.consume(nodeId, idMap.toFilteredNodeId(target), properties)
+            );
+        }
+
+        @Override
+        public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+            iterator.forEachInverseRelationship(
+                idMap.toRootNodeId(nodeId),
+                (source, target, properties) -> !idMap.containsRootNodeId(target) ||
+                    consumer.consume(nodeId, idMap.toFilteredNodeId(target), properties)
+            );
+        }
+
+        @Override
+        public String[] propertyKeys() {
+            return iterator.propertyKeys();
+        }
+
+        @Override
+        public CompositeRelationshipIterator concurrentCopy() {
+            return new NodeFilteredCompositeRelationshipIterator(iterator.concurrentCopy(), idMap);
+        }
+    }
+}
@@ -22,6 +22,7 @@ package org.neo4j.gds.beta.filter;
 import com.carrotsearch.hppc.AbstractIterator;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.FilteredIdMap;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.nodes.NodeProperty;
@@ -29,8 +30,10 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.beta.filter.expression.EvaluationContext;
 import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.BitSetFilteredIdMap;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
 import org.neo4j.gds.core.loading.construction.NodesBuilder;
@@ -49,6 +52,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
 public final class NodesFilter {
@@ -115,6 +119,67 @@ public final class NodesFilter {
             .build();
     }
 
+    /**
+     * Returns an id map over the nodes of the input graph store that are accepted by the expression.
+     * Neither the id mapping nor the node properties of the input graph store are copied.
+     */
+    public static FilteredIdMap filterNodeIds(
+        GraphStore inputGraphStore,
+        Expression expression,
+        int concurrency,
+        Map<String, Object> parameterMap,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        progressTracker.beginSubTask();
+        var idMap = BitSetFilteredIdMap.of(
+            inputGraphStore.nodes(),
+            () -> {
+                var nodeContext = new EvaluationContext.NodeEvaluationContext(inputGraphStore, parameterMap);
+                var predicate = ExpressionCompiler.compile(expression, nodeContext);
+                return node -> {
+                    nodeContext.init(node);
+                    progressTracker.logProgress();
+                    return predicate.getAsBoolean();
+                };
+            },
+            concurrency,
+            executorService
+        );
+        progressTracker.endSubTask();
+        return idMap;
+    }
+
+    /**
+     * Returns the nodes of the input graph store for a filter that accepts all nodes.
+     * The id mapping and the node properties are shared with the input graph store, only the labels are copied.
+     * Returns an empty optional if the id map of the input graph store cannot be shared.
+     */
+    public static Optional<FilteredNodes> shareNodes(GraphStore inputGraphStore, ProgressTracker progressTracker) {
+        var sharedIdMap = inputGraphStore.nodes().withSharedIdMapping();
+        if (sharedIdMap.isEmpty()) {
+            return Optional.empty();
+        }
+
+        progressTracker.beginSubTask();
+        progressTracker.logProgress(inputGraphStore.nodeCount());
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask();
+        progressTracker.beginSubTask(0);
+        var builder = NodePropertyStore.builder();
+        inputGraphStore
+            .nodePropertyKeys()
+            .forEach(propertyKey -> builder.putProperty(propertyKey, inputGraphStore.nodeProperty(propertyKey)));
+        progressTracker.endSubTask();
+        progressTracker.endSubTask();
+
+        return Optional.of(ImmutableFilteredNodes.builder()
+            .idMap(sharedIdMap.get())
+            .propertyStores(builder.build())
+            .build());
+    }
+
     public static NodePropertyStore filterNodeProperties(
         GraphStore inputGraphStore,
         IdMap filteredIdMap,
@@ -248,8 +313,8 @@ public final class NodesFilter {
 
     private static final class NodeFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
         private final EvaluationContext.NodeEvaluationContext nodeContext;
+        private final BooleanSupplier predicate;
         private final ProgressTracker progressTracker;
         private final GraphStore inputGraphStore;
         private final NodesBuilder nodesBuilder;
@@ -290,10 +355,10 @@ public final class NodesFilter {
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
             this.inputGraphStore = inputGraphStore;
             this.nodesBuilder = nodesBuilder;
             this.nodeContext = new EvaluationContext.NodeEvaluationContext(inputGraphStore, parameterMap);
+            this.predicate = ExpressionCompiler.compile(expression, nodeContext);
             this.progressTracker = progressTracker;
         }
 
@@ -302,7 +367,7 @@ public final class NodesFilter {
             var idMap = inputGraphStore.nodes();
             partition.consume(node -> {
                 nodeContext.init(node);
-                if (expression.evaluate(nodeContext) == Expression.TRUE) {
+                if (predicate.getAsBoolean()) {
                     var originalId = idMap.toOriginalNodeId(node);
                     var labels = NodeLabelTokens.of(idMap.nodeLabels(node));
                     nodesBuilder.addNode(originalId, labels);
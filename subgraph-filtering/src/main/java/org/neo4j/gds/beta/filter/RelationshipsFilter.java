@@ -25,6 +25,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.beta.filter.expression.EvaluationContext;
 import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
@@ -40,6 +41,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -58,6 +60,60 @@ public final class RelationshipsFilter {
         Map<String, Object> parameterMap,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        return filterRelationships(
+            graphStore,
+            expression,
+            inputNodes,
+            outputNodes,
+            false,
+            concurrency,
+            parameterMap,
+            executorService,
+            progressTracker
+        );
+    }
+
+    /**
+     * Filters the relationships for output nodes that share the id mapping of the input graph store.
+     * Relationship types that the expression accepts entirely reference the topology and properties
+     * of the input graph store instead of being copied.
+     * An expression accepts a type entirely if it does not read relationship properties and evaluates
+     * to true for that type, e.g. {@code *} or {@code r:REL OR r:OTHER}.
+     */
+    public static Map<RelationshipType, SingleTypeRelationships> shareOrFilterRelationships(
+        GraphStore graphStore,
+        Expression expression,
+        IdMap inputNodes,
+        IdMap outputNodes,
+        int concurrency,
+        Map<String, Object> parameterMap,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        return filterRelationships(
+            graphStore,
+            expression,
+            inputNodes,
+            outputNodes,
+            true,
+            concurrency,
+            parameterMap,
+            executorService,
+            progressTracker
+        );
+    }
+
+    private static Map<RelationshipType, SingleTypeRelationships> filterRelationships(
+        GraphStore graphStore,
+        Expression expression,
+        IdMap inputNodes,
+        IdMap outputNodes,
+        boolean sharesIdMapping,
+        int concurrency,
+        Map<String, Object> parameterMap,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         Map<RelationshipType, SingleTypeRelationships> relationshipImportResults = new HashMap<>();
 
@@ -65,8 +121,24 @@ public final class RelationshipsFilter {
 
         for (RelationshipType relType : graphStore.relationshipTypes()) {
 
-            progressTracker.beginSubTask(graphStore.relationshipCount(relType));
-            var outputRelationships = filterRelationshipType(
+            var relationshipCount = graphStore.relationshipCount(relType);
+            progressTracker.beginSubTask(relationshipCount);
+
+            var typeFilter = TypeFilter.of(expression, relType, parameterMap);
+
+            if (typeFilter == TypeFilter.REJECTS_ALL) {
+                progressTracker.logProgress(relationshipCount);
+                progressTracker.endSubTask();
+                continue;
+            }
+
+            var sharedRelationships = sharesIdMapping && typeFilter == TypeFilter.ACCEPTS_ALL
+                ? graphStore.relationships(relType)
+                : Optional.<SingleTypeRelationships>empty();
+
+            sharedRelationships.ifPresent(__ -> progressTracker.logProgress(relationshipCount));
+
+            var outputRelationships = sharedRelationships.orElseGet(() -> filterRelationshipType(
                 graphStore,
                 expression,
                 inputNodes,
@@ -76,7 +148,7 @@ public final class RelationshipsFilter {
                 parameterMap,
                 executorService,
                 progressTracker
-            );
+            ));
 
             // Drop relationship types that have been completely filtered out.
             if (outputRelationships.topology().elementCount() == 0) {
@@ -93,6 +165,38 @@ public final class RelationshipsFilter {
         return relationshipImportResults;
     }
 
+    /**
+     * Describes which relationships of a single type an expression accepts.
+     */
+    private enum TypeFilter {
+        ACCEPTS_ALL,
+        REJECTS_ALL,
+        DEPENDS_ON_PROPERTIES;
+
+        static TypeFilter of(Expression expression, RelationshipType relType, Map<String, Object> parameterMap) {
+            if (readsProperties(expression)) {
+                return DEPENDS_ON_PROPERTIES;
+            }
+            var context = new EvaluationContext.RelationshipEvaluationContext(Map.of(), parameterMap);
+            context.init(relType);
+            return expression.evaluate(context) == Expression.TRUE ? ACCEPTS_ALL : REJECTS_ALL;
+        }
+
+        private static boolean readsProperties(Expression expression) {
+            if (expression instanceof Expression.UnaryExpression.Property) {
+                return true;
+            }
+            if (expression instanceof Expression.UnaryExpression) {
+                return readsProperties(((Expression.UnaryExpression) expression).in());
+            }
+            if (expression instanceof Expression.BinaryExpression) {
+                var binary = (Expression.BinaryExpression) expression;
+                return readsProperties(binary.lhs()) || readsProperties(binary.rhs());
+            }
+            return false;
+        }
+    }
+
     private static SingleTypeRelationships filterRelationshipType(
         GraphStore graphStore,
         Expression relationshipExpr,
@@ -176,8 +280,8 @@ public final class RelationshipsFilter {
 
     private static final class RelationshipFilterTask implements Runnable {
         private final Partition partition;
-        private final Expression expression;
         private final EvaluationContext.RelationshipEvaluationContext evaluationContext;
+        private final BooleanSupplier predicate;
         private final ProgressTracker progressTracker;
         private final CompositeRelationshipIterator relationshipIterator;
         private final IdMap inputNodes;
@@ -198,13 +302,13 @@ public final class RelationshipsFilter {
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
             this.relationshipIterator = relationshipIterator;
             this.inputNodes = inputNodes;
             this.outputNodes = outputNodes;
             this.relationshipsBuilder = relationshipsBuilder;
             this.relType = relType;
             this.evaluationContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, parameterMap);
+            this.predicate = ExpressionCompiler.compile(expression, evaluationContext);
             this.progressTracker = progressTracker;
         }
 
@@ -221,7 +325,7 @@ public final class RelationshipsFilter {
                     if (mappedTarget != NOT_FOUND) {
                         evaluationContext.init(relType, properties);
 
-                        if (expression.evaluate(evaluationContext) == Expression.TRUE) {
+                        if (predicate.getAsBoolean()) {
                             // TODO branching should happen somewhere else
                             if (properties.length == 0) {
                                 relationshipsBuilder.add(neoSource, neoTarget);
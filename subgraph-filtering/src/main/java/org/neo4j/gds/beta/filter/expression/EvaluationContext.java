@@ -30,6 +30,7 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.DoubleSupplier;
 
 public abstract class EvaluationContext {
 
@@ -45,6 +46,15 @@ public abstract class EvaluationContext {
 
     abstract double getProperty(String propertyKey, ValueType propertyType);
 
+    /**
+     * Returns a reader that yields {@link #getProperty(String, ValueType)} for the element
+     * this context is initialized to. Implementations resolve the property once, so that
+     * compiled expressions do not need to look it up for every element.
+     */
+    DoubleSupplier propertyReader(String propertyKey, ValueType propertyType) {
+        return () -> getProperty(propertyKey, propertyType);
+    }
+
     public abstract boolean hasNodeLabels(List<NodeLabel> labels);
 
     public abstract boolean hasRelationshipTypes(List<RelationshipType> types);
@@ -77,6 +87,17 @@ public abstract class EvaluationContext {
             }
         }
 
+        @Override
+        DoubleSupplier propertyReader(String propertyKey, ValueType propertyType) {
+            if (!graphStore.hasNodeProperty(propertyKey)) {
+                return () -> DefaultValue.DOUBLE_DEFAULT_FALLBACK;
+            }
+            NodePropertyValues nodePropertyValues = graphStore.nodeProperty(propertyKey).values();
+            return propertyType == ValueType.LONG
+                ? () -> Double.longBitsToDouble(nodePropertyValues.longValue(nodeId))
+                : () -> nodePropertyValues.doubleValue(nodeId);
+        }
+
         @Override
         public boolean hasNodeLabels(List<NodeLabel> labels) {
             boolean hasAllLabels = true;
@@ -127,6 +148,12 @@ public abstract class EvaluationContext {
             return properties[propertyIndices.get(propertyKey)];
         }
 
+        @Override
+        DoubleSupplier propertyReader(String propertyKey, ValueType propertyType) {
+            int propertyIndex = propertyIndices.get(propertyKey);
+            return () -> properties[propertyIndex];
+        }
+
         @Override
         public boolean hasNodeLabels(List<NodeLabel> labels) {
             return false;
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.beta.filter.expression.Expression.BinaryExpression.BinaryArithmeticExpression;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+import static org.neo4j.gds.beta.filter.expression.Expression.FALSE;
+import static org.neo4j.gds.beta.filter.expression.Expression.TRUE;
+
+/**
+ * Compiles an {@link Expression} into a predicate that is bound to a single {@link EvaluationContext}.
+ *
+ * Interpreting an expression walks the tree for every element, looks up properties
+ * and parameters by name and decides on the value type of every comparison.
+ * The compiler does that work once: properties are resolved to readers, parameters and
+ * constant sub-expressions are folded and comparisons are specialized for their value type.
+ * What remains is a tree of small lambdas which the JIT can inline into the filter loop.
+ *
+ * A compiled predicate returns {@code expression.evaluate(context) == Expression.TRUE}
+ * for the element the context is currently initialized to.
+ * Like the context, it must not be shared between threads.
+ */
+public final class ExpressionCompiler {
+
+    private static final BooleanSupplier ALWAYS = () -> true;
+    private static final BooleanSupplier NEVER = () -> false;
+
+    private final EvaluationContext context;
+
+    public static BooleanSupplier compile(Expression expression, EvaluationContext context) {
+        return new ExpressionCompiler(context).compilePredicate(expression);
+    }
+
+    private ExpressionCompiler(EvaluationContext context) {
+        this.context = context;
+    }
+
+    private BooleanSupplier compilePredicate(Expression expression) {
+        if (isConstant(expression)) {
+            return expression.evaluate(context) == TRUE ? ALWAYS : NEVER;
+        }
+        if (expression instanceof Expression.BinaryExpression.And) {
+            var and = (Expression.BinaryExpression.And) expression;
+            var lhs = compilePredicate(and.lhs());
+            var rhs = compilePredicate(and.rhs());
+            if (lhs == NEVER || rhs == NEVER) {
+                return NEVER;
+            }
+            return () -> lhs.getAsBoolean() && rhs.getAsBoolean();
+        }
+        if (expression instanceof Expression.BinaryExpression.Or) {
+            var or = (Expression.BinaryExpression.Or) expression;
+            var lhs = compilePredicate(or.lhs());
+            var rhs = compilePredicate(or.rhs());
+            if (lhs == ALWAYS || rhs == ALWAYS) {
+                return ALWAYS;
+            }
+            return () -> lhs.getAsBoolean() || rhs.getAsBoolean();
+        }
+        if (expression instanceof Expression.BinaryExpression.Xor) {
+            var xor = (Expression.BinaryExpression.Xor) expression;
+            var lhs = compilePredicate(xor.lhs());
+            var rhs = compilePredicate(xor.rhs());
+            return () -> lhs.getAsBoolean() ^ rhs.getAsBoolean();
+        }
+        if (expression instanceof Expression.UnaryExpression.Not) {
+            var in = compilePredicate(((Expression.UnaryExpression.Not) expression).in());
+            return () -> !in.getAsBoolean();
+        }
+        if (expression instanceof Expression.UnaryExpression.HasNodeLabels) {
+            var nodeLabels = ((Expression.UnaryExpression.HasNodeLabels) expression).nodeLabels();
+            return () -> context.hasNodeLabels(nodeLabels);
+        }
+        if (expression instanceof Expression.UnaryExpression.HasRelationshipTypes) {
+            var relationshipTypes = ((Expression.UnaryExpression.HasRelationshipTypes) expression).relationshipTypes();
+            return () -> context.hasRelationshipTypes(relationshipTypes);
+        }
+        if (expression instanceof BinaryArithmeticExpression) {
+            return compileComparison((BinaryArithmeticExpression) expression);
+        }
+
+        var value = compileValue(expression);
+        return () -> value.getAsDouble() == TRUE;
+    }
+
+    private BooleanSupplier compileComparison(BinaryArithmeticExpression comparison) {
+        var rhsExpression = comparison.rhs();
+
+        // Mirrors BinaryArithmeticExpression#evaluate, but decides on the value type up front.
+        if (comparison.lhs().valueType() == ValueType.LONG) {
+            var lhs = compileLong(comparison.lhs());
+            var rhsIsParameter = rhsExpression.valueType() == ValueType.UNKNOWN;
+            if (isConstant(rhsExpression)) {
+                var rhsValue = rhsExpression.evaluate(context);
+                long rhs = rhsIsParameter ? (long) rhsValue : Double.doubleToRawLongBits(rhsValue);
+                return () -> comparison.evaluateLong(lhs.getAsLong(), rhs) == TRUE;
+            }
+            LongSupplier rhs;
+            if (rhsIsParameter) {
+                var rhsValue = compileValue(rhsExpression);
+                rhs = () -> (long) rhsValue.getAsDouble();
+            } else {
+                rhs = compileLong(rhsExpression);
+            }
+            return () -> comparison.evaluateLong(lhs.getAsLong(), rhs.getAsLong()) == TRUE;
+        }
+
+        var lhs = compileValue(comparison.lhs());
+        if (isConstant(rhsExpression)) {
+            double rhs = rhsExpression.evaluate(context);
+            return () -> comparison.evaluateDouble(lhs.getAsDouble(), rhs) == TRUE;
+        }
+        var rhs = compileValue(rhsExpression);
+        return () -> comparison.evaluateDouble(lhs.getAsDouble(), rhs.getAsDouble()) == TRUE;
+    }
+
+    /**
+     * Returns the raw bits of the double encoded value, which is how long values are encoded.
+     */
+    private LongSupplier compileLong(Expression expression) {
+        var value = compileValue(expression);
+        return () -> Double.doubleToRawLongBits(value.getAsDouble());
+    }
+
+    /**
+     * Returns the double encoded value, i.e. exactly what {@link Expression#evaluate(EvaluationContext)} returns.
+     */
+    private DoubleSupplier compileValue(Expression expression) {
+        if (isConstant(expression)) {
+            double value = expression.evaluate(context);
+            return () -> value;
+        }
+        if (expression instanceof Expression.UnaryExpression.Property) {
+            var property = (Expression.UnaryExpression.Property) expression;
+            return context.propertyReader(property.propertyKey(), property.valueType());
+        }
+        if (isPredicate(expression)) {
+            var predicate = compilePredicate(expression);
+            return () -> predicate.getAsBoolean() ? TRUE : FALSE;
+        }
+        return () -> expression.evaluate(context);
+    }
+
+    private static boolean isPredicate(Expression expression) {
+        return expression instanceof Expression.BinaryExpression
+               || expression instanceof Expression.UnaryExpression.Not
+               || expression instanceof Expression.UnaryExpression.HasNodeLabels
+               || expression instanceof Expression.UnaryExpression.HasRelationshipTypes;
+    }
+
+    /**
+     * Returns true if the expression evaluates to the same value for every element of a context.
+     */
+    private static boolean isConstant(Expression expression) {
+        if (expression instanceof Expression.Literal
+            || expression instanceof Expression.LeafExpression.Variable
+            || expression instanceof Expression.UnaryExpression.NewParameter) {
+            return true;
+        }
+        if (expression instanceof Expression.UnaryExpression.Not) {
+            return isConstant(((Expression.UnaryExpression.Not) expression).in());
+        }
+        if (expression instanceof Expression.BinaryExpression) {
+            var binary = (Expression.BinaryExpression) expression;
+            return isConstant(binary.lhs()) && isConstant(binary.rhs());
+        }
+        return false;
+    }
+}
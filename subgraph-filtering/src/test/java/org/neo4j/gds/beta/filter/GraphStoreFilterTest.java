@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.beta.filter.expression.SemanticErrors;
+import org.neo4j.gds.config.GraphProjectFromGraphConfig;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class GraphStoreFilterTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A)" +
+        ", (b:A)" +
+        ", (c:B)" +
+        ", (a)-[:REL {w: 1.0}]->(b)" +
+        ", (b)-[:REL {w: 2.0}]->(c)" +
+        ", (c)-[:OTHER {w: 3.0}]->(a)";
+
+    private static final RelationshipType REL = RelationshipType.of("REL");
+    private static final RelationshipType OTHER = RelationshipType.of("OTHER");
+
+    @Inject
+    GraphStore graphStore;
+
+    @Test
+    void shouldShareRelationshipTypesThatAreAcceptedEntirely() throws ParseException, SemanticErrors {
+        var filtered = filter("*", "r:REL");
+
+        assertThat(filtered.relationshipTypes()).containsExactly(REL);
+        assertThat(filtered.relationships(REL).orElseThrow().topology().adjacencyList())
+            .isSameAs(graphStore.relationships(REL).orElseThrow().topology().adjacencyList());
+    }
+
+    @Test
+    void shouldCopyRelationshipTypesThatAreFilteredByProperties() throws ParseException, SemanticErrors {
+        var filtered = filter("*", "r:OTHER OR r.w > 1.0");
+
+        assertThat(filtered.relationshipTypes()).containsExactlyInAnyOrder(REL, OTHER);
+        assertThat(filtered.relationshipCount(REL)).isEqualTo(1);
+        assertThat(filtered.relationshipCount(OTHER)).isEqualTo(1);
+        assertThat(filtered.relationships(REL).orElseThrow().topology().adjacencyList())
+            .isNotSameAs(graphStore.relationships(REL).orElseThrow().topology().adjacencyList());
+    }
+
+    @Test
+    void shouldCopyRelationshipsOfNodeFilteredGraphs() throws ParseException, SemanticErrors {
+        var filtered = filter("n:A", "*");
+
+        assertThat(filtered.relationshipCount()).isEqualTo(1);
+        assertThat(filtered.relationships(REL).orElseThrow().topology().adjacencyList())
+            .isNotSameAs(graphStore.relationships(REL).orElseThrow().topology().adjacencyList());
+    }
+
+    private GraphStore filter(String nodeFilter, String relationshipFilter) throws ParseException, SemanticErrors {
+        var config = GraphProjectFromGraphConfig.of(
+            "",
+            "filtered",
+            "graph",
+            nodeFilter,
+            relationshipFilter,
+            GraphProjectFromStoreConfig.emptyWithName("", "graph"),
+            CypherMapWrapper.empty()
+        );
+        return GraphStoreFilter.filter(graphStore, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.beta.filter.expression.SemanticErrors;
+import org.neo4j.gds.config.GraphProjectFromGraphConfig;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class GraphStoreViewTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A {p: 1L})" +
+        ", (b:A {p: 2L})" +
+        ", (c:A {p: 3L})" +
+        ", (d:B {p: 4L})" +
+        ", (a)-[:REL {w: 1.0}]->(b)" +
+        ", (b)-[:REL {w: 2.0}]->(c)" +
+        ", (c)-[:REL {w: 3.0}]->(d)" +
+        ", (d)-[:REL {w: 4.0}]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @Inject
+    IdFunction idFunction;
+
+    @Test
+    void shouldFilterNodesLazily() throws ParseException, SemanticErrors {
+        var view = filterView("n.p > 1", "*");
+
+        assertThat(view).isInstanceOf(GraphStoreView.class);
+        assertThat(view.nodeCount()).isEqualTo(3);
+        assertThat(view.relationshipCount()).isEqualTo(2);
+        assertThat(view.nodes().nodeCount(NodeLabel.of("A"))).isEqualTo(2);
+
+        var graph = view.getGraph(RelationshipType.of("REL"), Optional.of("w"));
+        var relationships = new ArrayList<String>();
+        graph.forEachNode(node -> {
+            graph.forEachRelationship(node, 0.0, (source, target, weight) -> {
+                relationships.add(graph.toOriginalNodeId(source) + "-" + graph.toOriginalNodeId(target) + ":" + weight);
+                return true;
+            });
+            return true;
+        });
+        assertThat(relationships).containsExactlyInAnyOrder(
+            idFunction.of("b") + "-" + idFunction.of("c") + ":2.0",
+            idFunction.of("c") + "-" + idFunction.of("d") + ":3.0"
+        );
+
+        var properties = view.nodeProperty("p").values();
+        view.nodes().forEachNode(node -> {
+            var originalNode = view.nodes().toOriginalNodeId(node);
+            var inputNode = graphStore.nodes().toMappedNodeId(originalNode);
+            assertThat(properties.longValue(node)).isEqualTo(graphStore.nodeProperty("p").values().longValue(inputNode));
+            return true;
+        });
+    }
+
+    @Test
+    void shouldFilterViewsByLabel() throws ParseException, SemanticErrors {
+        var view = filterView("n.p > 1", "*");
+
+        var graph = view.getGraph(List.of(NodeLabel.of("A")), List.of(RelationshipType.of("REL")), Optional.empty());
+
+        assertThat(graph.nodeCount()).isEqualTo(2);
+        assertThat(graph.relationshipCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMaterializeFilteredViews() throws ParseException, SemanticErrors {
+        var view = filterView("n.p > 1", "*");
+
+        var config = GraphProjectFromGraphConfig.of(
+            "",
+            "materialized",
+            "view",
+            "n:A",
+            "r.w >= 2.0",
+            GraphProjectFromStoreConfig.emptyWithName("", "graph"),
+            CypherMapWrapper.empty()
+        );
+        var materialized = GraphStoreFilter.filter(view, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+        assertThat(materialized).isNotInstanceOf(GraphStoreView.class);
+        assertThat(materialized.nodeCount()).isEqualTo(2);
+        assertThat(materialized.relationshipCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectMutations() throws ParseException, SemanticErrors {
+        var view = filterView("*", "*");
+
+        assertThatThrownBy(() -> view.addNodeLabel(NodeLabel.of("C")))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("read-only view");
+    }
+
+    @Test
+    void shouldRejectRelationshipFilters() {
+        assertThatThrownBy(() -> filterView("*", "r.w > 1.0"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Graph views do not support relationship filters");
+    }
+
+    @Test
+    void shouldReadRelationshipTypesFromTheOriginalGraphStore() throws ParseException, SemanticErrors {
+        var original = GdlFactory.of("(a:A)-[:REL]->(b:A), (b)-[:REL]->(a)").build();
+        var view = filterView(original, "*", "*");
+        assertThat(view.relationshipCount()).isEqualTo(2);
+
+        var newType = RelationshipType.of("NEW");
+        var otherGraphStore = GdlFactory.of("(a:A)-[:NEW]->(b:A)").build();
+        original.addRelationshipType(otherGraphStore.relationships(newType).orElseThrow());
+
+        assertThat(view.relationshipTypes()).containsExactlyInAnyOrder(RelationshipType.of("REL"), newType);
+        assertThat(view.hasRelationshipType(newType)).isTrue();
+        assertThat(view.relationships(newType)).isEqualTo(original.relationships(newType));
+        assertThat(view.relationshipCount(newType)).isEqualTo(1);
+        assertThat(view.relationshipCount()).isEqualTo(3);
+
+        original.deleteRelationships(RelationshipType.of("REL"));
+
+        assertThat(view.relationshipTypes()).containsExactly(newType);
+        assertThat(view.schema().relationshipSchema().availableTypes()).containsExactly(newType);
+        assertThat(view.relationshipCount()).isEqualTo(1);
+        assertThatThrownBy(() -> view.getGraph(RelationshipType.of("REL")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Relationship type 'REL' is not part of the graph view");
+    }
+
+    @Test
+    void shouldOnlyContainTheLabelsOfFilteredNodes() throws ParseException, SemanticErrors {
+        var view = filterView("n:A", "*");
+
+        assertThat(view.nodeLabels()).containsExactly(NodeLabel.of("A"));
+        assertThat(view.schema().nodeSchema().availableLabels()).containsExactly(NodeLabel.of("A"));
+    }
+
+    private GraphStore filterView(String nodeFilter, String relationshipFilter) throws ParseException, SemanticErrors {
+        return filterView(graphStore, nodeFilter, relationshipFilter);
+    }
+
+    private static GraphStore filterView(
+        GraphStore graphStore,
+        String nodeFilter,
+        String relationshipFilter
+    ) throws ParseException, SemanticErrors {
+        var config = GraphProjectFromGraphConfig.of(
+            "",
+            "view",
+            "graph",
+            nodeFilter,
+            relationshipFilter,
+            GraphProjectFromStoreConfig.emptyWithName("", "graph"),
+            CypherMapWrapper.create(Map.of("materialize", false))
+        );
+        return GraphStoreFilter.filter(graphStore, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+    }
+}
@@ -81,4 +81,23 @@ class NodesFilterTest {
                 idFunction.of("c")
             );
     }
+
+    @Test
+    void shareNodesWithInputGraphStore() {
+        var sharedNodes = NodesFilter.shareNodes(graphStore, ProgressTracker.NULL_TRACKER).orElseThrow();
+
+        var idMap = sharedNodes.idMap();
+        assertThat(idMap.nodeCount()).isEqualTo(graphStore.nodeCount());
+        idMap.forEachNode(n -> {
+            assertThat(idMap.toOriginalNodeId(n)).isEqualTo(graphStore.nodes().toOriginalNodeId(n));
+            return true;
+        });
+
+        assertThat(sharedNodes.propertyStores().get("p").values())
+            .isSameAs(graphStore.nodeProperty("p").values());
+
+        idMap.addNodeLabel(NodeLabel.of("C"));
+        assertThat(graphStore.nodes().availableNodeLabels())
+            .containsExactlyInAnyOrder(NodeLabel.of("A"), NodeLabel.of("B"));
+    }
 }
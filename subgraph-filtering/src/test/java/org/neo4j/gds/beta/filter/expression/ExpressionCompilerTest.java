@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ExpressionCompilerTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "  (a:A:B { p1: 42.0, p2: 42 })" +
+        ", (b:B   { p1: 1337.0, p2: 1337 })" +
+        ", (c:C   { p1: -1.5, p2: -1 })" +
+        ", (d:A:C { p1: 42.000001, p2: 0 })";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "TRUE",
+        "FALSE",
+        "n.p1 > 42.0",
+        "n.p1 >= 42.0",
+        "n.p1 = 42.0",
+        "n.p1 <> 42.0",
+        "n.p1 < 42.0",
+        "n.p1 <= 42.0",
+        "n.p2 > 41",
+        "n.p2 >= 42",
+        "n.p2 = 42",
+        "n.p2 <> 42",
+        "n.p2 < 1337",
+        "n.p2 <= 0",
+        "42 = n.p2",
+        "n.p1 > n.p1",
+        "n.p2 = n.p2",
+        "n:A",
+        "n:A:C",
+        "NOT n:B",
+        "n:A AND n.p2 > 0",
+        "n:A OR n.p1 < 0.0",
+        "n:A XOR n:C",
+        "n.p2 = $longParam",
+        "n.p2 > $doubleParam",
+        "n.p1 < $doubleParam",
+        "n.p1 > 1.0 AND FALSE",
+        "n.p1 > 1.0 OR TRUE",
+        "1 = 1 AND n:B",
+        "(n.p2 > 0) = TRUE",
+    })
+    void shouldMatchInterpretedNodeExpressions(String filter) throws ParseException {
+        var parameters = Map.<String, Object>of("longParam", 1337L, "doubleParam", 41.5D);
+        var expression = ExpressionParser.parse(
+            filter,
+            Map.of("p1", ValueType.DOUBLE, "p2", ValueType.LONG)
+        );
+
+        var interpretedContext = new EvaluationContext.NodeEvaluationContext(graphStore, parameters);
+        var compiledContext = new EvaluationContext.NodeEvaluationContext(graphStore, parameters);
+        var predicate = ExpressionCompiler.compile(expression, compiledContext);
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            interpretedContext.init(nodeId);
+            compiledContext.init(nodeId);
+            assertThat(predicate.getAsBoolean())
+                .as("node %d", nodeId)
+                .isEqualTo(expression.evaluate(interpretedContext) == Expression.TRUE);
+        }
+    }
+
+    @Test
+    void shouldMatchInterpretedRelationshipExpressions() throws ParseException {
+        var expression = ExpressionParser.parse(
+            "r:REL AND r.weight >= 2.0 OR r.cost < $maxCost",
+            Map.of("weight", ValueType.DOUBLE, "cost", ValueType.DOUBLE)
+        );
+        var propertyIndices = Map.of("weight", 0, "cost", 1);
+        var parameters = Map.<String, Object>of("maxCost", 10.0D);
+
+        var interpretedContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, parameters);
+        var compiledContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, parameters);
+        var predicate = ExpressionCompiler.compile(expression, compiledContext);
+
+        var relationships = new double[][]{{1.0, 5.0}, {2.0, 20.0}, {1.0, 20.0}, {3.0, 9.9999}};
+        for (var type : new RelationshipType[]{RelationshipType.of("REL"), RelationshipType.of("OTHER")}) {
+            for (double[] properties : relationships) {
+                interpretedContext.init(type, properties);
+                compiledContext.init(type, properties);
+                assertThat(predicate.getAsBoolean())
+                    .isEqualTo(expression.evaluate(interpretedContext) == Expression.TRUE);
+            }
+        }
+    }
+
+    @Test
+    void shouldFoldConstantExpressions() throws ParseException {
+        var expression = ExpressionParser.parse("n.p1 > 1.0 AND 1 = 2", Map.of("p1", ValueType.DOUBLE));
+        var context = new EvaluationContext.NodeEvaluationContext(graphStore, Map.of()) {
+            @Override
+            DoubleSupplier propertyReader(String propertyKey, ValueType propertyType) {
+                return () -> {
+                    throw new AssertionError("Properties of a constant expression must not be read");
+                };
+            }
+        };
+
+        var predicate = ExpressionCompiler.compile(expression, context);
+
+        context.init(0);
+        assertThat(predicate.getAsBoolean()).isFalse();
+    }
+}
@@ -34,6 +34,7 @@ import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.config.ImmutableGraphProjectFromStoreConfig;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.Compression;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -57,6 +58,7 @@ import static org.neo4j.gds.Orientation.NATURAL;
 import static org.neo4j.gds.PropertyMapping.DEFAULT_VALUE_KEY;
 import static org.neo4j.gds.PropertyMapping.PROPERTY_KEY;
 import static org.neo4j.gds.RelationshipProjection.AGGREGATION_KEY;
+import static org.neo4j.gds.RelationshipProjection.COMPRESSION_KEY;
 import static org.neo4j.gds.RelationshipProjection.INDEX_INVERSE_KEY;
 import static org.neo4j.gds.RelationshipProjection.ORIENTATION_KEY;
 import static org.neo4j.gds.RelationshipProjection.TYPE_KEY;
@@ -866,12 +868,18 @@ public abstract class GdsCypher {
         if (projection.indexInverse()) {
             value.put(INDEX_INVERSE_KEY, projection.indexInverse());
         }
+        if (projection.compression() != Compression.DEFAULT) {
+            value.put(COMPRESSION_KEY, projection.compression().name());
+        }
         properties.toObject().ifPresent(o -> value.put(PROPERTIES_KEY, o));
         return MinimalObject.map(value);
     }
 
     private static boolean allDefaults(RelationshipProjection projection) {
-        return projection.orientation() == NATURAL && projection.aggregation() == DEFAULT && !projection.indexInverse();
+        return projection.orientation() == NATURAL
+               && projection.aggregation() == DEFAULT
+               && !projection.indexInverse()
+               && projection.compression() == Compression.DEFAULT;
     }
 
     private static boolean matchesType(String type, RelationshipProjection projection) {
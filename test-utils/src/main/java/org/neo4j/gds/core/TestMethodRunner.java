@@ -105,14 +105,16 @@ public final class TestMethodRunner {
 
     @TestOnly
     static <E extends Exception> void runCompressedUnordered(CheckedRunnable<E> code) throws E {
-        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
-            GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.disableAndRun(code));
+        GdsFeatureToggles.USE_ADAPTIVE_ADJACENCY_COMPRESSION.disableAndRun(() ->
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+                GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.disableAndRun(code)));
     }
 
     @TestOnly
     static <E extends Exception> void runCompressedOrdered(CheckedRunnable<E> code) throws E {
-        GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
-            GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code));
+        GdsFeatureToggles.USE_ADAPTIVE_ADJACENCY_COMPRESSION.disableAndRun(() ->
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.disableAndRun(() ->
+                GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.enableAndRun(code)));
     }
 
     @TestOnly
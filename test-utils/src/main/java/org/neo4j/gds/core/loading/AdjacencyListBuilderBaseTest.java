@@ -32,6 +32,7 @@ import org.neo4j.gds.api.compress.AdjacencyCompressor.ValueMapper;
 import org.neo4j.gds.api.compress.AdjacencyListsWithProperties;
 import org.neo4j.gds.compat.LongPropertyReference;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.Compression;
 import org.neo4j.gds.core.huge.DirectIdMap;
 
 import java.util.ArrayList;
@@ -51,6 +52,14 @@ import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_RELATIONSHIP_TYPE;
 
 public abstract class AdjacencyListBuilderBaseTest {
 
+    /**
+     * The compression that is requested for the relationship projection,
+     * {@link Compression#DEFAULT} selects the compression using the feature toggles.
+     */
+    Compression compression() {
+        return Compression.DEFAULT;
+    }
+
     void testAdjacencyList() {
         adjacencyListTest(Optional.empty());
     }
@@ -169,7 +178,8 @@ public abstract class AdjacencyListBuilderBaseTest {
         var adjacencyCompressorFactory = AdjacencyListBehavior.asConfigured(
             () -> originalNodeCount,
             propertyMappings,
-            importMetaData.aggregations()
+            importMetaData.aggregations(),
+            compression()
         );
 
         AdjacencyBuffer adjacencyBuffer = new AdjacencyBufferBuilder()